@@ -0,0 +1,115 @@
+package software.amazon.qbusiness.aggregate;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.exceptions.TerminalException;
+import software.amazon.qbusiness.common.StabilizationHandoff;
+
+/**
+ * Single Lambda entrypoint for every AWS::QBusiness::* resource type.
+ * <p>
+ * The dispatcher reads the {@code resourceType} of the incoming handler request and forwards the untouched payload to
+ * that type's generated {@code HandlerWrapper}. Wrappers are created on first use and kept for the life of the
+ * container, so a warm container pays each type's initialization once and every type shares the same client factory
+ * and caches from {@code aws-qbusiness-common}.
+ * <p>
+ * Since no handler class is loaded before the first request, loading the dispatcher registers every type's SnapStart
+ * primers itself; otherwise a checkpoint taken after init would find none.
+ */
+public class ResourceTypeDispatcher implements RequestStreamHandler {
+  private static final String FIELD_RESOURCE_TYPE = "resourceType";
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  static {
+    software.amazon.qbusiness.application.HandlerPriming.register();
+    software.amazon.qbusiness.dataaccessor.HandlerPriming.register();
+    software.amazon.qbusiness.datasource.HandlerPriming.register();
+    software.amazon.qbusiness.index.HandlerPriming.register();
+    software.amazon.qbusiness.permission.HandlerPriming.register();
+    software.amazon.qbusiness.plugin.HandlerPriming.register();
+    software.amazon.qbusiness.retriever.HandlerPriming.register();
+    software.amazon.qbusiness.webexperience.HandlerPriming.register();
+  }
+
+  private final Map<String, Supplier<RequestStreamHandler>> handlerFactories;
+  private final Map<String, RequestStreamHandler> handlers = new ConcurrentHashMap<>();
+
+  public ResourceTypeDispatcher() {
+    this(Map.of(
+        software.amazon.qbusiness.application.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.application.HandlerWrapper::new,
+        software.amazon.qbusiness.dataaccessor.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.dataaccessor.HandlerWrapper::new,
+        software.amazon.qbusiness.datasource.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.datasource.HandlerWrapper::new,
+        software.amazon.qbusiness.index.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.index.HandlerWrapper::new,
+        software.amazon.qbusiness.permission.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.permission.HandlerWrapper::new,
+        software.amazon.qbusiness.plugin.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.plugin.HandlerWrapper::new,
+        software.amazon.qbusiness.retriever.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.retriever.HandlerWrapper::new,
+        software.amazon.qbusiness.webexperience.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.webexperience.HandlerWrapper::new
+    ));
+  }
+
+  ResourceTypeDispatcher(Map<String, Supplier<RequestStreamHandler>> handlerFactories) {
+    this.handlerFactories = handlerFactories;
+  }
+
+  @Override
+  public void handleRequest(
+      final InputStream inputStream,
+      final OutputStream outputStream,
+      final Context context
+  ) throws IOException {
+    byte[] payload = inputStream.readAllBytes();
+    String resourceType = readResourceType(payload);
+
+    Supplier<RequestStreamHandler> factory = resourceType == null ? null : handlerFactories.get(resourceType);
+    if (factory == null) {
+      throw new TerminalException("Unsupported resource type: %s".formatted(resourceType));
+    }
+
+    RequestStreamHandler handler = handlers.computeIfAbsent(resourceType, ignored -> factory.get());
+    // The wrappers keep the Lambda context from the handlers; this is the last place its deadline can be read
+    StabilizationHandoff.runWithDeadline(
+        context, () -> handler.handleRequest(new ByteArrayInputStream(payload), outputStream, context)
+    );
+  }
+
+  /**
+   * Streams over the top level of the payload only; the request data itself is left for the wrapper to bind.
+   */
+  static String readResourceType(byte[] payload) throws IOException {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.currentName();
+        JsonToken value = parser.nextToken();
+        if (FIELD_RESOURCE_TYPE.equals(fieldName)) {
+          return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+        }
+        parser.skipChildren();
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package software.amazon.qbusiness.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.exceptions.TerminalException;
+import software.amazon.qbusiness.common.Priming;
+
+class ResourceTypeDispatcherTest {
+  private static final String INDEX_TYPE = "AWS::QBusiness::Index";
+  private static final String PLUGIN_TYPE = "AWS::QBusiness::Plugin";
+
+  private AtomicInteger indexHandlersCreated;
+  private List<String> indexPayloads;
+  private List<String> pluginPayloads;
+  private ResourceTypeDispatcher underTest;
+
+  @BeforeEach
+  public void setUp() {
+    indexHandlersCreated = new AtomicInteger();
+    indexPayloads = new ArrayList<>();
+    pluginPayloads = new ArrayList<>();
+
+    Supplier<RequestStreamHandler> indexFactory = () -> {
+      indexHandlersCreated.incrementAndGet();
+      return recordingHandler(indexPayloads, "index");
+    };
+
+    underTest = new ResourceTypeDispatcher(Map.of(
+        INDEX_TYPE, indexFactory,
+        PLUGIN_TYPE, () -> recordingHandler(pluginPayloads, "plugin")
+    ));
+  }
+
+  @Test
+  public void testRoutesPayloadToHandlerForResourceType() throws IOException {
+    String payload = """
+        {"action":"READ","requestData":{"resourceProperties":{"resourceType":"nested"}},"resourceType":"AWS::QBusiness::Plugin"}
+        """;
+
+    String response = invoke(payload);
+
+    assertThat(response).isEqualTo("plugin");
+    assertThat(pluginPayloads).containsExactly(payload);
+    assertThat(indexPayloads).isEmpty();
+  }
+
+  @Test
+  public void testReusesHandlerAcrossInvocations() throws IOException {
+    String payload = """
+        {"resourceType":"AWS::QBusiness::Index","action":"CREATE"}
+        """;
+
+    invoke(payload);
+    invoke(payload);
+
+    assertThat(indexHandlersCreated.get()).isEqualTo(1);
+    assertThat(indexPayloads).hasSize(2);
+  }
+
+  @Test
+  public void testUnknownResourceTypeIsTerminal() {
+    assertThatThrownBy(() -> invoke("""
+        {"resourceType":"AWS::QBusiness::Unknown"}
+        """))
+        .isInstanceOf(TerminalException.class)
+        .hasMessageContaining("AWS::QBusiness::Unknown");
+  }
+
+  @Test
+  public void testMissingResourceTypeIsTerminal() {
+    assertThatThrownBy(() -> invoke("""
+        {"action":"CREATE","resourceType":null}
+        """))
+        .isInstanceOf(TerminalException.class);
+    assertThatThrownBy(() -> invoke("[]"))
+        .isInstanceOf(TerminalException.class);
+  }
+
+  @Test
+  public void testDefaultDispatcherRejectsTypesOutsideQBusiness() {
+    var dispatcher = new ResourceTypeDispatcher();
+
+    assertThatThrownBy(() -> dispatcher.handleRequest(
+        new ByteArrayInputStream("""
+            {"resourceType":"AWS::S3::Bucket"}
+            """.getBytes(StandardCharsets.UTF_8)),
+        new ByteArrayOutputStream(),
+        null))
+        .isInstanceOf(TerminalException.class);
+  }
+
+  @Test
+  public void testEveryTypeIsPrimedBeforeTheFirstRequest() {
+    new ResourceTypeDispatcher();
+
+    assertThat(Priming.registered()).contains(
+        software.amazon.qbusiness.application.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.dataaccessor.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.datasource.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.index.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.permission.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.plugin.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.retriever.ResourceModel.TYPE_NAME,
+        software.amazon.qbusiness.webexperience.ResourceModel.TYPE_NAME
+    );
+    assertThat(Priming.primeAll()).isEmpty();
+  }
+
+  @Test
+  public void testReadResourceTypeSkipsNestedObjects() throws IOException {
+    byte[] payload = """
+        {"requestData":{"resourceType":"nested","list":[{"resourceType":"deeper"}]},"resourceType":"AWS::QBusiness::Index"}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    assertThat(ResourceTypeDispatcher.readResourceType(payload)).isEqualTo(INDEX_TYPE);
+  }
+
+  private String invoke(String payload) throws IOException {
+    var output = new ByteArrayOutputStream();
+    underTest.handleRequest(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), output, null);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private static RequestStreamHandler recordingHandler(List<String> payloads, String response) {
+    return (input, output, context) -> {
+      payloads.add(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+      output.write(response.getBytes(StandardCharsets.UTF_8));
+    };
+  }
+}
@@ -26,6 +26,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CreateResumption;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -58,13 +59,17 @@ public class CreateHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Application::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Application::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreateApplication(awsRequest, clientProxyClient, progress.getResourceModel()))
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
                 .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
-                .handleError((createReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_APPLICATION
+                .handleError((createReq, error, client, model, context) -> CreateResumption.handleCreateError(
+                    error, model, context, logger, () -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_APPLICATION
+                    )
                 ))
                 .progress()
         ).then(progress -> {
@@ -73,7 +78,7 @@ public class CreateHandler extends BaseHandlerStd {
             }
             // Immediately update the application to add auto-subscribe configuration to it.
             // TODO: Remove after AutoSubscribeConfiguration is added to the CreateApplication API.
-            return proxy.initiate("AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            return initiate(proxy, "AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callUpdateApplication)
@@ -132,6 +137,24 @@ public class CreateHandler extends BaseHandlerStd {
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getApplicationId(), causeMessage);
   }
 
+  private CreateApplicationResponse createOrResume(
+      CreateApplicationRequest request,
+      ProxyClient<QBusinessClient> proxyClient,
+      ResourceModel model,
+      CallbackContext context
+  ) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setApplicationId(createdId);
+      return CreateApplicationResponse.builder().applicationId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateApplication(request, proxyClient, model);
+    CreateResumption.created(context, response.applicationId());
+    return response;
+  }
+
   private CreateApplicationResponse callCreateApplication(CreateApplicationRequest request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model) {
@@ -53,7 +53,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Application::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Application::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callDeleteApplication)
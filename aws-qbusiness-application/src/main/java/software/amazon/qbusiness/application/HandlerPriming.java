@@ -0,0 +1,98 @@
+package software.amazon.qbusiness.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.AppliedAttachmentsConfiguration;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.qbusiness.common.Priming;
+
+/**
+ * Canned create/read/update/list round trips through the Application translator, run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .displayName("priming")
+        .description("priming")
+        .roleArn("arn:aws:iam::123456789012:role/priming")
+        .identityType("AWS_IAM_IDC")
+        .identityCenterInstanceArn("arn:aws:sso:::instance/ssoins-priming")
+        .encryptionConfiguration(EncryptionConfiguration.builder().kmsKeyId("priming").build())
+        .attachmentsConfiguration(AttachmentsConfiguration.builder().attachmentsControlMode("ENABLED").build())
+        .qAppsConfiguration(QAppsConfiguration.builder().qAppsControlMode("ENABLED").build())
+        .personalizationConfiguration(PersonalizationConfiguration.builder().personalizationControlMode("ENABLED").build())
+        .autoSubscriptionConfiguration(AutoSubscriptionConfiguration.builder()
+            .autoSubscribe("ENABLED")
+            .defaultSubscriptionType("Q_BUSINESS")
+            .build())
+        .quickSightConfiguration(QuickSightConfiguration.builder().clientNamespace("default").build())
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    Translator.translateToPostCreateUpdateRequest(model);
+    Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(null);
+
+    var getResponse = GetApplicationResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .applicationArn(Utils.buildApplicationArn(request, model))
+        .displayName(model.getDisplayName())
+        .roleArn(model.getRoleArn())
+        .identityType(model.getIdentityType())
+        .status(ApplicationStatus.ACTIVE)
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .encryptionConfiguration(Translator.toServiceEncryptionConfig(model.getEncryptionConfiguration()))
+        .attachmentsConfiguration(AppliedAttachmentsConfiguration.builder()
+            .attachmentsControlMode(model.getAttachmentsConfiguration().getAttachmentsControlMode())
+            .build())
+        .qAppsConfiguration(Translator.toServiceQAppsConfiguration(model.getQAppsConfiguration()))
+        .personalizationConfiguration(
+            Translator.toServicePersonalizationConfiguration(model.getPersonalizationConfiguration()))
+        .autoSubscriptionConfiguration(
+            Translator.toServiceAutoSubscriptionConfiguration(model.getAutoSubscriptionConfiguration()))
+        .quickSightConfiguration(Translator.toQuickSightConfiguration(model.getQuickSightConfiguration()))
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(ListApplicationsResponse.builder()
+        .applications(software.amazon.awssdk.services.qbusiness.model.Application.builder()
+            .applicationId(APPLICATION_ID)
+            .status(ApplicationStatus.ACTIVE)
+            .createdAt(Instant.EPOCH)
+            .build())
+        .build());
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -1,19 +1,35 @@
 package software.amazon.qbusiness.application;
 
+import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
+import static software.amazon.qbusiness.application.Constants.API_GET_APPLICATION;
+
 import java.util.List;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandler extends BaseHandlerStd {
 
+  private final ListDetails listDetails;
+
+  public ListHandler() {
+    this(ListDetails.container());
+  }
+
+  public ListHandler(ListDetails listDetails) {
+    this.listDetails = listDetails;
+  }
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
@@ -30,9 +46,25 @@ public class ListHandler extends BaseHandlerStd {
 
     List<ResourceModel> models = Translator.translateFromListResponse(listApplicationsResponse);
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
-        .resourceModels(models)
+        .resourceModels(listDetails.read(models, summary -> readDetails(proxy, request, proxyClient, summary), logger))
         .nextToken(nextToken)
         .status(OperationStatus.SUCCESS)
         .build();
   }
+
+  /**
+   * The listed resource as Read returns it, with its configuration and tags.
+   */
+  private ResourceModel readDetails(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ResourceModel> request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel summary) {
+    final GetApplicationResponse getApplicationResponse = listDetails.call(API_GET_APPLICATION, () -> proxy.injectCredentialsAndInvokeV2(
+        Translator.translateToReadRequest(summary), proxyClient.client()::getApplication));
+    final ResourceModel model = Translator.translateFromReadResponse(getApplicationResponse);
+    final ListTagsForResourceResponse listTagsResponse = listDetails.call(API_LIST_TAGS, () -> proxy.injectCredentialsAndInvokeV2(
+        Translator.translateToListTagsRequest(request, model), proxyClient.client()::listTagsForResource));
+    return Translator.translateFromReadResponseWithTags(listTagsResponse, model);
+  }
 }
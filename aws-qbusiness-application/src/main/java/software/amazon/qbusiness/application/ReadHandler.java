@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 public class ReadHandler extends BaseHandlerStd {
   private Logger logger;
@@ -29,7 +30,7 @@ public class ReadHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId()));
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Application::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Application::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 // Create Get Application request from resource model
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 // Make call to the service
@@ -39,9 +40,15 @@ public class ReadHandler extends BaseHandlerStd {
                 ))
                 .done(serviceResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(serviceResponse), callbackContext))
         )
+        // An update that just wrote the tags already knows them
+        .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+            .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+            ))
+            .orElse(progress))
         // Now process listing tags for the resource
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Application::ListTags",
+            initiate(proxy, "AWS-QBusiness-Application::ListTags",
                     proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext()
                 )
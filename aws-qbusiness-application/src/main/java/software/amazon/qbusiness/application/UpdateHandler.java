@@ -52,23 +52,27 @@ public class UpdateHandler extends BaseHandlerStd {
         request.getStackId()
     ));
 
-    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::updateApplication)
-                .stabilize((serviceRequest, updateApplicationResponse, client, model, context) -> isStabilized(client, model))
-                .handleError((serviceRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_APPLICATION
-                ))
-                .progress()
-        )
-        .then(progress -> {
-          var arn = Utils.buildApplicationArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
-        .then(model -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    var tagUpdate = TagUtils.tagUpdate(ResourceModel.TYPE_NAME, request, proxyClient, logger);
+    return tagUpdate.applyAlongside(
+        () -> ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress ->
+                initiate(proxy, "AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToUpdateRequest)
+                    .backoffDelay(backOffStrategy)
+                    .makeServiceCall((updateRequest, client) -> {
+                      var response = updateApplication(updateRequest, client);
+                      // Tags don't depend on the update, so they are applied while it stabilizes
+                      tagUpdate.start(Utils.buildApplicationArn(request, progress.getResourceModel()));
+                      return response;
+                    })
+                    .stabilize((serviceRequest, updateApplicationResponse, client, model, context) -> isStabilized(client, model))
+                    .handleError((serviceRequest, error, client, model, context) -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_APPLICATION
+                    ))
+                    .progress()
+            ),
+        model -> Utils.buildApplicationArn(request, model)
+    ).then(model -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
   private UpdateApplicationResponse updateApplication(UpdateApplicationRequest request, ProxyClient<QBusinessClient> proxyClient) {
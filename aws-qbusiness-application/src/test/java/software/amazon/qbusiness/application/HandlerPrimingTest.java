@@ -0,0 +1,23 @@
+package software.amazon.qbusiness.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.qbusiness.common.Priming;
+
+class HandlerPrimingTest {
+
+  @Test
+  public void testPrimeUsesOnlyCannedData() {
+    assertThatCode(HandlerPriming::prime).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void testRegisteredPrimerSucceeds() {
+    HandlerPriming.register();
+
+    assertThat(Priming.primeAll()).doesNotContain(ResourceModel.TYPE_NAME);
+  }
+}
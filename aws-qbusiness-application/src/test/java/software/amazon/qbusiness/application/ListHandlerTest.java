@@ -3,6 +3,7 @@ package software.amazon.qbusiness.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -20,12 +21,17 @@ import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 //import software.amazon.awssdk.services.qbusiness.model.ApplicationSummary;
 import software.amazon.awssdk.services.qbusiness.model.Application;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListApplicationsRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandlerTest extends AbstractTestBase {
 
@@ -99,4 +105,52 @@ public class ListHandlerTest extends AbstractTestBase {
         argThat((ArgumentMatcher<ListApplicationsRequest>) t -> t.nextToken().equals(TEST_NEXT_TOKEN))
     );
   }
+
+  @Test
+  public void handleRequest_WithDetails() {
+    underTest = new ListHandler(ListDetails.of(2, 1000));
+    testRequest.setAwsPartition("aws");
+    testRequest.setRegion("us-east-1");
+    testRequest.setAwsAccountId("123456789012");
+    List<String> ids = List.of("first", "second", "third");
+    when(sdkClient.listApplications(any(ListApplicationsRequest.class)))
+        .thenReturn(ListApplicationsResponse.builder()
+            .applications(ids.stream()
+                .map(id -> Application.builder()
+                    .applicationId(id)
+                    .build()
+                )
+                .toList())
+            .build()
+        );
+    when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+        .thenAnswer(invocation -> {
+          GetApplicationRequest getRequest = invocation.getArgument(0);
+          return GetApplicationResponse.builder()
+              .applicationId(getRequest.applicationId())
+              .displayName("Application " + getRequest.applicationId())
+              .build();
+        });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(tag -> tag.key("team").value("search"))
+            .build()
+        );
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // every summary is replaced by its Read model, in page order
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var models = resultProgress.getResourceModels();
+    assertThat(models).extracting(ResourceModel::getApplicationId).containsExactlyElementsOf(ids);
+    assertThat(models).extracting(ResourceModel::getDisplayName)
+        .containsExactly("Application first", "Application second", "Application third");
+    assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+    verify(sdkClient).listApplications(any(ListApplicationsRequest.class));
+    verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+    verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -187,7 +188,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -327,7 +328,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(sdkClient).tagResource(tagReqCaptor.capture());
@@ -371,7 +372,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(sdkClient).untagResource(untagReqCaptor.capture());
@@ -0,0 +1,104 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+import software.amazon.qbusiness.dataaccessor.converter.AttributeFilterConverter;
+
+/**
+ * JMH average time of {@link AttributeFilterConverter} in both directions on generated ACL filters, one nested ten
+ * thousand levels deep and one ten thousand groups wide. Run with {@code -prof gc} to see the bytes allocated per
+ * conversion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class AttributeFilterConversionBenchmark {
+  private static final int SIZE = 10_000;
+  private static final int DISTINCT_GROUPS = 200;
+
+  @Param({"deep", "wide"})
+  public String shape;
+
+  private AttributeFilter filter;
+  private software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceFilter;
+
+  @Setup
+  public void setup() {
+    filter = "deep".equals(shape) ? deepFilter(SIZE) : wideFilter(SIZE);
+    serviceFilter = AttributeFilterConverter.toServiceAttributeFilter(filter);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.qbusiness.model.AttributeFilter toService() {
+    return AttributeFilterConverter.toServiceAttributeFilter(filter);
+  }
+
+  @Benchmark
+  public AttributeFilter fromService() {
+    return AttributeFilterConverter.fromServiceAttributeFilter(serviceFilter);
+  }
+
+  /**
+   * Alternating NotFilter and AndAllFilters levels, each AND pairing the level below with a group check.
+   */
+  static AttributeFilter deepFilter(int depth) {
+    var filter = groupFilter(0);
+    for (int level = 1; level < depth; level++) {
+      filter = level % 2 == 0
+          ? AttributeFilter.builder().notFilter(filter).build()
+          : AttributeFilter.builder().andAllFilters(List.of(filter, groupFilter(level))).build();
+    }
+    return filter;
+  }
+
+  /**
+   * An OR of {@code width} user-and-group checks over a limited set of groups, as generated from an ACL.
+   */
+  static AttributeFilter wideFilter(int width) {
+    var branches = new ArrayList<AttributeFilter>(width);
+    for (int i = 0; i < width; i++) {
+      branches.add(AttributeFilter.builder()
+          .andAllFilters(List.of(groupFilter(i), AttributeFilter.builder()
+              .notFilter(AttributeFilter.builder().equalsTo(attribute("_user_id", "user" + i)).build())
+              .build()))
+          .build());
+    }
+    return AttributeFilter.builder().orAllFilters(branches).build();
+  }
+
+  private static AttributeFilter groupFilter(int index) {
+    return AttributeFilter.builder()
+        .containsAny(DocumentAttribute.builder()
+            .name("_group_ids")
+            .value(DocumentAttributeValue.builder().stringListValue(List.of("group" + index % DISTINCT_GROUPS)).build())
+            .build())
+        .build();
+  }
+
+  private static DocumentAttribute attribute(String name, String value) {
+    return DocumentAttribute.builder()
+        .name(name)
+        .value(DocumentAttributeValue.builder().stringValue(value).build())
+        .build();
+  }
+}
@@ -0,0 +1,159 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import software.amazon.qbusiness.training.StubEndpoint;
+
+/**
+ * Launches every shaded handler jar in fresh JVMs against a local {@link StubEndpoint} answering with
+ * {@code stub-response.json}, takes the median of each metric across runs, writes the results next to the build output
+ * and exits non-zero when any metric grew beyond the threshold over its baseline. A baseline without any metrics, as on
+ * a fresh checkout, only records results.
+ */
+public final class ColdStartHarness {
+  private static final String JAVA = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+  // Same JIT and GC settings the managed java17 Lambda runtime starts the handler JVM with
+  private static final List<String> JVM_OPTIONS = List.of(
+      "-XX:+TieredCompilation",
+      "-XX:TieredStopAtLevel=1",
+      "-XX:+UseSerialGC"
+  );
+  private static final long RUN_TIMEOUT_SECONDS = 120;
+  private static final String RESULTS_COMMENT = "Cold-start medians; copy over cold-start-baseline.properties to accept";
+  private static final String BASELINE_COMMENT = "Cold-start baseline recorded by mvn verify -Pbenchmark"
+      + " -Dbenchmark.record=true; each metric fails the build when its median exceeds it by more than"
+      + " benchmark.threshold percent";
+
+  private ColdStartHarness() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 7) {
+      throw new IllegalArgumentException("Usage: ColdStartHarness <repo root> <probe classes> <baseline> <results> <runs>"
+          + " <threshold percent> <record>");
+    }
+    var root = Path.of(args[0]).toAbsolutePath().normalize();
+    var probeClasses = Path.of(args[1]);
+    var baselineFile = Path.of(args[2]);
+    var resultsFile = Path.of(args[3]);
+    var runs = Integer.parseInt(args[4]);
+    var thresholdPercent = Double.parseDouble(args[5]);
+    var record = Boolean.parseBoolean(args[6]);
+
+    var results = new LinkedHashMap<String, ColdStartMetrics>();
+    try (var endpoint = StubEndpoint.start(stubResponse())) {
+      var logs = resultsFile.resolveSibling("cold-start-logs");
+      Files.createDirectories(logs);
+      for (var target : ColdStartTarget.all(root)) {
+        if (!Files.isRegularFile(target.jar())) {
+          throw new IllegalStateException("%s not found, package the modules first".formatted(target.jar()));
+        }
+        var samples = new ArrayList<ColdStartMetrics>(runs);
+        for (int run = 1; run <= runs; run++) {
+          samples.add(launch(target, probeClasses, endpoint.url(), logs.resolve("%s-%d.log".formatted(target.name(), run))));
+        }
+        var median = ColdStartMetrics.median(samples);
+        results.put(target.name(), median);
+        System.out.printf("[INFO] %-14s %s%n", target.name(), median.toLine());
+      }
+    }
+
+    write(RegressionCheck.toProperties(results), resultsFile, RESULTS_COMMENT);
+    System.out.printf("[INFO] Cold-start results written to %s%n", resultsFile);
+    if (record) {
+      write(RegressionCheck.toProperties(results), baselineFile, BASELINE_COMMENT);
+      System.out.printf("[INFO] Baseline recorded to %s%n", baselineFile);
+      return;
+    }
+
+    var baseline = load(baselineFile);
+    if (baseline.isEmpty()) {
+      System.out.printf("[WARN] %s has no metrics yet, so nothing was checked. Record it on the reference host with"
+          + " -Dbenchmark.record=true%n", baselineFile);
+      return;
+    }
+    var regressions = RegressionCheck.regressions(results, baseline, thresholdPercent);
+    if (!regressions.isEmpty()) {
+      regressions.forEach(regression -> System.out.printf("[ERROR] %s%n", regression));
+      System.exit(1);
+    }
+  }
+
+  private static ColdStartMetrics launch(ColdStartTarget target, Path probeClasses, String endpointUrl, Path log)
+      throws IOException, InterruptedException {
+    var command = new ArrayList<String>();
+    command.add(JAVA);
+    command.addAll(JVM_OPTIONS);
+    command.add("-cp");
+    command.add(target.jar() + System.getProperty("path.separator") + probeClasses);
+    command.add(ColdStartProbe.class.getName());
+    command.add(target.entryClass());
+    command.add(target.clientBuilderClass());
+    command.add(target.payload());
+
+    var builder = new ProcessBuilder(command).redirectError(log.toFile());
+    Map<String, String> environment = builder.environment();
+    environment.put("AWS_REGION", "us-east-1");
+    environment.put("AWS_ENDPOINT_URL_QBUSINESS", endpointUrl);
+
+    var process = builder.start();
+    process.getOutputStream().close();
+    String output;
+    try (InputStream stdout = process.getInputStream()) {
+      output = new String(stdout.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    if (!process.waitFor(RUN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+      throw new IllegalStateException("%s probe timed out, see %s".formatted(target.name(), log));
+    }
+    if (process.exitValue() != 0) {
+      throw new IllegalStateException("%s probe exited with %d, see %s".formatted(target.name(), process.exitValue(), log));
+    }
+    return output.lines()
+        .filter(line -> line.startsWith(ColdStartMetrics.LINE_PREFIX))
+        .reduce((first, second) -> second)
+        .map(ColdStartMetrics::parse)
+        .orElseThrow(() -> new IllegalStateException("%s probe printed no metrics, see %s".formatted(target.name(), log)));
+  }
+
+  /**
+   * Canned body carrying the identifiers used by the probe payloads, so each module's read path translates a complete
+   * response.
+   */
+  private static byte[] stubResponse() throws IOException {
+    try (InputStream in = ColdStartHarness.class.getResourceAsStream("/stub-response.json")) {
+      if (in == null) {
+        throw new IllegalStateException("stub-response.json not found");
+      }
+      return in.readAllBytes();
+    }
+  }
+
+  private static Properties load(Path file) throws IOException {
+    var properties = new Properties();
+    if (Files.isRegularFile(file)) {
+      try (InputStream in = Files.newInputStream(file)) {
+        properties.load(in);
+      }
+    }
+    return properties;
+  }
+
+  private static void write(Properties properties, Path file, String comment) throws IOException {
+    Files.createDirectories(file.getParent());
+    try (OutputStream out = Files.newOutputStream(file)) {
+      properties.store(out, comment);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * What one fresh JVM reports for a single handler invocation.
+ *
+ * @param startToFirstResponseMillis JVM start until the wrapper has written its first response
+ * @param classesLoaded              classes loaded by the time the response is written
+ * @param heapAfterInitBytes         heap still in use after a full GC following the first response
+ * @param getClientMillis            time spent in the module's {@code ClientBuilder.getClient}
+ * @param jarBytes                   size of the shaded jar the JVM ran
+ */
+record ColdStartMetrics(
+    long startToFirstResponseMillis,
+    long classesLoaded,
+    long heapAfterInitBytes,
+    long getClientMillis,
+    long jarBytes
+) {
+  static final String LINE_PREFIX = "cold-start-metrics";
+
+  static final String START_TO_FIRST_RESPONSE_MILLIS = "startToFirstResponseMillis";
+  static final String CLASSES_LOADED = "classesLoaded";
+  static final String HEAP_AFTER_INIT_BYTES = "heapAfterInitBytes";
+  static final String GET_CLIENT_MILLIS = "getClientMillis";
+  static final String JAR_BYTES = "jarBytes";
+
+  Map<String, Long> asMap() {
+    var values = new LinkedHashMap<String, Long>();
+    values.put(START_TO_FIRST_RESPONSE_MILLIS, startToFirstResponseMillis);
+    values.put(CLASSES_LOADED, classesLoaded);
+    values.put(HEAP_AFTER_INIT_BYTES, heapAfterInitBytes);
+    values.put(GET_CLIENT_MILLIS, getClientMillis);
+    values.put(JAR_BYTES, jarBytes);
+    return values;
+  }
+
+  /**
+   * Single stdout line the probe prints and the harness picks out of the child's output.
+   */
+  String toLine() {
+    var line = new StringBuilder(LINE_PREFIX);
+    asMap().forEach((key, value) -> line.append(' ').append(key).append('=').append(value));
+    return line.toString();
+  }
+
+  static ColdStartMetrics parse(String line) {
+    if (!line.startsWith(LINE_PREFIX + " ")) {
+      throw new IllegalArgumentException("Not a cold-start metrics line: %s".formatted(line));
+    }
+    var values = new LinkedHashMap<String, Long>();
+    for (String pair : line.substring(LINE_PREFIX.length()).trim().split(" ")) {
+      var separator = pair.indexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Malformed metric '%s' in: %s".formatted(pair, line));
+      }
+      values.put(pair.substring(0, separator), Long.parseLong(pair.substring(separator + 1)));
+    }
+    return new ColdStartMetrics(
+        require(values, START_TO_FIRST_RESPONSE_MILLIS, line),
+        require(values, CLASSES_LOADED, line),
+        require(values, HEAP_AFTER_INIT_BYTES, line),
+        require(values, GET_CLIENT_MILLIS, line),
+        require(values, JAR_BYTES, line)
+    );
+  }
+
+  /**
+   * Per-metric median across runs, so one slow JVM launch does not decide the outcome.
+   */
+  static ColdStartMetrics median(List<ColdStartMetrics> runs) {
+    if (runs.isEmpty()) {
+      throw new IllegalArgumentException("No runs to summarize");
+    }
+    return new ColdStartMetrics(
+        median(runs, ColdStartMetrics::startToFirstResponseMillis),
+        median(runs, ColdStartMetrics::classesLoaded),
+        median(runs, ColdStartMetrics::heapAfterInitBytes),
+        median(runs, ColdStartMetrics::getClientMillis),
+        median(runs, ColdStartMetrics::jarBytes)
+    );
+  }
+
+  private static long median(List<ColdStartMetrics> runs, ToLongFunction<ColdStartMetrics> metric) {
+    var values = new ArrayList<Long>(runs.size());
+    runs.forEach(run -> values.add(metric.applyAsLong(run)));
+    values.sort(Comparator.naturalOrder());
+    return values.get(values.size() / 2);
+  }
+
+  private static long require(Map<String, Long> values, String key, String line) {
+    var value = values.get(key);
+    if (value == null) {
+      throw new IllegalArgumentException("Missing metric '%s' in: %s".formatted(key, line));
+    }
+    return value;
+  }
+}
@@ -0,0 +1,92 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Entry point of each child JVM. Runs with only the handler's shaded jar and this module's classes on the classpath,
+ * builds the client through the given {@code ClientBuilder}, invokes the entry class once with a canned payload and
+ * prints a single {@link ColdStartMetrics} line to stdout. The run fails unless the handler answered with a
+ * {@code SUCCESS} progress event, so an error path is never timed as a cold start. A module's {@code HandlerWrapper} is invoked through
+ * {@code testEntrypoint}; an entry class without one, like the aggregate dispatcher, through {@code handleRequest}.
+ * Everything is reached reflectively so nothing from the handler is loaded before the JVM start timestamp matters.
+ */
+public final class ColdStartProbe {
+  private static final String TEST_ENTRYPOINT = "testEntrypoint";
+  private static final String HANDLE_REQUEST = "handleRequest";
+  private static final String STATUS_SUCCESS = "SUCCESS";
+
+  private ColdStartProbe() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      throw new IllegalArgumentException("Usage: ColdStartProbe <entry class> <client builder class> <payload resource>");
+    }
+    var entryClassName = args[0];
+    var payload = readPayload(args[2]);
+
+    var clientBuilder = Class.forName(args[1]);
+    var clientStart = System.nanoTime();
+    clientBuilder.getMethod("getClient").invoke(null);
+    var getClientMillis = (System.nanoTime() - clientStart) / 1_000_000;
+
+    var entryClass = Class.forName(entryClassName);
+    var entry = entryClass.getConstructor().newInstance();
+    var response = new ByteArrayOutputStream();
+    entrypoint(entryClass).invoke(entry, new ByteArrayInputStream(payload), response, new ProbeContext());
+    var startToFirstResponseMillis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+    if (response.size() == 0) {
+      throw new IllegalStateException("%s wrote no response".formatted(entryClassName));
+    }
+    var status = new ObjectMapper().readTree(response.toByteArray()).path("status").asText();
+    if (!STATUS_SUCCESS.equals(status)) {
+      throw new IllegalStateException("%s answered %s instead of %s: %s".formatted(
+          entryClassName, status, STATUS_SUCCESS, response.toString(StandardCharsets.UTF_8)));
+    }
+
+    var classesLoaded = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+    System.gc();
+    var heapAfterInitBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    // The harness puts the handler jar first on the class path
+    var jar = Path.of(System.getProperty("java.class.path").split(File.pathSeparator)[0]);
+
+    System.err.println(response.toString(StandardCharsets.UTF_8));
+    System.out.println(new ColdStartMetrics(
+        startToFirstResponseMillis,
+        classesLoaded,
+        heapAfterInitBytes,
+        getClientMillis,
+        Files.size(jar)
+    ).toLine());
+  }
+
+  private static Method entrypoint(Class<?> entryClass) throws NoSuchMethodException {
+    try {
+      return entryClass.getMethod(TEST_ENTRYPOINT, InputStream.class, OutputStream.class, Context.class);
+    } catch (NoSuchMethodException e) {
+      return entryClass.getMethod(HANDLE_REQUEST, InputStream.class, OutputStream.class, Context.class);
+    }
+  }
+
+  private static byte[] readPayload(String resource) throws IOException {
+    try (InputStream in = ColdStartProbe.class.getResourceAsStream(resource)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Payload %s not found".formatted(resource));
+      }
+      return in.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * A shaded handler jar measured by the cold-start harness, together with the entry class it is invoked through, the
+ * {@code ClientBuilder} it builds its client with and the canned payload it is invoked with.
+ */
+record ColdStartTarget(String name, Path jar, String entryClass, String clientBuilderClass, String payload) {
+  private static final String PACKAGE_PREFIX = "software.amazon.qbusiness.";
+
+  /**
+   * The eight per-resource handler jars plus the aggregate jar. The aggregate is probed through
+   * {@code ResourceTypeDispatcher} with a Lambda handler request for an Application, the way CloudFormation calls it.
+   */
+  static List<ColdStartTarget> all(Path root) {
+    return List.of(
+        module(root, "application", "aws-qbusiness-application-1.0.jar"),
+        module(root, "dataaccessor", "aws-qbusiness-dataaccessor-1.0.jar"),
+        module(root, "datasource", "aws-qbusiness-datasource-1.0.jar"),
+        module(root, "index", "aws-qbusiness-index-1.0.jar"),
+        module(root, "permission", "aws-qbusiness-permission-handler-1.0-SNAPSHOT.jar"),
+        module(root, "plugin", "aws-qbusiness-plugin-1.0.jar"),
+        module(root, "retriever", "aws-qbusiness-retriever-1.0.jar"),
+        module(root, "webexperience", "aws-qbusiness-webexperience-1.0.jar"),
+        new ColdStartTarget(
+            "aggregate",
+            root.resolve("aws-qbusiness-aggregate/target/aws-qbusiness-aggregate-1.0.jar"),
+            PACKAGE_PREFIX + "aggregate.ResourceTypeDispatcher",
+            PACKAGE_PREFIX + "application.ClientBuilder",
+            payloadFor("aggregate")
+        )
+    );
+  }
+
+  private static ColdStartTarget module(Path root, String name, String jarName) {
+    return new ColdStartTarget(
+        name,
+        root.resolve("aws-qbusiness-%s/target/%s".formatted(name, jarName)),
+        PACKAGE_PREFIX + name + ".HandlerWrapper",
+        PACKAGE_PREFIX + name + ".ClientBuilder",
+        payloadFor(name)
+    );
+  }
+
+  private static String payloadFor(String name) {
+    return "/payloads/%s.json".formatted(name);
+  }
+}
@@ -0,0 +1,69 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+/**
+ * JMH benchmark of complete handler invocations against a zero-latency {@link StubQBusinessClient}, for every module.
+ * <p>
+ * Create runs the create call, stabilization, tags and the read-back; Update also diffs and adds a tag. What remains
+ * is our own per-invocation cost: {@code ProgressEvent.then} chains, {@code proxy.initiate} call graphs, logging, model
+ * and request translation. Log lines are formatted as usual and handed to a {@link Blackhole}. Run with
+ * {@code -prof gc} to see the bytes allocated per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class HandlerBenchmark {
+  @Param({"application", "dataaccessor", "datasource", "index", "permission", "plugin", "retriever", "webexperience"})
+  public String module;
+
+  private HandlerFixture fixture;
+
+  @Setup
+  public void setup(Blackhole blackhole) {
+    fixture = HandlerFixture.load(module, blackhole::consume);
+  }
+
+  @Benchmark
+  public ProgressEvent<?, ?> create() {
+    return fixture.create();
+  }
+
+  @Benchmark
+  public ProgressEvent<?, ?> read() {
+    return fixture.read();
+  }
+
+  @Benchmark
+  public ProgressEvent<?, ?> update() {
+    return fixture.update();
+  }
+
+  @Benchmark
+  public ProgressEvent<?, ?> delete() {
+    return fixture.delete();
+  }
+
+  @Benchmark
+  public ProgressEvent<?, ?> list() {
+    return fixture.list();
+  }
+}
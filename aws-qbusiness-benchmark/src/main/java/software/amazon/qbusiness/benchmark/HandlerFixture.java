@@ -0,0 +1,243 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.training.HandlerTraining;
+
+/**
+ * One module's Create, Read, Update, Delete and List handlers wired to a {@link StubQBusinessClient}, for
+ * {@link HandlerBenchmark}.
+ * <p>
+ * Each invocation goes through the handler's public {@code handleRequest} with a new, real
+ * {@link AmazonWebServicesClientProxy} and callback context, as the RPDK wrapper would do it; only the client the proxy
+ * hands out is the stub. The model is the module's {@code training-model.json} and the stub answers with
+ * {@link HandlerTraining#stubResponse}, with plugins built, so every action completes on its first stabilization poll.
+ * Update adds one tag to the previous model, so it also runs the tag diff and a {@code TagResource} call. Actions
+ * missing from the module's schema, such as a permission update, are not invoked.
+ * <p>
+ * Requests are built once and reused. Handlers only ever write the stub's identifiers back into the model, so repeated
+ * invocations see the same state.
+ */
+final class HandlerFixture {
+  private static final String ACTION_CREATE = "Create";
+  private static final String ACTION_READ = "Read";
+  private static final String ACTION_UPDATE = "Update";
+  private static final String ACTION_DELETE = "Delete";
+  private static final String ACTION_LIST = "List";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+  private static final String PACKAGE = "software.amazon.qbusiness.%s.%s";
+  private static final String MODEL_RESOURCE = "/aws-qbusiness-%s/training-model.json";
+  private static final String SCHEMA_RESOURCE = "/aws-qbusiness-%s.json";
+  private static final Credentials CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+  private static final long REMAINING_MILLIS = Duration.ofMinutes(15).toMillis();
+  private static final String ACCOUNT = "123456789012";
+  private static final String REGION = "us-east-1";
+  private static final String STACK_ID =
+      "arn:aws:cloudformation:us-east-1:123456789012:stack/handler-benchmark/00000000-0000-0000-0000-000000000000";
+
+  private final StubQBusinessClient stub;
+  private final Logger logger;
+  private final Supplier<Object> callbackContext;
+  private final Invocation create;
+  private final Invocation read;
+  private final Invocation update;
+  private final Invocation delete;
+  private final Invocation list;
+
+  private HandlerFixture(String module, ObjectNode model, JsonNode schema, Logger logger)
+      throws IOException, ReflectiveOperationException {
+    this.logger = logger;
+    var body = HandlerTraining.stubResponse(model);
+    body.put("buildStatus", "READY");
+    if (model.has("StatementId")) {
+      body.put("policy", policy(model));
+    }
+    this.stub = new StubQBusinessClient(body);
+
+    var modelClass = Class.forName(PACKAGE.formatted(module, "ResourceModel"));
+    var callbackContextClass = Class.forName(PACKAGE.formatted(module, "CallbackContext"));
+    var callbackContextConstructor = callbackContextClass.getConstructor();
+    this.callbackContext = () -> {
+      try {
+        return callbackContextConstructor.newInstance();
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+
+    var updated = model.deepCopy();
+    if (updated.has("Tags")) {
+      updated.withArray("Tags").addObject().put("Key", "handler-benchmark").put("Value", "update");
+    }
+    var handlers = schema.path("handlers");
+    this.create = invocation(module, ACTION_CREATE, handlers, callbackContextClass, request(model, null, modelClass));
+    this.read = invocation(module, ACTION_READ, handlers, callbackContextClass, request(model, null, modelClass));
+    this.update = invocation(module, ACTION_UPDATE, handlers, callbackContextClass, request(updated, model, modelClass));
+    this.delete = invocation(module, ACTION_DELETE, handlers, callbackContextClass, request(model, null, modelClass));
+    this.list = invocation(module, ACTION_LIST, handlers, callbackContextClass, request(model, null, modelClass));
+  }
+
+  /**
+   * Loads the handlers of {@code module}, such as {@code index}, and checks that every action succeeds against the stub.
+   */
+  static HandlerFixture load(String module, Logger logger) {
+    HandlerFixture fixture;
+    try {
+      var model = (ObjectNode) readResource(MODEL_RESOURCE.formatted(module));
+      fixture = new HandlerFixture(module, model, readResource(SCHEMA_RESOURCE.formatted(module)), logger);
+    } catch (IOException | ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot load the %s handlers".formatted(module), e);
+    }
+
+    fixture.check(module, ACTION_CREATE, fixture.create());
+    fixture.check(module, ACTION_READ, fixture.read());
+    fixture.check(module, ACTION_UPDATE, fixture.update());
+    fixture.check(module, ACTION_DELETE, fixture.delete());
+    fixture.check(module, ACTION_LIST, fixture.list());
+    return fixture;
+  }
+
+  /**
+   * The result of each action, or null when the module's schema declares no handler for it.
+   */
+  ProgressEvent<?, ?> create() {
+    return create == null ? null : create.invoke();
+  }
+
+  ProgressEvent<?, ?> read() {
+    return read == null ? null : read.invoke();
+  }
+
+  ProgressEvent<?, ?> update() {
+    return update == null ? null : update.invoke();
+  }
+
+  ProgressEvent<?, ?> delete() {
+    return delete == null ? null : delete.invoke();
+  }
+
+  ProgressEvent<?, ?> list() {
+    return list == null ? null : list.invoke();
+  }
+
+  private static JsonNode readResource(String name) throws IOException {
+    try (InputStream in = HandlerFixture.class.getResourceAsStream(name)) {
+      if (in == null) {
+        throw new IllegalArgumentException("%s not found".formatted(name));
+      }
+      return MAPPER.readTree(in);
+    }
+  }
+
+  private void check(String module, String action, ProgressEvent<?, ?> event) {
+    if (event != null && !event.isSuccess()) {
+      throw new IllegalStateException("%s %s did not succeed against the stub: %s %s".formatted(
+          module, action, event.getErrorCode(), event.getMessage()));
+    }
+  }
+
+  private Invocation invocation(String module, String action, JsonNode handlers, Class<?> callbackContextClass,
+      ResourceHandlerRequest<Object> request) throws ReflectiveOperationException {
+    if (!handlers.has(action.toLowerCase(Locale.ROOT))) {
+      return null;
+    }
+    var handler = Class.forName(PACKAGE.formatted(module, action + "Handler")).getConstructor().newInstance();
+    var handleRequest = handler.getClass().getMethod("handleRequest",
+        AmazonWebServicesClientProxy.class, ResourceHandlerRequest.class, callbackContextClass, Logger.class);
+    return new Invocation(handler, handleRequest, request);
+  }
+
+  /**
+   * A request with its own copies of the models.
+   */
+  private static ResourceHandlerRequest<Object> request(ObjectNode desired, ObjectNode previous, Class<?> modelClass)
+      throws IOException {
+    return ResourceHandlerRequest.<Object>builder()
+        .clientRequestToken("handler-benchmark")
+        .awsAccountId(ACCOUNT)
+        .awsPartition("aws")
+        .region(REGION)
+        .stackId(STACK_ID)
+        .logicalResourceIdentifier("HandlerBenchmark")
+        .systemTags(Map.of("aws:cloudformation:stack-name", "handler-benchmark"))
+        .desiredResourceState(MAPPER.treeToValue(desired, modelClass))
+        .previousResourceState(previous == null ? null : MAPPER.treeToValue(previous, modelClass))
+        .build();
+  }
+
+  /**
+   * A resource policy holding the permission model's statement, as {@code GetPolicy} returns it.
+   */
+  private static String policy(ObjectNode model) {
+    var policy = MAPPER.createObjectNode().put("Version", "2012-10-17");
+    var statement = policy.putArray("Statement").addObject()
+        .put("Sid", model.path("StatementId").asText())
+        .put("Effect", "Allow");
+    statement.putObject("Principal").put("AWS", model.path("Principal").asText());
+    statement.set("Action", model.path("Actions").deepCopy());
+    statement.put("Resource", "arn:aws:qbusiness:%s:%s:application/%s".formatted(
+        REGION, ACCOUNT, model.path("ApplicationId").asText()));
+    return policy.toString();
+  }
+
+  /**
+   * A proxy whose clients are all the stub, whatever the handler asks for.
+   */
+  private AmazonWebServicesClientProxy proxy() {
+    return new AmazonWebServicesClientProxy(new LoggerProxy(), CREDENTIALS, () -> REMAINING_MILLIS) {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <ClientT> ProxyClient<ClientT> newProxy(Supplier<ClientT> client) {
+        return super.newProxy(() -> (ClientT) stub.client());
+      }
+    };
+  }
+
+  private final class Invocation {
+    private final Object handler;
+    private final Method handleRequest;
+    private final ResourceHandlerRequest<Object> request;
+
+    Invocation(Object handler, Method handleRequest, ResourceHandlerRequest<Object> request) {
+      this.handler = handler;
+      this.handleRequest = handleRequest;
+      this.request = request;
+    }
+
+    ProgressEvent<?, ?> invoke() {
+      // Every action starts from an existing resource, whatever the previous one did
+      stub.restore();
+      try {
+        return (ProgressEvent<?, ?>) handleRequest.invoke(handler, proxy(), request, callbackContext.get(), logger);
+      } catch (InvocationTargetException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new IllegalStateException(e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
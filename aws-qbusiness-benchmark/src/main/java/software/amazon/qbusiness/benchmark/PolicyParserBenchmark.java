@@ -0,0 +1,69 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.permission.ResourceModel;
+import software.amazon.qbusiness.permission.internal.PolicyParser;
+
+/**
+ * JMH throughput of {@link PolicyParser} on application policies with 1, 20 and 200 statements: looking up the last
+ * statement, as the permission read handler does, and reading every statement, as the list handler does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class PolicyParserBenchmark {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+
+  @Param({"1", "20", "200"})
+  public int statements;
+
+  private String policy;
+  private String lastStatementId;
+
+  @Setup
+  public void setup() {
+    policy = policy(statements);
+    lastStatementId = "statement-%d".formatted(statements - 1);
+  }
+
+  @Benchmark
+  public Optional<ResourceModel> getStatement() {
+    return PolicyParser.getStatementFromPolicy(policy, lastStatementId, APPLICATION_ID);
+  }
+
+  @Benchmark
+  public List<ResourceModel> getAllStatements() {
+    return PolicyParser.getPermissionModelsFromPolicy(policy, APPLICATION_ID);
+  }
+
+  static String policy(int statements) {
+    var builder = new StringBuilder("{\"Version\": \"2012-10-17\", \"Statement\": [");
+    for (int i = 0; i < statements; i++) {
+      builder.append(i == 0 ? "" : ", ").append("""
+          {"Sid": "statement-%d", "Effect": "Allow",
+          "Principal": {"AWS": "arn:aws:iam::123456789012:role/role-%d"},
+          "Action": ["qbusiness:SearchRelevantContent", "qbusiness:Chat"],
+          "Resource": "arn:aws:qbusiness:us-east-1:123456789012:application/%s"}"""
+          .formatted(i, i, APPLICATION_ID));
+    }
+    return builder.append("]}").toString();
+  }
+}
@@ -0,0 +1,82 @@
+package software.amazon.qbusiness.benchmark;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal Lambda context for the probe; handler logs go to stderr so stdout carries only the metrics line.
+ */
+final class ProbeContext implements Context {
+  private static final int REMAINING_TIME_MILLIS = 15 * 60 * 1000;
+
+  private final LambdaLogger logger = new LambdaLogger() {
+    @Override
+    public void log(String message) {
+      System.err.println(message);
+    }
+
+    @Override
+    public void log(byte[] message) {
+      log(new String(message, StandardCharsets.UTF_8));
+    }
+  };
+
+  @Override
+  public String getAwsRequestId() {
+    return "cold-start-probe";
+  }
+
+  @Override
+  public String getLogGroupName() {
+    return "cold-start-probe";
+  }
+
+  @Override
+  public String getLogStreamName() {
+    return "cold-start-probe";
+  }
+
+  @Override
+  public String getFunctionName() {
+    return "cold-start-probe";
+  }
+
+  @Override
+  public String getFunctionVersion() {
+    return "$LATEST";
+  }
+
+  @Override
+  public String getInvokedFunctionArn() {
+    return "arn:aws:lambda:us-east-1:123456789012:function:cold-start-probe";
+  }
+
+  @Override
+  public CognitoIdentity getIdentity() {
+    return null;
+  }
+
+  @Override
+  public ClientContext getClientContext() {
+    return null;
+  }
+
+  @Override
+  public int getRemainingTimeInMillis() {
+    return REMAINING_TIME_MILLIS;
+  }
+
+  @Override
+  public int getMemoryLimitInMB() {
+    return 512;
+  }
+
+  @Override
+  public LambdaLogger getLogger() {
+    return logger;
+  }
+}
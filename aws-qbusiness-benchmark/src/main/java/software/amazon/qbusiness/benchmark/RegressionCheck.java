@@ -0,0 +1,48 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Compares measured cold-start metrics against a baseline keyed {@code <target>.<metric>}. Once a baseline is recorded,
+ * a metric without an entry fails the run, so an outdated baseline cannot let new regressions through; a baseline of
+ * {@code 0} opts a single metric out of the check. The harness skips the check while the baseline is still empty.
+ */
+final class RegressionCheck {
+  private RegressionCheck() {
+  }
+
+  static List<String> regressions(Map<String, ColdStartMetrics> results, Properties baseline, double thresholdPercent) {
+    var regressions = new ArrayList<String>();
+    var factor = 1 + thresholdPercent / 100;
+    results.forEach((target, metrics) -> metrics.asMap().forEach((metric, value) -> {
+      var key = key(target, metric);
+      var expected = baseline.getProperty(key);
+      if (expected == null) {
+        regressions.add("%s: %d has no baseline; record one with -Dbenchmark.record=true".formatted(key, value));
+        return;
+      }
+      var limit = Long.parseLong(expected.trim());
+      if (limit > 0 && value > limit * factor) {
+        regressions.add("%s: %d exceeds baseline %d by more than %s%%".formatted(key, value, limit, thresholdPercent));
+      }
+    }));
+    return regressions;
+  }
+
+  /**
+   * Results in the same shape as the baseline, so a reviewed results file can be copied over it.
+   */
+  static Properties toProperties(Map<String, ColdStartMetrics> results) {
+    var properties = new Properties();
+    results.forEach((target, metrics) -> metrics.asMap()
+        .forEach((metric, value) -> properties.setProperty(key(target, metric), Long.toString(value))));
+    return properties;
+  }
+
+  private static String key(String target, String metric) {
+    return target + "." + metric;
+  }
+}
@@ -0,0 +1,84 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.plugin.OpenApiSchemaValidator;
+
+/**
+ * JMH average time of {@link OpenApiSchemaValidator} on generated OpenAPI documents from a small plugin up to 1 MiB, in
+ * JSON and in YAML.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class SchemaValidationBenchmark {
+  @Param({"16384", "262144", "1048576"})
+  public int size;
+
+  @Param({"json", "yaml"})
+  public String format;
+
+  private String payload;
+
+  @Setup
+  public void setup() {
+    payload = "json".equals(format) ? jsonSchema(size) : yamlSchema(size);
+  }
+
+  @Benchmark
+  public void validate() {
+    OpenApiSchemaValidator.validate(payload);
+  }
+
+  /**
+   * A JSON document of about {@code size} bytes, with as many paths as it takes.
+   */
+  static String jsonSchema(int size) {
+    var builder = new StringBuilder(size + 1024)
+        .append("{\"openapi\": \"3.0.0\", \"info\": {\"title\": \"Benchmark\", \"version\": \"1.0\"}, \"paths\": {");
+    for (int path = 0; builder.length() < size; path++) {
+      builder.append(path == 0 ? "" : ", ").append("""
+          "/resources%d/{id}": {"get": {"operationId": "getResource%d", "description": "Returns resource %d",
+          "parameters": [{"name": "id", "in": "path", "required": true, "schema": {"type": "string"}}],
+          "responses": {"200": {"description": "The resource", "content": {"application/json": {"schema":
+          {"type": "object", "properties": {"id": {"type": "string"}, "name": {"type": "string"}}}}}}}}}"""
+          .formatted(path, path, path));
+    }
+    return builder.append("}}").toString();
+  }
+
+  /**
+   * A YAML document of about {@code size} bytes, with as many paths as it takes.
+   */
+  static String yamlSchema(int size) {
+    var builder = new StringBuilder(size + 1024)
+        .append("openapi: 3.0.0\ninfo:\n  title: Benchmark\n  version: \"1.0\"\npaths:\n");
+    for (int path = 0; builder.length() < size; path++) {
+      builder.append("""
+            /resources%d/{id}:
+              get:
+                operationId: getResource%d
+                description: Returns resource %d
+                responses:
+                  "200":
+                    description: The resource
+          """.formatted(path, path, path));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,118 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.qbusiness.common.SdkJson;
+import software.amazon.qbusiness.training.StubEndpoint;
+
+/**
+ * In-process stand-in for the QBusiness client that answers every operation at once, so handler benchmarks measure our
+ * code and the RPDK proxy around it rather than the SDK or the network.
+ * <p>
+ * Like {@link StubEndpoint}, every response is filled from one canned JSON body by member name through
+ * {@link SdkJson}, and members an operation does not model are ignored. Nested members may use the resource model's
+ * capitalized names. The responses of
+ * {@code ListX} operations carry {@link #PAGE_SIZE} summaries built from the same body. Each response is built once per
+ * operation and then handed out as is, which is safe because SDK responses are immutable.
+ * <p>
+ * A delete or disassociate call makes the following {@code GetX} calls fail with {@link ResourceNotFoundException}
+ * until the next create or associate call, or {@link #restore()}, so delete handlers stabilize on their first poll.
+ */
+final class StubQBusinessClient implements InvocationHandler {
+  static final int PAGE_SIZE = 10;
+
+  private final JsonNode body;
+  private final QBusinessClient client;
+  private final Map<Method, Object> responses = new ConcurrentHashMap<>();
+  private volatile boolean deleted;
+
+  StubQBusinessClient(JsonNode body) {
+    this.body = body;
+    this.client = (QBusinessClient) Proxy.newProxyInstance(
+        QBusinessClient.class.getClassLoader(), new Class<?>[] {QBusinessClient.class}, this);
+  }
+
+  QBusinessClient client() {
+    return client;
+  }
+
+  /**
+   * Makes the resource readable again after a delete.
+   */
+  void restore() {
+    deleted = false;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) {
+    var name = method.getName();
+    switch (name) {
+      case "serviceName":
+        return QBusinessClient.SERVICE_NAME;
+      case "close":
+        return null;
+      case "toString":
+        return "StubQBusinessClient";
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      default:
+        break;
+    }
+
+    if (name.startsWith("delete") || name.startsWith("disassociate")) {
+      deleted = true;
+    } else if (name.startsWith("create") || name.startsWith("associate")) {
+      deleted = false;
+    } else if (name.startsWith("get") && deleted) {
+      throw ResourceNotFoundException.builder().message("Stubbed resource was deleted").build();
+    }
+    if (!SdkPojo.class.isAssignableFrom(method.getReturnType())) {
+      throw new UnsupportedOperationException("%s is not stubbed".formatted(name));
+    }
+    return responses.computeIfAbsent(method, this::response);
+  }
+
+  private Object response(Method method) {
+    var type = method.getReturnType();
+    return SdkJson.fromJson(type, method.getName().startsWith("list") ? page(type, body) : body);
+  }
+
+  /**
+   * {@code node} with each list of structures that {@code type} has and the node lacks set to {@link #PAGE_SIZE} copies
+   * of the node, as summaries.
+   */
+  private static JsonNode page(Class<?> type, JsonNode node) {
+    SdkPojo builder;
+    try {
+      builder = (SdkPojo) type.getMethod("builder").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Cannot build a %s".formatted(type.getSimpleName()), e);
+    }
+
+    var page = ((ObjectNode) node).deepCopy();
+    for (var field : builder.sdkFields()) {
+      if (field.marshallingType() == MarshallingType.LIST && !node.has(field.locationName())
+          && field.getRequiredTrait(ListTrait.class).memberFieldInfo().marshallingType() == MarshallingType.SDK_POJO) {
+        var summaries = page.putArray(field.locationName());
+        for (int i = 0; i < PAGE_SIZE; i++) {
+          summaries.add(node);
+        }
+      }
+    }
+    return page;
+  }
+}
@@ -0,0 +1,48 @@
+package software.amazon.qbusiness.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ColdStartMetricsTest {
+
+  @Test
+  public void lineRoundTrips() {
+    var metrics = new ColdStartMetrics(1200, 4500, 32_000_000, 300, 18_000_000);
+
+    assertThat(metrics.toLine())
+        .isEqualTo("cold-start-metrics startToFirstResponseMillis=1200 classesLoaded=4500 heapAfterInitBytes=32000000 getClientMillis=300 jarBytes=18000000");
+    assertThat(ColdStartMetrics.parse(metrics.toLine())).isEqualTo(metrics);
+  }
+
+  @Test
+  public void parseRejectsForeignAndIncompleteLines() {
+    assertThatThrownBy(() -> ColdStartMetrics.parse("[INFO] handler started"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ColdStartMetrics.parse("cold-start-metrics classesLoaded=1"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("startToFirstResponseMillis");
+    assertThatThrownBy(() -> ColdStartMetrics.parse("cold-start-metrics classesLoaded"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void medianIsTakenPerMetric() {
+    var median = ColdStartMetrics.median(List.of(
+        new ColdStartMetrics(900, 4000, 30, 9, 100),
+        new ColdStartMetrics(5000, 4100, 10, 1, 100),
+        new ColdStartMetrics(1000, 3900, 20, 5, 100)
+    ));
+
+    assertThat(median).isEqualTo(new ColdStartMetrics(1000, 4000, 20, 5, 100));
+  }
+
+  @Test
+  public void medianNeedsRuns() {
+    assertThatThrownBy(() -> ColdStartMetrics.median(List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
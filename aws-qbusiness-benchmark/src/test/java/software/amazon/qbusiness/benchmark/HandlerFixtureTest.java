@@ -0,0 +1,40 @@
+package software.amazon.qbusiness.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class HandlerFixtureTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"application", "dataaccessor", "datasource", "index", "permission", "plugin", "retriever", "webexperience"})
+  public void everyActionSucceedsAgainstTheStub(String module) {
+    var logged = new ArrayList<String>();
+    var fixture = HandlerFixture.load(module, logged::add);
+
+    assertThat(fixture.create().getResourceModel()).isNotNull();
+    assertThat(fixture.read().getResourceModel()).isNotNull();
+    assertThat(fixture.delete().isSuccess()).isTrue();
+    assertThat(fixture.list().getResourceModels()).isNotEmpty();
+    assertThat(logged).isNotEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"application", "dataaccessor", "datasource", "index", "plugin", "retriever", "webexperience"})
+  public void updateAddsATag(String module) {
+    var fixture = HandlerFixture.load(module, line -> { });
+
+    assertThat(fixture.update().isSuccess()).isTrue();
+  }
+
+  @Test
+  public void actionsWithoutAHandlerAreSkipped() {
+    var fixture = HandlerFixture.load("permission", line -> { });
+
+    assertThat(fixture.update()).isNull();
+  }
+}
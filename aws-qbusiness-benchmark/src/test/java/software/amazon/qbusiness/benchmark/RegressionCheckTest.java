@@ -0,0 +1,65 @@
+package software.amazon.qbusiness.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+public class RegressionCheckTest {
+  private static final ColdStartMetrics METRICS = new ColdStartMetrics(1200, 4500, 32_000_000, 300, 18_000_000);
+
+  @Test
+  public void withinThresholdPasses() {
+    var baseline = RegressionCheck.toProperties(Map.of("index", METRICS));
+    baseline.setProperty("index.startToFirstResponseMillis", "1000");
+    baseline.setProperty("index.classesLoaded", "4500");
+
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), baseline, 20)).isEmpty();
+  }
+
+  @Test
+  public void beyondThresholdFails() {
+    var baseline = RegressionCheck.toProperties(Map.of("index", METRICS));
+    baseline.setProperty("index.classesLoaded", "3000");
+    baseline.setProperty("index.getClientMillis", "300");
+
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), baseline, 20))
+        .containsExactly("index.classesLoaded: 4500 exceeds baseline 3000 by more than 20.0%");
+  }
+
+  @Test
+  public void zeroBaselineIsNotChecked() {
+    var baseline = RegressionCheck.toProperties(Map.of("index", METRICS));
+    baseline.setProperty("index.heapAfterInitBytes", "0");
+    baseline.setProperty("plugin.classesLoaded", "1");
+
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), baseline, 20)).isEmpty();
+  }
+
+  @Test
+  public void missingBaselineFails() {
+    var baseline = new Properties();
+    baseline.setProperty("index.startToFirstResponseMillis", "1200");
+
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), baseline, 20))
+        .hasSize(4)
+        .contains("index.classesLoaded: 4500 has no baseline; record one with -Dbenchmark.record=true");
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), new Properties(), 20)).hasSize(5);
+  }
+
+  @Test
+  public void resultsUseBaselineKeys() {
+    var properties = RegressionCheck.toProperties(Map.of("index", METRICS));
+
+    assertThat(properties)
+        .containsEntry("index.startToFirstResponseMillis", "1200")
+        .containsEntry("index.classesLoaded", "4500")
+        .containsEntry("index.heapAfterInitBytes", "32000000")
+        .containsEntry("index.getClientMillis", "300")
+        .containsEntry("index.jarBytes", "18000000")
+        .hasSize(5);
+    assertThat(RegressionCheck.regressions(Map.of("index", METRICS), properties, 0)).isEmpty();
+  }
+}
@@ -0,0 +1,61 @@
+package software.amazon.qbusiness.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.DeleteIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+
+public class StubQBusinessClientTest {
+  private static final String BODY = """
+      {"applicationId": "app", "indexId": "index", "displayName": "name", "status": "ACTIVE",
+       "createdAt": "2024-01-01T00:00:00Z", "capacityConfiguration": {"Units": 2},
+       "tags": [{"Key": "key", "Value": "value"}], "unknownMember": {"a": 1}}""";
+
+  @Test
+  public void responsesAreFilledFromTheBody() throws Exception {
+    var client = new StubQBusinessClient(new ObjectMapper().readTree(BODY)).client();
+
+    var index = client.getIndex(GetIndexRequest.builder().build());
+
+    assertThat(index.indexId()).isEqualTo("index");
+    assertThat(index.status()).isEqualTo(IndexStatus.ACTIVE);
+    assertThat(index.createdAt()).hasToString("2024-01-01T00:00:00Z");
+    assertThat(index.capacityConfiguration().units()).isEqualTo(2);
+    assertThat(client.listTagsForResource(ListTagsForResourceRequest.builder().build()).tags())
+        .singleElement()
+        .satisfies(tag -> assertThat(tag.key() + "=" + tag.value()).isEqualTo("key=value"));
+    assertThat(client.getIndex(GetIndexRequest.builder().build())).isSameAs(index);
+  }
+
+  @Test
+  public void listsReturnAPageOfSummaries() throws Exception {
+    var client = new StubQBusinessClient(new ObjectMapper().readTree(BODY)).client();
+
+    var indices = client.listIndices(ListIndicesRequest.builder().build());
+
+    assertThat(indices.indices()).hasSize(StubQBusinessClient.PAGE_SIZE)
+        .allSatisfy(summary -> assertThat(summary.indexId()).isEqualTo("index"));
+    assertThat(indices.nextToken()).isNull();
+  }
+
+  @Test
+  public void deletedResourcesAreNotFoundUntilRestored() throws Exception {
+    var stub = new StubQBusinessClient(new ObjectMapper().readTree(BODY));
+    var client = stub.client();
+
+    client.deleteIndex(DeleteIndexRequest.builder().build());
+
+    assertThatThrownBy(() -> client.getIndex(GetIndexRequest.builder().build()))
+        .isInstanceOf(ResourceNotFoundException.class);
+    stub.restore();
+    assertThat(client.getIndex(GetIndexRequest.builder().build()).indexId()).isEqualTo("index");
+  }
+}
@@ -0,0 +1,157 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_COALESCED_POLLING;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Serves stabilization status checks for sibling resources (data sources under one index, indices or web experiences
+ * under one application, ...) from a single List call instead of one Get per resource.
+ * <p>
+ * Every poll marks its child as in flight under its parent. While only one child of a parent is in flight the poller
+ * stays out of the way and the caller issues its usual Get. Once several are, the first poll lists the parent's
+ * children and the resulting summaries answer every sibling's poll until the snapshot goes stale. Callers still fall
+ * back to Get for anything the summary cannot tell them, such as failure details, and whenever the child is missing
+ * from the listing or the List call fails.
+ * <p>
+ * A child is only answered from a listing that started after its own mutation, so the first check after an update never
+ * sees the status from before it. Update handlers report the mutation with {@link #mutated}; otherwise the child's first
+ * poll stands in for it, which is always later.
+ * <p>
+ * Parents are keyed by account and region as well as their identifiers, so a container serving several callers never
+ * answers one account's poll with another account's listing.
+ *
+ * @param <S> summary type carried by the List response, e.g. {@code DataSource}
+ */
+public final class CoalescedStatusPoller<S> {
+  private static final Duration DEFAULT_ACTIVITY_WINDOW = Duration.ofMinutes(3);
+  private static final Duration DEFAULT_SNAPSHOT_TTL = Duration.ofSeconds(5);
+
+  private final boolean enabled;
+  private final long activityWindowNanos;
+  private final long snapshotTtlNanos;
+  private final LongSupplier nanoTime;
+  private final Map<String, Parent<S>> parents = new ConcurrentHashMap<>();
+
+  CoalescedStatusPoller(boolean enabled, Duration activityWindow, Duration snapshotTtl, LongSupplier nanoTime) {
+    this.enabled = enabled;
+    this.activityWindowNanos = activityWindow.toNanos();
+    this.snapshotTtlNanos = snapshotTtl.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Container-wide poller, on unless {@code QBUSINESS_COALESCED_POLLING} is set to {@code false}.
+   */
+  public static <S> CoalescedStatusPoller<S> fromEnvironment() {
+    var enabled = !"false".equalsIgnoreCase(System.getenv(ENV_COALESCED_POLLING));
+    return new CoalescedStatusPoller<>(enabled, DEFAULT_ACTIVITY_WINDOW, DEFAULT_SNAPSHOT_TTL, System::nanoTime);
+  }
+
+  /**
+   * Poller that never coalesces; every poll falls through to the caller's Get.
+   */
+  public static <S> CoalescedStatusPoller<S> disabled() {
+    return new CoalescedStatusPoller<>(false, DEFAULT_ACTIVITY_WINDOW, DEFAULT_SNAPSHOT_TTL, System::nanoTime);
+  }
+
+  public static String parentKey(ResourceHandlerRequest<?> request, String... parentIds) {
+    return "%s/%s/%s".formatted(request.getAwsAccountId(), request.getRegion(), String.join("/", parentIds));
+  }
+
+  /**
+   * Summary of {@code childId} from a coalesced listing of its parent, or empty when the caller should issue its own
+   * Get: coalescing is off, the child has no in-flight siblings, the listing failed or does not contain the child.
+   *
+   * @param listChildren lists every child of the parent, following pagination, keyed by child id
+   */
+  public Optional<S> poll(
+      String parentKey,
+      String childId,
+      Supplier<Map<String, S>> listChildren,
+      Logger logger
+  ) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+
+    var parent = parents.computeIfAbsent(parentKey, key -> new Parent<>());
+    synchronized (parent) {
+      long now = nanoTime.getAsLong();
+      var child = parent.inFlight.computeIfAbsent(childId, id -> new Child(now));
+      child.lastPoll = now;
+      parent.inFlight.values().removeIf(sibling -> now - sibling.lastPoll > activityWindowNanos);
+      if (parent.inFlight.size() < 2) {
+        return Optional.empty();
+      }
+
+      if (parent.snapshot == null || now - parent.snapshotAt > snapshotTtlNanos || parent.snapshotAt < child.mutatedAt) {
+        logger.log("[INFO] Listing children of %s to serve %d in-flight stabilizations"
+            .formatted(parentKey, parent.inFlight.size()));
+        try {
+          parent.snapshot = listChildren.get();
+          parent.snapshotAt = now;
+        } catch (RuntimeException e) {
+          logger.log("[WARN] Coalesced listing of %s failed, falling back to Get: %s".formatted(parentKey, e.getMessage()));
+          parent.snapshot = null;
+          return Optional.empty();
+        }
+      }
+      return Optional.ofNullable(parent.snapshot.get(childId));
+    }
+  }
+
+  /**
+   * Records that {@code childId} was just mutated, so that listings started before now no longer answer for it.
+   */
+  public void mutated(String parentKey, String childId) {
+    if (!enabled) {
+      return;
+    }
+    var parent = parents.computeIfAbsent(parentKey, key -> new Parent<>());
+    synchronized (parent) {
+      parent.inFlight.put(childId, new Child(nanoTime.getAsLong()));
+    }
+  }
+
+  /**
+   * Drops a child that reached a terminal state so it no longer counts as in flight.
+   */
+  public void complete(String parentKey, String childId) {
+    var parent = parents.get(parentKey);
+    if (parent == null) {
+      return;
+    }
+    synchronized (parent) {
+      parent.inFlight.remove(childId);
+      if (parent.inFlight.isEmpty()) {
+        parents.remove(parentKey, parent);
+      }
+    }
+  }
+
+  private static final class Child {
+    private final long mutatedAt;
+    private long lastPoll;
+
+    private Child(long mutatedAt) {
+      this.mutatedAt = mutatedAt;
+      this.lastPoll = mutatedAt;
+    }
+  }
+
+  private static final class Parent<S> {
+    private final Map<String, Child> inFlight = new HashMap<>();
+    private Map<String, S> snapshot;
+    private long snapshotAt;
+  }
+}
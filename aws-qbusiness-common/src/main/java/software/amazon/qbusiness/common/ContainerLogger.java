@@ -0,0 +1,21 @@
+package software.amazon.qbusiness.common;
+
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Logger for work that runs outside a handler invocation, such as checkpoint and shutdown hooks, where no request
+ * logger is at hand. Messages go through the Lambda runtime's logger to the function's log stream.
+ */
+final class ContainerLogger implements Logger {
+  static final Logger INSTANCE = new ContainerLogger();
+
+  private ContainerLogger() {
+  }
+
+  @Override
+  public void log(String message) {
+    LambdaRuntime.getLogger().log(message);
+  }
+}
@@ -0,0 +1,128 @@
+package software.amazon.qbusiness.common;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Keeps a create handler from issuing a second create for a resource an earlier invocation already created.
+ * <p>
+ * The callback context records when the create was issued, the id it returned, the phase the handler is in and how
+ * many times it has polled for stabilization. A re-entry that finds an id skips straight to stabilization. A create
+ * whose outcome is unknown, because the call failed on the client side without a response, ends the invocation
+ * {@code IN_PROGRESS} instead of failing the resource. The next invocation issues the create again with the request's
+ * client token, which the service treats as the same request and answers with the id of the resource it already
+ * created.
+ */
+public final class CreateResumption {
+  public static final String PHASE_CREATE = "CREATE";
+  public static final String PHASE_STABILIZE = "STABILIZE";
+
+  static final Duration UNCONFIRMED_CREATE_WINDOW = Duration.ofMinutes(15);
+  private static final int UNCONFIRMED_CREATE_RETRY_DELAY_SECONDS = 10;
+
+  private CreateResumption() {
+  }
+
+  /**
+   * Id of the resource an earlier attempt created, or {@code null} when the create has to be issued.
+   */
+  public static String createdId(State context, Logger logger) {
+    if (context.getCreatedId() != null) {
+      logger.log("[INFO] Resuming create of %s, skipping to stabilization".formatted(context.getCreatedId()));
+    } else if (context.getCreateStartedAt() != null) {
+      logger.log("[INFO] Outcome of the earlier create attempt is unknown, creating again with the same client token");
+    }
+    return context.getCreatedId();
+  }
+
+  /**
+   * Records that the create is about to be issued. The first attempt's time is kept across re-entries.
+   */
+  public static void createStarted(State context) {
+    createStarted(context, System::currentTimeMillis);
+  }
+
+  static void createStarted(State context, LongSupplier clockMillis) {
+    context.setCreatePhase(PHASE_CREATE);
+    if (context.getCreateStartedAt() == null) {
+      context.setCreateStartedAt(clockMillis.getAsLong());
+    }
+  }
+
+  /**
+   * Records the id returned by the create; the handler moves on to stabilization.
+   */
+  public static void created(State context, String id) {
+    context.setCreatedId(id);
+    context.setCreatePhase(PHASE_STABILIZE);
+  }
+
+  /**
+   * Counts one stabilization poll.
+   */
+  public static void polled(State context) {
+    context.setCreatePollCount(context.getCreatePollCount() + 1);
+  }
+
+  /**
+   * Progress for a failed create call: {@code IN_PROGRESS} when the create may have gone through and can still be
+   * reissued with the same client token, otherwise {@code failure}.
+   */
+  public static <M, C extends StdCallbackContext & State> ProgressEvent<M, C> handleCreateError(
+      Exception error,
+      M model,
+      C context,
+      Logger logger,
+      Supplier<ProgressEvent<M, C>> failure
+  ) {
+    return handleCreateError(error, model, context, logger, failure, System::currentTimeMillis);
+  }
+
+  static <M, C extends StdCallbackContext & State> ProgressEvent<M, C> handleCreateError(
+      Exception error,
+      M model,
+      C context,
+      Logger logger,
+      Supplier<ProgressEvent<M, C>> failure,
+      LongSupplier clockMillis
+  ) {
+    var unconfirmed = error instanceof SdkClientException
+        && context.getCreatedId() == null
+        && context.getCreateStartedAt() != null
+        && clockMillis.getAsLong() - context.getCreateStartedAt() < UNCONFIRMED_CREATE_WINDOW.toMillis();
+    if (!unconfirmed) {
+      return failure.get();
+    }
+
+    logger.log("[WARN] Create outcome unknown, issuing it again in %d seconds: %s"
+        .formatted(UNCONFIRMED_CREATE_RETRY_DELAY_SECONDS, error.getMessage()));
+    return ProgressEvent.defaultInProgressHandler(context, UNCONFIRMED_CREATE_RETRY_DELAY_SECONDS, model);
+  }
+
+  /**
+   * Create progress a callback context carries between invocations.
+   */
+  public interface State {
+    String getCreatedId();
+
+    void setCreatedId(String createdId);
+
+    String getCreatePhase();
+
+    void setCreatePhase(String createPhase);
+
+    int getCreatePollCount();
+
+    void setCreatePollCount(int createPollCount);
+
+    Long getCreateStartedAt();
+
+    void setCreateStartedAt(Long createStartedAt);
+  }
+}
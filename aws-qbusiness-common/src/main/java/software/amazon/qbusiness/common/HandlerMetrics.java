@@ -0,0 +1,80 @@
+package software.amazon.qbusiness.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Publishes handler-side measurements as CloudWatch embedded metric format log lines. CloudWatch extracts the metric
+ * from the handler's log group, so no PutMetricData permission or client is needed. The RPDK's own metrics cover
+ * invocations and failures; these cover time spent inside a handler step, such as draining data source sync jobs, and
+ * the SDK retries an invocation made.
+ */
+public final class HandlerMetrics {
+  public static final String NAMESPACE = "QBusiness/ResourceProviders";
+  public static final String UNIT_MILLISECONDS = "Milliseconds";
+  public static final String UNIT_COUNT = "Count";
+  static final String DIMENSION_RESOURCE_TYPE = "ResourceType";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private HandlerMetrics() {
+  }
+
+  /**
+   * Logs one metric value for {@code typeName}, dimensioned by resource type.
+   */
+  public static void emit(Logger logger, String typeName, String metricName, double value, String unit) {
+    logger.log(format(typeName, metricName, value, unit, System.currentTimeMillis()));
+  }
+
+  /**
+   * Logs several metric values of one unit for {@code typeName} as one line, dimensioned by resource type.
+   * {@code properties} are logged alongside without becoming metrics, for CloudWatch Logs Insights queries.
+   */
+  public static void emit(
+      Logger logger,
+      String typeName,
+      Map<String, ? extends Number> metrics,
+      String unit,
+      Map<String, ?> properties
+  ) {
+    logger.log(format(typeName, metrics, unit, properties, System.currentTimeMillis()));
+  }
+
+  static String format(String typeName, String metricName, double value, String unit, long timestampMillis) {
+    return format(typeName, Map.of(metricName, value), unit, Map.of(), timestampMillis);
+  }
+
+  static String format(
+      String typeName,
+      Map<String, ? extends Number> metrics,
+      String unit,
+      Map<String, ?> properties,
+      long timestampMillis
+  ) {
+    var metadata = Map.of(
+        "Timestamp", timestampMillis,
+        "CloudWatchMetrics", List.of(Map.of(
+            "Namespace", NAMESPACE,
+            "Dimensions", List.of(List.of(DIMENSION_RESOURCE_TYPE)),
+            "Metrics", metrics.keySet().stream().map(name -> Map.of("Name", name, "Unit", unit)).toList()
+        ))
+    );
+    var line = new LinkedHashMap<String, Object>();
+    line.put("_aws", metadata);
+    line.put(DIMENSION_RESOURCE_TYPE, typeName);
+    line.putAll(metrics);
+    line.putAll(properties);
+    try {
+      return MAPPER.writeValueAsString(line);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not format metrics %s".formatted(metrics.keySet()), e);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_PROFILING;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_PROFILING_FILE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Opt-in Java Flight Recorder profiling of real handler invocations, enabled with {@code QBUSINESS_PROFILING=true}.
+ * <p>
+ * When enabled, the container keeps one recording with the JDK's {@code default} settings plus these custom events:
+ * each step of a handler's call chain (translate, makeServiceCall, every stabilize poll, handleError), every read-back
+ * chain as a whole, the wait for tag calls, each QBusiness SDK call named by its operation (the names in the modules'
+ * {@code Constants}), tag diffing and document conversions. After every invocation the recording is written to
+ * {@code QBUSINESS_PROFILING_FILE}, {@code /tmp/qbusiness-handlers.jfr} by default, for {@code jfr print} or JDK
+ * Mission Control. It keeps the last 15 minutes, at most 64 MiB.
+ * <p>
+ * When disabled, call chains are returned unwrapped, spans are a shared no-op and no recording is started.
+ */
+public final class HandlerProfiling {
+  public static final String PHASE_TRANSLATE = "translate";
+  public static final String PHASE_MAKE_SERVICE_CALL = "makeServiceCall";
+  public static final String PHASE_STABILIZE = "stabilize";
+  public static final String PHASE_HANDLE_ERROR = "handleError";
+  public static final String PHASE_TAGS = "tags";
+  public static final String PHASE_READ = "read";
+  static final String DEFAULT_FILE = "/tmp/qbusiness-handlers.jfr";
+  static final Duration MAX_AGE = Duration.ofMinutes(15);
+  static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+  private static final boolean ENABLED = "true".equalsIgnoreCase(System.getenv(ENV_PROFILING));
+  private static final Span NO_OP = () -> {
+  };
+  private static final TagDiffSpan NO_OP_TAG_DIFF = new TagDiffSpan() {
+    @Override
+    public void changes(int tagsToAdd, int tagsToRemove) {
+    }
+
+    @Override
+    public void close() {
+    }
+  };
+  private static final ExecutionAttribute<ProfilingEvents.ApiCall> API_CALL =
+      new ExecutionAttribute<>("QBusinessProfilingApiCall");
+
+  private static Recording recording;
+
+  private HandlerProfiling() {
+  }
+
+  /**
+   * A timed section of a handler, closed by try-with-resources.
+   */
+  @FunctionalInterface
+  public interface Span extends AutoCloseable {
+    @Override
+    void close();
+  }
+
+  /**
+   * A tag diff, which records how many tags the update adds and removes.
+   */
+  public interface TagDiffSpan extends Span {
+    void changes(int tagsToAdd, int tagsToRemove);
+  }
+
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Starts the container's recording on the first invocation. Does nothing when profiling is disabled.
+   */
+  public static synchronized void startRecording(Logger logger) {
+    if (!ENABLED || recording != null) {
+      return;
+    }
+
+    try {
+      var started = new Recording(Configuration.getConfiguration("default"));
+      started.setName("qbusiness-handlers");
+      started.setMaxAge(MAX_AGE);
+      started.setMaxSize(MAX_SIZE_BYTES);
+      started.enable(ProfilingEvents.HandlerPhase.class);
+      started.enable(ProfilingEvents.ApiCall.class);
+      started.enable(ProfilingEvents.TagDiff.class);
+      started.enable(ProfilingEvents.Conversion.class);
+      started.start();
+      recording = started;
+      logger.log("[INFO] Profiling handlers to %s".formatted(file()));
+    } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+      logger.log("[WARN] Could not start profiling: %s".formatted(e.getMessage()));
+    }
+  }
+
+  /**
+   * Writes the recording so far to the profiling file, replacing the previous dump.
+   */
+  public static synchronized void dumpRecording(Logger logger) {
+    if (recording == null) {
+      return;
+    }
+
+    try {
+      recording.dump(file());
+    } catch (IOException | IllegalStateException e) {
+      logger.log("[WARN] Could not write profiling recording to %s: %s".formatted(file(), e.getMessage()));
+    }
+  }
+
+  /**
+   * Times each step of {@code chain}, as returned by {@code proxy.initiate(callGraph, ...)}.
+   */
+  public static <ClientT, ModelT, CallbackT extends StdCallbackContext> CallChain.RequestMaker<ClientT, ModelT, CallbackT> profile(
+      String callGraph,
+      CallChain.RequestMaker<ClientT, ModelT, CallbackT> chain) {
+    return ENABLED ? ProfiledCallChain.of(callGraph, chain) : chain;
+  }
+
+  /**
+   * Times a handler phase outside a call chain, such as {@link #PHASE_TAGS}.
+   */
+  public static Span phase(String callGraph, String phase) {
+    return ENABLED ? new ProfilingEvents.HandlerPhase(callGraph, phase) : NO_OP;
+  }
+
+  /**
+   * Times one conversion between resource model and service model values.
+   */
+  public static Span conversion(String conversion) {
+    return ENABLED ? new ProfilingEvents.Conversion(conversion) : NO_OP;
+  }
+
+  /**
+   * Times diffing the previous and desired tags of an update, closed once the changes are known.
+   */
+  public static TagDiffSpan tagDiff(String typeName) {
+    return ENABLED ? new ProfilingEvents.TagDiff(typeName) : NO_OP_TAG_DIFF;
+  }
+
+  /**
+   * Makes a client record its calls. Leaves {@code configuration} unchanged when profiling is disabled.
+   */
+  public static ClientOverrideConfiguration.Builder configure(ClientOverrideConfiguration.Builder configuration) {
+    return ENABLED ? configuration.addExecutionInterceptor(apiCallInterceptor()) : configuration;
+  }
+
+  static ExecutionInterceptor apiCallInterceptor() {
+    return new ExecutionInterceptor() {
+      @Override
+      public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        var event = new ProfilingEvents.ApiCall();
+        event.api = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        event.begin();
+        executionAttributes.putAttribute(API_CALL, event);
+      }
+
+      @Override
+      public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        var event = executionAttributes.getAttribute(API_CALL);
+        if (event != null) {
+          event.attempts++;
+        }
+      }
+
+      @Override
+      public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        var event = executionAttributes.getAttribute(API_CALL);
+        if (event != null) {
+          event.statusCode = context.httpResponse().statusCode();
+          event.commit();
+        }
+      }
+
+      @Override
+      public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        var event = executionAttributes.getAttribute(API_CALL);
+        if (event == null) {
+          return;
+        }
+        var exception = context.exception();
+        if (exception instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null) {
+          event.statusCode = serviceException.statusCode();
+          event.error = serviceException.awsErrorDetails().errorCode();
+        }
+        if (event.error == null) {
+          event.error = exception.getClass().getSimpleName();
+        }
+        event.commit();
+      }
+    };
+  }
+
+  private static Path file() {
+    var file = System.getenv(ENV_PROFILING_FILE);
+    return Path.of(file == null || file.isBlank() ? DEFAULT_FILE : file.trim());
+  }
+}
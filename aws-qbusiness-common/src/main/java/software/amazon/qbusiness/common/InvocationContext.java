@@ -0,0 +1,92 @@
+package software.amazon.qbusiness.common;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lambda context for invocations the native-image bootstrap drives itself rather than the managed Java runtime. Logs go
+ * to stdout, which Lambda forwards to CloudWatch.
+ */
+final class InvocationContext implements Context {
+  private static final LambdaLogger LOGGER = new LambdaLogger() {
+    @Override
+    public void log(String message) {
+      System.out.println(message);
+    }
+
+    @Override
+    public void log(byte[] message) {
+      log(new String(message, StandardCharsets.UTF_8));
+    }
+  };
+
+  private final String requestId;
+  private final String functionArn;
+  private final long deadlineMillis;
+
+  InvocationContext(String requestId, String functionArn, long deadlineMillis) {
+    this.requestId = requestId;
+    this.functionArn = functionArn;
+    this.deadlineMillis = deadlineMillis;
+  }
+
+  @Override
+  public String getAwsRequestId() {
+    return requestId;
+  }
+
+  @Override
+  public String getLogGroupName() {
+    return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+  }
+
+  @Override
+  public String getLogStreamName() {
+    return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+  }
+
+  @Override
+  public String getFunctionName() {
+    return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+  }
+
+  @Override
+  public String getFunctionVersion() {
+    return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+  }
+
+  @Override
+  public String getInvokedFunctionArn() {
+    return functionArn;
+  }
+
+  @Override
+  public CognitoIdentity getIdentity() {
+    return null;
+  }
+
+  @Override
+  public ClientContext getClientContext() {
+    return null;
+  }
+
+  @Override
+  public int getRemainingTimeInMillis() {
+    return (int) Math.max(0, deadlineMillis - System.currentTimeMillis());
+  }
+
+  @Override
+  public int getMemoryLimitInMB() {
+    var memory = System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE");
+    return memory == null ? 0 : Integer.parseInt(memory);
+  }
+
+  @Override
+  public LambdaLogger getLogger() {
+    return LOGGER;
+  }
+}
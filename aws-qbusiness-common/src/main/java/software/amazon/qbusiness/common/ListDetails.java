@@ -0,0 +1,193 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_LIST_DETAILS;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_LIST_DETAILS_CALLS_PER_SECOND;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_LIST_DETAILS_PARALLELISM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Opt-in "list with details" mode for List handlers, enabled with {@code QBUSINESS_LIST_DETAILS=true}.
+ * <p>
+ * List calls only return summaries, so a caller that wants whole models reads every resource on its own. In this mode
+ * the List handler does it instead: each summary on the page is replaced by the model its Get and ListTags calls
+ * return, as Read would return it. Summaries are read on up to {@code parallelism} lanes at once, each lane working
+ * through its share of the page in turn, and every API is paced to {@code callsPerSecond} across all lanes and handlers
+ * of the container. Models come back in page order. A resource deleted since it was listed is left out; any other
+ * failure fails the page, stops lanes from starting further reads and is thrown as is.
+ */
+public final class ListDetails {
+  private static final int DEFAULT_PARALLELISM = 4;
+  private static final double DEFAULT_CALLS_PER_SECOND = 10;
+  private static final Executor DETAILS_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    var thread = new Thread(runnable, "qbusiness-list-details");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final ListDetails DISABLED =
+      new ListDetails(false, 1, DEFAULT_CALLS_PER_SECOND, DETAILS_EXECUTOR, System::nanoTime, Thread::sleep);
+  private static final ListDetails CONTAINER = fromEnvironment();
+
+  private final boolean enabled;
+  private final int parallelism;
+  private final long intervalNanos;
+  private final Executor executor;
+  private final LongSupplier nanoTime;
+  private final StabilizationHandoff.Sleeper sleeper;
+  private final Map<String, AtomicLong> nextCallNanos = new ConcurrentHashMap<>();
+
+  ListDetails(
+      boolean enabled,
+      int parallelism,
+      double callsPerSecond,
+      Executor executor,
+      LongSupplier nanoTime,
+      StabilizationHandoff.Sleeper sleeper
+  ) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("List details parallelism must be at least 1, was %d".formatted(parallelism));
+    }
+    if (!(callsPerSecond > 0)) {
+      throw new IllegalArgumentException("List details calls per second must be positive, was %s"
+          .formatted(callsPerSecond));
+    }
+    this.enabled = enabled;
+    this.parallelism = parallelism;
+    this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond);
+    this.executor = executor;
+    this.nanoTime = nanoTime;
+    this.sleeper = sleeper;
+  }
+
+  /**
+   * The instance every List handler of this container shares, so that the pace of each API holds across handlers.
+   */
+  public static ListDetails container() {
+    return CONTAINER;
+  }
+
+  /**
+   * {@code QBUSINESS_LIST_DETAILS_PARALLELISM} reads at once, 4 by default, and
+   * {@code QBUSINESS_LIST_DETAILS_CALLS_PER_SECOND} calls per API, 10 by default, when {@code QBUSINESS_LIST_DETAILS}
+   * is {@code true}.
+   */
+  static ListDetails fromEnvironment() {
+    if (!"true".equalsIgnoreCase(System.getenv(ENV_LIST_DETAILS))) {
+      return DISABLED;
+    }
+    var parallelism = System.getenv(ENV_LIST_DETAILS_PARALLELISM);
+    var callsPerSecond = System.getenv(ENV_LIST_DETAILS_CALLS_PER_SECOND);
+    return new ListDetails(true,
+        parallelism == null || parallelism.isBlank() ? DEFAULT_PARALLELISM : Integer.parseInt(parallelism.trim()),
+        callsPerSecond == null || callsPerSecond.isBlank()
+            ? DEFAULT_CALLS_PER_SECOND : Double.parseDouble(callsPerSecond.trim()),
+        DETAILS_EXECUTOR, System::nanoTime, Thread::sleep);
+  }
+
+  /**
+   * Reads {@code parallelism} resources at once and makes at most {@code callsPerSecond} calls per API.
+   */
+  public static ListDetails of(int parallelism, double callsPerSecond) {
+    return new ListDetails(true, parallelism, callsPerSecond, DETAILS_EXECUTOR, System::nanoTime, Thread::sleep);
+  }
+
+  /**
+   * Instance that leaves List pages as summaries.
+   */
+  public static ListDetails disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * {@code summaries} replaced by what {@code details} reads for each of them, in the same order, or
+   * {@code summaries} itself when the mode is off.
+   */
+  public <M> List<M> read(List<M> summaries, Function<M, M> details, Logger logger) {
+    if (!enabled || summaries.isEmpty()) {
+      return summaries;
+    }
+
+    var models = new AtomicReferenceArray<M>(summaries.size());
+    var failed = new AtomicBoolean();
+    var lanes = IntStream.range(0, Math.min(parallelism, summaries.size()))
+        .mapToObj(lane -> CompletableFuture.runAsync(() -> {
+          for (int i = lane; i < summaries.size() && !failed.get(); i += parallelism) {
+            try {
+              models.set(i, details.apply(summaries.get(i)));
+            } catch (ResourceNotFoundException e) {
+              logger.log("[INFO] Leaving out a listed resource that no longer exists: %s".formatted(e.getMessage()));
+            } catch (RuntimeException e) {
+              failed.set(true);
+              throw e;
+            }
+          }
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(lanes).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    var result = new ArrayList<M>(summaries.size());
+    for (int i = 0; i < summaries.size(); i++) {
+      result.add(models.get(i));
+    }
+    result.removeIf(Objects::isNull);
+    logger.log("[INFO] Read details of %d of %d listed resources".formatted(result.size(), summaries.size()));
+    return result;
+  }
+
+  /**
+   * Result of {@code call} once {@code api}, such as {@code GetIndex}, may be called again under its pace.
+   */
+  public <T> T call(String api, Supplier<T> call) {
+    pace(api);
+    return call.get();
+  }
+
+  private void pace(String api) {
+    long now = nanoTime.getAsLong();
+    var next = nextCallNanos.computeIfAbsent(api, key -> new AtomicLong(now));
+    // Takes the next free slot, which is now when the API has been idle for a whole interval
+    long slot = Math.max(next.getAndAccumulate(now, (previous, current) -> Math.max(previous, current) + intervalNanos), now);
+    long waitNanos = slot - now;
+    if (waitNanos <= 0) {
+      return;
+    }
+    try {
+      sleeper.sleep(TimeUnit.NANOSECONDS.toMillis(waitNanos + TimeUnit.MILLISECONDS.toNanos(1) - 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw AbortedException.builder().message("Interrupted while pacing %s calls".formatted(api)).cause(e).build();
+    }
+  }
+}
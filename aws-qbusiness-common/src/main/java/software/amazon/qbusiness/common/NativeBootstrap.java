@@ -0,0 +1,128 @@
+package software.amazon.qbusiness.common;
+
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code bootstrap} entry point of the native-image build, speaking the Lambda custom runtime API on
+ * {@code provided.al2023}. The handler class comes from the function's {@code Handler} setting ({@code _HANDLER}), the
+ * same {@code <wrapper class>::handleRequest} string the managed Java runtime uses, so a template only swaps
+ * {@code Runtime} and {@code CodeUri} to switch between the two.
+ */
+public final class NativeBootstrap {
+  private static final String API_PREFIX = "http://%s/2018-06-01/runtime";
+  private static final String HEADER_REQUEST_ID = "Lambda-Runtime-Aws-Request-Id";
+  private static final String HEADER_DEADLINE = "Lambda-Runtime-Deadline-Ms";
+  private static final String HEADER_FUNCTION_ARN = "Lambda-Runtime-Invoked-Function-Arn";
+  private static final String HEADER_ERROR_TYPE = "Lambda-Runtime-Function-Error-Type";
+
+  private NativeBootstrap() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    var runtimeApi = API_PREFIX.formatted(System.getenv("AWS_LAMBDA_RUNTIME_API"));
+    RequestStreamHandler handler;
+    try {
+      handler = loadHandler(System.getenv("_HANDLER"));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      post(runtimeApi + "/init/error", errorBody(e), true);
+      System.exit(1);
+      return;
+    }
+
+    while (true) {
+      invokeNext(runtimeApi, handler);
+    }
+  }
+
+  static RequestStreamHandler loadHandler(String handler) throws ReflectiveOperationException {
+    if (handler == null || handler.isBlank()) {
+      throw new IllegalArgumentException("_HANDLER is not set");
+    }
+    var separator = handler.indexOf("::");
+    var className = separator < 0 ? handler : handler.substring(0, separator);
+    return (RequestStreamHandler) Class.forName(className).getConstructor().newInstance();
+  }
+
+  /**
+   * Fetches one event, runs it through the handler and reports the response or error. Handler failures are reported to
+   * Lambda and do not end the loop.
+   */
+  static void invokeNext(String runtimeApi, RequestStreamHandler handler) throws IOException {
+    var next = (HttpURLConnection) new URL(runtimeApi + "/invocation/next").openConnection();
+    byte[] event;
+    try (InputStream in = next.getInputStream()) {
+      event = in.readAllBytes();
+    }
+    var requestId = next.getHeaderField(HEADER_REQUEST_ID);
+    var deadline = next.getHeaderField(HEADER_DEADLINE);
+    var context = new InvocationContext(
+        requestId,
+        next.getHeaderField(HEADER_FUNCTION_ARN),
+        deadline == null ? Long.MAX_VALUE : Long.parseLong(deadline)
+    );
+
+    var invocation = runtimeApi + "/invocation/" + requestId;
+    var response = new ByteArrayOutputStream();
+    try {
+      StabilizationHandoff.runWithDeadline(
+          context, () -> handler.handleRequest(new ByteArrayInputStream(event), response, context)
+      );
+    } catch (IOException | RuntimeException e) {
+      post(invocation + "/error", errorBody(e), true);
+      return;
+    }
+    post(invocation + "/response", response.toByteArray(), false);
+  }
+
+  static byte[] errorBody(Throwable error) {
+    return "{\"errorMessage\":\"%s\",\"errorType\":\"%s\"}".formatted(
+        escape(String.valueOf(error.getMessage())),
+        escape(error.getClass().getName())
+    ).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static String escape(String value) {
+    var escaped = new StringBuilder(value.length());
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> escaped.append("\\\"");
+        case '\\' -> escaped.append("\\\\");
+        case '\n' -> escaped.append("\\n");
+        case '\r' -> escaped.append("\\r");
+        case '\t' -> escaped.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            escaped.append("\\u%04x".formatted((int) c));
+          } else {
+            escaped.append(c);
+          }
+        }
+      }
+    }
+    return escaped.toString();
+  }
+
+  private static void post(String url, byte[] body, boolean error) throws IOException {
+    var connection = (HttpURLConnection) new URL(url).openConnection();
+    connection.setRequestMethod("POST");
+    connection.setDoOutput(true);
+    if (error) {
+      connection.setRequestProperty(HEADER_ERROR_TYPE, "Unhandled");
+    }
+    try (OutputStream out = connection.getOutputStream()) {
+      out.write(body);
+    }
+    try (InputStream in = connection.getInputStream()) {
+      in.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,271 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.API_GET_APPLICATION;
+import static software.amazon.qbusiness.common.SharedConstants.API_GET_INDEX;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_CONFLICT_RETRY_BUDGET_SECONDS;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_PARENT_READINESS_GATE;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+/**
+ * Holds a child resource's create until its parent application or index can take it.
+ * <p>
+ * Creating a child while its parent is still CREATING or UPDATING, e.g. right after a sibling update in the same stack,
+ * fails with {@code ConflictException} and rolls the stack back. {@link #awaitApplication} and {@link #awaitIndex} poll
+ * the parent through {@link StabilizationHandoff#await}, so a parent that stays busy is waited for in later invocations
+ * rather than in process. Parent reads go through a {@link SingleFlight} that keeps results for a few seconds, so
+ * siblings created together share one Get. A conflict that still slips through, such as a sibling update starting
+ * between the check and the create, is turned by {@link #handleConflict} into a callback that issues the create again
+ * within a time budget; creates carry the request's client token, so a retried create cannot create twice. The
+ * callback delay is jittered, so siblings that conflicted with each other, possibly in different containers, do not
+ * come back in lockstep and conflict again.
+ * <p>
+ * A parent that cannot be read does not hold the create back; the create call then reports the actual error.
+ */
+public final class ParentReadinessGate {
+  private static final Constant DEFAULT_PARENT_BACK_OFF_STRATEGY = Constant.of()
+      .timeout(Duration.ofMinutes(30))
+      .delay(Duration.ofSeconds(10))
+      .build();
+  private static final Duration DEFAULT_CONFLICT_RETRY_BUDGET = Duration.ofSeconds(60);
+  private static final Duration DEFAULT_CONFLICT_RETRY_DELAY = Duration.ofSeconds(5);
+  private static final SingleFlight PARENT_READS = SingleFlight.withResultTtl(Duration.ofSeconds(5));
+
+  // Application and index statuses share these names
+  private static final Set<String> SETTLING_STATUSES = Set.of(
+      ApplicationStatus.CREATING.toString(), ApplicationStatus.UPDATING.toString()
+  );
+  static final String UNREADABLE = "UNREADABLE";
+
+  private final boolean enabled;
+  private final Constant parentBackOffStrategy;
+  private final Duration conflictRetryBudget;
+  private final Duration conflictRetryDelay;
+  private final SingleFlight parentReads;
+  private final StabilizationHandoff handoff;
+  private final LongSupplier clockMillis;
+  private final DoubleSupplier jitter;
+
+  ParentReadinessGate(
+      boolean enabled,
+      Constant parentBackOffStrategy,
+      Duration conflictRetryBudget,
+      Duration conflictRetryDelay,
+      SingleFlight parentReads,
+      StabilizationHandoff handoff,
+      LongSupplier clockMillis,
+      DoubleSupplier jitter
+  ) {
+    this.enabled = enabled;
+    this.parentBackOffStrategy = parentBackOffStrategy;
+    this.conflictRetryBudget = conflictRetryBudget;
+    this.conflictRetryDelay = conflictRetryDelay;
+    this.parentReads = parentReads;
+    this.handoff = handoff;
+    this.clockMillis = clockMillis;
+    this.jitter = jitter;
+  }
+
+  /**
+   * Container-wide gate, on unless {@code QBUSINESS_PARENT_READINESS_GATE} is {@code false}. Conflicts are retried for
+   * {@code QBUSINESS_CONFLICT_RETRY_BUDGET_SECONDS}, 60 by default.
+   */
+  public static ParentReadinessGate fromEnvironment() {
+    if ("false".equalsIgnoreCase(System.getenv(ENV_PARENT_READINESS_GATE))) {
+      return disabled();
+    }
+    var budget = System.getenv(ENV_CONFLICT_RETRY_BUDGET_SECONDS);
+    var conflictRetryBudget = budget == null || budget.isBlank()
+        ? DEFAULT_CONFLICT_RETRY_BUDGET
+        : Duration.ofSeconds(Long.parseLong(budget.trim()));
+    return new ParentReadinessGate(
+        true, DEFAULT_PARENT_BACK_OFF_STRATEGY, conflictRetryBudget, DEFAULT_CONFLICT_RETRY_DELAY, PARENT_READS,
+        StabilizationHandoff.alwaysOn(System::getenv), System::currentTimeMillis, ParentReadinessGate::randomJitter
+    );
+  }
+
+  /**
+   * Gate that waits with {@code parentBackOffStrategy} and retries conflicts after {@code conflictRetryDelay} to twice
+   * that for up to {@code conflictRetryBudget}. Parent reads are shared while in flight but never kept.
+   */
+  public static ParentReadinessGate of(
+      Constant parentBackOffStrategy,
+      Duration conflictRetryBudget,
+      Duration conflictRetryDelay
+  ) {
+    return new ParentReadinessGate(
+        true, parentBackOffStrategy, conflictRetryBudget, conflictRetryDelay, SingleFlight.withResultTtl(Duration.ZERO),
+        StabilizationHandoff.alwaysOn(System::getenv), System::currentTimeMillis, ParentReadinessGate::randomJitter
+    );
+  }
+
+  /**
+   * Gate that never waits or retries; the create is called straight away as before.
+   */
+  public static ParentReadinessGate disabled() {
+    return new ParentReadinessGate(
+        false, DEFAULT_PARENT_BACK_OFF_STRATEGY, Duration.ZERO, Duration.ZERO, SingleFlight.disabled(),
+        StabilizationHandoff.disabled(), System::currentTimeMillis, ParentReadinessGate::randomJitter
+    );
+  }
+
+  /**
+   * Waits until the application returned by {@code applicationId} is no longer CREATING or UPDATING.
+   *
+   * @param callGraph name of the wait, unique within the handler
+   */
+  public <M, C extends StdCallbackContext & StabilizationHandoff.State> ProgressEvent<M, C> awaitApplication(
+      ProxyClient<QBusinessClient> proxyClient,
+      ProgressEvent<M, C> progress,
+      ResourceHandlerRequest<M> request,
+      String callGraph,
+      Function<M, String> applicationId,
+      Logger logger
+  ) {
+    return await(
+        proxyClient, progress, callGraph, API_GET_APPLICATION,
+        model -> GetApplicationRequest.builder().applicationId(applicationId.apply(model)).build(),
+        (getRequest, client) -> parentReads.call(
+            request, API_GET_APPLICATION, getRequest, client, client.client()::getApplication
+        ).statusAsString(),
+        logger
+    );
+  }
+
+  /**
+   * Waits until the index returned by {@code applicationId} and {@code indexId} is no longer CREATING or UPDATING.
+   *
+   * @param callGraph name of the wait, unique within the handler
+   */
+  public <M, C extends StdCallbackContext & StabilizationHandoff.State> ProgressEvent<M, C> awaitIndex(
+      ProxyClient<QBusinessClient> proxyClient,
+      ProgressEvent<M, C> progress,
+      ResourceHandlerRequest<M> request,
+      String callGraph,
+      Function<M, String> applicationId,
+      Function<M, String> indexId,
+      Logger logger
+  ) {
+    return await(
+        proxyClient, progress, callGraph, API_GET_INDEX,
+        model -> GetIndexRequest.builder()
+            .applicationId(applicationId.apply(model))
+            .indexId(indexId.apply(model))
+            .build(),
+        (getRequest, client) -> parentReads.call(
+            request, API_GET_INDEX, getRequest, client, client.client()::getIndex
+        ).statusAsString(),
+        logger
+    );
+  }
+
+  /**
+   * Progress for a failed create call: {@code IN_PROGRESS} with a callback delay when the create conflicted with an
+   * operation in progress and the retry budget, counted from the first create attempt, lasts; otherwise
+   * {@code failure}. The delay is the conflict retry delay plus a random part of up to as much again. The next
+   * invocation issues the create again.
+   */
+  public <M, C extends StdCallbackContext & CreateResumption.State> ProgressEvent<M, C> handleConflict(
+      Exception error,
+      M model,
+      C context,
+      Logger logger,
+      Supplier<ProgressEvent<M, C>> failure
+  ) {
+    if (!enabled || !(error instanceof ConflictException) || context.getCreateStartedAt() == null) {
+      return failure.get();
+    }
+    var delayMillis = conflictRetryDelay.toMillis() + Math.round(conflictRetryDelay.toMillis() * jitter.getAsDouble());
+    var callbackDelaySeconds = (int) Math.max(1, Duration.ofMillis(delayMillis).toSeconds());
+    if (clockMillis.getAsLong() + callbackDelaySeconds * 1000L
+        > context.getCreateStartedAt() + conflictRetryBudget.toMillis()) {
+      return failure.get();
+    }
+
+    logger.log("[INFO] Create conflicted with an operation in progress, retrying in %ds: %s"
+        .formatted(callbackDelaySeconds, error.getMessage()));
+    return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+  }
+
+  private <M, C extends StdCallbackContext & StabilizationHandoff.State, R extends AwsRequest> ProgressEvent<M, C> await(
+      ProxyClient<QBusinessClient> proxyClient,
+      ProgressEvent<M, C> progress,
+      String callGraph,
+      String apiName,
+      Function<M, R> parentRequest,
+      BiFunction<R, ProxyClient<QBusinessClient>, String> getStatus,
+      Logger logger
+  ) {
+    if (!enabled) {
+      return progress;
+    }
+
+    return handoff.await(
+        progress,
+        callGraph,
+        parentBackOffStrategy,
+        (model, context) -> {
+          var phase = HandlerProfiling.phase(callGraph, HandlerProfiling.PHASE_STABILIZE);
+          try {
+            return isReady(parentStatus(apiName, parentRequest.apply(model), proxyClient, getStatus, logger));
+          } finally {
+            phase.close();
+          }
+        },
+        (error, model, context) -> {
+          logger.log("[WARN] Waiting for the parent failed, creating without it: %s".formatted(error.getMessage()));
+          return progress;
+        },
+        logger
+    );
+  }
+
+  private <R extends AwsRequest> String parentStatus(
+      String apiName,
+      R getRequest,
+      ProxyClient<QBusinessClient> proxyClient,
+      BiFunction<R, ProxyClient<QBusinessClient>, String> getStatus,
+      Logger logger
+  ) {
+    final String status;
+    try {
+      status = getStatus.apply(getRequest, proxyClient);
+    } catch (SdkException e) {
+      logger.log("[WARN] %s failed, creating without waiting for the parent: %s".formatted(apiName, e.getMessage()));
+      return UNREADABLE;
+    }
+    if (!isReady(status)) {
+      logger.log("[INFO] Parent is %s, waiting before create. Checked with %s.".formatted(status, apiName));
+    }
+    return status;
+  }
+
+  private static double randomJitter() {
+    return ThreadLocalRandom.current().nextDouble();
+  }
+
+  static boolean isReady(String status) {
+    return !SETTLING_STATUSES.contains(status);
+  }
+}
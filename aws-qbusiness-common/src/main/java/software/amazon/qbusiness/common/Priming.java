@@ -0,0 +1,135 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_AWS_REGION;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+/**
+ * Warms the handler code paths before a Lambda SnapStart (CRaC) checkpoint is taken.
+ * <p>
+ * Each module registers a primer that pushes canned models and responses through its translators, so the SDK model
+ * classes, Jackson bindings and converters are loaded and initialized in the snapshot instead of on the first
+ * restored invocation. Primers run against in-memory data only and never call the service.
+ */
+public final class Priming {
+  private static final String CLIENT_PRIMER = "QBusinessClient";
+  private static final String PRIMING_PARTITION = "aws";
+  private static final String PRIMING_REGION = "us-east-1";
+  private static final String PRIMING_ACCOUNT = "123456789012";
+  private static final String PRIMING_TOKEN = "priming";
+  private static final Serializer SERIALIZER = new Serializer();
+  private static final Map<String, Runnable> PRIMERS = new LinkedHashMap<>();
+
+  // CRaC keeps weak references to registered resources, so the hook must stay strongly reachable from here.
+  private static final Resource CHECKPOINT_HOOK = new Resource() {
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+      primeAll();
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+    }
+  };
+
+  static {
+    register(CLIENT_PRIMER, Priming::primeClient);
+    Core.getGlobalContext().register(CHECKPOINT_HOOK);
+  }
+
+  private Priming() {
+  }
+
+  /**
+   * Registers a primer under a unique name; registering the same name again is a no-op.
+   */
+  public static void register(String name, Runnable primer) {
+    synchronized (PRIMERS) {
+      PRIMERS.putIfAbsent(name, primer);
+    }
+  }
+
+  /**
+   * Names of the registered primers.
+   */
+  public static Set<String> registered() {
+    synchronized (PRIMERS) {
+      return Set.copyOf(PRIMERS.keySet());
+    }
+  }
+
+  /**
+   * Canned handler request around a model, carrying the request fields translators read (ARN parts, token, tags).
+   */
+  public static <T> ResourceHandlerRequest<T> request(T model) {
+    return ResourceHandlerRequest.<T>builder()
+        .awsPartition(PRIMING_PARTITION)
+        .region(PRIMING_REGION)
+        .awsAccountId(PRIMING_ACCOUNT)
+        .clientRequestToken(PRIMING_TOKEN)
+        .desiredResourceState(model)
+        .previousResourceState(model)
+        .desiredResourceTags(Map.of(PRIMING_TOKEN, PRIMING_TOKEN))
+        .systemTags(Map.of("aws:cloudformation:stack-name", PRIMING_TOKEN))
+        .build();
+  }
+
+  /**
+   * Serializes and deserializes a value the same way the handler wrapper does with resource models.
+   */
+  public static <T> T roundTrip(T value, TypeReference<T> type) {
+    try {
+      return SERIALIZER.deserialize(SERIALIZER.serialize(value), type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Runs every registered primer and returns the names of the ones that failed.
+   * A failing primer only costs warmth, so it never prevents the checkpoint.
+   */
+  public static List<String> primeAll() {
+    Map<String, Runnable> primers;
+    synchronized (PRIMERS) {
+      primers = new LinkedHashMap<>(PRIMERS);
+    }
+    return run(primers, ContainerLogger.INSTANCE);
+  }
+
+  private static void primeClient() {
+    // Outside Lambda there is no region to build the client for; skip instead of probing instance metadata.
+    if (System.getenv(ENV_AWS_REGION) != null) {
+      QBusinessClientFactory.getClient();
+    }
+  }
+
+  static List<String> run(Map<String, Runnable> primers, Logger logger) {
+    List<String> failed = new ArrayList<>();
+    primers.forEach((name, primer) -> {
+      try {
+        primer.run();
+      } catch (RuntimeException e) {
+        failed.add(name);
+        logger.log("[WARN] Priming %s failed before checkpoint: %s".formatted(name, e));
+      }
+    });
+    return failed;
+  }
+}
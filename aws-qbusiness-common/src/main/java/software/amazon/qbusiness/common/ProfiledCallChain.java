@@ -0,0 +1,169 @@
+package software.amazon.qbusiness.common;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import software.amazon.cloudformation.proxy.CallChain;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Wraps the functions handed to each step of an RPDK call chain so every invocation of them is a
+ * {@link ProfilingEvents.HandlerPhase} event. The chain runs inside {@code done}, so a chain that reads the resource
+ * back is recorded as a whole as {@link HandlerProfiling#PHASE_READ}.
+ */
+final class ProfiledCallChain {
+  private static final String READ_CALL_GRAPH_SUFFIX = "::Read";
+
+  private ProfiledCallChain() {
+  }
+
+  static <ClientT, ModelT, CallbackT extends StdCallbackContext> CallChain.RequestMaker<ClientT, ModelT, CallbackT> of(
+      String callGraph,
+      CallChain.RequestMaker<ClientT, ModelT, CallbackT> chain) {
+    return new CallChain.RequestMaker<>() {
+      @Override
+      public <RequestT> CallChain.Caller<RequestT, ClientT, ModelT, CallbackT> translateToServiceRequest(
+          Function<ModelT, RequestT> maker) {
+        return caller(callGraph, chain.translateToServiceRequest(model -> {
+          var phase = phase(callGraph, HandlerProfiling.PHASE_TRANSLATE);
+          try {
+            return maker.apply(model);
+          } finally {
+            phase.close();
+          }
+        }));
+      }
+    };
+  }
+
+  private static <RequestT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+      CallChain.Caller<RequestT, ClientT, ModelT, CallbackT> caller(
+      String callGraph,
+      CallChain.Caller<RequestT, ClientT, ModelT, CallbackT> caller) {
+    return new CallChain.Caller<>() {
+      @Override
+      public <ResponseT> CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> makeServiceCall(
+          BiFunction<RequestT, ProxyClient<ClientT>, ResponseT> serviceCall) {
+        return stabilizer(callGraph, caller.makeServiceCall((request, client) -> {
+          var phase = phase(callGraph, HandlerProfiling.PHASE_MAKE_SERVICE_CALL);
+          try {
+            return serviceCall.apply(request, client);
+          } finally {
+            phase.close();
+          }
+        }));
+      }
+
+      @Override
+      public CallChain.Caller<RequestT, ClientT, ModelT, CallbackT> backoffDelay(Delay delay) {
+        return caller(callGraph, caller.backoffDelay(delay));
+      }
+    };
+  }
+
+  private static <RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+      CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> stabilizer(
+      String callGraph,
+      CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> stabilizer) {
+    return new Stabilizer<>(callGraph, stabilizer);
+  }
+
+  private static HandlerProfiling.Span phase(String callGraph, String phase) {
+    return new ProfilingEvents.HandlerPhase(callGraph, phase);
+  }
+
+  private static class Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+      implements CallChain.Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT> {
+    final String callGraph;
+    private final CallChain.Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT> completed;
+
+    Completed(String callGraph, CallChain.Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT> completed) {
+      this.callGraph = callGraph;
+      this.completed = completed;
+    }
+
+    @Override
+    public ProgressEvent<ModelT, CallbackT> done(Function<ResponseT, ProgressEvent<ModelT, CallbackT>> function) {
+      if (!callGraph.endsWith(READ_CALL_GRAPH_SUFFIX)) {
+        return completed.done(function);
+      }
+      var phase = phase(callGraph, HandlerProfiling.PHASE_READ);
+      try {
+        return completed.done(function);
+      } finally {
+        phase.close();
+      }
+    }
+
+    @Override
+    public ProgressEvent<ModelT, CallbackT> done(
+        CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, ProgressEvent<ModelT, CallbackT>> callback) {
+      if (!callGraph.endsWith(READ_CALL_GRAPH_SUFFIX)) {
+        return completed.done(callback);
+      }
+      var phase = phase(callGraph, HandlerProfiling.PHASE_READ);
+      try {
+        return completed.done(callback);
+      } finally {
+        phase.close();
+      }
+    }
+  }
+
+  private static class Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+      extends Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT>
+      implements CallChain.Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT> {
+    private final CallChain.Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT> exceptional;
+
+    Exceptional(String callGraph, CallChain.Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT> exceptional) {
+      super(callGraph, exceptional);
+      this.exceptional = exceptional;
+    }
+
+    @Override
+    public CallChain.Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT> retryErrorFilter(
+        CallChain.Callback<? super RequestT, Exception, ClientT, ModelT, CallbackT, Boolean> filter) {
+      return new Completed<>(callGraph, exceptional.retryErrorFilter(filter));
+    }
+
+    @Override
+    public CallChain.Completed<RequestT, ResponseT, ClientT, ModelT, CallbackT> handleError(
+        CallChain.ExceptionPropagate<? super RequestT, Exception, ClientT, ModelT, CallbackT, ProgressEvent<ModelT, CallbackT>> handler) {
+      return new Completed<>(callGraph, exceptional.handleError((request, exception, client, model, context) -> {
+        var phase = phase(callGraph, HandlerProfiling.PHASE_HANDLE_ERROR);
+        try {
+          return handler.invoke(request, exception, client, model, context);
+        } finally {
+          phase.close();
+        }
+      }));
+    }
+  }
+
+  private static final class Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT extends StdCallbackContext>
+      extends Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT>
+      implements CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> {
+    private final CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> stabilizer;
+
+    Stabilizer(String callGraph, CallChain.Stabilizer<RequestT, ResponseT, ClientT, ModelT, CallbackT> stabilizer) {
+      super(callGraph, stabilizer);
+      this.stabilizer = stabilizer;
+    }
+
+    @Override
+    public CallChain.Exceptional<RequestT, ResponseT, ClientT, ModelT, CallbackT> stabilize(
+        CallChain.Callback<RequestT, ResponseT, ClientT, ModelT, CallbackT, Boolean> poll) {
+      return new Exceptional<>(callGraph, stabilizer.stabilize((request, response, client, model, context) -> {
+        var phase = phase(callGraph, HandlerProfiling.PHASE_STABILIZE);
+        try {
+          return poll.invoke(request, response, client, model, context);
+        } finally {
+          phase.close();
+        }
+      }));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package software.amazon.qbusiness.common;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events emitted by {@link HandlerProfiling}. Each one is its own {@link HandlerProfiling.Span}, so
+ * an enabled span costs a single allocation and a disabled one none.
+ */
+final class ProfilingEvents {
+  private static final String CATEGORY = "QBusiness";
+
+  private ProfilingEvents() {
+  }
+
+  @Name("software.amazon.qbusiness.HandlerPhase")
+  @Label("Handler Phase")
+  @Category({CATEGORY, "Handlers"})
+  @Description("One step of a handler's call chain, a read-back or the tag calls of an update")
+  static final class HandlerPhase extends Event implements HandlerProfiling.Span {
+    @Label("Call Graph")
+    @Description("Call graph of the chain, or the resource type for tag calls")
+    String callGraph;
+
+    @Label("Phase")
+    String phase;
+
+    HandlerPhase(String callGraph, String phase) {
+      this.callGraph = callGraph;
+      this.phase = phase;
+      begin();
+    }
+
+    @Override
+    public void close() {
+      commit();
+    }
+  }
+
+  @Name("software.amazon.qbusiness.ApiCall")
+  @Label("QBusiness API Call")
+  @Category({CATEGORY, "SDK"})
+  @Description("One QBusiness SDK call, SDK retries included")
+  static final class ApiCall extends Event {
+    @Label("API")
+    String api;
+
+    @Label("Attempts")
+    int attempts;
+
+    @Label("Status Code")
+    int statusCode;
+
+    @Label("Error")
+    @Description("Error code of a failed call, or the exception type when the service returned none")
+    String error;
+  }
+
+  @Name("software.amazon.qbusiness.TagDiff")
+  @Label("Tag Diff")
+  @Category({CATEGORY, "Handlers"})
+  @Description("Diffing previous and desired tags of an update")
+  static final class TagDiff extends Event implements HandlerProfiling.TagDiffSpan {
+    @Label("Resource Type")
+    String typeName;
+
+    @Label("Tags To Add")
+    int tagsToAdd;
+
+    @Label("Tags To Remove")
+    int tagsToRemove;
+
+    TagDiff(String typeName) {
+      this.typeName = typeName;
+      begin();
+    }
+
+    @Override
+    public void changes(int tagsToAdd, int tagsToRemove) {
+      this.tagsToAdd = tagsToAdd;
+      this.tagsToRemove = tagsToRemove;
+    }
+
+    @Override
+    public void close() {
+      commit();
+    }
+  }
+
+  @Name("software.amazon.qbusiness.Conversion")
+  @Label("Conversion")
+  @Category({CATEGORY, "Handlers"})
+  @Description("Conversion between resource model and service model values")
+  static final class Conversion extends Event implements HandlerProfiling.Span {
+    @Label("Conversion")
+    String conversion;
+
+    Conversion(String conversion) {
+      this.conversion = conversion;
+      begin();
+    }
+
+    @Override
+    public void close() {
+      commit();
+    }
+  }
+}
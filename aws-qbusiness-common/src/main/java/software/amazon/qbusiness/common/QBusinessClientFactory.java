@@ -0,0 +1,105 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_AWS_REGION;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_ENDPOINT_URL;
+import static software.amazon.qbusiness.common.SharedConstants.PROPERTY_ENDPOINT_URL;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_TRAFFIC_RECORDING_FILE;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_TRAFFIC_REPLAY_FILE;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_TRAFFIC_REPLAY_LATENCY_SCALE;
+import static software.amazon.qbusiness.common.SharedConstants.SERVICE_NAME_LOWER;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.cloudformation.LambdaWrapper;
+
+/**
+ * Builds the QBusiness client once per container and hands the same instance to every handler.
+ * Credentials are injected per call by the proxy, so the client itself carries no caller state and can be reused
+ * across invocations and across resource types served by the same JVM.
+ * The endpoint can be pointed elsewhere (e.g. a local stub for cold-start benchmarks or handler training) through the
+ * SDK's standard {@code AWS_ENDPOINT_URL_QBUSINESS} variable or {@code aws.endpointUrlQBusiness} system property, which
+ * would otherwise be shadowed by the explicit override below.
+ * SDK retries are paid from the container's {@link RetryBudget}, so every resource type retries the same way.
+ * With {@link HandlerProfiling} enabled, every call is also recorded.
+ * With {@code QBUSINESS_TRAFFIC_RECORDING_FILE} set, every call and its response is appended to that
+ * {@link TrafficRecording}; with {@code QBUSINESS_TRAFFIC_REPLAY_FILE} set, the client is a
+ * {@link ReplayQBusinessClient} that answers from such a recording and never reaches the network.
+ */
+public final class QBusinessClientFactory {
+  // https://{service}.{region}.api.aws
+  private static final String URL_PATTERN = "https://%s.%s.api.aws";
+  private static final double DEFAULT_REPLAY_LATENCY_SCALE = 1.0;
+
+  private static volatile QBusinessClient client;
+
+  private QBusinessClientFactory() {
+  }
+
+  public static QBusinessClient getClient() {
+    QBusinessClient result = client;
+    if (result == null) {
+      synchronized (QBusinessClientFactory.class) {
+        result = client;
+        if (result == null) {
+          result = buildClient();
+          client = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static QBusinessClient buildClient() {
+    var replayFile = System.getenv(ENV_TRAFFIC_REPLAY_FILE);
+    if (replayFile != null && !replayFile.isBlank()) {
+      return replayClient(Path.of(replayFile.trim()));
+    }
+
+    String region = System.getenv(ENV_AWS_REGION);
+    String endpointUrl = System.getenv(ENV_ENDPOINT_URL);
+    if (endpointUrl == null) {
+      endpointUrl = System.getProperty(PROPERTY_ENDPOINT_URL);
+    }
+    var urlString = endpointUrl != null ? endpointUrl : URL_PATTERN.formatted(SERVICE_NAME_LOWER, region);
+
+    var builder = QBusinessClient.builder()
+        .httpClient(LambdaWrapper.HTTP_CLIENT)
+        .endpointOverride(URI.create(urlString));
+    var retryBudget = RetryBudget.container();
+    var recordingFile = System.getenv(ENV_TRAFFIC_RECORDING_FILE);
+    var recording = recordingFile != null && !recordingFile.isBlank();
+    if (retryBudget != null || HandlerProfiling.isEnabled() || recording) {
+      builder.overrideConfiguration(configuration -> {
+        if (retryBudget != null) {
+          retryBudget.configure(configuration);
+        }
+        HandlerProfiling.configure(configuration);
+        if (recording) {
+          configuration.addExecutionInterceptor(new TrafficRecorder(Path.of(recordingFile.trim())));
+        }
+      });
+    }
+    return builder.build();
+  }
+
+  /**
+   * Replays {@code file}, and logs what was served when the container shuts down.
+   */
+  private static QBusinessClient replayClient(Path file) {
+    var scale = System.getenv(ENV_TRAFFIC_REPLAY_LATENCY_SCALE);
+    ReplayQBusinessClient replay;
+    try {
+      replay = ReplayQBusinessClient.load(file,
+          scale == null || scale.isBlank() ? DEFAULT_REPLAY_LATENCY_SCALE : Double.parseDouble(scale.trim()));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot replay QBusiness traffic from %s".formatted(file), e);
+    }
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> ContainerLogger.INSTANCE.log(
+        "[INFO] Replayed QBusiness traffic from %s: %s".formatted(file, replay.summary()))));
+    return replay.client();
+  }
+}
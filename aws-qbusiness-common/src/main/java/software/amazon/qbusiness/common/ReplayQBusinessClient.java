@@ -0,0 +1,220 @@
+package software.amazon.qbusiness.common;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
+
+/**
+ * A QBusiness client that answers from a {@link TrafficRecording} instead of the service, enabled with
+ * {@code QBUSINESS_TRAFFIC_REPLAY_FILE}. Replaying a recorded deploy through the current handlers shows how many calls
+ * and polls they make and how long they take, without network access or an account.
+ * <p>
+ * A call is answered with the recorded exchange of the same operation whose request matches it, ignoring client
+ * tokens and comparing both requests as {@link TrafficRecording#redact} leaves them, in recording order; once those
+ * are used up the last one is repeated, so extra polls see the final state.
+ * A call no recorded request matches takes the next unused exchange of its operation, or the last one, and is counted
+ * as unmatched. Calling an operation the recording never saw fails. Each answer waits for the recorded duration times
+ * the latency scale, {@code 0} for none, and errors are thrown again as the matching {@link QBusinessException}.
+ */
+public final class ReplayQBusinessClient implements InvocationHandler {
+  private static final String MODEL_PACKAGE = "software.amazon.awssdk.services.qbusiness.model.";
+  private static final String CLIENT_TOKEN = "clientToken";
+  private static final ObjectMapper CANONICAL = new ObjectMapper()
+      .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  private final double latencyScale;
+  private final QBusinessClient client;
+  private final Map<String, Deque<TrafficRecording.Exchange>> byRequest = new HashMap<>();
+  private final Map<String, List<TrafficRecording.Exchange>> byOperation = new HashMap<>();
+  private final Map<String, TrafficRecording.Exchange> lastByRequest = new HashMap<>();
+  private final Set<TrafficRecording.Exchange> served = Collections.newSetFromMap(new IdentityHashMap<>());
+  private final Map<String, Integer> calls = new TreeMap<>();
+  private int unmatched;
+  private long latencyMicros;
+
+  private ReplayQBusinessClient(List<TrafficRecording.Exchange> exchanges, double latencyScale) {
+    this.latencyScale = latencyScale;
+    for (var exchange : exchanges) {
+      var key = key(exchange.operation(), exchange.request());
+      byRequest.computeIfAbsent(key, k -> new ArrayDeque<>()).add(exchange);
+      byOperation.computeIfAbsent(exchange.operation(), k -> new ArrayList<>()).add(exchange);
+    }
+    this.client = (QBusinessClient) Proxy.newProxyInstance(
+        QBusinessClient.class.getClassLoader(), new Class<?>[] {QBusinessClient.class}, this);
+  }
+
+  /**
+   * Replays the recording at {@code file}, waiting {@code latencyScale} times the recorded duration of each call.
+   */
+  public static ReplayQBusinessClient load(Path file, double latencyScale) throws IOException {
+    if (latencyScale < 0) {
+      throw new IllegalArgumentException("Latency scale must not be negative: %s".formatted(latencyScale));
+    }
+    return new ReplayQBusinessClient(TrafficRecording.read(file), latencyScale);
+  }
+
+  public QBusinessClient client() {
+    return client;
+  }
+
+  /**
+   * Calls served per operation, calls without a matching request, and the latency waited for, e.g.
+   * {@code 14 calls (GetApplication=9, CreateApplication=1, ...), 0 unmatched, 12.4s of recorded latency}.
+   */
+  public synchronized String summary() {
+    int total = calls.values().stream().mapToInt(Integer::intValue).sum();
+    return "%d calls %s, %d unmatched, %.1fs of recorded latency".formatted(
+        total, calls.toString().replace('{', '(').replace('}', ')'), unmatched, latencyMicros / 1_000_000.0);
+  }
+
+  public synchronized Map<String, Integer> calls() {
+    return Map.copyOf(calls);
+  }
+
+  public synchronized int unmatched() {
+    return unmatched;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    var name = method.getName();
+    switch (name) {
+      case "serviceName":
+        return QBusinessClient.SERVICE_NAME;
+      case "close":
+        return null;
+      case "toString":
+        return "ReplayQBusinessClient";
+      case "hashCode":
+        return System.identityHashCode(proxy);
+      case "equals":
+        return proxy == args[0];
+      default:
+        break;
+    }
+
+    if (args != null && args.length == 1 && args[0] instanceof SdkPojo request
+        && SdkPojo.class.isAssignableFrom(method.getReturnType())) {
+      var operation = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+      var exchange = next(operation, SdkJson.toJson(request));
+      delay(exchange);
+      if (exchange.failed()) {
+        throw exception(exchange.error());
+      }
+      return SdkJson.fromJson(method.getReturnType(),
+          exchange.response() == null ? JsonNodeFactory.instance.objectNode() : exchange.response());
+    }
+    if (method.isDefault()) {
+      // Consumer<Builder> overloads and paginators, which end up in the calls above
+      return InvocationHandler.invokeDefault(proxy, method, args);
+    }
+    throw new UnsupportedOperationException("%s cannot be replayed".formatted(name));
+  }
+
+  private synchronized TrafficRecording.Exchange next(String operation, ObjectNode request) {
+    var recorded = byOperation.get(operation);
+    if (recorded == null) {
+      throw new UnsupportedOperationException("The recording has no %s calls".formatted(operation));
+    }
+    calls.merge(operation, 1, Integer::sum);
+
+    var key = key(operation, request);
+    var queue = byRequest.get(key);
+    TrafficRecording.Exchange exchange;
+    if (queue != null && !queue.isEmpty()) {
+      exchange = queue.poll();
+    } else if (lastByRequest.containsKey(key)) {
+      exchange = lastByRequest.get(key);
+    } else {
+      unmatched++;
+      exchange = recorded.stream().filter(candidate -> !served.contains(candidate)).findFirst()
+          .orElse(recorded.get(recorded.size() - 1));
+    }
+    served.add(exchange);
+    lastByRequest.put(key, exchange);
+    return exchange;
+  }
+
+  private void delay(TrafficRecording.Exchange exchange) {
+    long micros = Math.round(exchange.durationMicros() * latencyScale);
+    synchronized (this) {
+      latencyMicros += micros;
+    }
+    if (micros <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.MICROSECONDS.sleep(micros);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw AbortedException.builder().message("Replay was interrupted").cause(e).build();
+    }
+  }
+
+  /**
+   * The recorded error as the SDK would have thrown it.
+   */
+  static RuntimeException exception(TrafficRecording.Error error) {
+    if (error.statusCode() == 0) {
+      return SdkClientException.builder().message("%s: %s".formatted(error.errorCode(), error.message())).build();
+    }
+
+    QBusinessException.Builder builder;
+    try {
+      var type = Class.forName(MODEL_PACKAGE + error.errorCode());
+      builder = QBusinessException.class.isAssignableFrom(type)
+          ? (QBusinessException.Builder) type.getMethod("builder").invoke(null)
+          : QBusinessException.builder();
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      builder = QBusinessException.builder();
+    }
+    return builder
+        .message(error.message())
+        .statusCode(error.statusCode())
+        .awsErrorDetails(AwsErrorDetails.builder()
+            .errorCode(error.errorCode())
+            .errorMessage(error.message())
+            .serviceName(QBusinessClient.SERVICE_NAME)
+            .build())
+        .build();
+  }
+
+  /**
+   * The operation and redacted request members with their keys sorted, except the client token, which differs per run.
+   */
+  private static String key(String operation, ObjectNode request) {
+    var canonical = TrafficRecording.redact(request);
+    canonical.remove(CLIENT_TOKEN);
+    try {
+      return operation + " " + CANONICAL.writeValueAsString(CANONICAL.treeToValue(canonical, Object.class));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,429 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_RETRY_BUDGET;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_RETRY_BUDGET_TOKENS;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenResponse;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessResponse;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * SDK retry strategy shared by every client of the container, so that SDK retries stay small next to the retries the
+ * RPDK proxy, CloudFormation and our stabilization loops already make on top of them.
+ * <p>
+ * Calls are split into two API classes by operation name. Polling reads ({@code Get}, {@code List}, ...) are
+ * idempotent and fail a whole stabilization loop when they throw, so they get {@link ApiClass#POLLING_READ 3 attempts}.
+ * Mutations are retried by the handlers and by CloudFormation already, so they get
+ * {@link ApiClass#MUTATION 2 attempts}. Every retry, of either class, is paid from one token bucket: a retry costs
+ * 5 tokens, 10 after throttling, and a successful call gives back what its retries cost, or 1 token when it needed
+ * none. Once the bucket is empty, failures are returned to the handler without SDK retries until calls succeed again,
+ * so a throttling incident drains the budget instead of multiplying into a retry storm.
+ * <p>
+ * The strategy only learns the operation through {@link #interceptor()}, which must be registered on the same client.
+ * The QBusiness client is synchronous, so the retries of a call run on the thread that started it.
+ * <p>
+ * {@link #toBuilder()} rebuilds the strategy with changed retry conditions, attempts or backoff. The rebuilt strategy
+ * keeps drawing on the same bucket and learning the operation from the same interceptor, so the SDK can adapt it
+ * without splitting the container's budget.
+ * <p>
+ * Each invocation logs the SDK retries it made, the retries the empty budget refused and the tokens left as CloudWatch
+ * embedded metrics through {@link #startInvocation()} and {@link #emitInvocationMetrics}. Stabilization polls, RPDK
+ * proxy retries and CloudFormation callbacks are not paid from the budget; their retries are already bounded by the
+ * handlers' backoff strategies and the handoff delays.
+ */
+public final class RetryBudget implements RetryStrategy {
+  static final int DEFAULT_CAPACITY = 500;
+  static final int RETRY_COST = 5;
+  static final int THROTTLING_RETRY_COST = 10;
+  private static final int NO_RETRY_REFUND = 1;
+  private static final String UNKNOWN_API = "Unknown";
+  private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+      BackoffStrategy.exponentialDelay(Duration.ofMillis(100), Duration.ofSeconds(20));
+  private static final BackoffStrategy DEFAULT_THROTTLING_BACKOFF_STRATEGY =
+      BackoffStrategy.exponentialDelay(Duration.ofSeconds(1), Duration.ofSeconds(20));
+  private static final RetryBudget CONTAINER = fromEnvironment();
+  static final String METRIC_RETRIES = "SdkRetries";
+  static final String METRIC_REFUSED_RETRIES = "SdkRetriesRefused";
+  static final String METRIC_TOKENS_AVAILABLE = "RetryBudgetTokensAvailable";
+  static final String PROPERTY_RETRIES_BY_OPERATION = "SdkRetriesByOperation";
+
+  private final Bucket bucket;
+  private final BackoffStrategy backoffStrategy;
+  private final BackoffStrategy throttlingBackoffStrategy;
+  // 0 keeps the attempts of each API class
+  private final int maxAttempts;
+  private final Predicate<Throwable> retryOnException;
+  private final Predicate<Throwable> treatAsThrottling;
+
+  RetryBudget(int capacity, BackoffStrategy backoffStrategy, BackoffStrategy throttlingBackoffStrategy) {
+    this(new Bucket(capacity), backoffStrategy, throttlingBackoffStrategy, 0, failure -> false, failure -> false);
+  }
+
+  private RetryBudget(
+      Bucket bucket,
+      BackoffStrategy backoffStrategy,
+      BackoffStrategy throttlingBackoffStrategy,
+      int maxAttempts,
+      Predicate<Throwable> retryOnException,
+      Predicate<Throwable> treatAsThrottling
+  ) {
+    this.bucket = bucket;
+    this.backoffStrategy = backoffStrategy;
+    this.throttlingBackoffStrategy = throttlingBackoffStrategy;
+    this.maxAttempts = maxAttempts;
+    this.retryOnException = retryOnException;
+    this.treatAsThrottling = treatAsThrottling;
+  }
+
+  /**
+   * The budget every client of this container shares, or {@code null} when {@code QBUSINESS_RETRY_BUDGET} is
+   * {@code false} and clients keep the SDK's default retries.
+   */
+  public static RetryBudget container() {
+    return CONTAINER;
+  }
+
+  /**
+   * What the container's budget has counted when an invocation starts, to hand to {@link #emitInvocationMetrics} when
+   * it ends, or {@code null} without a budget.
+   */
+  public static Usage startInvocation() {
+    return CONTAINER == null ? null : CONTAINER.usage();
+  }
+
+  /**
+   * Logs the container budget's use since {@code atStart} as this invocation's metrics for {@code typeName}. A
+   * container serves one invocation at a time, so the difference is the invocation's own.
+   */
+  public static void emitInvocationMetrics(Logger logger, String typeName, Usage atStart) {
+    if (CONTAINER != null && atStart != null) {
+      CONTAINER.emitMetrics(logger, typeName, atStart);
+    }
+  }
+
+  /**
+   * Budget of {@code QBUSINESS_RETRY_BUDGET_TOKENS} tokens, 500 by default, or {@code null} when
+   * {@code QBUSINESS_RETRY_BUDGET} is {@code false}.
+   */
+  static RetryBudget fromEnvironment() {
+    if ("false".equalsIgnoreCase(System.getenv(ENV_RETRY_BUDGET))) {
+      return null;
+    }
+    var capacity = System.getenv(ENV_RETRY_BUDGET_TOKENS);
+    return of(capacity == null || capacity.isBlank() ? DEFAULT_CAPACITY : Integer.parseInt(capacity.trim()));
+  }
+
+  /**
+   * Budget of {@code capacity} tokens with the default backoff.
+   */
+  public static RetryBudget of(int capacity) {
+    return new RetryBudget(capacity, DEFAULT_BACKOFF_STRATEGY, DEFAULT_THROTTLING_BACKOFF_STRATEGY);
+  }
+
+  /**
+   * Makes a client retry through this budget.
+   */
+  public ClientOverrideConfiguration.Builder configure(ClientOverrideConfiguration.Builder configuration) {
+    return configuration.retryStrategy(this).addExecutionInterceptor(interceptor());
+  }
+
+  /**
+   * Tells the budget which operation the calling thread is executing.
+   */
+  public ExecutionInterceptor interceptor() {
+    return new ExecutionInterceptor() {
+      @Override
+      public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        bucket.currentApi.set(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+      }
+
+      @Override
+      public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        bucket.currentApi.remove();
+      }
+
+      @Override
+      public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        bucket.currentApi.remove();
+      }
+    };
+  }
+
+  /**
+   * SDK retries made per operation name since the container started.
+   */
+  public Map<String, Long> retryCounts() {
+    return bucket.retries.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+  }
+
+  /**
+   * Retries that were refused because the budget was empty.
+   */
+  public long refusedRetries() {
+    return bucket.refusedRetries.sum();
+  }
+
+  /**
+   * Tokens left in the budget.
+   */
+  public int tokensAvailable() {
+    return bucket.tokens.get();
+  }
+
+  Usage usage() {
+    return new Usage(retryCounts(), refusedRetries());
+  }
+
+  /**
+   * Logs the retries and refused retries since {@code since}, with the retries per operation, and the tokens left.
+   */
+  void emitMetrics(Logger logger, String typeName, Usage since) {
+    var retries = new TreeMap<String, Long>();
+    retryCounts().forEach((api, count) -> {
+      var made = count - since.retryCounts().getOrDefault(api, 0L);
+      if (made > 0) {
+        retries.put(api, made);
+      }
+    });
+    var metrics = new LinkedHashMap<String, Long>();
+    metrics.put(METRIC_RETRIES, retries.values().stream().mapToLong(Long::longValue).sum());
+    metrics.put(METRIC_REFUSED_RETRIES, refusedRetries() - since.refusedRetries());
+    metrics.put(METRIC_TOKENS_AVAILABLE, (long) tokensAvailable());
+    HandlerMetrics.emit(logger, typeName, metrics, HandlerMetrics.UNIT_COUNT,
+        Map.of(PROPERTY_RETRIES_BY_OPERATION, retries));
+  }
+
+  @Override
+  public AcquireInitialTokenResponse acquireInitialToken(AcquireInitialTokenRequest request) {
+    var api = bucket.currentApi.get();
+    var apiName = api == null ? UNKNOWN_API : api;
+    return AcquireInitialTokenResponse.create(new Token(apiName, ApiClass.of(api), 1, 0), Duration.ZERO);
+  }
+
+  @Override
+  public RefreshRetryTokenResponse refreshRetryToken(RefreshRetryTokenRequest request) {
+    var token = (Token) request.token();
+    var failure = request.failure();
+    if (!isRetryable(failure)) {
+      throw new TokenAcquisitionFailedException("%s failed with a non-retryable error".formatted(token.api()), token,
+          failure);
+    }
+    if (token.attempt() >= maxAttempts(token.apiClass())) {
+      throw new TokenAcquisitionFailedException("%s failed after %d attempts".formatted(token.api(), token.attempt()),
+          token, failure);
+    }
+
+    var throttled = isThrottling(failure);
+    var cost = throttled ? THROTTLING_RETRY_COST : RETRY_COST;
+    if (!bucket.withdraw(cost)) {
+      bucket.refusedRetries.increment();
+      throw new TokenAcquisitionFailedException("%s not retried, the retry budget is exhausted".formatted(token.api()),
+          token, failure);
+    }
+    bucket.retries.computeIfAbsent(token.api(), api -> new LongAdder()).increment();
+
+    var backoff = (throttled ? throttlingBackoffStrategy : backoffStrategy).computeDelay(token.attempt());
+    var delay = request.suggestedDelay().filter(suggested -> suggested.compareTo(backoff) > 0).orElse(backoff);
+    return RefreshRetryTokenResponse.create(
+        new Token(token.api(), token.apiClass(), token.attempt() + 1, token.withdrawn() + cost), delay
+    );
+  }
+
+  @Override
+  public RecordSuccessResponse recordSuccess(RecordSuccessRequest request) {
+    var token = (Token) request.token();
+    bucket.deposit(token.withdrawn() == 0 ? NO_RETRY_REFUND : token.withdrawn());
+    return RecordSuccessResponse.create(token);
+  }
+
+  @Override
+  public int maxAttempts() {
+    return maxAttempts(ApiClass.POLLING_READ);
+  }
+
+  @Override
+  public boolean useClientDefaults() {
+    return false;
+  }
+
+  @Override
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  private int maxAttempts(ApiClass apiClass) {
+    return maxAttempts > 0 ? maxAttempts : apiClass.maxAttempts;
+  }
+
+  private boolean isRetryable(Throwable failure) {
+    return failure instanceof SdkException sdkException && isRetryable(sdkException) || retryOnException.test(failure);
+  }
+
+  private boolean isThrottling(Throwable failure) {
+    return failure instanceof SdkException sdkException && RetryUtils.isThrottlingException(sdkException)
+        || treatAsThrottling.test(failure);
+  }
+
+  private static boolean isRetryable(SdkException e) {
+    return e.retryable()
+        || e instanceof SdkServiceException serviceException && serviceException.statusCode() >= 500
+        || RetryUtils.isRetryableException(e)
+        || RetryUtils.isThrottlingException(e)
+        || RetryUtils.isClockSkewException(e)
+        || e.getCause() instanceof IOException;
+  }
+
+  enum ApiClass {
+    POLLING_READ(3),
+    MUTATION(2);
+
+    private final int maxAttempts;
+
+    ApiClass(int maxAttempts) {
+      this.maxAttempts = maxAttempts;
+    }
+
+    static ApiClass of(String api) {
+      if (api != null && (api.startsWith("Get") || api.startsWith("List") || api.startsWith("Describe"))) {
+        return POLLING_READ;
+      }
+      return MUTATION;
+    }
+
+    int maxAttempts() {
+      return maxAttempts;
+    }
+  }
+
+  record Token(String api, ApiClass apiClass, int attempt, int withdrawn) implements RetryToken {
+  }
+
+  /**
+   * Rebuilds a {@link RetryBudget} on the bucket of the budget it came from. Retry and throttling conditions are added
+   * to the built-in ones; {@link #maxAttempts(int)} replaces the attempts of both API classes.
+   */
+  public static final class Builder implements RetryStrategy.Builder<Builder, RetryBudget> {
+    private final Bucket bucket;
+    private BackoffStrategy backoffStrategy;
+    private BackoffStrategy throttlingBackoffStrategy;
+    private int maxAttempts;
+    private Predicate<Throwable> retryOnException;
+    private Predicate<Throwable> treatAsThrottling;
+
+    private Builder(RetryBudget budget) {
+      this.bucket = budget.bucket;
+      this.backoffStrategy = budget.backoffStrategy;
+      this.throttlingBackoffStrategy = budget.throttlingBackoffStrategy;
+      this.maxAttempts = budget.maxAttempts;
+      this.retryOnException = budget.retryOnException;
+      this.treatAsThrottling = budget.treatAsThrottling;
+    }
+
+    @Override
+    public Builder retryOnException(Predicate<Throwable> shouldRetry) {
+      retryOnException = retryOnException.or(shouldRetry);
+      return this;
+    }
+
+    @Override
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("maxAttempts must be at least 1, was %d".formatted(maxAttempts));
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    @Override
+    public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+      this.backoffStrategy = backoffStrategy;
+      return this;
+    }
+
+    @Override
+    public Builder throttlingBackoffStrategy(BackoffStrategy throttlingBackoffStrategy) {
+      this.throttlingBackoffStrategy = throttlingBackoffStrategy;
+      return this;
+    }
+
+    @Override
+    public Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling) {
+      this.treatAsThrottling = this.treatAsThrottling.or(treatAsThrottling);
+      return this;
+    }
+
+    @Override
+    public RetryBudget build() {
+      return new RetryBudget(bucket, backoffStrategy, throttlingBackoffStrategy, maxAttempts, retryOnException,
+          treatAsThrottling);
+    }
+  }
+
+  /**
+   * Tokens, counters and the calling thread's operation, shared by a budget and every budget rebuilt from it.
+   */
+  /**
+   * Retries per operation name and refused retries counted so far.
+   */
+  public record Usage(Map<String, Long> retryCounts, long refusedRetries) {
+  }
+
+  private static final class Bucket {
+    private final int capacity;
+    private final AtomicInteger tokens;
+    private final ThreadLocal<String> currentApi = new ThreadLocal<>();
+    private final Map<String, LongAdder> retries = new ConcurrentHashMap<>();
+    private final LongAdder refusedRetries = new LongAdder();
+
+    Bucket(int capacity) {
+      if (capacity < THROTTLING_RETRY_COST) {
+        throw new IllegalArgumentException("Retry budget must hold at least %d tokens, was %d"
+            .formatted(THROTTLING_RETRY_COST, capacity));
+      }
+      this.capacity = capacity;
+      this.tokens = new AtomicInteger(capacity);
+    }
+
+    boolean withdraw(int cost) {
+      int available;
+      do {
+        available = tokens.get();
+        if (available < cost) {
+          return false;
+        }
+      } while (!tokens.compareAndSet(available, available - cost));
+      return true;
+    }
+
+    void deposit(int amount) {
+      tokens.accumulateAndGet(amount, (available, refund) -> Math.min(capacity, available + refund));
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package software.amazon.qbusiness.common;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkNumber;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Converts SDK requests, responses and their members to and from JSON keyed by wire member names, using the field
+ * metadata every SDK model carries rather than the protocol marshallers.
+ * <p>
+ * Reading is lenient: a member may also be spelled with a capital first letter, as in the resource models, and a value
+ * that does not fit its member's type is skipped. Members the JSON does not mention keep the SDK's defaults, and unset
+ * members are left out when writing.
+ */
+public final class SdkJson {
+  private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+  private SdkJson() {
+  }
+
+  public static ObjectNode toJson(SdkPojo pojo) {
+    var node = NODES.objectNode();
+    for (var field : pojo.sdkFields()) {
+      var value = toJson(field, field.getValueOrDefault(pojo));
+      if (value != null) {
+        node.set(field.locationName(), value);
+      }
+    }
+    return node;
+  }
+
+  /**
+   * Builds an instance of an SDK model class, such as a request or response, from {@code node}.
+   */
+  public static <T> T fromJson(Class<T> type, JsonNode node) {
+    try {
+      var builder = (SdkPojo) type.getMethod("builder").invoke(null);
+      return type.cast(build(builder, node));
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new IllegalArgumentException("%s is not an SDK model".formatted(type.getName()), e);
+    }
+  }
+
+  private static Object build(SdkPojo builder, JsonNode node) {
+    for (var field : builder.sdkFields()) {
+      var value = member(node, field.locationName());
+      if (value != null) {
+        var converted = fromJson(field, value);
+        if (converted != null) {
+          field.set(builder, converted);
+        }
+      }
+    }
+    return ((SdkBuilder<?, ?>) builder).build();
+  }
+
+  private static JsonNode member(JsonNode node, String name) {
+    var value = node.get(name);
+    if (value == null && !name.isEmpty()) {
+      value = node.get(Character.toUpperCase(name.charAt(0)) + name.substring(1));
+    }
+    return value == null || value.isNull() ? null : value;
+  }
+
+  private static JsonNode toJson(SdkField<?> field, Object value) {
+    // Unset lists and maps read as these empty placeholders
+    if (value == null || value instanceof SdkAutoConstructList || value instanceof SdkAutoConstructMap) {
+      return null;
+    }
+    var type = field.marshallingType();
+    if (type == MarshallingType.SDK_POJO) {
+      return toJson((SdkPojo) value);
+    }
+    if (type == MarshallingType.LIST) {
+      var memberField = field.getRequiredTrait(ListTrait.class).memberFieldInfo();
+      var array = NODES.arrayNode();
+      for (var element : (List<?>) value) {
+        var converted = toJson(memberField, element);
+        array.add(converted == null ? NODES.nullNode() : converted);
+      }
+      return array;
+    }
+    if (type == MarshallingType.MAP) {
+      var valueField = field.getRequiredTrait(MapTrait.class).valueFieldInfo();
+      var object = NODES.objectNode();
+      for (var entry : ((Map<?, ?>) value).entrySet()) {
+        var converted = toJson(valueField, entry.getValue());
+        object.set(String.valueOf(entry.getKey()), converted == null ? NODES.nullNode() : converted);
+      }
+      return object;
+    }
+    if (type == MarshallingType.DOCUMENT) {
+      return document((Document) value);
+    }
+    if (type == MarshallingType.INSTANT) {
+      return NODES.textNode(value.toString());
+    }
+    if (type == MarshallingType.SDK_BYTES) {
+      return NODES.textNode(Base64.getEncoder().encodeToString(((SdkBytes) value).asByteArrayUnsafe()));
+    }
+    if (value instanceof Boolean bool) {
+      return NODES.booleanNode(bool);
+    }
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return NODES.numberNode(((Number) value).longValue());
+    }
+    if (value instanceof Float || value instanceof Double) {
+      return NODES.numberNode(((Number) value).doubleValue());
+    }
+    if (value instanceof BigDecimal decimal) {
+      return NODES.numberNode(decimal);
+    }
+    return NODES.textNode(value.toString());
+  }
+
+  /**
+   * {@code value} as the type {@code field} holds, or null when the JSON does not fit it.
+   */
+  private static Object fromJson(SdkField<?> field, JsonNode value) {
+    var type = field.marshallingType();
+    if (type == MarshallingType.SDK_POJO) {
+      return value.isObject() ? build(field.constructor().get(), value) : null;
+    }
+    if (type == MarshallingType.LIST) {
+      if (!value.isArray()) {
+        return null;
+      }
+      var memberField = field.getRequiredTrait(ListTrait.class).memberFieldInfo();
+      var list = new ArrayList<>(value.size());
+      for (var element : value) {
+        var converted = fromJson(memberField, element);
+        if (converted != null) {
+          list.add(converted);
+        }
+      }
+      return list;
+    }
+    if (type == MarshallingType.MAP) {
+      if (!value.isObject()) {
+        return null;
+      }
+      var valueField = field.getRequiredTrait(MapTrait.class).valueFieldInfo();
+      var map = new LinkedHashMap<String, Object>();
+      value.fields().forEachRemaining(entry -> {
+        var converted = fromJson(valueField, entry.getValue());
+        if (converted != null) {
+          map.put(entry.getKey(), converted);
+        }
+      });
+      return map;
+    }
+    if (type == MarshallingType.DOCUMENT) {
+      return document(value);
+    }
+    if (!value.isValueNode()) {
+      return null;
+    }
+    if (type == MarshallingType.STRING) {
+      return value.asText();
+    }
+    if (type == MarshallingType.INSTANT) {
+      try {
+        return Instant.parse(value.asText());
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+    if (type == MarshallingType.SDK_BYTES) {
+      try {
+        return SdkBytes.fromByteArrayUnsafe(Base64.getDecoder().decode(value.asText()));
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+    }
+    if (type == MarshallingType.BOOLEAN) {
+      return value.isBoolean() ? value.booleanValue() : null;
+    }
+    if (!value.isNumber()) {
+      return null;
+    }
+    if (type == MarshallingType.INTEGER) {
+      return value.intValue();
+    }
+    if (type == MarshallingType.LONG) {
+      return value.longValue();
+    }
+    if (type == MarshallingType.SHORT) {
+      return value.shortValue();
+    }
+    if (type == MarshallingType.DOUBLE) {
+      return value.doubleValue();
+    }
+    if (type == MarshallingType.FLOAT) {
+      return value.floatValue();
+    }
+    if (type == MarshallingType.BIG_DECIMAL) {
+      return value.decimalValue();
+    }
+    return null;
+  }
+
+  private static JsonNode document(Document document) {
+    if (document.isMap()) {
+      var object = NODES.objectNode();
+      document.asMap().forEach((key, value) -> object.set(key, document(value)));
+      return object;
+    }
+    if (document.isList()) {
+      var array = NODES.arrayNode();
+      document.asList().forEach(element -> array.add(document(element)));
+      return array;
+    }
+    if (document.isNumber()) {
+      return NODES.numberNode(document.asNumber().bigDecimalValue());
+    }
+    if (document.isBoolean()) {
+      return NODES.booleanNode(document.asBoolean());
+    }
+    return document.isNull() ? NODES.nullNode() : NODES.textNode(document.asString());
+  }
+
+  private static Document document(JsonNode value) {
+    if (value.isObject()) {
+      var members = new LinkedHashMap<String, Document>();
+      value.fields().forEachRemaining(entry -> members.put(entry.getKey(), document(entry.getValue())));
+      return Document.fromMap(members);
+    }
+    if (value.isArray()) {
+      var elements = new ArrayList<Document>(value.size());
+      value.forEach(element -> elements.add(document(element)));
+      return Document.fromList(elements);
+    }
+    if (value.isNumber()) {
+      return Document.fromNumber(SdkNumber.fromBigDecimal(value.decimalValue()));
+    }
+    if (value.isBoolean()) {
+      return Document.fromBoolean(value.booleanValue());
+    }
+    return value.isNull() ? Document.fromNull() : Document.fromString(value.asText());
+  }
+}
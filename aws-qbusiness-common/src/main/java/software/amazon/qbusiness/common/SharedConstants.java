@@ -6,7 +6,31 @@ public final class SharedConstants {
   public static final String SERVICE_NAME = "QBusiness";
   public static final String SERVICE_NAME_LOWER = SERVICE_NAME.toLowerCase(Locale.ENGLISH);
   public static final String ENV_AWS_REGION = "AWS_REGION";
+  public static final String ENV_ENDPOINT_URL = "AWS_ENDPOINT_URL_QBUSINESS";
+  public static final String PROPERTY_ENDPOINT_URL = "aws.endpointUrlQBusiness";
+  public static final String ENV_COALESCED_POLLING = "QBUSINESS_COALESCED_POLLING";
+  public static final String ENV_SINGLE_FLIGHT = "QBUSINESS_SINGLE_FLIGHT";
+  public static final String ENV_SINGLE_FLIGHT_TTL_MILLIS = "QBUSINESS_SINGLE_FLIGHT_TTL_MILLIS";
+  public static final String ENV_STABILIZATION_HANDOFF = "QBUSINESS_STABILIZATION_HANDOFF";
+  public static final String ENV_HANDOFF_MIN_DELAY_SECONDS = "QBUSINESS_HANDOFF_MIN_DELAY_SECONDS";
+  public static final String ENV_HANDOFF_INVOCATION_BUDGET_SECONDS = "QBUSINESS_HANDOFF_INVOCATION_BUDGET_SECONDS";
+  public static final String ENV_PARENT_READINESS_GATE = "QBUSINESS_PARENT_READINESS_GATE";
+  public static final String ENV_CONFLICT_RETRY_BUDGET_SECONDS = "QBUSINESS_CONFLICT_RETRY_BUDGET_SECONDS";
+  public static final String ENV_TAG_CHUNK_SIZE = "QBUSINESS_TAG_CHUNK_SIZE";
+  public static final String ENV_TAG_PARALLELISM = "QBUSINESS_TAG_PARALLELISM";
+  public static final String ENV_RETRY_BUDGET = "QBUSINESS_RETRY_BUDGET";
+  public static final String ENV_RETRY_BUDGET_TOKENS = "QBUSINESS_RETRY_BUDGET_TOKENS";
+  public static final String ENV_PROFILING = "QBUSINESS_PROFILING";
+  public static final String ENV_PROFILING_FILE = "QBUSINESS_PROFILING_FILE";
+  public static final String ENV_LIST_DETAILS = "QBUSINESS_LIST_DETAILS";
+  public static final String ENV_LIST_DETAILS_PARALLELISM = "QBUSINESS_LIST_DETAILS_PARALLELISM";
+  public static final String ENV_LIST_DETAILS_CALLS_PER_SECOND = "QBUSINESS_LIST_DETAILS_CALLS_PER_SECOND";
+  public static final String ENV_TRAFFIC_RECORDING_FILE = "QBUSINESS_TRAFFIC_RECORDING_FILE";
+  public static final String ENV_TRAFFIC_REPLAY_FILE = "QBUSINESS_TRAFFIC_REPLAY_FILE";
+  public static final String ENV_TRAFFIC_REPLAY_LATENCY_SCALE = "QBUSINESS_TRAFFIC_REPLAY_LATENCY_SCALE";
   public static final String API_LIST_TAGS = "ListTagsForResource";
+  public static final String API_GET_APPLICATION = "GetApplication";
+  public static final String API_GET_INDEX = "GetIndex";
 
   private SharedConstants(){}
 }
@@ -0,0 +1,194 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_SINGLE_FLIGHT;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_SINGLE_FLIGHT_TTL_MILLIS;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Lets concurrent handler invocations in one container share a single in-flight read, e.g. every Permission Read of an
+ * application calling GetPolicy at once.
+ * <p>
+ * The first caller for a key makes the call; callers arriving while it is in flight wait for and receive the same
+ * response or exception. A successful response can optionally be kept for a short TTL; failures never are. Mutations
+ * {@link #invalidate} the reads they affect, so those are not served from a call that started before the mutation
+ * finished.
+ * <p>
+ * Only callers with the same credentials share: a read one role may make can be denied to another in the same account,
+ * so a result is never handed to a caller other than those it could have been fetched for. Sharing is opt-in, since
+ * concurrent identical reads only meet in one container when CloudFormation routes them there.
+ */
+public final class SingleFlight {
+  private final boolean enabled;
+  private final long resultTtlNanos;
+  private final LongSupplier nanoTime;
+  private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+
+  SingleFlight(boolean enabled, Duration resultTtl, LongSupplier nanoTime) {
+    this.enabled = enabled;
+    this.resultTtlNanos = resultTtl.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Container-wide instance. Sharing is off unless {@code QBUSINESS_SINGLE_FLIGHT} is {@code true}; results are only
+   * kept past the call when {@code QBUSINESS_SINGLE_FLIGHT_TTL_MILLIS} is set.
+   */
+  public static SingleFlight fromEnvironment() {
+    var enabled = "true".equalsIgnoreCase(System.getenv(ENV_SINGLE_FLIGHT));
+    var ttl = System.getenv(ENV_SINGLE_FLIGHT_TTL_MILLIS);
+    var resultTtl = ttl == null || ttl.isBlank() ? Duration.ZERO : Duration.ofMillis(Long.parseLong(ttl.trim()));
+    return new SingleFlight(enabled, resultTtl, System::nanoTime);
+  }
+
+  /**
+   * Instance that shares in-flight calls and keeps successful results for {@code resultTtl}.
+   */
+  public static SingleFlight withResultTtl(Duration resultTtl) {
+    return new SingleFlight(true, resultTtl, System::nanoTime);
+  }
+
+  /**
+   * Instance that never shares; every call goes straight through.
+   */
+  public static SingleFlight disabled() {
+    return new SingleFlight(false, Duration.ZERO, System::nanoTime);
+  }
+
+  /**
+   * Response of {@code call} for {@code serviceRequest}, made through {@code proxyClient} and shared with identical
+   * calls of the same account, region and credentials. The key is built inside the proxy's own invocation, from the
+   * credentials it injects into the request, so a caller is only ever matched with calls made as itself.
+   */
+  public <R extends AwsRequest, T extends AwsResponse> T call(
+      ResourceHandlerRequest<?> request,
+      String apiName,
+      R serviceRequest,
+      ProxyClient<?> proxyClient,
+      Function<R, T> call
+  ) {
+    if (!enabled) {
+      return proxyClient.injectCredentialsAndInvokeV2(serviceRequest, call);
+    }
+    return proxyClient.injectCredentialsAndInvokeV2(serviceRequest, injected -> call(
+        key(request, apiName, serviceRequest, injected), () -> call.apply(injected)
+    ));
+  }
+
+  /**
+   * Identifies a read by caller account, region and credentials, API name and the service request, whose SDK equality
+   * covers every request field. The credentials are those the proxy injected into {@code injectedRequest}.
+   */
+  static Key key(
+      ResourceHandlerRequest<?> request,
+      String apiName,
+      AwsRequest serviceRequest,
+      AwsRequest injectedRequest
+  ) {
+    return new Key(request.getAwsAccountId(), request.getRegion(), callerIdentity(injectedRequest), apiName,
+        serviceRequest);
+  }
+
+  /**
+   * Access key id of the credentials injected into {@code injectedRequest}, or {@code null} when there are none.
+   */
+  private static String callerIdentity(AwsRequest injectedRequest) {
+    return injectedRequest.overrideConfiguration()
+        .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
+        .map(credentials -> credentials.resolveCredentials().accessKeyId())
+        .orElse(null);
+  }
+
+  /**
+   * Result of {@code call}, shared with any identical call already in flight or still within the result TTL. Calls
+   * whose key carries no caller identity are never shared.
+   */
+  <T> T call(Key key, Supplier<T> call) {
+    if (!enabled || key.callerIdentity() == null) {
+      return call.get();
+    }
+
+    while (true) {
+      var flight = new Flight();
+      var existing = flights.putIfAbsent(key, flight);
+      if (existing == null) {
+        return lead(key, flight, call);
+      }
+      if (existing.isExpired(nanoTime.getAsLong(), resultTtlNanos)) {
+        flights.remove(key, existing);
+        continue;
+      }
+      return existing.await();
+    }
+  }
+
+  /**
+   * Stops sharing the in-flight call or kept result of {@code serviceRequest} with every caller of the account and
+   * region; callers already waiting still receive it.
+   */
+  public void invalidate(ResourceHandlerRequest<?> request, String apiName, AwsRequest serviceRequest) {
+    flights.keySet().removeIf(key -> Objects.equals(key.awsAccountId(), request.getAwsAccountId())
+        && Objects.equals(key.region(), request.getRegion())
+        && key.apiName().equals(apiName)
+        && key.serviceRequest().equals(serviceRequest));
+  }
+
+  private <T> T lead(Key key, Flight flight, Supplier<T> call) {
+    final T result;
+    try {
+      result = call.get();
+    } catch (RuntimeException | Error e) {
+      flights.remove(key, flight);
+      flight.result.completeExceptionally(e);
+      throw e;
+    }
+    if (resultTtlNanos > 0) {
+      flight.completedAt = nanoTime.getAsLong();
+    } else {
+      flights.remove(key, flight);
+    }
+    flight.result.complete(result);
+    return result;
+  }
+
+  public record Key(String awsAccountId, String region, String callerIdentity, String apiName, Object serviceRequest) {
+  }
+
+  private static final class Flight {
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+    private volatile long completedAt;
+
+    private boolean isExpired(long now, long ttlNanos) {
+      return result.isDone() && now - completedAt > ttlNanos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T await() {
+      try {
+        return (T) result.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        if (e.getCause() instanceof Error cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,262 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_HANDOFF_INVOCATION_BUDGET_SECONDS;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_HANDOFF_MIN_DELAY_SECONDS;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_STABILIZATION_HANDOFF;
+
+import com.amazonaws.services.lambda.runtime.Context;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+/**
+ * Waits for a resource to stabilize without paying for idle Lambda time on long delays.
+ * <p>
+ * The RPDK proxy sleeps inside the invocation between stabilization polls. When handoff is on, the handler's
+ * {@code stabilize} step passes straight through and {@link #await} polls instead: short delays are still slept in
+ * process while the invocation has time left, but a delay at or above the handoff threshold, or one that would outrun
+ * the invocation, ends it with {@code IN_PROGRESS} and {@code callbackDelaySeconds} so CloudFormation re-invokes the
+ * handler when the next poll is due. Attempt counts live in the callback context, so the backoff timeout holds across
+ * re-invocations.
+ * <p>
+ * The time left is the Lambda deadline, less a margin for the steps after the wait, when the entry point passed the
+ * Lambda context to {@link #runWithDeadline}. The generated wrappers do not hand the context to handlers, so a module
+ * invoked through its own wrapper falls back to the configured invocation budget, counted from the first wait.
+ * <p>
+ * Settings are read per resource and operation: {@code QBUSINESS_HANDOFF_MIN_DELAY_SECONDS_DATASOURCE_DELETE} wins
+ * over {@code QBUSINESS_HANDOFF_MIN_DELAY_SECONDS}, and likewise for the other variables.
+ */
+public final class StabilizationHandoff {
+  private static final Duration DEFAULT_MIN_HANDOFF_DELAY = Duration.ofSeconds(30);
+  private static final Duration DEFAULT_INVOCATION_BUDGET = Duration.ofSeconds(45);
+  private static final Duration DEADLINE_MARGIN = Duration.ofSeconds(10);
+  private static final ThreadLocal<Long> LAMBDA_DEADLINE = new ThreadLocal<>();
+
+  private final boolean enabled;
+  private final Duration minHandoffDelay;
+  private final Duration invocationBudget;
+  private final LongSupplier clockMillis;
+  private final Sleeper sleeper;
+
+  StabilizationHandoff(
+      boolean enabled,
+      Duration minHandoffDelay,
+      Duration invocationBudget,
+      LongSupplier clockMillis,
+      Sleeper sleeper
+  ) {
+    this.enabled = enabled;
+    this.minHandoffDelay = minHandoffDelay;
+    this.invocationBudget = invocationBudget;
+    this.clockMillis = clockMillis;
+    this.sleeper = sleeper;
+  }
+
+  /**
+   * Handoff for one operation of a resource type, on unless {@code QBUSINESS_STABILIZATION_HANDOFF} (or its
+   * per-operation variant) is {@code false}.
+   *
+   * @param typeName  resource type, e.g. {@code AWS::QBusiness::DataSource}
+   * @param operation handler operation, e.g. {@code Delete}
+   */
+  public static StabilizationHandoff fromEnvironment(String typeName, String operation) {
+    return fromSettings(System::getenv, typeName, operation);
+  }
+
+  static StabilizationHandoff fromSettings(Function<String, String> settings, String typeName, String operation) {
+    var suffix = "_%s_%s".formatted(typeName.substring(typeName.lastIndexOf(':') + 1), operation)
+        .toUpperCase(Locale.ENGLISH);
+    var enabled = !"false".equalsIgnoreCase(setting(settings, ENV_STABILIZATION_HANDOFF, suffix));
+    var minHandoffDelay = seconds(setting(settings, ENV_HANDOFF_MIN_DELAY_SECONDS, suffix), DEFAULT_MIN_HANDOFF_DELAY);
+    var invocationBudget = seconds(
+        setting(settings, ENV_HANDOFF_INVOCATION_BUDGET_SECONDS, suffix), DEFAULT_INVOCATION_BUDGET
+    );
+    return new StabilizationHandoff(enabled, minHandoffDelay, invocationBudget, System::currentTimeMillis, Thread::sleep);
+  }
+
+  /**
+   * Handoff for waits that have no in-process fallback, such as the parent readiness gate: on regardless of
+   * {@code QBUSINESS_STABILIZATION_HANDOFF}, with the global delay threshold and invocation budget.
+   */
+  static StabilizationHandoff alwaysOn(Function<String, String> settings) {
+    var minHandoffDelay = seconds(settings.apply(ENV_HANDOFF_MIN_DELAY_SECONDS), DEFAULT_MIN_HANDOFF_DELAY);
+    var invocationBudget = seconds(settings.apply(ENV_HANDOFF_INVOCATION_BUDGET_SECONDS), DEFAULT_INVOCATION_BUDGET);
+    return new StabilizationHandoff(true, minHandoffDelay, invocationBudget, System::currentTimeMillis, Thread::sleep);
+  }
+
+  /**
+   * Handoff that is never used; the handler's {@code stabilize} step waits in process as before.
+   */
+  public static StabilizationHandoff disabled() {
+    return new StabilizationHandoff(
+        false, DEFAULT_MIN_HANDOFF_DELAY, DEFAULT_INVOCATION_BUDGET, System::currentTimeMillis, Thread::sleep
+    );
+  }
+
+  /**
+   * Starts a new invocation's budget. Called once per invocation, before any handler step runs.
+   */
+  public static void startInvocation(State state) {
+    state.setInvocationStartedAt(null);
+  }
+
+  /**
+   * Runs one Lambda invocation with its deadline known to every handoff on this thread. Called by entry points that
+   * receive the Lambda context before they pass the request on to a generated wrapper.
+   */
+  public static void runWithDeadline(Context lambdaContext, Invocation invocation) throws IOException {
+    if (lambdaContext == null) {
+      invocation.run();
+      return;
+    }
+    runWithDeadline(System.currentTimeMillis() + lambdaContext.getRemainingTimeInMillis(), invocation);
+  }
+
+  static void runWithDeadline(long deadlineMillis, Invocation invocation) throws IOException {
+    var outer = LAMBDA_DEADLINE.get();
+    LAMBDA_DEADLINE.set(outer == null ? deadlineMillis : Math.min(outer, deadlineMillis));
+    try {
+      invocation.run();
+    } finally {
+      if (outer == null) {
+        LAMBDA_DEADLINE.remove();
+      } else {
+        LAMBDA_DEADLINE.set(outer);
+      }
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Polls {@code check} until the resource stabilizes, returning {@code progress} to continue the chain, or until the
+   * next poll should happen in a later invocation, returning {@code IN_PROGRESS} with a callback delay. Returns
+   * {@code progress} unchanged when handoff is off or {@code phase} already stabilized in an earlier invocation.
+   *
+   * @param phase   call graph name of the mutation being waited on, unique within the handler
+   * @param delay   backoff of the mutation; a zero delay ends the wait as {@code NotStabilized}
+   * @param failure maps an exception thrown by {@code check}, the same way the chain's {@code handleError} would
+   */
+  public <M, C extends StdCallbackContext & State> ProgressEvent<M, C> await(
+      ProgressEvent<M, C> progress,
+      String phase,
+      Delay delay,
+      Check<M, C> check,
+      Failure<M, C> failure,
+      Logger logger
+  ) {
+    var context = progress.getCallbackContext();
+    if (!enabled || context.getStabilizedPhases().contains(phase)) {
+      return progress;
+    }
+
+    var model = progress.getResourceModel();
+    if (context.getInvocationStartedAt() == null) {
+      context.setInvocationStartedAt(clockMillis.getAsLong());
+    }
+    var lambdaDeadline = LAMBDA_DEADLINE.get();
+    var deadline = lambdaDeadline != null
+        ? lambdaDeadline - DEADLINE_MARGIN.toMillis()
+        : context.getInvocationStartedAt() + invocationBudget.toMillis();
+
+    while (true) {
+      boolean stabilized;
+      try {
+        stabilized = check.isStabilized(model, context);
+      } catch (Exception e) {
+        return failure.handle(e, model, context);
+      }
+      if (stabilized) {
+        context.getStabilizationAttempts().remove(phase);
+        context.getStabilizedPhases().add(phase);
+        return progress;
+      }
+
+      int attempt = context.getStabilizationAttempts().merge(phase, 1, Integer::sum);
+      var nextDelay = delay.nextDelay(attempt);
+      if (nextDelay == null || nextDelay.isZero()) {
+        logger.log("[ERROR] %s did not stabilize after %d attempts".formatted(phase, attempt));
+        return ProgressEvent.failed(model, context, HandlerErrorCode.NotStabilized, "Exceeded attempts to wait");
+      }
+
+      var remainingMillis = deadline - clockMillis.getAsLong();
+      if (nextDelay.compareTo(minHandoffDelay) >= 0 || nextDelay.toMillis() > remainingMillis) {
+        var callbackDelaySeconds = (int) Math.max(1, nextDelay.toSeconds());
+        logger.log("[INFO] %s not stabilized after %d attempts, resuming in %ds (%dms of invocation left)"
+            .formatted(phase, attempt, callbackDelaySeconds, Math.max(0, remainingMillis)));
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+      }
+
+      try {
+        sleeper.sleep(nextDelay.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return ProgressEvent.defaultInProgressHandler(context, (int) Math.max(1, nextDelay.toSeconds()), model);
+      }
+    }
+  }
+
+  private static String setting(Function<String, String> settings, String name, String suffix) {
+    var value = settings.apply(name + suffix);
+    return value == null || value.isBlank() ? settings.apply(name) : value;
+  }
+
+  private static Duration seconds(String value, Duration defaultValue) {
+    return value == null || value.isBlank() ? defaultValue : Duration.ofSeconds(Long.parseLong(value.trim()));
+  }
+
+  /**
+   * Stabilization bookkeeping kept in a module's callback context so it survives re-invocation.
+   */
+  public interface State {
+    /**
+     * Polls made so far per phase that has not stabilized yet.
+     */
+    Map<String, Integer> getStabilizationAttempts();
+
+    /**
+     * Phases that stabilized in an earlier invocation and are not polled again.
+     */
+    Set<String> getStabilizedPhases();
+
+    /**
+     * Epoch millis at which the current invocation started waiting, or null before its first wait.
+     */
+    Long getInvocationStartedAt();
+
+    void setInvocationStartedAt(Long invocationStartedAt);
+  }
+
+  @FunctionalInterface
+  public interface Check<M, C> {
+    boolean isStabilized(M model, C context);
+  }
+
+  @FunctionalInterface
+  public interface Failure<M, C> {
+    ProgressEvent<M, C> handle(Exception error, M model, C context);
+  }
+
+  @FunctionalInterface
+  public interface Invocation {
+    void run() throws IOException;
+  }
+
+  @FunctionalInterface
+  interface Sleeper {
+    void sleep(long millis) throws InterruptedException;
+  }
+}
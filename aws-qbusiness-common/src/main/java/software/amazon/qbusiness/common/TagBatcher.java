@@ -0,0 +1,188 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.ENV_TAG_CHUNK_SIZE;
+import static software.amazon.qbusiness.common.SharedConstants.ENV_TAG_PARALLELISM;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.apache.commons.collections4.ListUtils;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
+import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+/**
+ * Applies tag changes as TagResource and UntagResource calls of at most {@code chunkSize} tags each.
+ * <p>
+ * Chunks run on up to {@code parallelism} lanes at once, each lane working through its share of the chunks in turn.
+ * Adds and removes never share a key, so their chunks can run side by side. A throttled chunk is retried on its own
+ * with the throttle backoff; any other failure, or throttling past the backoff's timeout, fails the whole batch, stops
+ * lanes from starting further chunks and is logged with how many chunks were applied before it.
+ */
+public final class TagBatcher {
+  // TagResource and UntagResource accept at most 200 tags per request
+  static final int MAX_CHUNK_SIZE = 200;
+  private static final int DEFAULT_CHUNK_SIZE = 50;
+  private static final int DEFAULT_PARALLELISM = 4;
+  private static final Constant DEFAULT_THROTTLE_BACK_OFF_STRATEGY = Constant.of()
+      .timeout(Duration.ofSeconds(20))
+      .delay(Duration.ofSeconds(2))
+      .build();
+  private static final Executor TAG_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    var thread = new Thread(runnable, "qbusiness-tags");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int chunkSize;
+  private final int parallelism;
+  private final Delay throttleBackOffStrategy;
+  private final Executor executor;
+  private final StabilizationHandoff.Sleeper sleeper;
+
+  TagBatcher(
+      int chunkSize,
+      int parallelism,
+      Delay throttleBackOffStrategy,
+      Executor executor,
+      StabilizationHandoff.Sleeper sleeper
+  ) {
+    if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+      throw new IllegalArgumentException("Tag chunk size must be between 1 and %d, was %d"
+          .formatted(MAX_CHUNK_SIZE, chunkSize));
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Tag parallelism must be at least 1, was %d".formatted(parallelism));
+    }
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+    this.throttleBackOffStrategy = throttleBackOffStrategy;
+    this.executor = executor;
+    this.sleeper = sleeper;
+  }
+
+  /**
+   * Container-wide batcher: {@code QBUSINESS_TAG_CHUNK_SIZE} tags per call, 50 by default, and
+   * {@code QBUSINESS_TAG_PARALLELISM} calls at once, 4 by default.
+   */
+  public static TagBatcher fromEnvironment() {
+    return new TagBatcher(
+        setting(ENV_TAG_CHUNK_SIZE, DEFAULT_CHUNK_SIZE), setting(ENV_TAG_PARALLELISM, DEFAULT_PARALLELISM),
+        DEFAULT_THROTTLE_BACK_OFF_STRATEGY, TAG_EXECUTOR, Thread::sleep
+    );
+  }
+
+  /**
+   * Batcher that sends {@code chunkSize} tags per call, runs {@code parallelism} calls at once and retries throttled
+   * calls with {@code throttleBackOffStrategy}.
+   */
+  public static TagBatcher of(int chunkSize, int parallelism, Delay throttleBackOffStrategy) {
+    return new TagBatcher(chunkSize, parallelism, throttleBackOffStrategy, TAG_EXECUTOR, Thread::sleep);
+  }
+
+  /**
+   * Starts tagging {@code resourceArn} with {@code tagsToAdd} and untagging {@code tagsToRemove}. The future
+   * completes once every chunk is applied, or exceptionally with the first chunk's failure.
+   */
+  public CompletableFuture<Void> applyAsync(
+      String resourceArn,
+      Map<String, String> tagsToAdd,
+      Set<String> tagsToRemove,
+      ProxyClient<QBusinessClient> proxyClient,
+      Logger logger
+  ) {
+    var chunks = chunks(resourceArn, tagsToAdd, tagsToRemove);
+    if (chunks.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    var applied = new AtomicInteger();
+    var failed = new AtomicBoolean();
+    var lanes = IntStream.range(0, Math.min(parallelism, chunks.size()))
+        .mapToObj(lane -> CompletableFuture.runAsync(() -> {
+          for (int i = lane; i < chunks.size() && !failed.get(); i += parallelism) {
+            try {
+              apply(chunks.get(i), proxyClient, logger);
+            } catch (RuntimeException e) {
+              failed.set(true);
+              throw e;
+            }
+            logger.log("[INFO] Applied tag chunk %d of %d on %s".formatted(applied.incrementAndGet(), chunks.size(), resourceArn));
+          }
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(lanes).whenComplete((result, error) -> {
+      if (error != null) {
+        logger.log("[WARN] Applied %d of %d tag chunks on %s before failing".formatted(applied.get(), chunks.size(), resourceArn));
+      }
+    });
+  }
+
+  List<Chunk> chunks(String resourceArn, Map<String, String> tagsToAdd, Set<String> tagsToRemove) {
+    var chunks = new ArrayList<Chunk>();
+    var tags = tagsToAdd.entrySet().stream()
+        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+        .toList();
+    ListUtils.partition(tags, chunkSize).forEach(chunk -> chunks.add(new Chunk(
+        "TagResource", chunk.size(),
+        client -> client.injectCredentialsAndInvokeV2(
+            TagResourceRequest.builder().resourceARN(resourceArn).tags(chunk).build(), client.client()::tagResource
+        )
+    )));
+    ListUtils.partition(List.copyOf(tagsToRemove), chunkSize).forEach(chunk -> chunks.add(new Chunk(
+        "UntagResource", chunk.size(),
+        client -> client.injectCredentialsAndInvokeV2(
+            UntagResourceRequest.builder().resourceARN(resourceArn).tagKeys(chunk).build(), client.client()::untagResource
+        )
+    )));
+    return chunks;
+  }
+
+  private void apply(Chunk chunk, ProxyClient<QBusinessClient> proxyClient, Logger logger) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        logger.log("Invoking %s with %d tags".formatted(chunk.apiName(), chunk.size()));
+        chunk.call().apply(proxyClient);
+        return;
+      } catch (ThrottlingException e) {
+        var delay = throttleBackOffStrategy.nextDelay(attempt);
+        if (delay == null || delay.isZero()) {
+          throw e;
+        }
+        logger.log("[INFO] %s throttled, retrying the chunk in %d ms".formatted(chunk.apiName(), delay.toMillis()));
+        try {
+          sleeper.sleep(delay.toMillis());
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  private static int setting(String name, int defaultValue) {
+    var value = System.getenv(name);
+    return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+  }
+
+  record Chunk(String apiName, int size, Function<ProxyClient<QBusinessClient>, ?> call) {
+  }
+}
@@ -9,6 +9,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -19,8 +23,6 @@ import org.apache.commons.lang3.ObjectUtils;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.Tag;
-import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
-import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -35,6 +37,7 @@ public final class TagUtils {
   private static final String PROP_NAME_TAGS = "Tags";
   private static final String PROP_NAME_KEY = "Key";
   private static final String PROP_NAME_VALUE = "Value";
+  private static final TagBatcher TAG_BATCHER = TagBatcher.fromEnvironment();
 
   private TagUtils() {
   }
@@ -56,70 +59,185 @@ public final class TagUtils {
       final Logger logger
   ) {
     logger.log("Checking if there are updates to make to tags for resource: %s".formatted(resourceArn));
-    Map<String, String> previousTags = getPreviouslyAttachedTags(handlerRequest);
-    Map<String, String> desiredTags = getNewDesiredTags(handlerRequest);
-    if (!shouldUpdateTags(previousTags, desiredTags)) {
+    var tagUpdate = tagUpdate(typeName, handlerRequest, proxyClient, logger);
+    if (!tagUpdate.hasChanges()) {
       logger.log("No tag updates to be made for: %s".formatted(resourceArn));
-      return progressEvent;
-    }
-
-    try {
-      Map<String, String> tagsToAdd = generateTagsToAdd(previousTags, desiredTags);
-      if (MapUtils.isNotEmpty(tagsToAdd)) {
-        invokeTagResource(resourceArn, tagsToAdd, proxyClient, logger);
-      }
-
-      Set<String> tagsToRemove = generateTagsToRemove(previousTags, desiredTags);
-      if (CollectionUtils.isNotEmpty(tagsToRemove)) {
-        invokeUntagResource(resourceArn, tagsToRemove, proxyClient, logger);
-      }
-    } catch (Exception e) {
-      return ErrorUtils.handleError(
-          progressEvent.getResourceModel(), resourceArn, e,
-          progressEvent.getCallbackContext(), logger, typeName, "Tag/Untag"
-      );
     }
 
-    return progressEvent;
+    tagUpdate.start(resourceArn);
+    return tagUpdate.join(progressEvent, model -> resourceArn);
   }
 
-  private static void invokeTagResource(
-      final String resourceArn,
-      final Map<String, String> tagsToAdd,
+  /**
+   * Tag changes an update request asks for, to be applied with {@link TagUpdate#start} while the update stabilizes.
+   */
+  public static <RType> TagUpdate tagUpdate(
+      final String typeName,
+      final ResourceHandlerRequest<RType> handlerRequest,
       final ProxyClient<QBusinessClient> proxyClient,
       final Logger logger
   ) {
-    logger.log("Invoking tag resource with %s tags to add".formatted(tagsToAdd.size()));
-
-    List<Tag> toTags = tagsToAdd.entrySet()
-        .stream()
-        .map(entry -> Tag.builder()
-            .key(entry.getKey())
-            .value(entry.getValue())
-            .build())
-        .toList();
-
-    var request = TagResourceRequest.builder()
-        .tags(toTags)
-        .resourceARN(resourceArn)
-        .build();
-    proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::tagResource);
-    logger.log("Finished invoking tag resource.");
+    return tagUpdate(typeName, handlerRequest, proxyClient, TAG_BATCHER, logger);
   }
 
-  private static void invokeUntagResource(
-      final String resourceArn,
-      final Set<String> tagsToRemove,
+  static <RType> TagUpdate tagUpdate(
+      final String typeName,
+      final ResourceHandlerRequest<RType> handlerRequest,
       final ProxyClient<QBusinessClient> proxyClient,
+      final TagBatcher batcher,
       final Logger logger
   ) {
-    logger.log("Invoking untag resource with %s tags to remove".formatted(tagsToRemove.size()));
-    var request = UntagResourceRequest.builder()
-        .tagKeys(tagsToRemove)
-        .resourceARN(resourceArn)
-        .build();
-    proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::untagResource);
-    logger.log("Finished invoking untag resource");
+    var diff = HandlerProfiling.tagDiff(typeName);
+    try {
+      Map<String, String> previousTags = getPreviouslyAttachedTags(handlerRequest);
+      Map<String, String> desiredTags = getNewDesiredTags(handlerRequest);
+      if (!shouldUpdateTags(previousTags, desiredTags)) {
+        return new TagUpdate(typeName, desiredTags, Map.of(), Set.of(), proxyClient, batcher, logger);
+      }
+      var tagsToAdd = generateTagsToAdd(previousTags, desiredTags);
+      var tagsToRemove = generateTagsToRemove(previousTags, desiredTags);
+      diff.changes(tagsToAdd.size(), tagsToRemove.size());
+      return new TagUpdate(typeName, desiredTags, tagsToAdd, tagsToRemove, proxyClient, batcher, logger);
+    } finally {
+      diff.close();
+    }
+  }
+
+  /**
+   * Tag and untag calls for one update. Tags are independent of the resource's own update, so the calls can run in the
+   * background, chunked and concurrently with each other by a {@link TagBatcher}, while the handler waits for the update
+   * to stabilize.
+   */
+  public static final class TagUpdate {
+    private static final String TAGS_APPLIED = "TagUtils::TagUpdate.applied";
+
+    private final String typeName;
+    private final Map<String, String> desiredTags;
+    private final Map<String, String> tagsToAdd;
+    private final Set<String> tagsToRemove;
+    private final ProxyClient<QBusinessClient> proxyClient;
+    private final TagBatcher batcher;
+    private final Logger logger;
+    private String resourceArn;
+    private CompletableFuture<Void> pending;
+
+    private TagUpdate(
+        final String typeName,
+        final Map<String, String> desiredTags,
+        final Map<String, String> tagsToAdd,
+        final Set<String> tagsToRemove,
+        final ProxyClient<QBusinessClient> proxyClient,
+        final TagBatcher batcher,
+        final Logger logger
+    ) {
+      this.typeName = typeName;
+      this.desiredTags = desiredTags;
+      this.tagsToAdd = tagsToAdd;
+      this.tagsToRemove = tagsToRemove;
+      this.proxyClient = proxyClient;
+      this.batcher = batcher;
+      this.logger = logger;
+    }
+
+    public boolean hasChanges() {
+      return MapUtils.isNotEmpty(tagsToAdd) || CollectionUtils.isNotEmpty(tagsToRemove);
+    }
+
+    /**
+     * Starts TagResource and UntagResource on {@code resourceArn} in the background. Calls after the first are ignored.
+     */
+    public synchronized void start(final String resourceArn) {
+      if (pending != null || !hasChanges()) {
+        return;
+      }
+
+      this.resourceArn = resourceArn;
+      pending = batcher.applyAsync(resourceArn, tagsToAdd, tagsToRemove, proxyClient, logger);
+    }
+
+    /**
+     * Runs {@code update}, starting the tag calls from within it with {@link #start}, then {@link #join joins} them. When
+     * {@code update} throws, started calls are waited for before the exception propagates so none outlive the
+     * invocation; their outcome is then irrelevant.
+     */
+    public <RType, CtxType extends StdCallbackContext> ProgressEvent<RType, CtxType> applyAlongside(
+        final Supplier<ProgressEvent<RType, CtxType>> update,
+        final Function<RType, String> resourceArn
+    ) {
+      final ProgressEvent<RType, CtxType> updated;
+      try {
+        updated = update.get();
+      } catch (RuntimeException | Error e) {
+        final CompletableFuture<Void> started;
+        synchronized (this) {
+          started = pending;
+        }
+        if (started != null) {
+          started.exceptionally(tagError -> null).join();
+        }
+        throw e;
+      }
+      return join(updated, resourceArn);
+    }
+
+    /**
+     * Waits for started tag calls and folds a failure into {@code progressEvent} through {@link ErrorUtils}. Calls that
+     * were never started run now if {@code progressEvent} can continue; otherwise they are left for the re-invocation.
+     * Only once the calls joined here have succeeded are the desired tags recorded as {@link WrittenTags} for the
+     * closing Read.
+     */
+    public <RType, CtxType extends StdCallbackContext> ProgressEvent<RType, CtxType> join(
+        final ProgressEvent<RType, CtxType> progressEvent,
+        final Function<RType, String> resourceArn
+    ) {
+      var context = progressEvent.getCallbackContext();
+      final CompletableFuture<Void> started;
+      synchronized (this) {
+        if (pending == null && progressEvent.canContinueProgress() && !isApplied(context)) {
+          start(resourceArn.apply(progressEvent.getResourceModel()));
+        }
+        started = pending;
+      }
+      if (started == null) {
+        // Nothing was written here, so the closing Read lists the tags the resource actually carries
+        return progressEvent;
+      }
+
+      var phase = HandlerProfiling.phase(typeName, HandlerProfiling.PHASE_TAGS);
+      try {
+        started.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof Error error) {
+          throw error;
+        }
+        if (progressEvent.isFailed()) {
+          return progressEvent;
+        }
+        var cause = e.getCause() instanceof Exception exception ? exception : e;
+        return ErrorUtils.handleError(
+            progressEvent.getResourceModel(), this.resourceArn, cause,
+            progressEvent.getCallbackContext(), logger, typeName, "Tag/Untag"
+        );
+      } finally {
+        phase.close();
+      }
+      if (context != null) {
+        // An invocation that handed stabilization off has already applied the tags; its re-invocation skips them
+        context.<Void, Void, Boolean>response(TAGS_APPLIED, (request, client) -> Boolean.TRUE).apply(null, null);
+      }
+      written(context);
+      return progressEvent;
+    }
+
+    private void written(final StdCallbackContext context) {
+      if (context instanceof WrittenTags.State state) {
+        WrittenTags.record(state, desiredTags);
+      }
+    }
+
+    private static boolean isApplied(final StdCallbackContext context) {
+      return context != null && Boolean.TRUE.equals(context.response(TAGS_APPLIED));
+    }
   }
 
   private static <T> List<Tag> mergeCreateHandlerTagsToSdkTags(
@@ -0,0 +1,102 @@
+package software.amazon.qbusiness.common;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * Appends every QBusiness call the client makes to a {@link TrafficRecording}, enabled with
+ * {@code QBUSINESS_TRAFFIC_RECORDING_FILE}.
+ * <p>
+ * A call is written once it has finished, with the time it took from the handler's point of view, SDK retries and
+ * backoff included. Requests, responses and error messages go through {@link TrafficRecording#redact} first. A
+ * recording that cannot be written is logged once and then dropped, so it never fails the handler.
+ */
+final class TrafficRecorder implements ExecutionInterceptor {
+  private static final ExecutionAttribute<Call> CALL = new ExecutionAttribute<>("QBusinessTrafficRecorderCall");
+
+  private final Path file;
+  private volatile boolean broken;
+
+  TrafficRecorder(Path file) {
+    this.file = file;
+  }
+
+  private static final class Call {
+    private final long startedAtMillis = System.currentTimeMillis();
+    private final long startedAtNanos = System.nanoTime();
+    private int attempts;
+  }
+
+  @Override
+  public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+    executionAttributes.putAttribute(CALL, new Call());
+  }
+
+  @Override
+  public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+    var call = executionAttributes.getAttribute(CALL);
+    if (call != null) {
+      call.attempts++;
+    }
+  }
+
+  @Override
+  public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+    record(executionAttributes, context.request(), TrafficRecording.redact(json(context.response())), null);
+  }
+
+  @Override
+  public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+    var exception = context.exception();
+    TrafficRecording.Error error;
+    if (exception instanceof AwsServiceException serviceException && serviceException.awsErrorDetails() != null) {
+      var details = serviceException.awsErrorDetails();
+      error = new TrafficRecording.Error(
+          serviceException.statusCode(), details.errorCode(), TrafficRecording.redact(details.errorMessage()));
+    } else {
+      error = new TrafficRecording.Error(
+          0, exception.getClass().getName(), TrafficRecording.redact(exception.getMessage()));
+    }
+    record(executionAttributes, context.request(), null, error);
+  }
+
+  private void record(ExecutionAttributes executionAttributes, SdkRequest request, ObjectNode response,
+      TrafficRecording.Error error) {
+    var call = executionAttributes.getAttribute(CALL);
+    if (call == null || broken) {
+      return;
+    }
+
+    var exchange = new TrafficRecording.Exchange(
+        executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
+        call.startedAtMillis,
+        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - call.startedAtNanos),
+        Math.max(call.attempts, 1),
+        TrafficRecording.redact(json(request)),
+        response,
+        error);
+    try {
+      TrafficRecording.append(file, exchange);
+    } catch (IOException e) {
+      broken = true;
+      ContainerLogger.INSTANCE.log(
+          "[WARN] Stopped recording QBusiness traffic to %s: %s".formatted(file, e.getMessage()));
+    }
+  }
+
+  private static ObjectNode json(Object pojo) {
+    return pojo instanceof SdkPojo sdkPojo ? SdkJson.toJson(sdkPojo) : null;
+  }
+}
@@ -0,0 +1,182 @@
+package software.amazon.qbusiness.common;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * The QBusiness calls recorded by {@link TrafficRecorder} and served back by {@link ReplayQBusinessClient}.
+ * <p>
+ * A recording file holds one JSON line per call, in the order the calls completed, each line compressed as its own gzip
+ * member. Appending a call never rewrites what is already there, so several containers or test runs can add to the
+ * same file, a container that dies mid-write loses at most its last call, and the whole file still reads as one gzip
+ * stream ({@code zcat} prints it). Requests and responses are stored by wire member name, through {@link SdkJson}.
+ * <p>
+ * {@link TrafficRecorder} writes calls through {@link #redact}: data source configurations, plugin API schemas, SAML
+ * metadata, resource policies, principals and KMS key ids are replaced, as is every ARN inside a string.
+ */
+public final class TrafficRecording {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String REDACTED = "REDACTED";
+  private static final Set<String> REDACTED_MEMBERS =
+      Set.of("configuration", "payload", "metadataXML", "policy", "principal", "kmsKeyId");
+  private static final Pattern ARN = Pattern.compile("arn:aws[a-z-]*:[^\\s\"',;]+");
+
+  private TrafficRecording() {
+  }
+
+  /**
+   * One call: the operation, such as {@code GetApplication}, when it started, how long it took including SDK retries,
+   * how many HTTP attempts it made, and the request with either the response or the error.
+   */
+  public record Exchange(String operation, long startedAtMillis, long durationMicros, int attempts,
+                         ObjectNode request, ObjectNode response, Error error) {
+    public boolean failed() {
+      return error != null;
+    }
+  }
+
+  /**
+   * A failed call. The status code is 0 when no response was received, and the error code is then the exception's
+   * class name.
+   */
+  public record Error(int statusCode, String errorCode, String message) {
+  }
+
+  /**
+   * Appends {@code exchange} to the recording at {@code file}, creating it if needed.
+   */
+  public static synchronized void append(Path file, Exchange exchange) throws IOException {
+    var line = MAPPER.writeValueAsString(toJson(exchange)) + "\n";
+    try (var out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)), StandardCharsets.UTF_8)) {
+      out.write(line);
+    }
+  }
+
+  /**
+   * Every complete call in the recording at {@code file}. A call cut short at the end of the file is ignored.
+   */
+  public static List<Exchange> read(Path file) throws IOException {
+    var exchanges = new ArrayList<Exchange>();
+    try (var in = new BufferedReader(new InputStreamReader(
+        new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = in.readLine()) != null) {
+        if (!line.isBlank()) {
+          exchanges.add(fromJson(MAPPER.readTree(line)));
+        }
+      }
+    } catch (EOFException | ZipException e) {
+      // The last member was not written out completely
+    }
+    return exchanges;
+  }
+
+  /**
+   * A copy of {@code node} with the redacted members replaced by {@code "REDACTED"}, or by an empty object or list, and
+   * every ARN in the remaining strings replaced by {@code REDACTED}. Redacting twice gives the same result, so
+   * replayed requests can be matched against a recording by redacting them first.
+   */
+  static ObjectNode redact(ObjectNode node) {
+    if (node == null) {
+      return null;
+    }
+    var copy = node.deepCopy();
+    redactMembers(copy);
+    return copy;
+  }
+
+  static String redact(String text) {
+    return text == null ? null : ARN.matcher(text).replaceAll(REDACTED);
+  }
+
+  private static void redactMembers(JsonNode node) {
+    if (node instanceof ObjectNode object) {
+      var names = new ArrayList<String>();
+      object.fieldNames().forEachRemaining(names::add);
+      for (var name : names) {
+        var value = object.get(name);
+        if (REDACTED_MEMBERS.contains(name)) {
+          object.set(name, placeholder(value));
+        } else if (value.isTextual()) {
+          object.put(name, redact(value.asText()));
+        } else {
+          redactMembers(value);
+        }
+      }
+    } else if (node instanceof ArrayNode array) {
+      for (int i = 0; i < array.size(); i++) {
+        var value = array.get(i);
+        if (value.isTextual()) {
+          array.set(i, TextNode.valueOf(redact(value.asText())));
+        } else {
+          redactMembers(value);
+        }
+      }
+    }
+  }
+
+  private static JsonNode placeholder(JsonNode value) {
+    if (value.isObject()) {
+      return MAPPER.createObjectNode();
+    }
+    if (value.isArray()) {
+      return MAPPER.createArrayNode();
+    }
+    return value.isNull() ? value : TextNode.valueOf(REDACTED);
+  }
+
+  private static ObjectNode toJson(Exchange exchange) {
+    var node = MAPPER.createObjectNode()
+        .put("operation", exchange.operation())
+        .put("startedAt", exchange.startedAtMillis())
+        .put("durationMicros", exchange.durationMicros())
+        .put("attempts", exchange.attempts());
+    node.set("request", exchange.request());
+    if (exchange.response() != null) {
+      node.set("response", exchange.response());
+    }
+    if (exchange.error() != null) {
+      node.putObject("error")
+          .put("statusCode", exchange.error().statusCode())
+          .put("errorCode", exchange.error().errorCode())
+          .put("message", exchange.error().message());
+    }
+    return node;
+  }
+
+  private static Exchange fromJson(JsonNode node) {
+    var error = node.get("error");
+    return new Exchange(
+        node.path("operation").asText(),
+        node.path("startedAt").asLong(),
+        node.path("durationMicros").asLong(),
+        node.path("attempts").asInt(1),
+        node.get("request") instanceof ObjectNode request ? request : MAPPER.createObjectNode(),
+        node.get("response") instanceof ObjectNode response ? response : null,
+        error == null ? null : new Error(
+            error.path("statusCode").asInt(),
+            error.path("errorCode").asText(),
+            error.hasNonNull("message") ? error.get("message").asText() : null));
+  }
+}
@@ -0,0 +1,75 @@
+package software.amazon.qbusiness.common;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
+
+/**
+ * Tags an update handler just wrote, kept in the callback context so the Read that ends the update does not have to
+ * list them again.
+ * <p>
+ * Once the tag and untag calls of an update succeed, {@link TagUtils.TagUpdate} records the desired tags of the request
+ * here. The Read that follows answers from the record while it is {@link #FRESH_FOR fresh}. Standalone Reads, including
+ * drift detection, start from an empty callback context and always call ListTagsForResource.
+ * <p>
+ * The record is not exact. UntagResource only removes tags the previous template set, so tags added outside
+ * CloudFormation stay on the resource but are missing from the record. Updates that change no tags record nothing, and
+ * their Read lists the tags.
+ */
+public final class WrittenTags {
+  static final Duration FRESH_FOR = Duration.ofMinutes(5);
+
+  private WrittenTags() {
+  }
+
+  /**
+   * Records {@code tags} as the resource's full tag set.
+   */
+  public static void record(State context, Map<String, String> tags) {
+    record(context, tags, System::currentTimeMillis);
+  }
+
+  static void record(State context, Map<String, String> tags, LongSupplier clockMillis) {
+    context.setWrittenTags(new HashMap<>(tags));
+    context.setTagsWrittenAt(clockMillis.getAsLong());
+  }
+
+  /**
+   * The recorded tags in the shape ListTagsForResource returns them, or empty when nothing fresh was recorded.
+   */
+  public static Optional<ListTagsForResourceResponse> listTagsResponse(State context) {
+    return listTagsResponse(context, System::currentTimeMillis);
+  }
+
+  static Optional<ListTagsForResourceResponse> listTagsResponse(State context, LongSupplier clockMillis) {
+    if (context == null || context.getWrittenTags() == null || context.getTagsWrittenAt() == null
+        || clockMillis.getAsLong() - context.getTagsWrittenAt() > FRESH_FOR.toMillis()) {
+      return Optional.empty();
+    }
+
+    var tags = context.getWrittenTags().entrySet().stream()
+        .sorted(Map.Entry.comparingByKey(Comparator.naturalOrder()))
+        .map(entry -> Tag.builder().key(entry.getKey()).value(entry.getValue()).build())
+        .toList();
+    return Optional.of(ListTagsForResourceResponse.builder().tags(tags).build());
+  }
+
+  /**
+   * Written tags a callback context carries to the Read at the end of an update.
+   */
+  public interface State {
+    Map<String, String> getWrittenTags();
+
+    void setWrittenTags(Map<String, String> writtenTags);
+
+    Long getTagsWrittenAt();
+
+    void setTagsWrittenAt(Long tagsWrittenAt);
+  }
+}
@@ -0,0 +1,136 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class CoalescedStatusPollerTest {
+  private static final String PARENT = "123456789012/us-east-1/app/index";
+  private static final Logger LOGGER = message -> {
+  };
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger listCalls = new AtomicInteger();
+  private CoalescedStatusPoller<String> poller;
+  private Supplier<Map<String, String>> lister;
+
+  @BeforeEach
+  public void setup() {
+    poller = new CoalescedStatusPoller<>(true, Duration.ofMinutes(3), Duration.ofSeconds(5), clock::get);
+    lister = () -> {
+      listCalls.incrementAndGet();
+      return Map.of("a", "CREATING", "b", "ACTIVE");
+    };
+  }
+
+  @Test
+  public void singleInFlightChildIsLeftToGet() {
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).isEmpty();
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).isEmpty();
+    assertThat(listCalls).hasValue(0);
+  }
+
+  @Test
+  public void siblingsShareOneListing() {
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).isEmpty();
+    assertThat(poller.poll(PARENT, "b", lister, LOGGER)).contains("ACTIVE");
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).contains("CREATING");
+    assertThat(listCalls).hasValue(1);
+  }
+
+  @Test
+  public void staleSnapshotIsRefreshed() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    poller.poll(PARENT, "b", lister, LOGGER);
+    clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).contains("CREATING");
+    assertThat(listCalls).hasValue(2);
+  }
+
+  @Test
+  public void idleAndCompletedSiblingsStopCounting() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    clock.addAndGet(Duration.ofMinutes(4).toNanos());
+    assertThat(poller.poll(PARENT, "b", lister, LOGGER)).isEmpty();
+
+    poller.poll(PARENT, "a", lister, LOGGER);
+    poller.complete(PARENT, "b");
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).isEmpty();
+    assertThat(listCalls).hasValue(1);
+  }
+
+  @Test
+  public void listingFromBeforeAMutationDoesNotAnswerForIt() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    poller.poll(PARENT, "b", lister, LOGGER);
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    // b is updated while the snapshot is still fresh; the snapshot still shows it ACTIVE from before the update
+    poller.mutated(PARENT, "b");
+    lister = () -> {
+      listCalls.incrementAndGet();
+      return Map.of("a", "CREATING", "b", "UPDATING");
+    };
+    assertThat(poller.poll(PARENT, "b", lister, LOGGER)).contains("UPDATING");
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).contains("CREATING");
+    assertThat(listCalls).hasValue(2);
+  }
+
+  @Test
+  public void childJoiningAfterAListingIsNotAnsweredByIt() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    poller.poll(PARENT, "b", lister, LOGGER);
+    clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertThat(poller.poll(PARENT, "c", () -> Map.of("c", "UPDATING"), LOGGER)).contains("UPDATING");
+    assertThat(listCalls).hasValue(1);
+  }
+
+  @Test
+  public void parentsAreIndependent() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    assertThat(poller.poll("123456789012/us-east-1/app/other", "b", lister, LOGGER)).isEmpty();
+    assertThat(listCalls).hasValue(0);
+  }
+
+  @Test
+  public void missingChildOrFailedListingFallsBackToGet() {
+    poller.poll(PARENT, "a", lister, LOGGER);
+    assertThat(poller.poll(PARENT, "c", lister, LOGGER)).isEmpty();
+
+    clock.addAndGet(Duration.ofSeconds(6).toNanos());
+    Supplier<Map<String, String>> failing = () -> {
+      throw new IllegalStateException("AccessDenied");
+    };
+    assertThat(poller.poll(PARENT, "a", failing, LOGGER)).isEmpty();
+    assertThat(poller.poll(PARENT, "a", lister, LOGGER)).contains("CREATING");
+  }
+
+  @Test
+  public void disabledPollerNeverLists() {
+    var disabled = CoalescedStatusPoller.<String>disabled();
+
+    assertThat(disabled.poll(PARENT, "a", lister, LOGGER)).isEmpty();
+    disabled.mutated(PARENT, "b");
+    assertThat(disabled.poll(PARENT, "b", lister, LOGGER)).isEmpty();
+    assertThat(listCalls).hasValue(0);
+  }
+
+  @Test
+  public void parentKeyIncludesAccountAndRegion() {
+    var request = ResourceHandlerRequest.<Object>builder().awsAccountId("123456789012").region("us-west-2").build();
+
+    assertThat(CoalescedStatusPoller.parentKey(request, "app", "index")).isEqualTo("123456789012/us-west-2/app/index");
+  }
+}
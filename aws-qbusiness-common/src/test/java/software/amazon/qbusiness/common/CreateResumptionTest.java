@@ -0,0 +1,115 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+public class CreateResumptionTest {
+  private static final Logger LOGGER = message -> {
+  };
+  private static final long STARTED_AT = Instant.parse("2024-05-01T10:00:00Z").toEpochMilli();
+
+  private Context context;
+
+  @BeforeEach
+  public void setup() {
+    context = new Context();
+  }
+
+  @Test
+  public void firstAttemptCreates() {
+    assertThat(CreateResumption.createdId(context, LOGGER)).isNull();
+  }
+
+  @Test
+  public void recordedIdIsResumed() {
+    CreateResumption.createStarted(context, () -> STARTED_AT);
+    CreateResumption.created(context, "created");
+
+    var id = CreateResumption.createdId(context, LOGGER);
+
+    assertThat(id).isEqualTo("created");
+    assertThat(context.getCreatePhase()).isEqualTo(CreateResumption.PHASE_STABILIZE);
+  }
+
+  @Test
+  public void unconfirmedAttemptIsCreatedAgain() {
+    CreateResumption.createStarted(context, () -> STARTED_AT);
+
+    var id = CreateResumption.createdId(context, LOGGER);
+
+    assertThat(id).isNull();
+    assertThat(context.getCreatePhase()).isEqualTo(CreateResumption.PHASE_CREATE);
+  }
+
+  @Test
+  public void startTimeIsKeptAcrossAttempts() {
+    CreateResumption.createStarted(context, () -> STARTED_AT);
+    CreateResumption.createStarted(context, () -> STARTED_AT + 60_000);
+
+    assertThat(context.getCreateStartedAt()).isEqualTo(STARTED_AT);
+  }
+
+  @Test
+  public void clientSideFailureAfterTheCreateWasIssuedIsResumedLater() {
+    CreateResumption.createStarted(context, () -> STARTED_AT);
+
+    var result = CreateResumption.handleCreateError(
+        SdkClientException.create("Read timed out"), "model", context, LOGGER, this::failure, () -> STARTED_AT + 30_000
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(10);
+    assertThat(result.getResourceModel()).isEqualTo("model");
+  }
+
+  @Test
+  public void serviceErrorsAndExpiredAttemptsFail() {
+    CreateResumption.createStarted(context, () -> STARTED_AT);
+    var expired = STARTED_AT + CreateResumption.UNCONFIRMED_CREATE_WINDOW.toMillis();
+
+    var serviceError = CreateResumption.handleCreateError(
+        InternalServerException.builder().build(), "model", context, LOGGER, this::failure, () -> STARTED_AT
+    );
+    var clientErrorTooLate = CreateResumption.handleCreateError(
+        SdkClientException.create("Read timed out"), "model", context, LOGGER, this::failure, () -> expired
+    );
+
+    assertThat(serviceError.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(clientErrorTooLate.getStatus()).isEqualTo(OperationStatus.FAILED);
+  }
+
+  @Test
+  public void pollsAreCounted() {
+    CreateResumption.polled(context);
+    CreateResumption.polled(context);
+
+    assertThat(context.getCreatePollCount()).isEqualTo(2);
+  }
+
+  private ProgressEvent<String, Context> failure() {
+    return ProgressEvent.failed("model", context, HandlerErrorCode.GeneralServiceException, "failed");
+  }
+
+  @Getter
+  @Setter
+  private static final class Context extends StdCallbackContext implements CreateResumption.State {
+    private String createdId;
+    private String createPhase;
+    private int createPollCount;
+    private Long createStartedAt;
+  }
+}
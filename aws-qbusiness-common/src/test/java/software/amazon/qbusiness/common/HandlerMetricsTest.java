@@ -0,0 +1,58 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class HandlerMetricsTest {
+
+  @Test
+  public void formatsEmbeddedMetricLine() throws Exception {
+    var line = HandlerMetrics.format("AWS::QBusiness::DataSource", "SyncDrainTime", 1500, "Milliseconds", 1700000000000L);
+
+    var json = new ObjectMapper().readTree(line);
+    var directive = json.get("_aws").get("CloudWatchMetrics").get(0);
+    assertThat(json.get("_aws").get("Timestamp").asLong()).isEqualTo(1700000000000L);
+    assertThat(directive.get("Namespace").asText()).isEqualTo(HandlerMetrics.NAMESPACE);
+    assertThat(directive.get("Dimensions").get(0).get(0).asText()).isEqualTo("ResourceType");
+    assertThat(directive.get("Metrics").get(0).get("Name").asText()).isEqualTo("SyncDrainTime");
+    assertThat(directive.get("Metrics").get(0).get("Unit").asText()).isEqualTo("Milliseconds");
+    assertThat(json.get("ResourceType").asText()).isEqualTo("AWS::QBusiness::DataSource");
+    assertThat(json.get("SyncDrainTime").asDouble()).isEqualTo(1500);
+  }
+
+  @Test
+  public void formatsSeveralMetricsAndPropertiesInOneLine() throws Exception {
+    var metrics = new LinkedHashMap<String, Long>();
+    metrics.put("SdkRetries", 3L);
+    metrics.put("SdkRetriesRefused", 0L);
+
+    var line = HandlerMetrics.format("AWS::QBusiness::Index", metrics, HandlerMetrics.UNIT_COUNT,
+        Map.of("SdkRetriesByOperation", Map.of("GetIndex", 3L)), 1700000000000L);
+
+    var json = new ObjectMapper().readTree(line);
+    var definitions = json.get("_aws").get("CloudWatchMetrics").get(0).get("Metrics");
+    assertThat(definitions).hasSize(2);
+    assertThat(definitions.get(0).get("Name").asText()).isEqualTo("SdkRetries");
+    assertThat(definitions.get(1).get("Unit").asText()).isEqualTo("Count");
+    assertThat(json.get("SdkRetries").asLong()).isEqualTo(3);
+    assertThat(json.get("SdkRetriesRefused").asLong()).isZero();
+    assertThat(json.get("SdkRetriesByOperation").get("GetIndex").asLong()).isEqualTo(3);
+  }
+
+  @Test
+  public void emitWritesOneLineToTheLogger() {
+    List<String> lines = new ArrayList<>();
+
+    HandlerMetrics.emit(lines::add, "AWS::QBusiness::DataSource", "SyncDrainTime", 10, HandlerMetrics.UNIT_MILLISECONDS);
+
+    assertThat(lines).singleElement().asString().startsWith("{\"_aws\":").doesNotContain("\n");
+  }
+}
@@ -0,0 +1,97 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+public class HandlerProfilingTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  public void disabledProfilingChangesNothing() {
+    var logged = new ArrayList<String>();
+    var proxy = new AmazonWebServicesClientProxy(
+        new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+    var chain = proxy.initiate("AWS-QBusiness-Test::Read", proxy.newProxy(Object::new), "model", new StdCallbackContext());
+    var configuration = ClientOverrideConfiguration.builder();
+
+    assertThat(HandlerProfiling.isEnabled()).isFalse();
+    assertThat(HandlerProfiling.profile("AWS-QBusiness-Test::Read", chain)).isSameAs(chain);
+    assertThat(HandlerProfiling.phase("AWS::QBusiness::Test", HandlerProfiling.PHASE_TAGS))
+        .isSameAs(HandlerProfiling.phase("AWS::QBusiness::Test", HandlerProfiling.PHASE_TAGS));
+    assertThat(HandlerProfiling.conversion("MapToDocument")).isSameAs(HandlerProfiling.conversion("DocumentToMap"));
+    assertThat(HandlerProfiling.tagDiff("AWS::QBusiness::Test")).isSameAs(HandlerProfiling.tagDiff("AWS::QBusiness::Test"));
+    assertThat(HandlerProfiling.configure(configuration).build().executionInterceptors()).isEmpty();
+    HandlerProfiling.startRecording(logged::add);
+    HandlerProfiling.dumpRecording(logged::add);
+    assertThat(logged).isEmpty();
+  }
+
+  @Test
+  public void apiCallsAreRecordedWithTheirOutcome() throws IOException {
+    var interceptor = HandlerProfiling.apiCallInterceptor();
+    try (var recording = new Recording()) {
+      recording.enable(ProfilingEvents.ApiCall.class);
+      recording.start();
+
+      var succeeded = attributes("GetApplication");
+      interceptor.beforeExecution(null, succeeded);
+      interceptor.beforeTransmission(null, succeeded);
+      interceptor.beforeTransmission(null, succeeded);
+      var afterExecution = mock(Context.AfterExecution.class);
+      when(afterExecution.httpResponse()).thenReturn(SdkHttpResponse.builder().statusCode(200).build());
+      interceptor.afterExecution(afterExecution, succeeded);
+
+      var failed = attributes("CreateIndex");
+      interceptor.beforeExecution(null, failed);
+      interceptor.beforeTransmission(null, failed);
+      var failedExecution = mock(Context.FailedExecution.class);
+      when(failedExecution.exception()).thenReturn(ValidationException.builder()
+          .statusCode(400)
+          .awsErrorDetails(AwsErrorDetails.builder().errorCode("ValidationException").build())
+          .build());
+      interceptor.onExecutionFailure(failedExecution, failed);
+
+      recording.stop();
+      var file = directory.resolve("recording.jfr");
+      recording.dump(file);
+      List<String> calls = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getEventType().getName().equals("software.amazon.qbusiness.ApiCall"))
+          .map(event -> "%s %d %d %s".formatted(
+              event.getString("api"), event.getInt("attempts"), event.getInt("statusCode"), event.getString("error")))
+          .toList();
+
+      assertThat(calls).containsExactlyInAnyOrder("GetApplication 2 200 null", "CreateIndex 1 400 ValidationException");
+    }
+  }
+
+  private static ExecutionAttributes attributes(String operation) {
+    var attributes = new ExecutionAttributes();
+    attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operation);
+    return attributes;
+  }
+}
@@ -0,0 +1,134 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+
+public class ListDetailsTest {
+  private static final Logger LOGGER = message -> {
+  };
+
+  private final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  public void disabledModeReturnsTheSummaries() {
+    var summaries = List.of("a", "b");
+
+    assertThat(ListDetails.disabled().isEnabled()).isFalse();
+    assertThat(ListDetails.disabled().read(summaries, summary -> {
+      throw new AssertionError("No details are read");
+    }, LOGGER)).isSameAs(summaries);
+  }
+
+  @Test
+  public void detailsComeBackInPageOrder() {
+    var summaries = IntStream.range(0, 20).mapToObj(Integer::toString).toList();
+    var details = ListDetails.of(4, 1000);
+
+    var models = details.read(summaries, summary -> {
+      // Later summaries finish first
+      sleep(20 - Integer.parseInt(summary));
+      return "model-" + summary;
+    }, LOGGER);
+
+    assertThat(models).isEqualTo(summaries.stream().map(summary -> "model-" + summary).toList());
+  }
+
+  @Test
+  public void atMostParallelismSummariesAreReadAtOnce() {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var details = listDetails(3, 1000);
+
+    details.read(IntStream.range(0, 12).boxed().toList(), summary -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep(10);
+      running.decrementAndGet();
+      return summary;
+    }, LOGGER);
+
+    assertThat(maxRunning.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void eachApiIsPacedOnItsOwn() {
+    var details = new ListDetails(true, 1, 10, Runnable::run, now::get, sleeps::add);
+
+    details.call("GetIndex", () -> "first");
+    details.call("GetIndex", () -> "second");
+    details.call("ListTagsForResource", () -> "tags");
+    details.call("GetIndex", () -> "third");
+    now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    details.call("GetIndex", () -> "idle");
+
+    // 100ms apart per API; the clock does not move while sleeping, so the third call waits for two slots
+    assertThat(sleeps).containsExactly(100L, 200L);
+  }
+
+  @Test
+  public void resourcesDeletedSinceTheyWereListedAreLeftOut() {
+    var models = listDetails(2, 1000).read(List.of("a", "gone", "b"), summary -> {
+      if (summary.equals("gone")) {
+        throw ResourceNotFoundException.builder().message("gone").build();
+      }
+      return summary.toUpperCase();
+    }, LOGGER);
+
+    assertThat(models).containsExactly("A", "B");
+  }
+
+  @Test
+  public void anyOtherFailureFailsThePageAndStopsTheLanes() throws InterruptedException {
+    var read = new AtomicInteger();
+    var failed = new CountDownLatch(1);
+    var details = listDetails(1, 1000);
+
+    assertThatThrownBy(() -> details.read(List.of("a", "denied", "b", "c"), summary -> {
+      read.incrementAndGet();
+      if (summary.equals("denied")) {
+        failed.countDown();
+        throw AccessDeniedException.builder().message("denied").build();
+      }
+      return summary;
+    }, LOGGER)).isInstanceOf(AccessDeniedException.class);
+
+    assertThat(failed.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(read.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void settingsMustBePositive() {
+    assertThatThrownBy(() -> ListDetails.of(0, 10)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ListDetails.of(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static ListDetails listDetails(int parallelism, double callsPerSecond) {
+    return new ListDetails(true, parallelism, callsPerSecond, Executors.newCachedThreadPool(), System::nanoTime,
+        Thread::sleep);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
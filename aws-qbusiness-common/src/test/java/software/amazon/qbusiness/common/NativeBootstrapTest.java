@@ -0,0 +1,107 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class NativeBootstrapTest {
+  private static final String REQUEST_ID = "request-1";
+  private static final String FUNCTION_ARN = "arn:aws:lambda:us-east-1:123456789012:function:handler";
+
+  private final Map<String, String> posted = new ConcurrentHashMap<>();
+  private HttpServer runtime;
+  private String runtimeApi;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    runtime = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    runtime.createContext("/2018-06-01/runtime/invocation/", exchange -> {
+      var path = exchange.getRequestURI().getPath();
+      byte[] body;
+      if (path.endsWith("/next")) {
+        exchange.getResponseHeaders().add("Lambda-Runtime-Aws-Request-Id", REQUEST_ID);
+        exchange.getResponseHeaders().add("Lambda-Runtime-Deadline-Ms",
+            Long.toString(System.currentTimeMillis() + 60_000));
+        exchange.getResponseHeaders().add("Lambda-Runtime-Invoked-Function-Arn", FUNCTION_ARN);
+        body = "{\"action\":\"READ\"}".getBytes(StandardCharsets.UTF_8);
+      } else {
+        try (InputStream in = exchange.getRequestBody()) {
+          posted.put(path, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        body = new byte[0];
+      }
+      exchange.sendResponseHeaders(body.length == 0 ? 202 : 200, body.length == 0 ? -1 : body.length);
+      if (body.length > 0) {
+        exchange.getResponseBody().write(body);
+      }
+      exchange.close();
+    });
+    runtime.start();
+    runtimeApi = "http://%s:%d/2018-06-01/runtime".formatted(
+        runtime.getAddress().getHostString(), runtime.getAddress().getPort());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    runtime.stop(0);
+  }
+
+  @Test
+  public void invokeNextPostsHandlerResponse() throws IOException {
+    NativeBootstrap.invokeNext(runtimeApi, new EchoHandler());
+
+    assertThat(posted).containsOnlyKeys("/2018-06-01/runtime/invocation/%s/response".formatted(REQUEST_ID));
+    assertThat(posted.values()).containsExactly("%s|%s|{\"action\":\"READ\"}".formatted(REQUEST_ID, FUNCTION_ARN));
+  }
+
+  @Test
+  public void invokeNextPostsHandlerFailure() throws IOException {
+    NativeBootstrap.invokeNext(runtimeApi, (input, output, context) -> {
+      throw new IllegalStateException("bad \"input\"\n");
+    });
+
+    assertThat(posted).containsOnlyKeys("/2018-06-01/runtime/invocation/%s/error".formatted(REQUEST_ID));
+    assertThat(posted.values()).containsExactly(
+        "{\"errorMessage\":\"bad \\\"input\\\"\\n\",\"errorType\":\"java.lang.IllegalStateException\"}");
+  }
+
+  @Test
+  public void loadHandlerUsesClassFromHandlerSetting() throws ReflectiveOperationException {
+    assertThat(NativeBootstrap.loadHandler(EchoHandler.class.getName() + "::handleRequest"))
+        .isInstanceOf(EchoHandler.class);
+    assertThat(NativeBootstrap.loadHandler(EchoHandler.class.getName())).isInstanceOf(EchoHandler.class);
+  }
+
+  @Test
+  public void loadHandlerRejectsMissingHandler() {
+    assertThatThrownBy(() -> NativeBootstrap.loadHandler(null)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> NativeBootstrap.loadHandler("software.amazon.Missing::handleRequest"))
+        .isInstanceOf(ClassNotFoundException.class);
+  }
+
+  public static class EchoHandler implements RequestStreamHandler {
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context) throws IOException {
+      assertThat(context.getRemainingTimeInMillis()).isPositive();
+      output.write("%s|%s|".formatted(context.getAwsRequestId(), context.getInvokedFunctionArn())
+          .getBytes(StandardCharsets.UTF_8));
+      input.transferTo(output);
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class ParentReadinessGateTest {
+  private static final Logger LOGGER = message -> {
+  };
+  private static final String CALL_GRAPH = "AWS-QBusiness-Index::AwaitApplication";
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<Long> sleeps = new ArrayList<>();
+  private double jitter;
+  private ParentReadinessGate gate;
+  private Context context;
+
+  @BeforeEach
+  public void setup() {
+    gate = gate(Duration.ofSeconds(20));
+    context = new Context();
+  }
+
+  @Test
+  public void conflictIsRetriedInALaterInvocation() {
+    context.setCreateStartedAt(clock.get());
+
+    var result = gate.handleConflict(
+        ConflictException.builder().message("Index is updating").build(), "model", context, LOGGER, this::failure
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(5);
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  public void conflictRetryDelayIsJitteredUpToTwiceTheDelay() {
+    context.setCreateStartedAt(clock.get());
+    jitter = 0.5;
+
+    var halfway = gate.handleConflict(ConflictException.builder().build(), "model", context, LOGGER, this::failure);
+    jitter = 1.0;
+    var doubled = gate.handleConflict(ConflictException.builder().build(), "model", context, LOGGER, this::failure);
+
+    assertThat(halfway.getCallbackDelaySeconds()).isEqualTo(7);
+    assertThat(doubled.getCallbackDelaySeconds()).isEqualTo(10);
+  }
+
+  @Test
+  public void jitteredRetryThatWouldOutlastTheBudgetFails() {
+    context.setCreateStartedAt(clock.get());
+    clock.addAndGet(Duration.ofSeconds(12).toMillis());
+    jitter = 1.0;
+
+    var result = gate.handleConflict(ConflictException.builder().build(), "model", context, LOGGER, this::failure);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+  }
+
+  @Test
+  public void conflictFailsOnceTheBudgetSinceTheFirstAttemptIsSpent() {
+    context.setCreateStartedAt(clock.get());
+    clock.addAndGet(Duration.ofSeconds(16).toMillis());
+
+    var result = gate.handleConflict(ConflictException.builder().build(), "model", context, LOGGER, this::failure);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+  }
+
+  @Test
+  public void otherErrorsAreNotRetried() {
+    context.setCreateStartedAt(clock.get());
+
+    var result = gate.handleConflict(ValidationException.builder().message("bad").build(), "model", context, LOGGER,
+        this::failure);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+  }
+
+  @Test
+  public void busyParentIsWaitedForWithinTheInvocationThenHandedOff() {
+    var result = gate.awaitApplication(
+        proxyClient(ApplicationStatus.UPDATING), ProgressEvent.progress("model", context), request(), CALL_GRAPH,
+        model -> "app", LOGGER
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(10);
+    // 10s polls fit the 45s invocation budget four times before the wait is handed back
+    assertThat(sleeps).containsExactly(10_000L, 10_000L, 10_000L, 10_000L);
+    assertThat(context.getStabilizedPhases()).doesNotContain(CALL_GRAPH);
+  }
+
+  @Test
+  public void readyParentLetsTheCreateThroughAndIsNotCheckedAgain() {
+    var progress = ProgressEvent.<String, Context>progress("model", context);
+
+    var result = gate.awaitApplication(
+        proxyClient(ApplicationStatus.ACTIVE), progress, request(), CALL_GRAPH, model -> "app", LOGGER
+    );
+
+    assertThat(result).isSameAs(progress);
+    assertThat(sleeps).isEmpty();
+    assertThat(context.getStabilizedPhases()).contains(CALL_GRAPH);
+  }
+
+  @Test
+  public void disabledGateNeitherWaitsNorRetries() {
+    gate = ParentReadinessGate.disabled();
+    context.setCreateStartedAt(System.currentTimeMillis());
+    var progress = ProgressEvent.<String, Context>progress("model", context);
+
+    var result = gate.awaitApplication(null, progress, null, CALL_GRAPH, model -> model, LOGGER);
+    var conflict = gate.handleConflict(ConflictException.builder().build(), "model", context, LOGGER, this::failure);
+
+    assertThat(result).isSameAs(progress);
+    assertThat(conflict.getStatus()).isEqualTo(OperationStatus.FAILED);
+  }
+
+  @Test
+  public void onlyCreatingAndUpdatingParentsHoldTheCreate() {
+    assertThat(ParentReadinessGate.isReady("CREATING")).isFalse();
+    assertThat(ParentReadinessGate.isReady("UPDATING")).isFalse();
+    assertThat(ParentReadinessGate.isReady("ACTIVE")).isTrue();
+    assertThat(ParentReadinessGate.isReady("FAILED")).isTrue();
+    assertThat(ParentReadinessGate.isReady(ParentReadinessGate.UNREADABLE)).isTrue();
+  }
+
+  private ParentReadinessGate gate(Duration conflictRetryBudget) {
+    var handoff = new StabilizationHandoff(true, Duration.ofSeconds(30), Duration.ofSeconds(45), clock::get, millis -> {
+      sleeps.add(millis);
+      clock.addAndGet(millis);
+    });
+    return new ParentReadinessGate(
+        true,
+        Constant.of().timeout(Duration.ofMinutes(30)).delay(Duration.ofSeconds(10)).build(),
+        conflictRetryBudget,
+        Duration.ofSeconds(5),
+        SingleFlight.disabled(),
+        handoff,
+        clock::get,
+        () -> jitter
+    );
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ProxyClient<QBusinessClient> proxyClient(ApplicationStatus status) {
+    ProxyClient<QBusinessClient> proxyClient = mock(ProxyClient.class);
+    when(proxyClient.client()).thenReturn(mock(QBusinessClient.class));
+    when(proxyClient.injectCredentialsAndInvokeV2(any(), any()))
+        .thenReturn(GetApplicationResponse.builder().applicationId("app").status(status).build());
+    return proxyClient;
+  }
+
+  private static ResourceHandlerRequest<String> request() {
+    return ResourceHandlerRequest.<String>builder().awsAccountId("123456789012").region("us-east-1").build();
+  }
+
+  private ProgressEvent<String, Context> failure() {
+    return ProgressEvent.failed("model", context, HandlerErrorCode.ResourceConflict, "conflict");
+  }
+
+  @Getter
+  @Setter
+  private static final class Context extends StdCallbackContext
+      implements StabilizationHandoff.State, CreateResumption.State {
+    private Map<String, Integer> stabilizationAttempts = new HashMap<>();
+    private Set<String> stabilizedPhases = new HashSet<>();
+    private Long invocationStartedAt;
+    private String createdId;
+    private String createPhase;
+    private int createPollCount;
+    private Long createStartedAt;
+  }
+}
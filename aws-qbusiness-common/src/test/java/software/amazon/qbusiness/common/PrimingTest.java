@@ -0,0 +1,56 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PrimingTest {
+
+  @Test
+  public void testRunContinuesPastFailingPrimers() {
+    List<String> ran = new ArrayList<>();
+    Map<String, Runnable> primers = new LinkedHashMap<>();
+    primers.put("first", () -> ran.add("first"));
+    primers.put("broken", () -> {
+      throw new IllegalStateException("no canned response");
+    });
+    primers.put("last", () -> ran.add("last"));
+    List<String> logged = new ArrayList<>();
+
+    List<String> failed = Priming.run(primers, logged::add);
+
+    assertThat(ran).containsExactly("first", "last");
+    assertThat(failed).containsExactly("broken");
+    assertThat(logged).singleElement().asString().startsWith("[WARN] Priming broken failed");
+  }
+
+  @Test
+  public void testRegisteredPrimerRunsOnce() {
+    List<String> ran = new ArrayList<>();
+    Priming.register("PrimingTest", () -> ran.add("registered"));
+    Priming.register("PrimingTest", () -> ran.add("duplicate"));
+
+    List<String> failed = Priming.primeAll();
+
+    assertThat(ran).containsExactly("registered");
+    assertThat(failed).doesNotContain("PrimingTest");
+    assertThat(Priming.registered()).contains("PrimingTest");
+  }
+
+  @Test
+  public void testRoundTripUsesWrapperSerialization() {
+    Map<String, Object> value = Map.of("Key", "Value", "Nested", List.of(1, 2));
+
+    Map<String, Object> result = Priming.roundTrip(value, new TypeReference<>() {
+    });
+
+    assertThat(result).isEqualTo(value);
+  }
+}
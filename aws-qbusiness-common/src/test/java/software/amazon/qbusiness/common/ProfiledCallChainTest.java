@@ -0,0 +1,110 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class ProfiledCallChainTest {
+  private static final Constant BACKOFF = Constant.of()
+      .delay(Duration.ofMillis(1))
+      .timeout(Duration.ofSeconds(5))
+      .build();
+
+  @TempDir
+  Path directory;
+
+  private AmazonWebServicesClientProxy proxy;
+  private ProxyClient<Object> proxyClient;
+  private Recording recording;
+
+  @BeforeEach
+  public void setup() {
+    proxy = new AmazonWebServicesClientProxy(
+        new LoggerProxy(), new Credentials("accessKey", "secretKey", "token"), () -> Duration.ofSeconds(600).toMillis());
+    proxyClient = proxy.newProxy(Object::new);
+    recording = new Recording();
+    recording.enable(ProfilingEvents.HandlerPhase.class);
+    recording.start();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    recording.close();
+  }
+
+  @Test
+  public void everyStepAndPollOfAReadIsRecorded() throws IOException {
+    var polls = new AtomicInteger();
+
+    var result = ProfiledCallChain.of("AWS-QBusiness-Test::Read",
+            proxy.initiate("AWS-QBusiness-Test::Read", proxyClient, "model", new StdCallbackContext()))
+        .translateToServiceRequest(model -> "request")
+        .backoffDelay(BACKOFF)
+        .makeServiceCall((request, client) -> "response")
+        .stabilize((request, response, client, model, context) -> polls.incrementAndGet() == 2)
+        .progress();
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(phases()).containsExactlyInAnyOrder(
+        "AWS-QBusiness-Test::Read translate",
+        "AWS-QBusiness-Test::Read makeServiceCall",
+        "AWS-QBusiness-Test::Read stabilize",
+        "AWS-QBusiness-Test::Read stabilize",
+        "AWS-QBusiness-Test::Read read"
+    );
+  }
+
+  @Test
+  public void handleErrorIsRecordedWhenTheCallFails() throws IOException {
+    var result = ProfiledCallChain.of("AWS-QBusiness-Test::Create",
+            proxy.initiate("AWS-QBusiness-Test::Create", proxyClient, "model", new StdCallbackContext()))
+        .translateToServiceRequest(model -> "request")
+        .makeServiceCall((request, client) -> {
+          throw ValidationException.builder().message("bad").build();
+        })
+        .handleError((request, exception, client, model, context) -> ProgressEvent.defaultFailureHandler(exception, null))
+        .progress();
+
+    assertThat(result.isFailed()).isTrue();
+    assertThat(phases()).containsExactlyInAnyOrder(
+        "AWS-QBusiness-Test::Create translate",
+        "AWS-QBusiness-Test::Create makeServiceCall",
+        "AWS-QBusiness-Test::Create handleError"
+    );
+  }
+
+  private List<String> phases() throws IOException {
+    recording.stop();
+    var file = directory.resolve("recording.jfr");
+    recording.dump(file);
+    return RecordingFile.readAllEvents(file).stream()
+        .filter(event -> event.getEventType().getName().equals("software.amazon.qbusiness.HandlerPhase"))
+        .map(ProfiledCallChainTest::describe)
+        .toList();
+  }
+
+  private static String describe(RecordedEvent event) {
+    return event.getString("callGraph") + " " + event.getString("phase");
+  }
+}
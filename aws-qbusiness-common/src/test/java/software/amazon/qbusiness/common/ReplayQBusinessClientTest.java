@@ -0,0 +1,140 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.DeleteIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
+
+public class ReplayQBusinessClientTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @TempDir
+  Path directory;
+
+  private Path file;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    file = directory.resolve("traffic.jsonl.gz");
+    record("CreateIndex", create("recorded-token"), MAPPER.createObjectNode().put("indexId", "index"));
+    record("GetIndex", get("index"), MAPPER.createObjectNode().put("status", "CREATING"));
+    record("GetIndex", get("index"), MAPPER.createObjectNode().put("status", "ACTIVE"));
+    TrafficRecording.append(file, new TrafficRecording.Exchange("DeleteIndex", 0, 0, 1,
+        MAPPER.createObjectNode().put("applicationId", "application").put("indexId", "index"), null,
+        new TrafficRecording.Error(409, "ConflictException", "busy")));
+  }
+
+  @Test
+  public void callsAreAnsweredInRecordedOrderIgnoringClientTokens() throws IOException {
+    var replay = ReplayQBusinessClient.load(file, 0);
+    var client = replay.client();
+
+    var created = client.createIndex(CreateIndexRequest.builder()
+        .applicationId("application").displayName("index").clientToken("another-token").build());
+    var request = GetIndexRequest.builder().applicationId("application").indexId("index").build();
+
+    assertThat(created.indexId()).isEqualTo("index");
+    assertThat(client.getIndex(request).status()).isEqualTo(IndexStatus.CREATING);
+    assertThat(client.getIndex(request).status()).isEqualTo(IndexStatus.ACTIVE);
+    assertThat(client.getIndex(builder -> builder.applicationId("application").indexId("index")).status())
+        .isEqualTo(IndexStatus.ACTIVE);
+    assertThat(replay.calls()).isEqualTo(Map.of("CreateIndex", 1, "GetIndex", 3));
+    assertThat(replay.unmatched()).isZero();
+    assertThat(replay.summary()).isEqualTo("4 calls (CreateIndex=1, GetIndex=3), 0 unmatched, 0.0s of recorded latency");
+  }
+
+  @Test
+  public void unmatchedRequestsTakeTheNextUnusedExchange() throws IOException {
+    var replay = ReplayQBusinessClient.load(file, 0);
+
+    var status = replay.client().getIndex(GetIndexRequest.builder().applicationId("other").indexId("other").build());
+
+    assertThat(status.status()).isEqualTo(IndexStatus.CREATING);
+    assertThat(replay.unmatched()).isEqualTo(1);
+  }
+
+  @Test
+  public void requestsMatchRecordingsWithRedactedValues() throws IOException {
+    record("CreateDataSource", MAPPER.createObjectNode()
+            .put("applicationId", "application").put("roleArn", "REDACTED").put("clientToken", "recorded-token"),
+        MAPPER.createObjectNode().put("dataSourceId", "data-source"));
+    var replay = ReplayQBusinessClient.load(file, 0);
+
+    var created = replay.client().createDataSource(CreateDataSourceRequest.builder()
+        .applicationId("application")
+        .roleArn("arn:aws:iam::123456789012:role/sync")
+        .clientToken("another-token")
+        .build());
+
+    assertThat(created.dataSourceId()).isEqualTo("data-source");
+    assertThat(replay.unmatched()).isZero();
+  }
+
+  @Test
+  public void recordedErrorsAreThrownAgain() throws IOException {
+    var client = ReplayQBusinessClient.load(file, 0).client();
+
+    assertThatThrownBy(() -> client.deleteIndex(
+        DeleteIndexRequest.builder().applicationId("application").indexId("index").build()))
+        .isInstanceOfSatisfying(ConflictException.class, e -> {
+          assertThat(e.statusCode()).isEqualTo(409);
+          assertThat(e.awsErrorDetails().errorCode()).isEqualTo("ConflictException");
+          assertThat(e.awsErrorDetails().errorMessage()).isEqualTo("busy");
+        });
+    assertThatThrownBy(() -> client.listIndices(builder -> builder.applicationId("application")))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void errorsWithoutAModelledTypeKeepTheirCode() {
+    assertThat(ReplayQBusinessClient.exception(new TrafficRecording.Error(503, "ServiceUnavailable", "later")))
+        .isExactlyInstanceOf(QBusinessException.class)
+        .satisfies(e -> assertThat(((QBusinessException) e).awsErrorDetails().errorCode()).isEqualTo("ServiceUnavailable"));
+    assertThat(ReplayQBusinessClient.exception(new TrafficRecording.Error(0, "java.net.SocketTimeoutException", "slow")))
+        .isInstanceOf(SdkClientException.class)
+        .hasMessageContaining("slow");
+  }
+
+  @Test
+  public void recordedLatencyIsScaled() throws IOException {
+    TrafficRecording.append(file, new TrafficRecording.Exchange("ListIndices", 0, 40_000, 1,
+        MAPPER.createObjectNode().put("applicationId", "application"), MAPPER.createObjectNode(), null));
+    var replay = ReplayQBusinessClient.load(file, 0.5);
+
+    long started = System.nanoTime();
+    replay.client().listIndices(builder -> builder.applicationId("application"));
+
+    assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(20_000_000L);
+    assertThat(replay.summary()).endsWith("0.0s of recorded latency");
+  }
+
+  private void record(String operation, ObjectNode request, ObjectNode response) throws IOException {
+    TrafficRecording.append(file, new TrafficRecording.Exchange(operation, 0, 1_000, 1, request, response, null));
+  }
+
+  private static ObjectNode create(String clientToken) {
+    return MAPPER.createObjectNode()
+        .put("applicationId", "application").put("displayName", "index").put("clientToken", clientToken);
+  }
+
+  private static ObjectNode get(String indexId) {
+    return MAPPER.createObjectNode().put("applicationId", "application").put("indexId", indexId);
+  }
+}
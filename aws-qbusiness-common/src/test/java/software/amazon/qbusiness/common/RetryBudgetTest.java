@@ -0,0 +1,231 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+import software.amazon.awssdk.services.qbusiness.model.UpdateApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+
+public class RetryBudgetTest {
+  private static final GetApplicationRequest GET = GetApplicationRequest.builder().applicationId("app").build();
+  private static final UpdateApplicationRequest UPDATE = UpdateApplicationRequest.builder().applicationId("app").build();
+
+  private final List<String> calls = new ArrayList<>();
+  private final Deque<Integer> statuses = new ArrayDeque<>();
+
+  @BeforeEach
+  public void setup() {
+    calls.clear();
+    statuses.clear();
+  }
+
+  @Test
+  public void pollingReadsGetMoreAttemptsThanMutations() {
+    var budget = budget(RetryBudget.DEFAULT_CAPACITY);
+    var client = client(budget);
+    respondWith(500, 500, 500, 500, 500, 500);
+
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(InternalServerException.class);
+    assertThatThrownBy(() -> client.updateApplication(UPDATE)).isInstanceOf(InternalServerException.class);
+
+    assertThat(calls).containsExactly("GET", "GET", "GET", "PUT", "PUT");
+    assertThat(budget.retryCounts()).containsEntry("GetApplication", 2L).containsEntry("UpdateApplication", 1L);
+    assertThat(budget.tokensAvailable()).isEqualTo(RetryBudget.DEFAULT_CAPACITY - 3 * RetryBudget.RETRY_COST);
+  }
+
+  @Test
+  public void throttledRetriesCostMoreAndSuccessRefundsThem() {
+    var budget = budget(RetryBudget.DEFAULT_CAPACITY);
+    var client = client(budget);
+    respondWith(429, 200);
+
+    client.getApplication(GET);
+    assertThat(budget.tokensAvailable()).isEqualTo(RetryBudget.DEFAULT_CAPACITY);
+
+    respondWith(429, 429, 429);
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(ThrottlingException.class);
+    assertThat(budget.tokensAvailable())
+        .isEqualTo(RetryBudget.DEFAULT_CAPACITY - 2 * RetryBudget.THROTTLING_RETRY_COST);
+    assertThat(budget.retryCounts()).containsEntry("GetApplication", 3L);
+  }
+
+  @Test
+  public void emptyBudgetStopsRetriesUntilCallsSucceed() {
+    var budget = budget(RetryBudget.THROTTLING_RETRY_COST);
+    var client = client(budget);
+    respondWith(429, 429);
+
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(ThrottlingException.class);
+    assertThat(calls).hasSize(2);
+    assertThat(budget.refusedRetries()).isEqualTo(1);
+    assertThat(budget.tokensAvailable()).isZero();
+
+    calls.clear();
+    respondWith(200);
+    client.getApplication(GET);
+    assertThat(budget.tokensAvailable()).isEqualTo(1);
+  }
+
+  @Test
+  public void clientErrorsAreNotRetried() {
+    var budget = budget(RetryBudget.DEFAULT_CAPACITY);
+    var client = client(budget);
+    respondWith(400);
+
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(ValidationException.class);
+    assertThat(calls).hasSize(1);
+    assertThat(budget.retryCounts()).isEmpty();
+  }
+
+  @Test
+  public void invocationMetricsCountOnlyTheRetriesSinceTheInvocationStarted() throws Exception {
+    var budget = budget(RetryBudget.THROTTLING_RETRY_COST + RetryBudget.RETRY_COST);
+    var client = client(budget);
+    respondWith(500, 200);
+    client.getApplication(GET);
+    var atStart = budget.usage();
+    List<String> lines = new ArrayList<>();
+
+    respondWith(500, 200, 429, 429);
+    client.updateApplication(UPDATE);
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(ThrottlingException.class);
+    budget.emitMetrics(lines::add, "AWS::QBusiness::Application", atStart);
+
+    var json = new ObjectMapper().readTree(lines.get(0));
+    assertThat(lines).hasSize(1);
+    assertThat(json.get(RetryBudget.METRIC_RETRIES).asLong()).isEqualTo(2);
+    assertThat(json.get(RetryBudget.METRIC_REFUSED_RETRIES).asLong()).isEqualTo(1);
+    assertThat(json.get(RetryBudget.METRIC_TOKENS_AVAILABLE).asLong()).isEqualTo(budget.tokensAvailable());
+    assertThat(json.get(RetryBudget.PROPERTY_RETRIES_BY_OPERATION).get("UpdateApplication").asLong()).isEqualTo(1);
+    assertThat(json.get(RetryBudget.PROPERTY_RETRIES_BY_OPERATION).get("GetApplication").asLong()).isEqualTo(1);
+  }
+
+  @Test
+  public void budgetMustCoverAThrottledRetry() {
+    assertThatThrownBy(() -> RetryBudget.of(RetryBudget.THROTTLING_RETRY_COST - 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void rebuiltBudgetDrawsOnTheSameBucket() {
+    var budget = budget(RetryBudget.DEFAULT_CAPACITY);
+    var rebuilt = budget.toBuilder().build();
+    var client = client(configuration -> configuration
+        .retryStrategy(rebuilt)
+        .addExecutionInterceptor(budget.interceptor()));
+    respondWith(500, 500, 500);
+
+    assertThatThrownBy(() -> client.getApplication(GET)).isInstanceOf(InternalServerException.class);
+
+    assertThat(calls).hasSize(3);
+    assertThat(budget.retryCounts()).containsEntry("GetApplication", 2L);
+    assertThat(budget.tokensAvailable())
+        .isEqualTo(rebuilt.tokensAvailable())
+        .isEqualTo(RetryBudget.DEFAULT_CAPACITY - 2 * RetryBudget.RETRY_COST);
+  }
+
+  @Test
+  public void rebuiltBudgetAppliesTheBuilderChanges() {
+    var budget = budget(RetryBudget.DEFAULT_CAPACITY);
+    var singleAttempt = budget.toBuilder().maxAttempts(1).build();
+    respondWith(500);
+
+    assertThatThrownBy(() -> client(singleAttempt).getApplication(GET)).isInstanceOf(InternalServerException.class);
+    assertThat(calls).hasSize(1);
+    assertThat(singleAttempt.maxAttempts()).isEqualTo(1);
+
+    calls.clear();
+    var retryingValidation = budget.toBuilder()
+        .retryOnException(ValidationException.class)
+        .treatAsThrottling(failure -> failure instanceof ValidationException)
+        .build();
+    respondWith(400, 200);
+
+    client(retryingValidation).getApplication(GET);
+    assertThat(calls).hasSize(2);
+    assertThat(budget.retryCounts()).containsEntry("GetApplication", 1L);
+    assertThat(retryingValidation.maxAttempts()).isEqualTo(budget.maxAttempts());
+  }
+
+  private void respondWith(Integer... responses) {
+    statuses.addAll(List.of(responses));
+  }
+
+  private static RetryBudget budget(int capacity) {
+    return new RetryBudget(capacity, BackoffStrategy.retryImmediately(), BackoffStrategy.retryImmediately());
+  }
+
+  private QBusinessClient client(RetryBudget budget) {
+    return client(budget::configure);
+  }
+
+  private QBusinessClient client(Consumer<ClientOverrideConfiguration.Builder> configuration) {
+    return QBusinessClient.builder()
+        .httpClient(new StubHttpClient())
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("access", "secret")))
+        .overrideConfiguration(configuration)
+        .build();
+  }
+
+  private final class StubHttpClient implements SdkHttpClient {
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+      return new ExecutableHttpRequest() {
+        @Override
+        public HttpExecuteResponse call() {
+          calls.add(request.httpRequest().method().name());
+          var status = statuses.isEmpty() ? 200 : statuses.poll();
+          var response = SdkHttpResponse.builder().statusCode(status);
+          switch (status) {
+            case 400 -> response.putHeader("x-amzn-ErrorType", "ValidationException");
+            case 429 -> response.putHeader("x-amzn-ErrorType", "ThrottlingException");
+            case 500 -> response.putHeader("x-amzn-ErrorType", "InternalServerException");
+            default -> {
+            }
+          }
+          return HttpExecuteResponse.builder()
+              .response(response.build())
+              .responseBody(AbortableInputStream.create(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+              .build();
+        }
+
+        @Override
+        public void abort() {
+        }
+      };
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
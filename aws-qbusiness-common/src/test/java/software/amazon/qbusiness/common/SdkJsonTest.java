@@ -0,0 +1,81 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.Application;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexCapacityConfiguration;
+import software.amazon.awssdk.services.qbusiness.model.ListApplicationsResponse;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
+
+public class SdkJsonTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  public void requestsRoundTrip() {
+    var request = CreateIndexRequest.builder()
+        .applicationId("application")
+        .displayName("index")
+        .capacityConfiguration(IndexCapacityConfiguration.builder().units(2).build())
+        .tags(Tag.builder().key("key").value("value").build())
+        .clientToken("token")
+        .build();
+
+    var json = SdkJson.toJson(request);
+
+    assertThat(json.path("applicationId").asText()).isEqualTo("application");
+    assertThat(json.path("capacityConfiguration").path("units").asInt()).isEqualTo(2);
+    assertThat(json.path("tags").get(0).path("key").asText()).isEqualTo("key");
+    assertThat(json.has("description")).isFalse();
+    assertThat(SdkJson.fromJson(CreateIndexRequest.class, json)).isEqualTo(request);
+  }
+
+  @Test
+  public void responsesRoundTripWithEnumsAndTimestamps() {
+    var createdAt = Instant.parse("2024-05-01T10:15:30.123Z");
+    var response = ListApplicationsResponse.builder()
+        .applications(Application.builder()
+            .applicationId("application")
+            .status(ApplicationStatus.ACTIVE)
+            .createdAt(createdAt)
+            .build())
+        .nextToken("next")
+        .build();
+
+    var json = SdkJson.toJson(response);
+
+    assertThat(json.path("applications").get(0).path("status").asText()).isEqualTo("ACTIVE");
+    assertThat(json.path("applications").get(0).path("createdAt").asText()).isEqualTo("2024-05-01T10:15:30.123Z");
+    assertThat(SdkJson.fromJson(ListApplicationsResponse.class, json)).isEqualTo(response);
+  }
+
+  @Test
+  public void readingAcceptsCapitalizedNamesAndSkipsMismatchedValues() throws Exception {
+    var json = MAPPER.readTree("""
+        {"ApplicationId": "application", "displayName": {"not": "a string"}, "createdAt": "yesterday",
+         "unknown": 1, "description": null}
+        """);
+
+    var response = SdkJson.fromJson(GetApplicationResponse.class, json);
+
+    assertThat(response.applicationId()).isEqualTo("application");
+    assertThat(response.displayName()).isNull();
+    assertThat(response.createdAt()).isNull();
+    assertThat(response.description()).isNull();
+  }
+
+  @Test
+  public void onlySdkModelsAreBuilt() {
+    assertThatThrownBy(() -> SdkJson.fromJson(List.class, MAPPER.createObjectNode()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,213 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.GetPolicyRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetPolicyResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+public class SingleFlightTest {
+  private static final GetPolicyRequest GET_POLICY = GetPolicyRequest.builder().applicationId("app").build();
+  private static final SingleFlight.Key KEY =
+      new SingleFlight.Key("123456789012", "us-east-1", "AKIAMINE", "GetPolicy", GET_POLICY);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AtomicInteger calls = new AtomicInteger();
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setup() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  public void tear_down() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void concurrentCallersShareOneInFlightCall() throws Exception {
+    var singleFlight = new SingleFlight(true, Duration.ZERO, clock::get);
+    var release = new CountDownLatch(1);
+    Supplier<String> slowCall = () -> {
+      calls.incrementAndGet();
+      await(release);
+      return "policy";
+    };
+
+    Future<String> leader = executor.submit(() -> singleFlight.call(KEY, slowCall));
+    waitFor(() -> calls.get() == 1);
+    Future<String> follower = executor.submit(() -> singleFlight.call(KEY, slowCall));
+    Thread.sleep(50);
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("policy");
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("policy");
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  public void followersReceiveTheLeadersFailureWhichIsNotKept() throws Exception {
+    var singleFlight = new SingleFlight(true, Duration.ofSeconds(1), clock::get);
+    var release = new CountDownLatch(1);
+    Supplier<String> failingCall = () -> {
+      calls.incrementAndGet();
+      await(release);
+      throw new IllegalStateException("throttled");
+    };
+
+    Future<String> leader = executor.submit(() -> singleFlight.call(KEY, failingCall));
+    waitFor(() -> calls.get() == 1);
+    Future<String> follower = executor.submit(() -> singleFlight.call(KEY, failingCall));
+    Thread.sleep(50);
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(singleFlight.call(KEY, () -> "recovered")).isEqualTo("recovered");
+  }
+
+  @Test
+  public void resultsAreOnlyKeptWithinTheTtl() {
+    var singleFlight = new SingleFlight(true, Duration.ofMillis(200), clock::get);
+
+    assertThat(singleFlight.call(KEY, () -> "first")).isEqualTo("first");
+    clock.addAndGet(Duration.ofMillis(100).toNanos());
+    assertThat(singleFlight.call(KEY, () -> "second")).isEqualTo("first");
+    clock.addAndGet(Duration.ofMillis(150).toNanos());
+    assertThat(singleFlight.call(KEY, () -> "third")).isEqualTo("third");
+  }
+
+  @Test
+  public void sequentialCallsAreNotSharedWithoutTtl() {
+    var singleFlight = new SingleFlight(true, Duration.ZERO, clock::get);
+
+    assertThat(singleFlight.call(KEY, () -> "first")).isEqualTo("first");
+    assertThat(singleFlight.call(KEY, () -> "second")).isEqualTo("second");
+  }
+
+  @Test
+  public void invalidationDropsKeptResultsOfEveryCaller() {
+    var singleFlight = new SingleFlight(true, Duration.ofSeconds(1), clock::get);
+    var request = ResourceHandlerRequest.<Object>builder().awsAccountId("123456789012").region("us-east-1").build();
+    var theirs = new SingleFlight.Key("123456789012", "us-east-1", "AKIATHEIRS", "GetPolicy", GET_POLICY);
+    singleFlight.call(KEY, () -> "before mutation");
+    singleFlight.call(theirs, () -> "theirs before mutation");
+
+    singleFlight.invalidate(request, "GetPolicy", GetPolicyRequest.builder().applicationId("app").build());
+
+    assertThat(singleFlight.call(KEY, () -> "after invalidation")).isEqualTo("after invalidation");
+    assertThat(singleFlight.call(theirs, () -> "theirs after invalidation")).isEqualTo("theirs after invalidation");
+  }
+
+  @Test
+  public void proxyCallsAreKeyedByAccountInjectedCredentialsAndRequest() {
+    var singleFlight = new SingleFlight(true, Duration.ofSeconds(1), clock::get);
+    var request = ResourceHandlerRequest.<Object>builder().awsAccountId("123456789012").region("us-east-1").build();
+    var otherAccount = ResourceHandlerRequest.<Object>builder().awsAccountId("210987654321").region("us-east-1").build();
+    var mine = proxyClient("AKIAMINE");
+    var otherApp = GetPolicyRequest.builder().applicationId("other-app").build();
+
+    singleFlight.call(request, "GetPolicy", GET_POLICY, mine, policy("mine"));
+
+    assertThat(singleFlight.call(request, "GetPolicy", GET_POLICY, mine, policy("again")).policy())
+        .isEqualTo("mine");
+    assertThat(singleFlight.call(request, "GetPolicy", GET_POLICY, proxyClient("AKIATHEIRS"), policy("another role"))
+        .policy()).isEqualTo("another role");
+    assertThat(singleFlight.call(otherAccount, "GetPolicy", GET_POLICY, mine, policy("theirs")).policy())
+        .isEqualTo("theirs");
+    assertThat(singleFlight.call(request, "GetPolicy", otherApp, mine, policy("other")).policy())
+        .isEqualTo("other");
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  public void sharedProxyCallsAreMadeWithTheInjectedRequest() {
+    var singleFlight = new SingleFlight(true, Duration.ZERO, clock::get);
+    var request = ResourceHandlerRequest.<Object>builder().awsAccountId("123456789012").region("us-east-1").build();
+    var sent = new AtomicReference<GetPolicyRequest>();
+
+    singleFlight.call(request, "GetPolicy", GET_POLICY, proxyClient("AKIAMINE"), getPolicy -> {
+      sent.set(getPolicy);
+      return GetPolicyResponse.builder().build();
+    });
+
+    assertThat(sent.get().overrideConfiguration()).isPresent();
+  }
+
+  @Test
+  public void disabledInstanceCallsThroughTheProxy() {
+    var request = ResourceHandlerRequest.<Object>builder().awsAccountId("123456789012").region("us-east-1").build();
+    var mine = proxyClient("AKIAMINE");
+
+    SingleFlight.disabled().call(request, "GetPolicy", GET_POLICY, mine, policy("first"));
+    SingleFlight.disabled().call(request, "GetPolicy", GET_POLICY, mine, policy("second"));
+
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  public void callsWithoutCallerIdentityAreNeverShared() {
+    var singleFlight = new SingleFlight(true, Duration.ofSeconds(1), clock::get);
+    var anonymous = new SingleFlight.Key("123456789012", "us-east-1", null, "GetPolicy", GET_POLICY);
+
+    assertThat(singleFlight.call(anonymous, () -> "first")).isEqualTo("first");
+    assertThat(singleFlight.call(anonymous, () -> "second")).isEqualTo("second");
+  }
+
+  @Test
+  public void disabledInstanceNeverShares() {
+    var singleFlight = SingleFlight.disabled();
+
+    assertThat(singleFlight.call(KEY, () -> "first")).isEqualTo("first");
+    assertThat(singleFlight.call(KEY, () -> "second")).isEqualTo("second");
+  }
+
+  private Function<GetPolicyRequest, GetPolicyResponse> policy(String policy) {
+    return getPolicy -> {
+      calls.incrementAndGet();
+      return GetPolicyResponse.builder().policy(policy).build();
+    };
+  }
+
+  private static ProxyClient<Object> proxyClient(String accessKeyId) {
+    return new AmazonWebServicesClientProxy(new LoggerProxy(), new Credentials(accessKeyId, "secret", "token"),
+        () -> Duration.ofMinutes(1).toMillis()).newProxy(Object::new);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void waitFor(Supplier<Boolean> condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (!condition.get() && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+  }
+}
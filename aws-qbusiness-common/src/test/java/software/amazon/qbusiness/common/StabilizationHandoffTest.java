@@ -0,0 +1,201 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class StabilizationHandoffTest {
+  private static final String PHASE = "AWS-QBusiness-DataSource::Delete";
+  private static final Logger LOGGER = message -> {
+  };
+  private static final StabilizationHandoff.Failure<String, Context> FAILURE = (error, model, context) ->
+      ProgressEvent.failed(model, context, HandlerErrorCode.GeneralServiceException, error.getMessage());
+
+  private final AtomicLong clock = new AtomicLong();
+  private final List<Long> sleeps = new ArrayList<>();
+  private final AtomicInteger polls = new AtomicInteger();
+  private StabilizationHandoff handoff;
+  private Context context;
+
+  @BeforeEach
+  public void setup() {
+    handoff = new StabilizationHandoff(true, Duration.ofSeconds(30), Duration.ofSeconds(45), clock::get, millis -> {
+      sleeps.add(millis);
+      clock.addAndGet(millis);
+    });
+    context = new Context();
+  }
+
+  @Test
+  public void longDelayIsHandedOffWithoutSleeping() {
+    var result = handoff.await(progress(), PHASE, delay(Duration.ofMinutes(1)), stableAfter(3), FAILURE, LOGGER);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(60);
+    assertThat(result.getResourceModel()).isEqualTo("model");
+    assertThat(sleeps).isEmpty();
+    assertThat(context.getStabilizationAttempts()).containsEntry(PHASE, 1);
+  }
+
+  @Test
+  public void shortDelaysAreSleptUntilTheBudgetRunsOut() {
+    var result = handoff.await(progress(), PHASE, delay(Duration.ofSeconds(10)), stableAfter(10), FAILURE, LOGGER);
+
+    assertThat(sleeps).containsExactly(10_000L, 10_000L, 10_000L, 10_000L);
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(10);
+    assertThat(context.getStabilizationAttempts()).containsEntry(PHASE, 5);
+  }
+
+  @Test
+  public void shortDelaysStopInTimeForTheLambdaDeadline() throws Exception {
+    var result = new AtomicReference<ProgressEvent<String, Context>>();
+
+    // 35s until the function times out leaves 25s for waits after the margin
+    StabilizationHandoff.runWithDeadline(35_000L, () -> result.set(
+        handoff.await(progress(), PHASE, delay(Duration.ofSeconds(10)), stableAfter(10), FAILURE, LOGGER)
+    ));
+
+    assertThat(sleeps).containsExactly(10_000L, 10_000L);
+    assertThat(result.get().getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.get().getCallbackDelaySeconds()).isEqualTo(10);
+  }
+
+  @Test
+  public void lambdaDeadlineReplacesTheConfiguredBudget() throws Exception {
+    var result = new AtomicReference<ProgressEvent<String, Context>>();
+
+    StabilizationHandoff.runWithDeadline(15 * 60_000L, () -> result.set(
+        handoff.await(progress(), PHASE, delay(Duration.ofSeconds(10)), stableAfter(10), FAILURE, LOGGER)
+    ));
+
+    assertThat(sleeps).hasSize(9);
+    assertThat(result.get().canContinueProgress()).isTrue();
+    assertThat(context.getStabilizedPhases()).containsExactly(PHASE);
+  }
+
+  @Test
+  public void deadlineIsOnlyKnownWithinTheInvocation() throws Exception {
+    StabilizationHandoff.runWithDeadline(5_000L, () -> {
+    });
+
+    handoff.await(progress(), PHASE, delay(Duration.ofSeconds(10)), stableAfter(10), FAILURE, LOGGER);
+
+    assertThat(sleeps).hasSize(4);
+  }
+
+  @Test
+  public void reinvocationResumesAttemptsAndSkipsStabilizedPhases() {
+    var delay = delay(Duration.ofMinutes(1));
+    var check = stableAfter(2);
+
+    handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+    StabilizationHandoff.startInvocation(context);
+    var result = handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+
+    assertThat(result.isInProgressCallbackDelay()).isFalse();
+    assertThat(result.canContinueProgress()).isTrue();
+    assertThat(context.getStabilizationAttempts()).doesNotContainKey(PHASE);
+    assertThat(context.getStabilizedPhases()).containsExactly(PHASE);
+
+    handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+    assertThat(polls).hasValue(2);
+  }
+
+  @Test
+  public void exhaustedBackoffFailsAsNotStabilized() {
+    var delay = Constant.of().timeout(Duration.ofMinutes(2)).delay(Duration.ofMinutes(1)).build();
+    var check = stableAfter(10);
+
+    handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+    handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+    var result = handoff.await(progress(), PHASE, delay, check, FAILURE, LOGGER);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+  }
+
+  @Test
+  public void checkErrorsGoThroughTheFailureHandler() {
+    StabilizationHandoff.Check<String, Context> check = (model, ctx) -> {
+      throw new CfnNotStabilizedException("AWS::QBusiness::DataSource", "id");
+    };
+
+    var result = handoff.await(progress(), PHASE, delay(Duration.ofMinutes(1)), check, FAILURE, LOGGER);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+  }
+
+  @Test
+  public void disabledHandoffPassesProgressThrough() {
+    var progress = progress();
+
+    var result = StabilizationHandoff.disabled()
+        .await(progress, PHASE, delay(Duration.ofMinutes(1)), stableAfter(10), FAILURE, LOGGER);
+
+    assertThat(result).isSameAs(progress);
+    assertThat(polls).hasValue(0);
+  }
+
+  @Test
+  public void operationSettingsOverrideGlobalOnes() {
+    Map<String, String> settings = Map.of(
+        "QBUSINESS_HANDOFF_MIN_DELAY_SECONDS", "300",
+        "QBUSINESS_HANDOFF_MIN_DELAY_SECONDS_DATASOURCE_DELETE", "20",
+        "QBUSINESS_STABILIZATION_HANDOFF_INDEX_CREATE", "false"
+    );
+
+    var delete = StabilizationHandoff.fromSettings(settings::get, "AWS::QBusiness::DataSource", "Delete");
+    var create = StabilizationHandoff.fromSettings(settings::get, "AWS::QBusiness::DataSource", "Create");
+    var indexCreate = StabilizationHandoff.fromSettings(settings::get, "AWS::QBusiness::Index", "Create");
+
+    assertThat(delete.isEnabled()).isTrue();
+    assertThat(delete.await(progress(), PHASE, delay(Duration.ofSeconds(20)), stableAfter(10), FAILURE, LOGGER)
+        .getCallbackDelaySeconds()).isEqualTo(20);
+    assertThat(create.isEnabled()).isTrue();
+    assertThat(indexCreate.isEnabled()).isFalse();
+  }
+
+  private ProgressEvent<String, Context> progress() {
+    return ProgressEvent.progress("model", context);
+  }
+
+  private static Constant delay(Duration delay) {
+    return Constant.of().timeout(Duration.ofHours(24)).delay(delay).build();
+  }
+
+  private StabilizationHandoff.Check<String, Context> stableAfter(int pollCount) {
+    return (model, ctx) -> polls.incrementAndGet() >= pollCount;
+  }
+
+  @Getter
+  @Setter
+  private static final class Context extends StdCallbackContext implements StabilizationHandoff.State {
+    private Map<String, Integer> stabilizationAttempts = new HashMap<>();
+    private Set<String> stabilizedPhases = new HashSet<>();
+    private Long invocationStartedAt;
+  }
+}
@@ -0,0 +1,165 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.TagResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.UntagResourceResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+public class TagBatcherTest {
+  private static final Logger LOGGER = message -> {
+  };
+  private static final String ARN = "arn:aws:qbusiness:us-east-1:123456789012:application/app";
+
+  private final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+  private QBusinessClient client;
+  private ProxyClient<QBusinessClient> proxyClient;
+
+  @BeforeEach
+  public void setup() {
+    client = mock(QBusinessClient.class);
+    when(client.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+    when(client.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+    proxyClient = new ProxyClient<>() {
+      @Override
+      public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+          RequestT request,
+          Function<RequestT, ResponseT> requestFunction
+      ) {
+        return requestFunction.apply(request);
+      }
+
+      @Override
+      public QBusinessClient client() {
+        return client;
+      }
+    };
+  }
+
+  @Test
+  public void largeTagSetsAreSplitIntoServiceSizedChunks() {
+    var tagsToAdd = tags(45);
+    var tagsToRemove = IntStream.range(0, 12).mapToObj("old%d"::formatted).collect(Collectors.toSet());
+
+    batcher(20, 4).applyAsync(ARN, tagsToAdd, tagsToRemove, proxyClient, LOGGER).join();
+
+    var tagRequests = ArgumentCaptor.forClass(TagResourceRequest.class);
+    verify(client, times(3)).tagResource(tagRequests.capture());
+    assertThat(tagRequests.getAllValues()).allSatisfy(request -> assertThat(request.resourceARN()).isEqualTo(ARN));
+    assertThat(tagRequests.getAllValues().stream().mapToInt(request -> request.tags().size()).sorted().toArray())
+        .containsExactly(5, 20, 20);
+    assertThat(tagRequests.getAllValues().stream().flatMap(request -> request.tags().stream()).map(tag -> tag.key()))
+        .containsExactlyInAnyOrderElementsOf(tagsToAdd.keySet());
+
+    var untagRequests = ArgumentCaptor.forClass(UntagResourceRequest.class);
+    verify(client).untagResource(untagRequests.capture());
+    assertThat(untagRequests.getValue().tagKeys()).containsExactlyInAnyOrderElementsOf(tagsToRemove);
+  }
+
+  @Test
+  public void chunksRunWithBoundedParallelism() {
+    var running = new AtomicInteger();
+    var mostRunning = new AtomicInteger();
+    when(client.tagResource(any(TagResourceRequest.class))).thenAnswer(invocation -> {
+      mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(50);
+      running.decrementAndGet();
+      return TagResourceResponse.builder().build();
+    });
+
+    batcher(1, 3).applyAsync(ARN, tags(10), Set.of(), proxyClient, LOGGER).join();
+
+    verify(client, times(10)).tagResource(any(TagResourceRequest.class));
+    assertThat(mostRunning.get()).isBetween(1, 3);
+  }
+
+  @Test
+  public void throttledChunkIsRetriedOnItsOwn() {
+    when(client.untagResource(any(UntagResourceRequest.class)))
+        .thenThrow(ThrottlingException.builder().message("Slow down").build())
+        .thenReturn(UntagResourceResponse.builder().build());
+
+    batcher(50, 2).applyAsync(ARN, tags(3), Set.of("old"), proxyClient, LOGGER).join();
+
+    verify(client).tagResource(any(TagResourceRequest.class));
+    verify(client, times(2)).untagResource(any(UntagResourceRequest.class));
+    assertThat(sleeps).containsExactly(1_000L);
+  }
+
+  @Test
+  public void throttlingPastTheBackoffFailsTheBatch() {
+    when(client.tagResource(any(TagResourceRequest.class)))
+        .thenThrow(ThrottlingException.builder().message("Slow down").build());
+
+    var applying = batcher(50, 1).applyAsync(ARN, tags(3), Set.of(), proxyClient, LOGGER);
+
+    assertThatThrownBy(applying::join).isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(ThrottlingException.class);
+    verify(client, times(4)).tagResource(any(TagResourceRequest.class));
+    assertThat(sleeps).containsExactly(1_000L, 1_000L, 1_000L);
+  }
+
+  @Test
+  public void failureStopsFurtherChunks() {
+    when(client.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(TagResourceResponse.builder().build())
+        .thenThrow(AccessDeniedException.builder().message("no, you cannot").build());
+
+    var applying = batcher(1, 1).applyAsync(ARN, tags(5), Set.of(), proxyClient, LOGGER);
+
+    assertThatThrownBy(applying::join).hasCauseInstanceOf(AccessDeniedException.class);
+    verify(client, times(2)).tagResource(any(TagResourceRequest.class));
+  }
+
+  @Test
+  public void chunkSizeIsLimitedToWhatTheServiceAccepts() {
+    assertThatThrownBy(() -> batcher(TagBatcher.MAX_CHUNK_SIZE + 1, 1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> batcher(10, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private TagBatcher batcher(int chunkSize, int parallelism) {
+    return new TagBatcher(
+        chunkSize,
+        parallelism,
+        Constant.of().timeout(Duration.ofSeconds(3)).delay(Duration.ofSeconds(1)).build(),
+        Executors.newCachedThreadPool(),
+        sleeps::add
+    );
+  }
+
+  private static Map<String, String> tags(int count) {
+    return IntStream.range(0, count).boxed().collect(Collectors.toMap("key%d"::formatted, "value%d"::formatted));
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -14,6 +15,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.AfterEach;
@@ -26,13 +29,17 @@ import org.mockito.MockitoAnnotations;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.TagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.UntagResourceResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -50,6 +57,13 @@ class TagUtilsTest {
   private static class VoidCallBack extends StdCallbackContext {
   }
 
+  @Getter
+  @Setter
+  private static class WrittenTagsCallBack extends StdCallbackContext implements WrittenTags.State {
+    private Map<String, String> writtenTags;
+    private Long tagsWrittenAt;
+  }
+
   @Data
   @Builder
   @AllArgsConstructor
@@ -431,6 +445,136 @@ class TagUtilsTest {
     assertThat(result.getMessage()).isEqualTo("no, you cannot");
   }
 
+  @Test
+  void testTagUpdateStartedDuringStabilizationIsJoinedBeforeContinuing() throws Exception {
+    testHandlerRequest = testHandlerRequest.toBuilder()
+        .previousResourceState(TestResourceModel.builder().tags(List.of(
+            Tag.builder().key("tagA").value("valueA").build(),
+            Tag.builder().key("tagB").value("valueB").build()
+        )).build())
+        .desiredResourceState(TestResourceModel.builder().tags(List.of(
+            Tag.builder().key("tagA").value("newValue").build()
+        )).build())
+        .desiredResourceTags(null)
+        .systemTags(null)
+        .build();
+    var tagging = new CountDownLatch(1);
+    var untagging = new CountDownLatch(1);
+    when(mockQClient.tagResource(any(TagResourceRequest.class))).thenAnswer(invocation -> {
+      tagging.countDown();
+      // Only returns once untag is running too, so this would hang if the calls ran one after the other
+      assertThat(untagging.await(5, TimeUnit.SECONDS)).isTrue();
+      return TagResourceResponse.builder().build();
+    });
+    when(mockQClient.untagResource(any(UntagResourceRequest.class))).thenAnswer(invocation -> {
+      untagging.countDown();
+      assertThat(tagging.await(5, TimeUnit.SECONDS)).isTrue();
+      return UntagResourceResponse.builder().build();
+    });
+
+    var tagUpdate = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger);
+    tagUpdate.start("thearn");
+    var stabilized = ProgressEvent.<TestResourceModel, VoidCallBack>progress(resourceModel, new VoidCallBack());
+
+    var result = tagUpdate.join(stabilized, model -> "otherarn");
+
+    assertThat(result).isSameAs(stabilized);
+    var tagRequestCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+    verify(mockQClient).tagResource(tagRequestCaptor.capture());
+    assertThat(tagRequestCaptor.getValue().resourceARN()).isEqualTo("thearn");
+    assertThat(tagRequestCaptor.getValue().tags()).containsExactly(qTag("tagA", "newValue"));
+
+    var untagRequestCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+    verify(mockQClient).untagResource(untagRequestCaptor.capture());
+    assertThat(untagRequestCaptor.getValue().resourceARN()).isEqualTo("thearn");
+    assertThat(untagRequestCaptor.getValue().tagKeys()).containsExactly("tagB");
+  }
+
+  @Test
+  void testTagUpdateIsLeftForTheNextInvocationWhileStabilizationIsHandedOff() {
+    testHandlerRequest = testHandlerRequest.toBuilder()
+        .previousResourceState(TestResourceModel.builder().build())
+        .previousResourceTags(desiredResourceTags)
+        .previousSystemTags(desiredSysTags)
+        .build();
+    var handedOff = ProgressEvent.<TestResourceModel, VoidCallBack>defaultInProgressHandler(new VoidCallBack(), 60, resourceModel);
+
+    var tagUpdate = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger);
+    var result = tagUpdate.join(handedOff, model -> "thearn");
+
+    assertThat(tagUpdate.hasChanges()).isTrue();
+    assertThat(result).isSameAs(handedOff);
+  }
+
+  @Test
+  void testTagUpdateFailureIsMappedThroughErrorUtils() {
+    testHandlerRequest = testHandlerRequest.toBuilder()
+        .previousResourceState(TestResourceModel.builder().build())
+        .previousResourceTags(desiredResourceTags)
+        .previousSystemTags(desiredSysTags)
+        .build();
+    when(mockQClient.tagResource(any(TagResourceRequest.class))).thenThrow(
+        AccessDeniedException.builder().message("no, you cannot").build()
+    );
+
+    var tagUpdate = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger);
+    var result = tagUpdate.join(
+        ProgressEvent.<TestResourceModel, VoidCallBack>progress(resourceModel, new VoidCallBack()), model -> "thearn"
+    );
+
+    verify(mockQClient).tagResource(any(TagResourceRequest.class));
+    assertThat(result.isFailed()).isTrue();
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+  }
+
+  @Test
+  void testTagsAreRecordedOnlyOnceTheTagCallsSucceed() {
+    testHandlerRequest = testHandlerRequest.toBuilder()
+        .previousResourceState(TestResourceModel.builder().build())
+        .previousResourceTags(desiredResourceTags)
+        .previousSystemTags(desiredSysTags)
+        .build();
+    when(mockQClient.tagResource(any(TagResourceRequest.class)))
+        .thenThrow(AccessDeniedException.builder().message("no, you cannot").build())
+        .thenReturn(TagResourceResponse.builder().build());
+
+    var failedContext = new WrittenTagsCallBack();
+    var failed = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger)
+        .join(ProgressEvent.progress(resourceModel, failedContext), model -> "thearn");
+
+    assertThat(failed.isFailed()).isTrue();
+    assertThat(failedContext.getWrittenTags()).isNull();
+
+    var context = new WrittenTagsCallBack();
+    var succeeded = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger)
+        .join(ProgressEvent.progress(resourceModel, context), model -> "thearn");
+
+    assertThat(succeeded.canContinueProgress()).isTrue();
+    assertThat(context.getWrittenTags()).containsOnly(
+        Map.entry("tagA", "valueA"),
+        Map.entry("stackTagA", "stackValueB"),
+        Map.entry("aws:cloudformation:stack-id", "superstack")
+    );
+    verify(mockQClient, times(2)).tagResource(any(TagResourceRequest.class));
+  }
+
+  @Test
+  void testUpdateWithoutTagChangesLeavesTheReadToListTags() {
+    testHandlerRequest = testHandlerRequest.toBuilder()
+        .previousResourceState(resourceModel)
+        .previousResourceTags(desiredResourceTags)
+        .previousSystemTags(desiredSysTags)
+        .build();
+    var context = new WrittenTagsCallBack();
+
+    var tagUpdate = TagUtils.tagUpdate("MyType", testHandlerRequest, proxyClient, mockLogger);
+    tagUpdate.join(ProgressEvent.progress(resourceModel, context), model -> "thearn");
+
+    assertThat(tagUpdate.hasChanges()).isFalse();
+    assertThat(context.getWrittenTags()).isNull();
+    assertThat(WrittenTags.listTagsResponse(context)).isEmpty();
+  }
+
   private software.amazon.awssdk.services.qbusiness.model.Tag qTag(String key, String val) {
     return software.amazon.awssdk.services.qbusiness.model.Tag.builder()
         .key(key)
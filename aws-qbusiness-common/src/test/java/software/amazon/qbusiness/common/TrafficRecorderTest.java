@@ -0,0 +1,135 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+
+public class TrafficRecorderTest {
+  @TempDir
+  Path directory;
+
+  @Test
+  public void callsAreRecordedWithTheirResponseOrError() throws IOException {
+    var file = directory.resolve("traffic.jsonl.gz");
+    var recorder = new TrafficRecorder(file);
+
+    var succeeded = attributes("GetIndex");
+    recorder.beforeExecution(null, succeeded);
+    recorder.beforeTransmission(null, succeeded);
+    recorder.beforeTransmission(null, succeeded);
+    var afterExecution = mock(Context.AfterExecution.class);
+    when(afterExecution.request()).thenReturn(GetIndexRequest.builder().applicationId("application").build());
+    when(afterExecution.response()).thenReturn(GetIndexResponse.builder().status(IndexStatus.ACTIVE).build());
+    recorder.afterExecution(afterExecution, succeeded);
+
+    var conflicted = attributes("CreateIndex");
+    recorder.beforeExecution(null, conflicted);
+    recorder.beforeTransmission(null, conflicted);
+    recorder.onExecutionFailure(failure(ConflictException.builder()
+        .statusCode(409)
+        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ConflictException").errorMessage("busy").build())
+        .build()), conflicted);
+
+    var unreachable = attributes("GetIndex");
+    recorder.beforeExecution(null, unreachable);
+    recorder.onExecutionFailure(failure(SdkClientException.create("connect timed out")), unreachable);
+
+    var exchanges = TrafficRecording.read(file);
+
+    assertThat(exchanges).extracting(TrafficRecording.Exchange::operation)
+        .containsExactly("GetIndex", "CreateIndex", "GetIndex");
+    assertThat(exchanges).extracting(TrafficRecording.Exchange::attempts).containsExactly(2, 1, 1);
+    assertThat(exchanges.get(0).request().path("applicationId").asText()).isEqualTo("application");
+    assertThat(exchanges.get(0).response().path("status").asText()).isEqualTo("ACTIVE");
+    assertThat(exchanges.get(1).error()).isEqualTo(new TrafficRecording.Error(409, "ConflictException", "busy"));
+    assertThat(exchanges.get(2).error())
+        .isEqualTo(new TrafficRecording.Error(0, SdkClientException.class.getName(), "connect timed out"));
+  }
+
+  @Test
+  public void configurationsAndArnsAreRedacted() throws IOException {
+    var file = directory.resolve("traffic.jsonl.gz");
+    var recorder = new TrafficRecorder(file);
+
+    var created = attributes("CreateDataSource");
+    recorder.beforeExecution(null, created);
+    var afterExecution = mock(Context.AfterExecution.class);
+    when(afterExecution.request()).thenReturn(CreateDataSourceRequest.builder()
+        .applicationId("application")
+        .displayName("Role arn:aws:iam::123456789012:role/sync syncs it")
+        .roleArn("arn:aws:iam::123456789012:role/sync")
+        .configuration(Document.mapBuilder().putString("connectionString", "secret").build())
+        .build());
+    when(afterExecution.response()).thenReturn(CreateDataSourceResponse.builder()
+        .dataSourceId("data-source")
+        .dataSourceArn("arn:aws:qbusiness:us-east-1:123456789012:application/application/index/index/data-source/ds")
+        .build());
+    recorder.afterExecution(afterExecution, created);
+
+    var denied = attributes("CreateDataSource");
+    recorder.beforeExecution(null, denied);
+    recorder.onExecutionFailure(failure(AccessDeniedException.builder()
+        .statusCode(403)
+        .awsErrorDetails(AwsErrorDetails.builder().errorCode("AccessDeniedException")
+            .errorMessage("arn:aws:sts::123456789012:assumed-role/deployer/session is not authorized").build())
+        .build()), denied);
+
+    var exchanges = TrafficRecording.read(file);
+
+    var request = exchanges.get(0).request();
+    assertThat(request.path("applicationId").asText()).isEqualTo("application");
+    assertThat(request.path("displayName").asText()).isEqualTo("Role REDACTED syncs it");
+    assertThat(request.path("roleArn").asText()).isEqualTo("REDACTED");
+    assertThat(request.path("configuration").isEmpty()).isTrue();
+    assertThat(exchanges.get(0).response().path("dataSourceId").asText()).isEqualTo("data-source");
+    assertThat(exchanges.get(0).response().path("dataSourceArn").asText()).isEqualTo("REDACTED");
+    assertThat(exchanges.get(1).error().message()).isEqualTo("REDACTED is not authorized");
+  }
+
+  @Test
+  public void anUnwritableFileDoesNotFailTheCall() {
+    var recorder = new TrafficRecorder(directory.resolve("missing").resolve("traffic.jsonl.gz"));
+    var attributes = attributes("GetIndex");
+    recorder.beforeExecution(null, attributes);
+    var afterExecution = mock(Context.AfterExecution.class);
+    when(afterExecution.request()).thenReturn(GetIndexRequest.builder().build());
+    when(afterExecution.response()).thenReturn(GetIndexResponse.builder().build());
+
+    recorder.afterExecution(afterExecution, attributes);
+    recorder.afterExecution(afterExecution, attributes);
+  }
+
+  private static Context.FailedExecution failure(Throwable exception) {
+    var failedExecution = mock(Context.FailedExecution.class);
+    when(failedExecution.request()).thenReturn(CreateIndexRequest.builder().applicationId("application").build());
+    when(failedExecution.exception()).thenReturn(exception);
+    return failedExecution;
+  }
+
+  private static ExecutionAttributes attributes(String operation) {
+    var attributes = new ExecutionAttributes();
+    attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operation);
+    return attributes;
+  }
+}
@@ -0,0 +1,51 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TrafficRecordingTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  public void appendedExchangesAreReadBackInOrder() throws IOException {
+    var file = directory.resolve("traffic.jsonl.gz");
+    var created = exchange("CreateIndex", null);
+    var failed = exchange("GetIndex", new TrafficRecording.Error(404, "ResourceNotFoundException", "gone"));
+
+    TrafficRecording.append(file, created);
+    TrafficRecording.append(file, failed);
+
+    assertThat(TrafficRecording.read(file)).containsExactly(created, failed);
+  }
+
+  @Test
+  public void aTruncatedLastExchangeIsIgnored() throws IOException {
+    var file = directory.resolve("traffic.jsonl.gz");
+    var first = exchange("CreateIndex", null);
+    TrafficRecording.append(file, first);
+    var complete = Files.size(file);
+    TrafficRecording.append(file, exchange("GetIndex", null));
+
+    var bytes = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(bytes, (int) (complete + (bytes.length - complete) / 2)));
+
+    assertThat(TrafficRecording.read(file)).containsExactly(first);
+  }
+
+  private static TrafficRecording.Exchange exchange(String operation, TrafficRecording.Error error) {
+    var request = MAPPER.createObjectNode().put("applicationId", "application");
+    var response = error == null ? MAPPER.createObjectNode().put("indexId", "index") : null;
+    return new TrafficRecording.Exchange(operation, 1_700_000_000_000L, 12_345, 2, request, response, error);
+  }
+}
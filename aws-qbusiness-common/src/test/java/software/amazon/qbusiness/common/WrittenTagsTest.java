@@ -0,0 +1,64 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+
+public class WrittenTagsTest {
+  private static final long WRITTEN_AT = Instant.parse("2024-05-01T10:00:00Z").toEpochMilli();
+
+  private Context context;
+
+  @BeforeEach
+  public void setup() {
+    context = new Context();
+  }
+
+  @Test
+  public void freshRecordIsReturnedAsAListing() {
+    WrittenTags.record(context, Map.of("b", "2", "a", "1"), () -> WRITTEN_AT);
+
+    var listing = WrittenTags.listTagsResponse(context, () -> WRITTEN_AT + 1_000);
+
+    assertThat(listing).hasValueSatisfying(response -> assertThat(response.tags()).containsExactly(
+        Tag.builder().key("a").value("1").build(),
+        Tag.builder().key("b").value("2").build()
+    ));
+  }
+
+  @Test
+  public void emptyTagSetIsStillAnAnswer() {
+    WrittenTags.record(context, Map.of(), () -> WRITTEN_AT);
+
+    assertThat(WrittenTags.listTagsResponse(context, () -> WRITTEN_AT)).hasValueSatisfying(
+        response -> assertThat(response.tags()).isEmpty()
+    );
+  }
+
+  @Test
+  public void staleOrMissingRecordNeedsALiveListing() {
+    assertThat(WrittenTags.listTagsResponse(context, () -> WRITTEN_AT)).isEmpty();
+    assertThat(WrittenTags.listTagsResponse(null, () -> WRITTEN_AT)).isEmpty();
+
+    WrittenTags.record(context, Map.of("a", "1"), () -> WRITTEN_AT);
+    var stale = WRITTEN_AT + WrittenTags.FRESH_FOR.toMillis() + 1;
+
+    assertThat(WrittenTags.listTagsResponse(context, () -> stale)).isEmpty();
+  }
+
+  @Getter
+  @Setter
+  private static final class Context extends StdCallbackContext implements WrittenTags.State {
+    private Map<String, String> writtenTags;
+    private Long tagsWrittenAt;
+  }
+}
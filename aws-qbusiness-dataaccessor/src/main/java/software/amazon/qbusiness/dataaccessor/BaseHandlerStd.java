@@ -6,25 +6,39 @@ import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.HandlerProfiling;
+import software.amazon.qbusiness.common.RetryBudget;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    HandlerPriming.register();
+  }
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    HandlerProfiling.startRecording(logger);
+    var retryUsage = RetryBudget.startInvocation();
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      HandlerProfiling.dumpRecording(logger);
+      RetryBudget.emitInvocationMetrics(logger, ResourceModel.TYPE_NAME, retryUsage);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,6 +48,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<QBusinessClient> proxyClient,
     final Logger logger);
 
+  /**
+   * Starts a call chain like {@code proxy.initiate}, timed step by step when {@link HandlerProfiling} is enabled.
+   */
+  protected CallChain.RequestMaker<QBusinessClient, ResourceModel, CallbackContext> initiate(
+    final AmazonWebServicesClientProxy proxy,
+    final String callGraph,
+    final ProxyClient<QBusinessClient> proxyClient,
+    final ResourceModel model,
+    final CallbackContext callbackContext) {
+    return HandlerProfiling.profile(callGraph, proxy.initiate(callGraph, proxyClient, model, callbackContext));
+  }
+
 
   protected GetDataAccessorResponse callGetDataAccessor(GetDataAccessorRequest request, ProxyClient<QBusinessClient> proxyClient) {
     var client = proxyClient.client();
@@ -1,10 +1,20 @@
 package software.amazon.qbusiness.dataaccessor;
 
+import java.util.Map;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.WrittenTags;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements CreateResumption.State, WrittenTags.State {
+  private String createdId;
+  private String createPhase;
+  private int createPollCount;
+  private Long createStartedAt;
+  private Map<String, String> writtenTags;
+  private Long tagsWrittenAt;
 }
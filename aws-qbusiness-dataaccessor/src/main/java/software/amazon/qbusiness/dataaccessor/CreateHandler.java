@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.CreateResumption;
 
 public class CreateHandler extends BaseHandlerStd {
   private Logger logger;
@@ -31,13 +32,15 @@ public class CreateHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataAccessor::Create", proxyClient,
+            initiate(proxy, "AWS-QBusiness-DataAccessor::Create", proxyClient,
                     progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
-                .makeServiceCall((awsRequest, client) -> callCreateDataAccessor(awsRequest, client,
-                    progress.getResourceModel()))
-                .handleError((createDataAccessorRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATA_ACCESSOR
+                .makeServiceCall((awsRequest, client) -> createOrResume(awsRequest, client,
+                    progress.getResourceModel(), progress.getCallbackContext()))
+                .handleError((createDataAccessorRequest, error, client, model, context) -> CreateResumption.handleCreateError(
+                    error, model, context, logger, () -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATA_ACCESSOR
+                    )
                 ))
                 .progress()
         )
@@ -45,6 +48,23 @@ public class CreateHandler extends BaseHandlerStd {
             proxyClient, logger));
   }
 
+  private CreateDataAccessorResponse createOrResume(
+      CreateDataAccessorRequest request,
+      ProxyClient<QBusinessClient> proxyClient,
+      ResourceModel model,
+      CallbackContext context) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setDataAccessorId(createdId);
+      return CreateDataAccessorResponse.builder().dataAccessorId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateDataAccessor(request, proxyClient, model);
+    CreateResumption.created(context, response.dataAccessorId());
+    return response;
+  }
+
   private CreateDataAccessorResponse callCreateDataAccessor(
       CreateDataAccessorRequest request,
       ProxyClient<QBusinessClient> proxyClient,
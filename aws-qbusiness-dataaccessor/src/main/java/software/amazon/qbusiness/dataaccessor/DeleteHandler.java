@@ -30,7 +30,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataAccessor::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-DataAccessor::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .makeServiceCall(this::callDeleteDataAccessor)
                 .handleError((awsRequest, error, clientProxyClient, model, context) -> handleError(
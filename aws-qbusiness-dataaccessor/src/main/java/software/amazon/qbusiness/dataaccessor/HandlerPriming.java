@@ -0,0 +1,98 @@
+package software.amazon.qbusiness.dataaccessor;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+
+import software.amazon.awssdk.services.qbusiness.model.DataAccessor;
+import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListDataAccessorsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.qbusiness.common.Priming;
+import software.amazon.qbusiness.dataaccessor.converter.ActionConfigurationConverter;
+
+/**
+ * Canned create/read/update/list round trips through the DataAccessor translator and action configuration converter,
+ * run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String DATA_ACCESSOR_ID = "00000000-0000-0000-0000-000000000001";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var equalsTo = AttributeFilter.builder()
+        .equalsTo(DocumentAttribute.builder()
+            .name("_category")
+            .value(DocumentAttributeValue.builder().stringValue("priming").build())
+            .build())
+        .build();
+    var containsAny = AttributeFilter.builder()
+        .containsAny(DocumentAttribute.builder()
+            .name("_authors")
+            .value(DocumentAttributeValue.builder().stringListValue(List.of("priming")).build())
+            .build())
+        .build();
+    var filter = AttributeFilter.builder()
+        .andAllFilters(List.of(
+            equalsTo,
+            AttributeFilter.builder().orAllFilters(List.of(containsAny, equalsTo)).build(),
+            AttributeFilter.builder().notFilter(containsAny).build()
+        ))
+        .build();
+
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .dataAccessorId(DATA_ACCESSOR_ID)
+        .displayName("priming")
+        .principal("arn:aws:iam::123456789012:role/priming")
+        .actionConfigurations(List.of(ActionConfiguration.builder()
+            .action("qbusiness:SearchRelevantContent")
+            .filterConfiguration(ActionFilterConfiguration.builder().documentAttributeFilter(filter).build())
+            .build()))
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListRequest(model, null);
+
+    var getResponse = GetDataAccessorResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .dataAccessorId(DATA_ACCESSOR_ID)
+        .dataAccessorArn(Utils.buildDataAccessorArn(request, model))
+        .displayName(model.getDisplayName())
+        .principal(model.getPrincipal())
+        .actionConfigurations(ActionConfigurationConverter.toServiceActionConfigurations(model.getActionConfigurations()))
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateToListTagsRequest(request, readModel);
+    Translator.translateFromListResponse(ListDataAccessorsResponse.builder()
+        .dataAccessors(DataAccessor.builder().dataAccessorId(DATA_ACCESSOR_ID).createdAt(Instant.EPOCH).build())
+        .build(), APPLICATION_ID);
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 public class ReadHandler extends BaseHandlerStd {
 
@@ -32,7 +33,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-QBusiness-DataAccessor::Read", proxyClient,
+                initiate(proxy, "AWS-QBusiness-DataAccessor::Read", proxyClient,
                         request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(Translator::translateToReadRequest)
                     .makeServiceCall(this::callGetDataAccessor)
@@ -42,8 +43,14 @@ public class ReadHandler extends BaseHandlerStd {
                     .done(serviceResponse -> ProgressEvent.progress(
                         Translator.translateFromReadResponse(serviceResponse), callbackContext))
             )
+            // An update that just wrote the tags already knows them
+            .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+                .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                    Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+                ))
+                .orElse(progress))
             .then(progress ->
-                proxy.initiate("AWS-QBusiness-DataAccessor::ListTags",
+                initiate(proxy, "AWS-QBusiness-DataAccessor::ListTags",
                         proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext()
                     )
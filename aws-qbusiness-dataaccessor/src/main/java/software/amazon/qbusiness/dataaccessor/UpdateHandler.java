@@ -34,7 +34,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataAccessor::Update", proxyClient,
+            initiate(proxy, "AWS-QBusiness-DataAccessor::Update", proxyClient,
                     progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 .makeServiceCall(this::callUpdateDataAccessor)
@@ -0,0 +1,352 @@
+package software.amazon.qbusiness.dataaccessor.converter;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+
+/**
+ * Converts {@link AttributeFilter} trees between the resource model and the service model without recursion.
+ * <p>
+ * Generated ACL filters nest {@code NotFilter}, {@code AndAllFilters} and {@code OrAllFilters} thousands of levels
+ * deep, so nodes are converted children first from an explicit stack instead of the call stack. Identical subtrees are
+ * converted once: a node whose leaf attributes match an already converted node, and whose children are the very same
+ * converted instances, reuses that node (hash-consing). A source node reached twice through shared references is
+ * likewise converted once. Converted trees may therefore share subtrees, which is safe as long as they are not
+ * mutated.
+ */
+public final class AttributeFilterConverter {
+  private static final int ABSENT = -1;
+
+  private static final Shape<AttributeFilter, software.amazon.awssdk.services.qbusiness.model.AttributeFilter> TO_SERVICE =
+      new Shape<>() {
+        @Override
+        public AttributeFilter notFilter(AttributeFilter filter) {
+          return filter.getNotFilter();
+        }
+
+        @Override
+        public List<AttributeFilter> andAllFilters(AttributeFilter filter) {
+          return filter.getAndAllFilters();
+        }
+
+        @Override
+        public List<AttributeFilter> orAllFilters(AttributeFilter filter) {
+          return filter.getOrAllFilters();
+        }
+
+        @Override
+        public Object[] leaves(AttributeFilter filter) {
+          return new Object[] {
+              filter.getContainsAll(), filter.getContainsAny(), filter.getEqualsTo(), filter.getGreaterThan(),
+              filter.getGreaterThanOrEquals(), filter.getLessThan(), filter.getLessThanOrEquals()
+          };
+        }
+
+        @Override
+        public software.amazon.awssdk.services.qbusiness.model.AttributeFilter build(
+            AttributeFilter filter,
+            software.amazon.awssdk.services.qbusiness.model.AttributeFilter notFilter,
+            List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> andAllFilters,
+            List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> orAllFilters) {
+          return software.amazon.awssdk.services.qbusiness.model.AttributeFilter.builder()
+              .notFilter(notFilter)
+              .andAllFilters(andAllFilters)
+              .orAllFilters(orAllFilters)
+              .containsAll(toServiceDocumentAttribute(filter.getContainsAll()))
+              .containsAny(toServiceDocumentAttribute(filter.getContainsAny()))
+              .equalsTo(toServiceDocumentAttribute(filter.getEqualsTo()))
+              .greaterThan(toServiceDocumentAttribute(filter.getGreaterThan()))
+              .greaterThanOrEquals(toServiceDocumentAttribute(filter.getGreaterThanOrEquals()))
+              .lessThan(toServiceDocumentAttribute(filter.getLessThan()))
+              .lessThanOrEquals(toServiceDocumentAttribute(filter.getLessThanOrEquals()))
+              .build();
+        }
+      };
+
+  private static final Shape<software.amazon.awssdk.services.qbusiness.model.AttributeFilter, AttributeFilter> FROM_SERVICE =
+      new Shape<>() {
+        @Override
+        public software.amazon.awssdk.services.qbusiness.model.AttributeFilter notFilter(
+            software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+          return filter.notFilter();
+        }
+
+        @Override
+        public List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> andAllFilters(
+            software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+          // The model leaves an empty list out
+          return filter.andAllFilters() == null || filter.andAllFilters().isEmpty() ? null : filter.andAllFilters();
+        }
+
+        @Override
+        public List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> orAllFilters(
+            software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+          return filter.orAllFilters() == null || filter.orAllFilters().isEmpty() ? null : filter.orAllFilters();
+        }
+
+        @Override
+        public Object[] leaves(software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+          return new Object[] {
+              filter.containsAll(), filter.containsAny(), filter.equalsTo(), filter.greaterThan(),
+              filter.greaterThanOrEquals(), filter.lessThan(), filter.lessThanOrEquals()
+          };
+        }
+
+        @Override
+        public AttributeFilter build(
+            software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter,
+            AttributeFilter notFilter,
+            List<AttributeFilter> andAllFilters,
+            List<AttributeFilter> orAllFilters) {
+          return AttributeFilter.builder()
+              .notFilter(notFilter)
+              .andAllFilters(andAllFilters)
+              .orAllFilters(orAllFilters)
+              .containsAll(fromServiceDocumentAttribute(filter.containsAll()))
+              .containsAny(fromServiceDocumentAttribute(filter.containsAny()))
+              .equalsTo(fromServiceDocumentAttribute(filter.equalsTo()))
+              .greaterThan(fromServiceDocumentAttribute(filter.greaterThan()))
+              .greaterThanOrEquals(fromServiceDocumentAttribute(filter.greaterThanOrEquals()))
+              .lessThan(fromServiceDocumentAttribute(filter.lessThan()))
+              .lessThanOrEquals(fromServiceDocumentAttribute(filter.lessThanOrEquals()))
+              .build();
+        }
+      };
+
+  private AttributeFilterConverter() {
+  }
+
+  public static software.amazon.awssdk.services.qbusiness.model.AttributeFilter toServiceAttributeFilter(
+      final AttributeFilter filter) {
+    return convert(filter, TO_SERVICE);
+  }
+
+  public static AttributeFilter fromServiceAttributeFilter(
+      final software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+    return convert(filter, FROM_SERVICE);
+  }
+
+  private static <S, T> T convert(final S root, final Shape<S, T> shape) {
+    if (root == null) {
+      return null;
+    }
+
+    final Map<S, T> converted = new IdentityHashMap<>();
+    final Map<T, Integer> ids = new IdentityHashMap<>();
+    final Map<NodeKey, T> canonical = new HashMap<>();
+    final ArrayDeque<S> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      final S node = pending.peek();
+      if (converted.containsKey(node)) {
+        pending.pop();
+        continue;
+      }
+
+      // Children first; the node is built once it comes back to the top with all of them converted
+      final int pendingBefore = pending.size();
+      pushUnconverted(shape.notFilter(node), converted, pending);
+      pushUnconverted(shape.andAllFilters(node), converted, pending);
+      pushUnconverted(shape.orAllFilters(node), converted, pending);
+      if (pending.size() != pendingBefore) {
+        continue;
+      }
+
+      pending.pop();
+      final T notFilter = converted.get(shape.notFilter(node));
+      final List<T> andAllFilters = convertedList(shape.andAllFilters(node), converted);
+      final List<T> orAllFilters = convertedList(shape.orAllFilters(node), converted);
+      final NodeKey key = NodeKey.of(shape.leaves(node), notFilter, andAllFilters, orAllFilters, ids);
+      final T result = canonical.computeIfAbsent(key, k -> shape.build(node, notFilter, andAllFilters, orAllFilters));
+      ids.putIfAbsent(result, ids.size());
+      converted.put(node, result);
+    }
+    return converted.get(root);
+  }
+
+  private static <S, T> void pushUnconverted(final S child, final Map<S, T> converted, final ArrayDeque<S> pending) {
+    if (child != null && !converted.containsKey(child)) {
+      pending.push(child);
+    }
+  }
+
+  private static <S, T> void pushUnconverted(final List<S> children, final Map<S, T> converted, final ArrayDeque<S> pending) {
+    if (children == null) {
+      return;
+    }
+    for (S child : children) {
+      pushUnconverted(child, converted, pending);
+    }
+  }
+
+  private static <S, T> List<T> convertedList(final List<S> children, final Map<S, T> converted) {
+    if (children == null) {
+      return null;
+    }
+    final List<T> list = new ArrayList<>(children.size());
+    for (S child : children) {
+      list.add(child == null ? null : converted.get(child));
+    }
+    return list;
+  }
+
+  static software.amazon.awssdk.services.qbusiness.model.DocumentAttribute toServiceDocumentAttribute(
+      final DocumentAttribute attribute) {
+    if (attribute == null) {
+      return null;
+    }
+
+    return software.amazon.awssdk.services.qbusiness.model.DocumentAttribute.builder()
+        .name(attribute.getName())
+        .value(toServiceDocumentAttributeValue(attribute.getValue()))
+        .build();
+  }
+
+  private static software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue toServiceDocumentAttributeValue(
+      final DocumentAttributeValue attributeValue) {
+    if (attributeValue == null) {
+      return null;
+    }
+
+    software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue.Builder builder = software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue.builder()
+        .stringValue(attributeValue.getStringValue())
+        .stringListValue(attributeValue.getStringListValue());
+
+    String dateValue = attributeValue.getDateValue();
+    if (dateValue != null) {
+      builder.dateValue(Instant.parse(dateValue));
+    }
+
+    Double longValue = attributeValue.getLongValue();
+    if (longValue != null) {
+      builder.longValue(longValue.longValue());
+    }
+    return builder.build();
+  }
+
+  static DocumentAttribute fromServiceDocumentAttribute(
+      final software.amazon.awssdk.services.qbusiness.model.DocumentAttribute attribute) {
+    if (attribute == null) {
+      return null;
+    }
+
+    return DocumentAttribute.builder()
+        .name(attribute.name())
+        .value(fromServiceDocumentAttributeValue(attribute.value()))
+        .build();
+  }
+
+  private static DocumentAttributeValue fromServiceDocumentAttributeValue(
+      final software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue attributeValue) {
+    if (attributeValue == null) {
+      return null;
+    }
+
+    DocumentAttributeValue.DocumentAttributeValueBuilder builder = DocumentAttributeValue.builder();
+
+    if (attributeValue.stringValue() != null) {
+      builder.stringValue(attributeValue.stringValue());
+    }
+
+    if (attributeValue.stringListValue() != null && !attributeValue.stringListValue().isEmpty()) {
+      builder.stringListValue(attributeValue.stringListValue());
+    }
+
+    if (attributeValue.dateValue() != null) {
+      builder.dateValue(attributeValue.dateValue().toString());
+    }
+
+    if (attributeValue.longValue() != null) {
+      builder.longValue(Double.valueOf(attributeValue.longValue()));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * How to walk a filter tree of type {@code S} and build a node of the converted tree {@code T}.
+   */
+  private interface Shape<S, T> {
+    S notFilter(S filter);
+
+    /**
+     * The filters to convert into {@code AndAllFilters}, or {@code null} when it is left out.
+     */
+    List<S> andAllFilters(S filter);
+
+    /**
+     * The filters to convert into {@code OrAllFilters}, or {@code null} when it is left out.
+     */
+    List<S> orAllFilters(S filter);
+
+    /**
+     * The attributes the node compares against, which together with its children identify the node.
+     */
+    Object[] leaves(S filter);
+
+    T build(S filter, T notFilter, List<T> andAllFilters, List<T> orAllFilters);
+  }
+
+  /**
+   * A converted node: its leaf attributes and the ids of its converted children. Children are canonical instances,
+   * so comparing their ids compares the subtrees without walking them.
+   */
+  private record NodeKey(Object[] leaves, int[] children) {
+    static <T> NodeKey of(
+        final Object[] leaves,
+        final T notFilter,
+        final List<T> andAllFilters,
+        final List<T> orAllFilters,
+        final Map<T, Integer> ids) {
+      final int[] children = new int[3 + size(andAllFilters) + size(orAllFilters)];
+      int next = 0;
+      children[next++] = id(notFilter, ids);
+      next = putIds(andAllFilters, children, next, ids);
+      putIds(orAllFilters, children, next, ids);
+      return new NodeKey(leaves, children);
+    }
+
+    private static <T> int putIds(final List<T> filters, final int[] children, final int start, final Map<T, Integer> ids) {
+      int next = start;
+      // The count keeps [a] [b] apart from [a, b] [] and a left out list apart from an empty one
+      children[next++] = filters == null ? ABSENT : filters.size();
+      if (filters != null) {
+        for (T filter : filters) {
+          children[next++] = id(filter, ids);
+        }
+      }
+      return next;
+    }
+
+    private static int size(final List<?> filters) {
+      return filters == null ? 0 : filters.size();
+    }
+
+    private static <T> int id(final T filter, final Map<T, Integer> ids) {
+      return filter == null ? ABSENT : ids.get(filter);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof NodeKey key && Arrays.equals(children, key.children) && Arrays.equals(leaves, key.leaves);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * Arrays.hashCode(children) + Arrays.hashCode(leaves);
+    }
+
+    @Override
+    public String toString() {
+      return "NodeKey" + Arrays.toString(children);
+    }
+  }
+}
@@ -3,6 +3,8 @@ package software.amazon.qbusiness.dataaccessor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
@@ -15,13 +17,18 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DataAccessor;
+import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListDataAccessorsRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListDataAccessorsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 @ExtendWith(MockitoExtension.class)
 public class ListHandlerTest extends AbstractTestBase{
@@ -88,4 +95,50 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_WithDetails() {
+        handler = new ListHandler(ListDetails.of(2, 1000));
+        List<String> ids = List.of("first", "second", "third");
+        when(qBusinessClient.listDataAccessors(any(ListDataAccessorsRequest.class)))
+            .thenReturn(ListDataAccessorsResponse.builder()
+                .dataAccessors(ids.stream()
+                    .map(id -> DataAccessor.builder()
+                        .dataAccessorId(id)
+                        .build()
+                    )
+                    .toList())
+                .build()
+            );
+        when(qBusinessClient.getDataAccessor(any(GetDataAccessorRequest.class)))
+            .thenAnswer(invocation -> {
+                GetDataAccessorRequest getRequest = invocation.getArgument(0);
+                return GetDataAccessorResponse.builder()
+                    .applicationId(APP_ID)
+                    .dataAccessorId(getRequest.dataAccessorId())
+                    .displayName("Data accessor " + getRequest.dataAccessorId())
+                    .build();
+            });
+        when(qBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder()
+                .tags(tag -> tag.key("team").value("search"))
+                .build()
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> resultProgress = handler.handleRequest(
+            proxy, testRequest, new CallbackContext(), proxyClient, logger
+        );
+
+        // every summary is replaced by its Read model, in page order
+        assertThat(resultProgress.isSuccess()).isTrue();
+        var models = resultProgress.getResourceModels();
+        assertThat(models).extracting(ResourceModel::getDataAccessorId).containsExactlyElementsOf(ids);
+        assertThat(models).extracting(ResourceModel::getDisplayName)
+            .containsExactly("Data accessor first", "Data accessor second", "Data accessor third");
+        assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+        verify(qBusinessClient).listDataAccessors(any(ListDataAccessorsRequest.class));
+        verify(qBusinessClient, times(3)).getDataAccessor(any(GetDataAccessorRequest.class));
+        verify(qBusinessClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
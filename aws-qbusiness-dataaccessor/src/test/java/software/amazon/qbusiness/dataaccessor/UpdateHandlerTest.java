@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -22,7 +23,6 @@ import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
@@ -119,9 +119,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().updateDataAccessor(any(UpdateDataAccessorRequest.class)))
             .thenReturn(UpdateDataAccessorResponse.builder()
                 .build());
-
-        when(qBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
-            .thenReturn(ListTagsForResourceResponse.builder().tags(List.of()).build());
     }
 
     @AfterEach
@@ -160,5 +157,10 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // The tags just written are returned without listing them again
+        assertThat(response.getResourceModel().getTags()).containsExactly(
+            Tag.builder().key("Tag 1").value("value1").build(), Tag.builder().key("Tag 2").value("value2").build()
+        );
+        verify(qBusinessClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 }
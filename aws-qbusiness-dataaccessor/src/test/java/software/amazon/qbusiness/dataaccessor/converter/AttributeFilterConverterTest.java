@@ -0,0 +1,129 @@
+package software.amazon.qbusiness.dataaccessor.converter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+
+class AttributeFilterConverterTest {
+
+  private static final int DEPTH = 50_000;
+
+  @Test
+  void testRoundTripKeepsFilterSemantics() {
+    AttributeFilter modelFilter = AttributeFilter.builder()
+        .andAllFilters(List.of(
+            AttributeFilter.builder().equalsTo(attribute("group", stringValue("admins"))).build(),
+            AttributeFilter.builder()
+                .notFilter(AttributeFilter.builder().containsAny(attribute("tags", DocumentAttributeValue.builder()
+                    .stringListValue(List.of("secret", "internal"))
+                    .build())).build())
+                .build()))
+        .orAllFilters(Collections.emptyList())
+        .greaterThan(attribute("_created_at", DocumentAttributeValue.builder()
+            .dateValue("2024-01-01T00:00:00Z")
+            .build()))
+        .lessThanOrEquals(attribute("_size", DocumentAttributeValue.builder().longValue(42.0).build()))
+        .build();
+
+    software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceFilter =
+        AttributeFilterConverter.toServiceAttributeFilter(modelFilter);
+
+    Assertions.assertEquals(2, serviceFilter.andAllFilters().size());
+    Assertions.assertTrue(serviceFilter.hasOrAllFilters());
+    Assertions.assertTrue(serviceFilter.orAllFilters().isEmpty());
+    Assertions.assertEquals(Instant.parse("2024-01-01T00:00:00Z"), serviceFilter.greaterThan().value().dateValue());
+    Assertions.assertEquals(42L, serviceFilter.lessThanOrEquals().value().longValue());
+    Assertions.assertEquals(List.of("secret", "internal"),
+        serviceFilter.andAllFilters().get(1).notFilter().containsAny().value().stringListValue());
+
+    // An empty list is left out of the model
+    modelFilter.setOrAllFilters(null);
+    Assertions.assertEquals(modelFilter, AttributeFilterConverter.fromServiceAttributeFilter(serviceFilter));
+    Assertions.assertNull(AttributeFilterConverter.toServiceAttributeFilter(null));
+    Assertions.assertNull(AttributeFilterConverter.fromServiceAttributeFilter(null));
+  }
+
+  @Test
+  void testDeepTreesConvertWithoutStackOverflow() {
+    AttributeFilter modelFilter = AttributeFilter.builder().equalsTo(attribute("level", stringValue("0"))).build();
+    for (int level = 1; level < DEPTH; level++) {
+      AttributeFilter sibling = AttributeFilter.builder().equalsTo(attribute("level", stringValue("" + level))).build();
+      modelFilter = level % 2 == 0
+          ? AttributeFilter.builder().notFilter(modelFilter).build()
+          : AttributeFilter.builder().andAllFilters(List.of(modelFilter, sibling)).build();
+    }
+
+    software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceFilter =
+        AttributeFilterConverter.toServiceAttributeFilter(modelFilter);
+    AttributeFilter roundTripped = AttributeFilterConverter.fromServiceAttributeFilter(serviceFilter);
+
+    int depth = 1;
+    while (roundTripped.getEqualsTo() == null) {
+      roundTripped = roundTripped.getNotFilter() != null
+          ? roundTripped.getNotFilter()
+          : roundTripped.getAndAllFilters().get(0);
+      depth++;
+    }
+    Assertions.assertEquals(DEPTH, depth);
+    Assertions.assertEquals("0", roundTripped.getEqualsTo().getValue().getStringValue());
+  }
+
+  @Test
+  void testIdenticalSubtreesShareOneInstance() {
+    List<AttributeFilter> branches = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      branches.add(AttributeFilter.builder()
+          .notFilter(AttributeFilter.builder().equalsTo(attribute("group", stringValue("guests"))).build())
+          .build());
+    }
+    branches.add(AttributeFilter.builder()
+        .notFilter(AttributeFilter.builder().equalsTo(attribute("group", stringValue("vendors"))).build())
+        .build());
+
+    software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceFilter =
+        AttributeFilterConverter.toServiceAttributeFilter(AttributeFilter.builder().orAllFilters(branches).build());
+
+    List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> orAllFilters = serviceFilter.orAllFilters();
+    Assertions.assertSame(orAllFilters.get(0), orAllFilters.get(1));
+    Assertions.assertSame(orAllFilters.get(0), orAllFilters.get(2));
+    Assertions.assertNotSame(orAllFilters.get(0), orAllFilters.get(3));
+    Assertions.assertEquals("vendors", orAllFilters.get(3).notFilter().equalsTo().value().stringValue());
+
+    List<AttributeFilter> modelBranches = AttributeFilterConverter.fromServiceAttributeFilter(serviceFilter).getOrAllFilters();
+    Assertions.assertSame(modelBranches.get(0), modelBranches.get(2));
+    Assertions.assertEquals(branches, modelBranches);
+  }
+
+  @Test
+  void testSharedSourceSubtreesConvertOnce() {
+    // 2^64 root-to-leaf paths, but only 65 distinct nodes
+    AttributeFilter modelFilter = AttributeFilter.builder().equalsTo(attribute("group", stringValue("admins"))).build();
+    for (int level = 0; level < 64; level++) {
+      modelFilter = AttributeFilter.builder().andAllFilters(List.of(modelFilter, modelFilter)).build();
+    }
+
+    software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceFilter =
+        AttributeFilterConverter.toServiceAttributeFilter(modelFilter);
+
+    List<AttributeFilter> modelAndAllFilters =
+        AttributeFilterConverter.fromServiceAttributeFilter(serviceFilter).getAndAllFilters();
+
+    // assertSame would print both trees on failure
+    Assertions.assertTrue(serviceFilter.andAllFilters().get(0) == serviceFilter.andAllFilters().get(1));
+    Assertions.assertTrue(modelAndAllFilters.get(0) == modelAndAllFilters.get(1));
+  }
+
+  private static DocumentAttribute attribute(String name, DocumentAttributeValue value) {
+    return DocumentAttribute.builder().name(name).value(value).build();
+  }
+
+  private static DocumentAttributeValue stringValue(String value) {
+    return DocumentAttributeValue.builder().stringValue(value).build();
+  }
+}
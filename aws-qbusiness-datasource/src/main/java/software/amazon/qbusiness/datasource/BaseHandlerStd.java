@@ -1,8 +1,11 @@
 package software.amazon.qbusiness.datasource;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.DataSource;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
@@ -12,25 +15,46 @@ import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRespon
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.HandlerProfiling;
+import software.amazon.qbusiness.common.RetryBudget;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    HandlerPriming.register();
+  }
+
+  // Shared by every handler in the container so data sources stabilizing under one index share ListDataSources calls
+  static final CoalescedStatusPoller<DataSource> STATUS_POLLER = CoalescedStatusPoller.fromEnvironment();
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
       final CallbackContext callbackContext,
       final Logger logger) {
-    return handleRequest(
-        proxy,
-        request,
-        callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(ClientBuilder::getClient),
-        logger
-    );
+    var context = callbackContext != null ? callbackContext : new CallbackContext();
+    StabilizationHandoff.startInvocation(context);
+    HandlerProfiling.startRecording(logger);
+    var retryUsage = RetryBudget.startInvocation();
+    try {
+      return handleRequest(
+          proxy,
+          request,
+          context,
+          proxy.newProxy(ClientBuilder::getClient),
+          logger
+      );
+    } finally {
+      HandlerProfiling.dumpRecording(logger);
+      RetryBudget.emitInvocationMetrics(logger, ResourceModel.TYPE_NAME, retryUsage);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -40,6 +64,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ProxyClient<QBusinessClient> proxyClient,
       final Logger logger);
 
+  /**
+   * Starts a call chain like {@code proxy.initiate}, timed step by step when {@link HandlerProfiling} is enabled.
+   */
+  protected CallChain.RequestMaker<QBusinessClient, ResourceModel, CallbackContext> initiate(
+      final AmazonWebServicesClientProxy proxy,
+      final String callGraph,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel model,
+      final CallbackContext callbackContext) {
+    return HandlerProfiling.profile(callGraph, proxy.initiate(callGraph, proxyClient, model, callbackContext));
+  }
+
   protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
     return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
   }
@@ -53,25 +89,58 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return callGetDataSource(request, proxyClient);
   }
 
+  protected Map<String, DataSource> listDataSourceSummaries(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
+    var summaries = new HashMap<String, DataSource>();
+    String nextToken = null;
+    do {
+      var response = proxyClient.injectCredentialsAndInvokeV2(
+          Translator.translateToListRequest(model, nextToken), proxyClient.client()::listDataSources
+      );
+      response.dataSources().forEach(summary -> summaries.put(summary.dataSourceId(), summary));
+      nextToken = response.nextToken();
+    } while (nextToken != null);
+    return summaries;
+  }
+
   protected boolean isCreatingOrUpdateStabilized(
       final String operation,
       final ResourceHandlerRequest<ResourceModel> request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model,
+      CoalescedStatusPoller<DataSource> statusPoller,
       Logger logger
   ) {
     logger.log("[INFO] Checking for %s Complete for Data Source process in stack: %s with ID: %s, For Account: %s, Application: %s, Index: %s"
         .formatted(operation, request.getStackId(), request.getAwsAccountId(), model.getDataSourceId(), model.getApplicationId(), model.getIndexId())
     );
 
-    GetDataSourceResponse getDataSourceRes = getDataSource(model, proxyClient);
-    var status = getDataSourceRes.status();
+    // Summaries carry no error details, so only ACTIVE and in-progress answers are taken from them; anything else goes
+    // through GetDataSource below.
+    var parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId(), model.getIndexId());
+    var summaryStatus = statusPoller.poll(parentKey, model.getDataSourceId(), () -> listDataSourceSummaries(model, proxyClient), logger)
+        .map(DataSource::status)
+        .orElse(null);
+    if (DataSourceStatus.CREATING.equals(summaryStatus) || DataSourceStatus.UPDATING.equals(summaryStatus)) {
+      logger.log("[INFO] %s for %s with id: %s, in app: %s, Index: %s, Stack: %s is still stabilizing with listed status: %s".formatted(
+          operation, ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId(),
+          request.getStackId(), summaryStatus
+      ));
+      return false;
+    }
+
+    var status = DataSourceStatus.ACTIVE.equals(summaryStatus) ? summaryStatus : null;
+    GetDataSourceResponse getDataSourceRes = null;
+    if (status == null) {
+      getDataSourceRes = getDataSource(model, proxyClient);
+      status = getDataSourceRes.status();
+    }
 
     if (DataSourceStatus.ACTIVE.equals(status)) {
       logger.log("[INFO] %s for %s with ID: %s, for App: %s, IndexId: %s, stack ID: %s has stabilized".formatted(
           operation, ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId(), request.getStackId()
       ));
 
+      statusPoller.complete(parentKey, model.getDataSourceId());
       return true;
     }
 
@@ -96,6 +165,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           Objects.nonNull(getDataSourceRes.error()) ? getDataSourceRes.error().errorMessage() : null
       ));
 
+      statusPoller.complete(parentKey, model.getDataSourceId());
       throwNonStableError(model.getDataSourceId(), failureCause);
     }
 
@@ -105,6 +175,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           model.getApplicationId(), model.getIndexId(), request.getStackId()
       ));
 
+      statusPoller.complete(parentKey, model.getDataSourceId());
       throwNonStableError(model.getDataSourceId(), failureCause);
     }
 
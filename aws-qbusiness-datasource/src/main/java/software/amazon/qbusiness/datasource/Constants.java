@@ -7,6 +7,10 @@ public final class Constants {
   public static final String API_CREATE_DATASOURCE = "CreateDataSource";
   public static final String API_DELETE_DATASOURCE = "DeleteDataSource";
   public static final String API_UPDATE_DATASOURCE = "UpdateDataSource";
+  public static final String API_LIST_DATASOURCE_SYNC_JOBS = "ListDataSourceSyncJobs";
+  public static final String API_STOP_DATASOURCE_SYNC_JOB = "StopDataSourceSyncJob";
+  public static final String ENV_STOP_SYNC_BEFORE_DELETE = "QBUSINESS_DATASOURCE_STOP_SYNC_BEFORE_DELETE";
+  public static final String METRIC_SYNC_DRAIN_TIME = "SyncDrainTime";
 
   private Constants() {
   }
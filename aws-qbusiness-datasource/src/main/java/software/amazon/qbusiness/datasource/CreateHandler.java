@@ -7,6 +7,7 @@ import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.DataSource;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -15,6 +16,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -23,14 +28,46 @@ public class CreateHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(30))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Create");
+  private static final ParentReadinessGate PARENT_READINESS = ParentReadinessGate.fromEnvironment();
+  private static final String CALL_GRAPH = "AWS-QBusiness-DataSource::Create";
+  private static final String PARENT_CALL_GRAPH = "AWS-QBusiness-DataSource::AwaitIndex";
+
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<DataSource> statusPoller;
+  private final StabilizationHandoff handoff;
+  private final ParentReadinessGate parentReadiness;
 
   public CreateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF, PARENT_READINESS);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, CoalescedStatusPoller<DataSource> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<DataSource> statusPoller,
+      StabilizationHandoff handoff
+  ) {
+    this(backOffStrategy, statusPoller, handoff, ParentReadinessGate.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<DataSource> statusPoller,
+      StabilizationHandoff handoff,
+      ParentReadinessGate parentReadiness
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
+    this.parentReadiness = parentReadiness;
   }
 
   private Logger logger;
@@ -51,22 +88,72 @@ public class CreateHandler extends BaseHandlerStd {
     );
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentReadiness.awaitIndex(
+            proxyClient, progress, request, PARENT_CALL_GRAPH, ResourceModel::getApplicationId, ResourceModel::getIndexId, logger
+        ))
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(
                     request, model
                 ))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreateDataSource(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((createReq, createResponse, client, model, context) -> isCreatingOrUpdateStabilized(API_CREATE_DATASOURCE, request, client, model, logger))
-                .handleError((createReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATASOURCE
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((createReq, createResponse, client, model, context) -> handoff.isEnabled() || isCreateStabilized(
+                    request, client, model, context
+                ))
+                .handleError((createReq, error, client, model, context) -> parentReadiness.handleConflict(
+                    error, model, context, logger, () -> CreateResumption.handleCreateError(
+                        error, model, context, logger, () -> handleError(
+                            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATASOURCE
+                        )
+                    )
                 ))
                 .progress()
         )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isCreateStabilized(request, proxyClient, model, context),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATASOURCE
+            ),
+            logger
+        ))
         .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
+  private CreateDataSourceResponse createOrResume(
+      CreateDataSourceRequest request,
+      ProxyClient<QBusinessClient> proxyClient,
+      ResourceModel model,
+      CallbackContext context
+  ) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setDataSourceId(createdId);
+      return CreateDataSourceResponse.builder().dataSourceId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateDataSource(request, proxyClient, model);
+    CreateResumption.created(context, response.dataSourceId());
+    return response;
+  }
+
+  private boolean isCreateStabilized(
+      ResourceHandlerRequest<ResourceModel> request,
+      ProxyClient<QBusinessClient> proxyClient,
+      ResourceModel model,
+      CallbackContext context
+  ) {
+    CreateResumption.polled(context);
+    return isCreatingOrUpdateStabilized(API_CREATE_DATASOURCE, request, proxyClient, model, statusPoller, logger);
+  }
+
   private CreateDataSourceResponse callCreateDataSource(
       CreateDataSourceRequest request,
       ProxyClient<QBusinessClient> proxyClient,
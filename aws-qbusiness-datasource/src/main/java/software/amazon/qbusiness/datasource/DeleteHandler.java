@@ -2,23 +2,34 @@ package software.amazon.qbusiness.datasource;
 
 import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.datasource.Constants.API_DELETE_DATASOURCE;
+import static software.amazon.qbusiness.datasource.Constants.API_STOP_DATASOURCE_SYNC_JOB;
+import static software.amazon.qbusiness.datasource.Constants.ENV_STOP_SYNC_BEFORE_DELETE;
+import static software.amazon.qbusiness.datasource.Constants.METRIC_SYNC_DRAIN_TIME;
 import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 
 import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
 
-import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobStatus;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.qbusiness.model.StopDataSourceSyncJobRequest;
+import software.amazon.awssdk.services.qbusiness.model.StopDataSourceSyncJobResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.HandlerMetrics;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
-@RequiredArgsConstructor
 public class DeleteHandler extends BaseHandlerStd {
 
   private static final Constant DEFAULT_SYNCING_WAIT_BACKOFF_STRATEGY = Constant.of()
@@ -26,12 +37,50 @@ public class DeleteHandler extends BaseHandlerStd {
       .delay(Duration.ofMinutes(1))
       .build();
 
+  // Listing sync jobs is cheaper than GetDataSource, so a stopping sync is polled at a faster cadence than the delete
+  private static final Constant DEFAULT_SYNC_DRAIN_BACKOFF_STRATEGY = Constant.of()
+      .timeout(Duration.ofHours(2))
+      .delay(Duration.ofSeconds(10))
+      .build();
+
+  private static final Set<DataSourceSyncJobStatus> ACTIVE_SYNC_STATUSES = Set.of(
+      DataSourceSyncJobStatus.SYNCING, DataSourceSyncJobStatus.SYNCING_INDEXING, DataSourceSyncJobStatus.STOPPING
+  );
+
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete");
+  private static final boolean STOP_SYNC_BEFORE_DELETE = "true".equalsIgnoreCase(System.getenv(ENV_STOP_SYNC_BEFORE_DELETE));
+  private static final String CALL_GRAPH = "AWS-QBusiness-DataSource::Delete";
+  private static final String STOP_SYNC_CALL_GRAPH = "AWS-QBusiness-DataSource::StopSyncJob";
+
   private final Constant deletionBackOffStrategy;
+  private final StabilizationHandoff handoff;
+  private final boolean stopSyncBeforeDelete;
+  private final Constant syncDrainBackOffStrategy;
 
   private Logger logger;
 
   public DeleteHandler() {
-    this(DEFAULT_SYNCING_WAIT_BACKOFF_STRATEGY);
+    this(DEFAULT_SYNCING_WAIT_BACKOFF_STRATEGY, HANDOFF, STOP_SYNC_BEFORE_DELETE, DEFAULT_SYNC_DRAIN_BACKOFF_STRATEGY);
+  }
+
+  public DeleteHandler(Constant deletionBackOffStrategy) {
+    this(deletionBackOffStrategy, StabilizationHandoff.disabled());
+  }
+
+  public DeleteHandler(Constant deletionBackOffStrategy, StabilizationHandoff handoff) {
+    this(deletionBackOffStrategy, handoff, false, DEFAULT_SYNC_DRAIN_BACKOFF_STRATEGY);
+  }
+
+  public DeleteHandler(
+      Constant deletionBackOffStrategy,
+      StabilizationHandoff handoff,
+      boolean stopSyncBeforeDelete,
+      Constant syncDrainBackOffStrategy
+  ) {
+    this.deletionBackOffStrategy = deletionBackOffStrategy;
+    this.handoff = handoff;
+    this.stopSyncBeforeDelete = stopSyncBeforeDelete;
+    this.syncDrainBackOffStrategy = syncDrainBackOffStrategy;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,17 +102,121 @@ public class DeleteHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> stopSyncBeforeDelete ? drainSyncJobs(proxy, progress, proxyClient) : progress)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .backoffDelay(deletionBackOffStrategy)
                 .makeServiceCall(this::callDeleteDataSource)
-                .stabilize((deleteReq, deleteRes, client, model, context) -> isDoneDeleting(client, model))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((deleteReq, deleteRes, client, model, context) -> handoff.isEnabled() || isDoneDeleting(client, model))
                 .handleError((deleteReq, error, clientProxyClient, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_DATASOURCE
                 ))
-                .done(deleteResponse -> ProgressEvent.defaultSuccessHandler(null))
-        );
+                .progress()
+        )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            deletionBackOffStrategy,
+            (model, context) -> isDoneDeleting(proxyClient, model),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_DATASOURCE
+            ),
+            logger
+        ))
+        .then(progress -> ProgressEvent.defaultSuccessHandler(null));
+  }
+
+  /**
+   * Stops a running sync job and waits for it to wind down, so the delete does not sit behind a full sync. A data
+   * source that cannot be listed is left to the delete call, which reports it the usual way.
+   */
+  private ProgressEvent<ResourceModel, CallbackContext> drainSyncJobs(
+      final AmazonWebServicesClientProxy proxy,
+      final ProgressEvent<ResourceModel, CallbackContext> progress,
+      final ProxyClient<QBusinessClient> proxyClient
+  ) {
+    var callbackContext = progress.getCallbackContext();
+    if (callbackContext.getSyncDrainStartedAt() == null) {
+      final Optional<DataSourceSyncJob> activeSyncJob;
+      try {
+        activeSyncJob = findActiveSyncJob(progress.getResourceModel(), proxyClient);
+      } catch (AwsServiceException e) {
+        logger.log("[WARN] Could not list sync jobs of %s before delete, deleting without stopping: %s"
+            .formatted(progress.getResourceModel().getDataSourceId(), e.getMessage()));
+        return progress;
+      }
+      if (activeSyncJob.isEmpty()) {
+        return progress;
+      }
+      logger.log("[INFO] Stopping sync job %s in status %s before deleting %s".formatted(
+          activeSyncJob.get().executionId(), activeSyncJob.get().status(), progress.getResourceModel().getDataSourceId()
+      ));
+      callbackContext.setSyncDrainStartedAt(System.currentTimeMillis());
+    }
+
+    return initiate(proxy, STOP_SYNC_CALL_GRAPH, proxyClient, progress.getResourceModel(), callbackContext)
+        .translateToServiceRequest(Translator::translateToStopSyncJobRequest)
+        .backoffDelay(syncDrainBackOffStrategy)
+        .makeServiceCall(this::callStopDataSourceSyncJob)
+        .stabilize((stopReq, stopRes, client, model, context) -> handoff.isEnabled() || isSyncDrained(client, model, context))
+        .handleError((stopReq, error, client, model, context) -> handleError(
+            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_STOP_DATASOURCE_SYNC_JOB
+        ))
+        .progress()
+        .then(stopped -> handoff.await(
+            stopped,
+            STOP_SYNC_CALL_GRAPH,
+            syncDrainBackOffStrategy,
+            (model, context) -> isSyncDrained(proxyClient, model, context),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_STOP_DATASOURCE_SYNC_JOB
+            ),
+            logger
+        ));
+  }
+
+  private boolean isSyncDrained(
+      ProxyClient<QBusinessClient> proxyClient,
+      ResourceModel model,
+      CallbackContext context
+  ) {
+    var activeSyncJob = findActiveSyncJob(model, proxyClient);
+    if (activeSyncJob.isPresent()) {
+      logger.log("[INFO] Sync job %s of %s is still %s".formatted(
+          activeSyncJob.get().executionId(), model.getDataSourceId(), activeSyncJob.get().status()
+      ));
+      return false;
+    }
+
+    var drainMillis = System.currentTimeMillis() - context.getSyncDrainStartedAt();
+    logger.log("[INFO] Sync jobs of %s drained after %dms".formatted(model.getDataSourceId(), drainMillis));
+    HandlerMetrics.emit(logger, ResourceModel.TYPE_NAME, METRIC_SYNC_DRAIN_TIME, drainMillis, HandlerMetrics.UNIT_MILLISECONDS);
+    return true;
+  }
+
+  private Optional<DataSourceSyncJob> findActiveSyncJob(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
+    return proxyClient.injectCredentialsAndInvokeV2(
+            Translator.translateToListSyncJobsRequest(model), proxyClient.client()::listDataSourceSyncJobs
+        )
+        .history()
+        .stream()
+        .filter(syncJob -> ACTIVE_SYNC_STATUSES.contains(syncJob.status()))
+        .findFirst();
+  }
+
+  private StopDataSourceSyncJobResponse callStopDataSourceSyncJob(
+      final StopDataSourceSyncJobRequest request,
+      final ProxyClient<QBusinessClient> proxyClient
+  ) {
+    try {
+      return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::stopDataSourceSyncJob);
+    } catch (ConflictException e) {
+      // The job finished or is already stopping; the drain poll below picks up either
+      logger.log("[INFO] Sync job of %s was not stopped: %s".formatted(request.dataSourceId(), e.getMessage()));
+      return StopDataSourceSyncJobResponse.builder().build();
+    }
   }
 
   private boolean isDoneDeleting(
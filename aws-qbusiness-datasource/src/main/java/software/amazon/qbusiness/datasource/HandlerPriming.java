@@ -0,0 +1,99 @@
+package software.amazon.qbusiness.datasource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.qbusiness.common.Priming;
+import software.amazon.qbusiness.datasource.translators.DocumentConverter;
+
+/**
+ * Canned create/read/update/list round trips through the DataSource translators, run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String INDEX_ID = "00000000-0000-0000-0000-000000000001";
+  private static final String DATA_SOURCE_ID = "00000000-0000-0000-0000-000000000002";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .displayName("priming")
+        .description("priming")
+        .roleArn("arn:aws:iam::123456789012:role/priming")
+        .syncSchedule("cron(0 0 * * ? *)")
+        .configuration(Map.of(
+            "type", "S3",
+            "syncMode", "FULL_CRAWL",
+            "connectionConfiguration", Map.of(
+                "repositoryEndpointMetadata", Map.of("BucketName", "priming")
+            ),
+            "additionalProperties", Map.of(
+                "inclusionPatterns", List.of("*.pdf"),
+                "maxFileSizeInMegaBytes", 50,
+                "crawlAcls", true
+            )
+        ))
+        .vpcConfiguration(DataSourceVpcConfiguration.builder()
+            .subnetIds(List.of("subnet-priming"))
+            .securityGroupIds(List.of("sg-priming"))
+            .build())
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(model, null);
+
+    var getResponse = GetDataSourceResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .dataSourceArn(Utils.buildDataSourceArn(request, model))
+        .displayName(model.getDisplayName())
+        .status(DataSourceStatus.ACTIVE)
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .configuration(DocumentConverter.convertToMapToDocument(model.getConfiguration()))
+        .vpcConfiguration(Translator.toServiceDataSourceVpcConfiguration(model.getVpcConfiguration()))
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(APPLICATION_ID, INDEX_ID, ListDataSourcesResponse.builder()
+        .dataSources(software.amazon.awssdk.services.qbusiness.model.DataSource.builder()
+            .dataSourceId(DATA_SOURCE_ID)
+            .status(DataSourceStatus.ACTIVE)
+            .build())
+        .build());
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -11,6 +11,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 public class ReadHandler extends BaseHandlerStd {
   private Logger logger;
@@ -32,7 +33,7 @@ public class ReadHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-DataSource::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall(this::callGetDataSource)
                 .handleError((getDataSourceRequest, error, client, model, context) -> handleError(
@@ -40,8 +41,14 @@ public class ReadHandler extends BaseHandlerStd {
                 ))
                 .done(response -> ProgressEvent.progress(Translator.translateFromReadResponse(response), callbackContext))
         )
+        // An update that just wrote the tags already knows them
+        .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+            .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+            ))
+            .orElse(progress))
         .then(progress ->
-            proxy.initiate(
+            initiate(proxy, 
                     "AWS-QBusiness-DataSource::ListTags",
                     proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext()
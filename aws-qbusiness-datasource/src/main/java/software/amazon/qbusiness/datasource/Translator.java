@@ -10,22 +10,29 @@ import static software.amazon.qbusiness.datasource.translators.MediaExtractionCo
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.StopDataSourceSyncJobRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateDataSourceRequest;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.datasource.translators.ConnectorSchemaValidator;
 
 public class Translator {
+  // Only one sync job runs at a time and the newest come first, so the first page is enough to find it
+  private static final int SYNC_JOBS_PAGE_SIZE = 5;
 
   /**
    * Request to create a resource
@@ -44,7 +51,7 @@ public class Translator {
         .syncSchedule(model.getSyncSchedule())
         .tags(TagUtils.mergeCreateHandlerTagsToSdkTags(request, model))
         .vpcConfiguration(toServiceDataSourceVpcConfiguration(model.getVpcConfiguration()))
-        .configuration(convertToMapToDocument(model.getConfiguration()))
+        .configuration(toServiceConfiguration(model.getConfiguration()))
         .documentEnrichmentConfiguration(toServiceDocEnrichmentConf(model.getDocumentEnrichmentConfiguration()))
         .mediaExtractionConfiguration(toServiceMediaExtractionConfiguration(model.getMediaExtractionConfiguration()))
         .build();
@@ -91,6 +98,15 @@ public class Translator {
         .build();
   }
 
+  /**
+   * The connector configuration as the service takes it, checked against the bundled schema of its connector.
+   */
+  static Document toServiceConfiguration(final Map<String, Object> configuration) {
+    var document = convertToMapToDocument(configuration);
+    ConnectorSchemaValidator.validate(document);
+    return document;
+  }
+
   static DataSourceVpcConfiguration fromServiceDataSourceVpcConfiguration(
       software.amazon.awssdk.services.qbusiness.model.DataSourceVpcConfiguration maybeServiceConf
   ) {
@@ -152,6 +168,35 @@ public class Translator {
         .build();
   }
 
+  /**
+   * Request to stop the data source's running sync job
+   *
+   * @param model resource model
+   * @return StopDataSourceSyncJobRequest the aws service request to stop a sync job
+   */
+  static StopDataSourceSyncJobRequest translateToStopSyncJobRequest(final ResourceModel model) {
+    return StopDataSourceSyncJobRequest.builder()
+        .applicationId(model.getApplicationId())
+        .indexId(model.getIndexId())
+        .dataSourceId(model.getDataSourceId())
+        .build();
+  }
+
+  /**
+   * Request to list the data source's most recent sync jobs
+   *
+   * @param model resource model
+   * @return ListDataSourceSyncJobsRequest the aws service request to list sync jobs
+   */
+  static ListDataSourceSyncJobsRequest translateToListSyncJobsRequest(final ResourceModel model) {
+    return ListDataSourceSyncJobsRequest.builder()
+        .applicationId(model.getApplicationId())
+        .indexId(model.getIndexId())
+        .dataSourceId(model.getDataSourceId())
+        .maxResults(SYNC_JOBS_PAGE_SIZE)
+        .build();
+  }
+
   /**
    * Request to update properties of a previously created resource
    *
@@ -168,7 +213,7 @@ public class Translator {
         .roleArn(model.getRoleArn())
         .syncSchedule(model.getSyncSchedule())
         .vpcConfiguration(toServiceDataSourceVpcConfiguration(model.getVpcConfiguration()))
-        .configuration(convertToMapToDocument(model.getConfiguration()))
+        .configuration(toServiceConfiguration(model.getConfiguration()))
         .documentEnrichmentConfiguration(toServiceDocEnrichmentConf(model.getDocumentEnrichmentConfiguration()))
         .mediaExtractionConfiguration(toServiceMediaExtractionConfiguration(model.getMediaExtractionConfiguration()))
         .build();
@@ -6,6 +6,7 @@ import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 
 import java.time.Duration;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.DataSource;
 import software.amazon.awssdk.services.qbusiness.model.UpdateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateDataSourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -14,6 +15,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 import software.amazon.qbusiness.common.TagUtils;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -23,15 +26,34 @@ public class UpdateHandler extends BaseHandlerStd {
       .delay(Duration.ofMinutes(1))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update");
+  private static final String CALL_GRAPH = "AWS-QBusiness-DataSource::Update";
+
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<DataSource> statusPoller;
+  private final StabilizationHandoff handoff;
   private Logger logger;
 
   public UpdateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF);
   }
 
   public UpdateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public UpdateHandler(Constant backOffStrategy, CoalescedStatusPoller<DataSource> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
+
+  public UpdateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<DataSource> statusPoller,
+      StabilizationHandoff handoff
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -51,25 +73,42 @@ public class UpdateHandler extends BaseHandlerStd {
         request.getStackId()
     ));
 
-    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::updateDataSource)
-                .stabilize((updateReq, updateRes, clientProxyClient, model, context) -> isCreatingOrUpdateStabilized(
-                    API_UPDATE_DATASOURCE, request, clientProxyClient, model, logger
-                ))
-                .handleError((updateReq, error, clientProxyClient, model, context) -> handleError(
+    var tagUpdate = TagUtils.tagUpdate(ResourceModel.TYPE_NAME, request, proxyClient, logger);
+    return tagUpdate.applyAlongside(
+        () -> ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress ->
+                initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToUpdateRequest)
+                    .backoffDelay(backOffStrategy)
+                    .makeServiceCall((updateRequest, client) -> {
+                      var response = updateDataSource(updateRequest, client);
+                      statusPoller.mutated(CoalescedStatusPoller.parentKey(request, progress.getResourceModel().getApplicationId(),
+                          progress.getResourceModel().getIndexId()), progress.getResourceModel().getDataSourceId());
+                      // Tags don't depend on the update, so they are applied while it stabilizes
+                      tagUpdate.start(Utils.buildDataSourceArn(request, progress.getResourceModel()));
+                      return response;
+                    })
+                    // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                    .stabilize((updateReq, updateRes, clientProxyClient, model, context) -> handoff.isEnabled() || isCreatingOrUpdateStabilized(
+                        API_UPDATE_DATASOURCE, request, clientProxyClient, model, statusPoller, logger
+                    ))
+                    .handleError((updateReq, error, clientProxyClient, model, context) -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_DATASOURCE
+                    ))
+                    .progress()
+            )
+            .then(progress -> handoff.await(
+                progress,
+                CALL_GRAPH,
+                backOffStrategy,
+                (model, context) -> isCreatingOrUpdateStabilized(API_UPDATE_DATASOURCE, request, proxyClient, model, statusPoller, logger),
+                (error, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_DATASOURCE
-                ))
-                .progress()
-        )
-        .then(progress -> {
-          var arn = Utils.buildDataSourceArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
-        .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                ),
+                logger
+            )),
+        model -> Utils.buildDataSourceArn(request, model)
+    ).then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
   private UpdateDataSourceResponse updateDataSource(UpdateDataSourceRequest request, ProxyClient<QBusinessClient> proxyClient) {
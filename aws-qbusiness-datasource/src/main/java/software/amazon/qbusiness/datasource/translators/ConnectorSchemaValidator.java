@@ -0,0 +1,118 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * Validates a data source {@code Configuration} against the JSON schema of its connector before it is sent, so a
+ * mistake in the connector template fails the request at once instead of after CreateDataSource and a failed sync
+ * setup.
+ * <p>
+ * Schemas are bundled under {@code connector-schemas/<type>.json}, named after the {@code type} field of the
+ * configuration, and each one is compiled the first time its connector is seen and then reused for the life of the
+ * container. Configurations without a {@code type}, or for a connector without a bundled schema, are passed through.
+ * The bundled schemas only hold constraints every connector template of that type has to meet, for example that a web
+ * crawler names at least one kind of seed or sitemap URL. They leave URL shapes, list lengths and optional members to
+ * the service, so they cannot reject a configuration the service would accept.
+ */
+public final class ConnectorSchemaValidator {
+  private static final String SCHEMA_DIRECTORY = "/connector-schemas/";
+  private static final String TYPE = "type";
+  private static final int MAX_REPORTED_VIOLATIONS = 5;
+  private static final Map<String, Optional<Schema>> SCHEMAS = new ConcurrentHashMap<>();
+
+  private ConnectorSchemaValidator() {
+  }
+
+  /**
+   * @throws CfnInvalidRequestException when {@code configuration} breaks the schema of its connector
+   */
+  public static void validate(Document configuration) {
+    if (configuration == null || !configuration.isMap()) {
+      return;
+    }
+
+    var type = configuration.asMap().get(TYPE);
+    if (type == null || !type.isString()) {
+      return;
+    }
+
+    var schema = schemaFor(type.asString());
+    if (schema.isEmpty()) {
+      return;
+    }
+
+    try {
+      schema.get().validate(new JSONObject(toJson(configuration.asMap())));
+    } catch (ValidationException e) {
+      var violations = e.getAllMessages();
+      var reported = violations.stream().limit(MAX_REPORTED_VIOLATIONS).collect(Collectors.joining("; "));
+      var more = violations.size() > MAX_REPORTED_VIOLATIONS
+          ? " (and %d more)".formatted(violations.size() - MAX_REPORTED_VIOLATIONS)
+          : "";
+      throw new CfnInvalidRequestException("Configuration does not match the %s connector schema: %s%s"
+          .formatted(type.asString(), reported, more));
+    }
+  }
+
+  static Optional<Schema> schemaFor(String type) {
+    return SCHEMAS.computeIfAbsent(type, ConnectorSchemaValidator::load);
+  }
+
+  private static Optional<Schema> load(String type) {
+    // Only plain connector names map to a resource
+    if (!type.matches("[A-Za-z0-9_]+")) {
+      return Optional.empty();
+    }
+
+    try (InputStream schema = ConnectorSchemaValidator.class.getResourceAsStream(SCHEMA_DIRECTORY + type + ".json")) {
+      if (schema == null) {
+        return Optional.empty();
+      }
+      return Optional.of(SchemaLoader.load(new JSONObject(new JSONTokener(schema))));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Map<String, Object> toJson(Map<String, Document> document) {
+    var json = new LinkedHashMap<String, Object>();
+    document.forEach((key, value) -> json.put(key, toJson(value)));
+    return json;
+  }
+
+  private static Object toJson(Document value) {
+    if (value == null || value.isNull()) {
+      return JSONObject.NULL;
+    }
+    if (value.isMap()) {
+      return toJson(value.asMap());
+    }
+    if (value.isList()) {
+      return value.asList().stream().map(ConnectorSchemaValidator::toJson).collect(Collectors.toList());
+    }
+    if (value.isNumber()) {
+      return new BigDecimal(value.asNumber().stringValue());
+    }
+    if (value.isBoolean()) {
+      return value.asBoolean();
+    }
+    return value.asString();
+  }
+}
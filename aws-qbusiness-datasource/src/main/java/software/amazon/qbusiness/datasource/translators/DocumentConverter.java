@@ -10,8 +10,11 @@ import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.utils.ImmutableMap;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.qbusiness.common.HandlerProfiling;
 
 public final class DocumentConverter {
+  private static final String DOCUMENT_TO_MAP = "DocumentToMap";
+  private static final String MAP_TO_DOCUMENT = "MapToDocument";
 
   private DocumentConverter() {
   }
@@ -20,6 +23,16 @@ public final class DocumentConverter {
     if (Objects.isNull(document)) {
       return null;
     }
+
+    var conversion = HandlerProfiling.conversion(DOCUMENT_TO_MAP);
+    try {
+      return documentToMap(document);
+    } finally {
+      conversion.close();
+    }
+  }
+
+  private static Map<String, Object> documentToMap(Document document) {
     if (!document.isMap()) {
       throw new CfnGeneralServiceException("Upstream service returned an unexpected template document.");
     }
@@ -39,6 +52,15 @@ public final class DocumentConverter {
       return null;
     }
 
+    var conversion = HandlerProfiling.conversion(MAP_TO_DOCUMENT);
+    try {
+      return mapToDocument(objectMap);
+    } finally {
+      conversion.close();
+    }
+  }
+
+  private static Document mapToDocument(Map<String, Object> objectMap) {
     ImmutableMap.Builder<String, Document> mapBuilder = ImmutableMap.builder();
     for (Map.Entry<String, Object> mapEntry : objectMap.entrySet()) {
       var key = mapEntry.getKey();
@@ -81,7 +103,7 @@ public final class DocumentConverter {
     } else if (value instanceof Map) {
       @SuppressWarnings("unchecked")
       var rawMap = (Map<String, Object>) value;
-      return convertToMapToDocument(rawMap);
+      return mapToDocument(rawMap);
     } else {
       throw new CfnInvalidRequestException("Unexpected document value found: %s".formatted(value));
     }
@@ -5,7 +5,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -28,18 +30,25 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.DataSource;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
 import software.amazon.awssdk.services.qbusiness.model.DocumentEnrichmentConditionOperator;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
@@ -54,6 +63,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class CreateHandlerTest extends AbstractTestBase {
 
@@ -233,6 +246,122 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
+  @Test
+  public void handleRequest_WaitsForUpdatingIndexBeforeCreating() {
+    var backOff = Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build();
+    underTest = new CreateHandler(
+        backOff,
+        CoalescedStatusPoller.disabled(),
+        StabilizationHandoff.disabled(),
+        ParentReadinessGate.of(
+            Constant.of().timeout(Duration.ofSeconds(10)).delay(Duration.ofSeconds(1)).build(),
+            Duration.ZERO,
+            Duration.ZERO
+        )
+    );
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(GetIndexResponse.builder().indexId(INDEX_ID).status(IndexStatus.UPDATING).build())
+        .thenReturn(GetIndexResponse.builder().indexId(INDEX_ID).status(IndexStatus.UPDATING).build())
+        .thenReturn(GetIndexResponse.builder().indexId(INDEX_ID).status(IndexStatus.ACTIVE).build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var inOrder = inOrder(sdkClient);
+    inOrder.verify(sdkClient, times(3)).getIndex(argThat(
+        (ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID)
+    ));
+    inOrder.verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_ReissuesCreateWithTheSameClientTokenWhenOutcomeIsUnknown() {
+    when(sdkClient.createDataSource(any(CreateDataSourceRequest.class)))
+        .thenThrow(SdkClientException.create("Read timed out"))
+        .thenReturn(CreateDataSourceResponse.builder().dataSourceId(DATA_SOURCE_ID).build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build());
+    var request = ResourceHandlerRequest.<ResourceModel>builder()
+        .awsPartition("aws")
+        .region("us-west-2")
+        .awsAccountId("111122223333")
+        .clientRequestToken("client-token")
+        .desiredResourceState(model)
+        .build();
+    var context = new CallbackContext();
+    model.setDataSourceId(null);
+
+    final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+        proxy, request, context, proxyClient, logger
+    );
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, request, context, proxyClient, logger
+    );
+
+    assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getResourceModel().getDataSourceId()).isEqualTo(DATA_SOURCE_ID);
+    assertThat(context.getCreatedId()).isEqualTo(DATA_SOURCE_ID);
+    verify(sdkClient, times(2)).createDataSource(
+        argThat((ArgumentMatcher<CreateDataSourceRequest>) t -> "client-token".equals(t.clientToken()))
+    );
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_CreateWithUnknownOutcomeIsCheckedOnReentry() {
+    when(sdkClient.createDataSource(any(CreateDataSourceRequest.class))).thenThrow(SdkClientException.create("Read timed out"));
+    var context = new CallbackContext();
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, context, proxyClient, logger
+    );
+
+    assertThat(resultProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(resultProgress.getCallbackDelaySeconds()).isEqualTo(10);
+    assertThat(context.getCreateStartedAt()).isNotNull();
+    assertThat(context.getCreatedId()).isNull();
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_RecordsCreatedIdAndPollsInContext() {
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(GetDataSourceResponse.builder()
+            .applicationId(APP_ID).indexId(INDEX_ID).dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.CREATING).build())
+        .thenReturn(GetDataSourceResponse.builder()
+            .applicationId(APP_ID).indexId(INDEX_ID).dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.ACTIVE).build());
+    var context = new CallbackContext();
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, context, proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(context.getCreatedId()).isEqualTo(DATA_SOURCE_ID);
+    assertThat(context.getCreatePhase()).isEqualTo(CreateResumption.PHASE_STABILIZE);
+    assertThat(context.getCreatePollCount()).isEqualTo(2);
+    assertThat(context.getCreateStartedAt()).isNotNull();
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient, times(3)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   @Test
   public void testItThrowsExpectedErrorWhenStabilizationFails() {
     // set up
@@ -286,6 +415,68 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
   }
 
+  @Test
+  public void handleRequest_StabilizesFromCoalescedListingWhenSiblingsAreInFlight() {
+    var statusPoller = CoalescedStatusPoller.<DataSource>fromEnvironment();
+    underTest = new CreateHandler(Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build(), statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID, INDEX_ID), "sibling", Map::of, logger);
+
+    when(sdkClient.listDataSources(any(ListDataSourcesRequest.class))).thenReturn(ListDataSourcesResponse.builder()
+        .dataSources(
+            DataSource.builder().dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.ACTIVE).build(),
+            DataSource.builder().dataSourceId("sibling").status(DataSourceStatus.CREATING).build()
+        )
+        .build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient).listDataSources(argThat(
+        (ArgumentMatcher<ListDataSourcesRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID)
+    ));
+    // only the read after stabilization
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_FallsBackToGetForFailureDetailsFromCoalescedListing() {
+    var statusPoller = CoalescedStatusPoller.<DataSource>fromEnvironment();
+    underTest = new CreateHandler(Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build(), statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID, INDEX_ID), "sibling", Map::of, logger);
+
+    when(sdkClient.listDataSources(any(ListDataSourcesRequest.class))).thenReturn(ListDataSourcesResponse.builder()
+        .dataSources(
+            DataSource.builder().dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.FAILED).build(),
+            DataSource.builder().dataSourceId("sibling").status(DataSourceStatus.CREATING).build()
+        )
+        .build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.FAILED)
+        .error(ErrorDetail.builder().errorMessage("Role is not assumable").build())
+        .build());
+
+    assertThatThrownBy(() -> underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    )).isInstanceOf(CfnNotStabilizedException.class).hasMessageContaining("Role is not assumable");
+
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient).listDataSources(any(ListDataSourcesRequest.class));
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+  }
+
   private static Stream<Arguments> serviceErrorsAndHandlerCodes() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
@@ -26,13 +26,19 @@ import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobStatus;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.qbusiness.model.StopDataSourceSyncJobRequest;
+import software.amazon.awssdk.services.qbusiness.model.StopDataSourceSyncJobResponse;
 import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
 import software.amazon.awssdk.services.qbusiness.model.ValidationException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -42,6 +48,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class DeleteHandlerTest extends AbstractTestBase {
 
@@ -157,6 +164,102 @@ public class DeleteHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void handleRequest_HandsOffLongWaitToCallback() {
+    underTest = new DeleteHandler(
+        Constant.of().timeout(Duration.ofHours(24)).delay(Duration.ofMinutes(1)).build(),
+        StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete")
+    );
+    when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(GetDataSourceResponse.builder()
+            .applicationId(APP_ID)
+            .indexId(INDEX_ID)
+            .dataSourceId(DATA_SOURCE_ID)
+            .status(DataSourceStatus.DELETING)
+            .build())
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(60);
+    assertThat(firstProgress.getCallbackContext().getStabilizationAttempts()).containsEntry("AWS-QBusiness-DataSource::Delete", 1);
+
+    // CloudFormation re-invokes with the returned context; the delete call is not repeated
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, firstProgress.getCallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_StopsRunningSyncJobBeforeDelete() {
+    underTest = new DeleteHandler(
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(2)).build(),
+        StabilizationHandoff.disabled(),
+        true,
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(1)).build()
+    );
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenReturn(syncJobs(DataSourceSyncJobStatus.SYNCING))
+        .thenReturn(syncJobs(DataSourceSyncJobStatus.STOPPING))
+        .thenReturn(syncJobs(DataSourceSyncJobStatus.ABORTED));
+    when(sdkClient.stopDataSourceSyncJob(any(StopDataSourceSyncJobRequest.class)))
+        .thenReturn(StopDataSourceSyncJobResponse.builder().build());
+    when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient, times(3)).listDataSourceSyncJobs(argThat(
+        (ArgumentMatcher<ListDataSourceSyncJobsRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID) && t.indexId().equals(INDEX_ID)
+    ));
+    verify(sdkClient).stopDataSourceSyncJob(argThat(
+        (ArgumentMatcher<StopDataSourceSyncJobRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID) && t.applicationId().equals(APP_ID)
+    ));
+    verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_DeletesWithoutStoppingWhenNoSyncJobIsRunning() {
+    underTest = new DeleteHandler(
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(2)).build(),
+        StabilizationHandoff.disabled(),
+        true,
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(1)).build()
+    );
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenReturn(syncJobs(DataSourceSyncJobStatus.SUCCEEDED));
+    when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getCallbackContext()).isNull();
+    verify(sdkClient).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+    verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+  }
+
+  private static ListDataSourceSyncJobsResponse syncJobs(DataSourceSyncJobStatus status) {
+    return ListDataSourceSyncJobsResponse.builder()
+        .history(DataSourceSyncJob.builder().executionId("sync-1").status(status).build())
+        .build();
+  }
+
   private static Stream<Arguments> stabilizeServiceErrors() {
     return Stream.of(
         Arguments.of(AccessDeniedException.builder().build(), HandlerErrorCode.AccessDenied),
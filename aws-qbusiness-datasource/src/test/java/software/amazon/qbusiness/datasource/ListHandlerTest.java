@@ -3,6 +3,7 @@ package software.amazon.qbusiness.datasource;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,12 +20,17 @@ import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DataSource;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandlerTest extends AbstractTestBase {
 
@@ -110,4 +116,54 @@ public class ListHandlerTest extends AbstractTestBase {
         .toList();
     assertThat(modelIds).isEqualTo(dataSourceIds);
   }
+
+  @Test
+  public void handleRequest_WithDetails() {
+    underTest = new ListHandler(ListDetails.of(2, 1000));
+    testRequest.setAwsPartition("aws");
+    testRequest.setRegion("us-east-1");
+    testRequest.setAwsAccountId("123456789012");
+    List<String> ids = List.of("first", "second", "third");
+    when(sdkClient.listDataSources(any(ListDataSourcesRequest.class)))
+        .thenReturn(ListDataSourcesResponse.builder()
+            .dataSources(ids.stream()
+                .map(id -> DataSource.builder()
+                    .dataSourceId(id)
+                    .build()
+                )
+                .toList())
+            .build()
+        );
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenAnswer(invocation -> {
+          GetDataSourceRequest getRequest = invocation.getArgument(0);
+          return GetDataSourceResponse.builder()
+              .applicationId(APP_ID)
+              .indexId(INDEX_ID)
+              .dataSourceId(getRequest.dataSourceId())
+              .displayName("Data source " + getRequest.dataSourceId())
+              .build();
+        });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(tag -> tag.key("team").value("search"))
+            .build()
+        );
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // every summary is replaced by its Read model, in page order
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var models = resultProgress.getResourceModels();
+    assertThat(models).extracting(ResourceModel::getDataSourceId).containsExactlyElementsOf(ids);
+    assertThat(models).extracting(ResourceModel::getDisplayName)
+        .containsExactly("Data source first", "Data source second", "Data source third");
+    assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+    verify(sdkClient).listDataSources(any(ListDataSourcesRequest.class));
+    verify(sdkClient, times(3)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
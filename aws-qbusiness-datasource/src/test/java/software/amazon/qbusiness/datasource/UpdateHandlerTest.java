@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -31,12 +32,15 @@ import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AttributeValueOperator;
+import software.amazon.awssdk.services.qbusiness.model.DataSource;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
 import software.amazon.awssdk.services.qbusiness.model.DocumentContentOperator;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ImageExtractionStatus;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourcesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
@@ -51,6 +55,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
 
 public class UpdateHandlerTest extends AbstractTestBase {
 
@@ -220,7 +225,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient).tagResource(tagReqCaptor.capture());
     verify(sdkClient).untagResource(untagReqCaptor.capture());
     verify(sdkClient, times(2)).getDataSource(argThat(getAppMatcher()));
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var updateReqArgument = updateReqCaptor.getValue();
     assertThat(updateReqArgument.syncSchedule()).isEqualTo(updateModel.getSyncSchedule());
@@ -283,6 +288,64 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     verify(sdkClient).updateDataSource(any(UpdateDataSourceRequest.class));
     verify(sdkClient, times(2)).getDataSource(argThat(getAppMatcher()));
+    // Tags go out while the update stabilizes, so they were issued before it failed
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_StabilizesFromCoalescedListingWhenSiblingsAreInFlight() {
+    var statusPoller = CoalescedStatusPoller.<DataSource>fromEnvironment();
+    underTest = new UpdateHandler(Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(45)).build(), statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID, INDEX_ID), "sibling", Map::of, logger);
+
+    when(sdkClient.listDataSources(any(ListDataSourcesRequest.class))).thenReturn(ListDataSourcesResponse.builder()
+        .dataSources(
+            DataSource.builder().dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.ACTIVE).build(),
+            DataSource.builder().dataSourceId("sibling").status(DataSourceStatus.UPDATING).build()
+        )
+        .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateDataSource(any(UpdateDataSourceRequest.class));
+    verify(sdkClient).listDataSources(any(ListDataSourcesRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+    // only the read after stabilization
+    verify(sdkClient).getDataSource(argThat(getAppMatcher()));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_DoesNotStabilizeFromListingTakenBeforeTheUpdate() {
+    var statusPoller = CoalescedStatusPoller.<DataSource>fromEnvironment();
+    underTest = new UpdateHandler(Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(45)).build(), statusPoller);
+    var parentKey = CoalescedStatusPoller.parentKey(testRequest, APP_ID, INDEX_ID);
+    // A sibling's poll just listed this data source as ACTIVE, before the update below was sent
+    statusPoller.poll(parentKey, "sibling", Map::of, logger);
+    statusPoller.poll(parentKey, DATA_SOURCE_ID, () -> Map.of(
+        DATA_SOURCE_ID, DataSource.builder().dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.ACTIVE).build()
+    ), logger);
+
+    when(sdkClient.listDataSources(any(ListDataSourcesRequest.class))).thenReturn(ListDataSourcesResponse.builder()
+        .dataSources(DataSource.builder().dataSourceId(DATA_SOURCE_ID).status(DataSourceStatus.ACTIVE).build())
+        .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateDataSource(any(UpdateDataSourceRequest.class));
+    // the first check lists again instead of trusting the earlier listing
+    verify(sdkClient).listDataSources(any(ListDataSourcesRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+    verify(sdkClient).getDataSource(argThat(getAppMatcher()));
   }
 
   @Test
@@ -411,7 +474,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient).updateDataSource(any(UpdateDataSourceRequest.class));
 
     verify(sdkClient, times(2)).getDataSource(argThat(getAppMatcher()));
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(sdkClient).tagResource(tagReqCaptor.capture());
@@ -464,7 +527,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress.isSuccess()).isTrue();
     verify(sdkClient).updateDataSource(any(UpdateDataSourceRequest.class));
     verify(sdkClient, times(2)).getDataSource(argThat(getAppMatcher()));
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(sdkClient).untagResource(untagReqCaptor.capture());
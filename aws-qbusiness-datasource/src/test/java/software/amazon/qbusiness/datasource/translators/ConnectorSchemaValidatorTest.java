@@ -0,0 +1,163 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+class ConnectorSchemaValidatorTest {
+
+  @Test
+  void acceptsConfigurationsThatMatchTheirConnector() {
+    var s3 = Map.<String, Object>of(
+        "type", "S3",
+        "syncMode", "FULL_CRAWL",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of("BucketName", "my-bucket")),
+        "additionalProperties", Map.of("inclusionPatterns", List.of("*.pdf"), "maxFileSizeInMegaBytes", 50)
+    );
+    var webCrawler = Map.<String, Object>of(
+        "type", "WEBCRAWLERV2",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of(
+            "seedUrlConnections", List.of(Map.of("seedUrl", "https://example.com")),
+            "authentication", "NoAuthentication"
+        )),
+        "additionalProperties", Map.of("crawlDepth", "2", "honorRobots", "true")
+    );
+
+    assertThatCode(() -> validate(s3)).doesNotThrowAnyException();
+    assertThatCode(() -> validate(webCrawler)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptsThePublishedWebCrawlerTemplates() {
+    var seedUrls = webCrawler(Map.of(
+        "seedUrlConnections", List.of(Map.of("seedUrl", "https://docs.example.com")),
+        "siteMapUrls", List.of(),
+        "authentication", "NoAuthentication"
+    ));
+    var siteMaps = webCrawler(Map.of(
+        "seedUrlConnections", List.of(),
+        "siteMapUrls", List.of("http://example.com/sitemap.xml"),
+        "authentication", "NoAuthentication"
+    ));
+    var s3SeedUrls = webCrawler(Map.of(
+        "s3SeedUrl", "s3://my-bucket/seed-urls.txt",
+        "authentication", "BasicAuth"
+    ));
+    var s3SiteMap = webCrawler(Map.of(
+        "s3SiteMapUrl", "s3://my-bucket/sitemap.xml",
+        "authentication", "NoAuthentication"
+    ));
+
+    assertThatCode(() -> validate(seedUrls)).doesNotThrowAnyException();
+    assertThatCode(() -> validate(siteMaps)).doesNotThrowAnyException();
+    assertThatCode(() -> validate(s3SeedUrls)).doesNotThrowAnyException();
+    assertThatCode(() -> validate(s3SiteMap)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void acceptsThePublishedSharePointTemplates() {
+    var online = sharePoint(Map.of(
+        "tenantId", "11111111-2222-3333-4444-555555555555",
+        "domain", "example",
+        "siteUrls", List.of("https://example.sharepoint.com/sites/hr"),
+        "repositoryAdditionalProperties", Map.of("authType", "OAuth2", "version", "Online")
+    ));
+    var onPremises = sharePoint(Map.of(
+        "domain", "corp",
+        "siteUrls", List.of("http://sharepoint.corp.example.com/sites/hr", "HTTPS://Intranet.example.com"),
+        "repositoryAdditionalProperties", Map.of("authType", "NTLM", "version", "Server", "onPremVersion", "2019")
+    ));
+
+    assertThatCode(() -> validate(online)).doesNotThrowAnyException();
+    assertThatCode(() -> validate(onPremises)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void rejectsConfigurationsThatBreakTheirConnectorSchema() {
+    var s3 = Map.<String, Object>of(
+        "type", "S3",
+        "syncMode", "FULL",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of("bucketName", "my-bucket"))
+    );
+
+    assertThatThrownBy(() -> validate(s3))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining("S3 connector schema")
+        .hasMessageContaining("#/syncMode")
+        .hasMessageContaining("required key [BucketName] not found");
+
+    var sharePoint = Map.<String, Object>of(
+        "type", "SHAREPOINTV2",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of("siteUrls", "https://example.sharepoint.com"))
+    );
+    assertThatThrownBy(() -> validate(sharePoint))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining("#/connectionConfiguration/repositoryEndpointMetadata/siteUrls");
+
+    var webCrawler = Map.<String, Object>of(
+        "type", "WEBCRAWLERV2",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of("authentication", "NoAuthentication"))
+    );
+    assertThatThrownBy(() -> validate(webCrawler)).isInstanceOf(CfnInvalidRequestException.class);
+  }
+
+  @Test
+  void passesThroughConnectorsWithoutABundledSchema() {
+    assertThatCode(() -> validate(Map.of("type", "CUSTOM", "anything", List.of(1, 2)))).doesNotThrowAnyException();
+    assertThatCode(() -> validate(Map.of("Type", "WebcrawlerV2"))).doesNotThrowAnyException();
+    assertThatCode(() -> validate(Map.of("type", "../S3"))).doesNotThrowAnyException();
+    assertThatCode(() -> ConnectorSchemaValidator.validate(null)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void compilesEachSchemaOnce() {
+    assertThat(ConnectorSchemaValidator.schemaFor("S3")).isPresent();
+    assertThat(ConnectorSchemaValidator.schemaFor("S3").get()).isSameAs(ConnectorSchemaValidator.schemaFor("S3").get());
+    assertThat(ConnectorSchemaValidator.schemaFor("CUSTOM")).isEmpty();
+  }
+
+  private static Map<String, Object> webCrawler(Map<String, Object> repositoryEndpointMetadata) {
+    return Map.of(
+        "type", "WEBCRAWLERV2",
+        "syncMode", "FULL_CRAWL",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", repositoryEndpointMetadata),
+        "repositoryConfigurations", Map.of("webPage", Map.of("fieldMappings", List.of(Map.of(
+            "indexFieldName", "_source_uri",
+            "indexFieldType", "STRING",
+            "dataSourceFieldName", "sourceUrl"
+        )))),
+        "additionalProperties", Map.of(
+            "crawlDepth", "2",
+            "maxLinksPerUrl", "100",
+            "crawlSubDomain", "false",
+            "crawlAllDomain", "false",
+            "honorRobots", "true",
+            "inclusionURLCrawlPatterns", List.of(),
+            "exclusionURLCrawlPatterns", List.of()
+        )
+    );
+  }
+
+  private static Map<String, Object> sharePoint(Map<String, Object> repositoryEndpointMetadata) {
+    return Map.of(
+        "type", "SHAREPOINTV2",
+        "syncMode", "FULL_CRAWL",
+        "secretArn", "arn:aws:secretsmanager:us-east-1:123456789012:secret:sharepoint-AbCdEf",
+        "enableIdentityCrawler", "false",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", repositoryEndpointMetadata),
+        "repositoryConfigurations", Map.of("document", Map.of("fieldMappings", List.of())),
+        "additionalProperties", Map.of("isCrawlAcl", "true", "inclusionFilePath", List.of())
+    );
+  }
+
+  private static void validate(Map<String, Object> configuration) {
+    ConnectorSchemaValidator.validate(DocumentConverter.convertToMapToDocument(configuration));
+  }
+}
@@ -0,0 +1,155 @@
+package software.amazon.qbusiness.training;
+
+import static software.amazon.qbusiness.common.SharedConstants.PROPERTY_ENDPOINT_URL;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.LambdaRuntime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import software.amazon.qbusiness.common.Priming;
+import software.amazon.qbusiness.common.StabilizationHandoff;
+
+/**
+ * Training workload for a module's native-image configuration, run by the {@code native} build profile under the
+ * native-image agent as {@code java -cp <classpath> HandlerTraining <wrapper class> <training model>}.
+ * <p>
+ * Pushes one canned model through Create, Read, Update, Delete and List via {@code HandlerWrapper.testEntrypoint}
+ * against a loopback {@link StubEndpoint} that echoes the model back as the service response, then runs the registered
+ * {@link Priming} primers. Every class, resource and reflective access the handlers use on that path, SDK models and
+ * marshallers included, ends up in the traced configuration.
+ * <p>
+ * Each invocation runs under a Lambda deadline one second away, so {@link StabilizationHandoff} ends waits for a
+ * resource that is not yet stable with {@code IN_PROGRESS} instead of sleeping through the poll delays.
+ */
+public final class HandlerTraining {
+  static final List<String> ACTIONS = List.of("CREATE", "READ", "UPDATE", "DELETE", "LIST");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final String TRAINING_TOKEN = "handler-training";
+  private static final int REMAINING_TIME_MILLIS = 1000;
+
+  private HandlerTraining() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      throw new IllegalArgumentException("Usage: HandlerTraining <wrapper class> <training model json>");
+    }
+    var logger = LambdaRuntime.getLogger();
+    var model = (ObjectNode) MAPPER.readTree(Files.readAllBytes(Path.of(args[1])));
+
+    List<String> failures;
+    try (var endpoint = StubEndpoint.start(MAPPER.writeValueAsBytes(stubResponse(model)))) {
+      System.setProperty(PROPERTY_ENDPOINT_URL, endpoint.url());
+      failures = train(args[0], model, logger);
+      failures.addAll(Priming.primeAll());
+    }
+    logger.log("[INFO] Training of %s finished, failed steps: %s%n".formatted(args[0], failures));
+  }
+
+  /**
+   * Invokes the wrapper once per action; returns the actions that threw rather than aborting, since a partially
+   * traced configuration is still worth having.
+   */
+  static List<String> train(String wrapperClass, ObjectNode model, LambdaLogger logger) {
+    var failures = new ArrayList<String>();
+    Object wrapper;
+    Method entrypoint;
+    try {
+      wrapper = Class.forName(wrapperClass).getConstructor().newInstance();
+      entrypoint = wrapper.getClass().getMethod("testEntrypoint", InputStream.class, OutputStream.class, Context.class);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("%s has no usable testEntrypoint".formatted(wrapperClass), e);
+    }
+
+    for (String action : ACTIONS) {
+      var context = new TrainingContext(TRAINING_TOKEN, System.currentTimeMillis() + REMAINING_TIME_MILLIS, logger);
+      try {
+        StabilizationHandoff.runWithDeadline(context, () -> invoke(wrapper, entrypoint, payload(action, model), context));
+      } catch (IOException | RuntimeException e) {
+        var cause = e instanceof TrainingStepException ? e.getCause() : e;
+        logger.log("[WARN] Training %s failed: %s%n".formatted(action, cause));
+        failures.add(action);
+      }
+    }
+    return failures;
+  }
+
+  private static void invoke(Object wrapper, Method entrypoint, byte[] payload, Context context) {
+    try {
+      entrypoint.invoke(wrapper, new ByteArrayInputStream(payload), new ByteArrayOutputStream(), context);
+    } catch (InvocationTargetException e) {
+      throw new TrainingStepException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new TrainingStepException(e);
+    }
+  }
+
+  /**
+   * Test-entrypoint payload for one action. Update sees the same model as previous and desired state.
+   */
+  static byte[] payload(String action, ObjectNode model) {
+    var payload = MAPPER.createObjectNode();
+    payload.putObject("credentials")
+        .put("accessKeyId", TRAINING_TOKEN)
+        .put("secretAccessKey", TRAINING_TOKEN)
+        .put("sessionToken", TRAINING_TOKEN);
+    payload.put("action", action);
+    var request = payload.putObject("request")
+        .put("clientRequestToken", TRAINING_TOKEN)
+        .put("awsAccountId", "123456789012")
+        .put("awsPartition", "aws")
+        .put("region", "us-east-1")
+        .put("logicalResourceIdentifier", "HandlerTraining");
+    request.set("desiredResourceState", model.deepCopy());
+    if ("UPDATE".equals(action)) {
+      request.set("previousResourceState", model.deepCopy());
+    }
+    payload.putNull("callbackContext");
+    try {
+      return MAPPER.writeValueAsBytes(payload);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * The model echoed back with service-style camelCase member names, reporting ACTIVE and no tags unless the model says
+   * otherwise. Members a given operation does not model are ignored by the SDK unmarshaller. The handler benchmarks
+   * answer from the same body.
+   */
+  public static ObjectNode stubResponse(ObjectNode model) {
+    var response = MAPPER.createObjectNode();
+    model.fields().forEachRemaining(field -> response.set(
+        Character.toLowerCase(field.getKey().charAt(0)) + field.getKey().substring(1), field.getValue().deepCopy()));
+    if (!response.has("status")) {
+      response.put("status", "ACTIVE");
+    }
+    if (!response.has("tags")) {
+      response.putArray("tags");
+    }
+    return response;
+  }
+
+  private static final class TrainingStepException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    TrainingStepException(Throwable cause) {
+      super(cause);
+    }
+  }
+}
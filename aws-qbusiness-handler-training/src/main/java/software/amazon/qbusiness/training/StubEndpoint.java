@@ -0,0 +1,45 @@
+package software.amazon.qbusiness.training;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * Loopback stand-in for the QBusiness endpoint that answers every request with the same canned JSON body. Fields a given
+ * operation does not model are ignored by the SDK unmarshaller. Used by {@link HandlerTraining} and the cold-start
+ * benchmark.
+ */
+public final class StubEndpoint implements AutoCloseable {
+  private final HttpServer server;
+
+  private StubEndpoint(HttpServer server) {
+    this.server = server;
+  }
+
+  public static StubEndpoint start(byte[] body) throws IOException {
+    var server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> {
+      try (InputStream request = exchange.getRequestBody()) {
+        request.readAllBytes();
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    return new StubEndpoint(server);
+  }
+
+  public String url() {
+    return "http://%s:%d".formatted(server.getAddress().getHostString(), server.getAddress().getPort());
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+}
@@ -0,0 +1,79 @@
+package software.amazon.qbusiness.training;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+
+/**
+ * Lambda context for one training invocation. Only the request id, the remaining time and the logger carry anything.
+ */
+final class TrainingContext implements Context {
+  private static final String FUNCTION_ARN = "arn:aws:lambda:us-east-1:123456789012:function:handler-training";
+  private static final String FUNCTION_NAME = "handler-training";
+
+  private final String requestId;
+  private final long deadlineMillis;
+  private final LambdaLogger logger;
+
+  TrainingContext(String requestId, long deadlineMillis, LambdaLogger logger) {
+    this.requestId = requestId;
+    this.deadlineMillis = deadlineMillis;
+    this.logger = logger;
+  }
+
+  @Override
+  public String getAwsRequestId() {
+    return requestId;
+  }
+
+  @Override
+  public String getLogGroupName() {
+    return null;
+  }
+
+  @Override
+  public String getLogStreamName() {
+    return null;
+  }
+
+  @Override
+  public String getFunctionName() {
+    return FUNCTION_NAME;
+  }
+
+  @Override
+  public String getFunctionVersion() {
+    return null;
+  }
+
+  @Override
+  public String getInvokedFunctionArn() {
+    return FUNCTION_ARN;
+  }
+
+  @Override
+  public CognitoIdentity getIdentity() {
+    return null;
+  }
+
+  @Override
+  public ClientContext getClientContext() {
+    return null;
+  }
+
+  @Override
+  public int getRemainingTimeInMillis() {
+    return (int) Math.max(0, deadlineMillis - System.currentTimeMillis());
+  }
+
+  @Override
+  public int getMemoryLimitInMB() {
+    return 0;
+  }
+
+  @Override
+  public LambdaLogger getLogger() {
+    return logger;
+  }
+}
@@ -0,0 +1,108 @@
+package software.amazon.qbusiness.training;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HandlerTrainingTest {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final List<JsonNode> RECEIVED = new ArrayList<>();
+
+  private final List<String> logged = new ArrayList<>();
+  private final LambdaLogger logger = new LambdaLogger() {
+    @Override
+    public void log(String message) {
+      logged.add(message);
+    }
+
+    @Override
+    public void log(byte[] message) {
+      log(new String(message));
+    }
+  };
+  private ObjectNode model;
+
+  @BeforeEach
+  public void setup() {
+    RECEIVED.clear();
+    model = MAPPER.createObjectNode()
+        .put("ApplicationId", "ApplicationId")
+        .put("DisplayName", "DisplayName");
+  }
+
+  @Test
+  public void trainInvokesEveryActionInOrder() {
+    var failures = HandlerTraining.train(RecordingWrapper.class.getName(), model, logger);
+
+    assertThat(failures).isEmpty();
+    assertThat(RECEIVED).extracting(payload -> payload.get("action").asText())
+        .containsExactly("CREATE", "READ", "UPDATE", "DELETE", "LIST");
+    assertThat(RECEIVED).allSatisfy(payload -> {
+      assertThat(payload.at("/request/desiredResourceState")).isEqualTo(model);
+      assertThat(payload.at("/credentials/accessKeyId").asText()).isNotEmpty();
+    });
+    assertThat(RECEIVED.get(2).at("/request/previousResourceState")).isEqualTo(model);
+    assertThat(RECEIVED.get(0).at("/request/previousResourceState").isMissingNode()).isTrue();
+  }
+
+  @Test
+  public void trainCollectsFailedActions() {
+    var failures = HandlerTraining.train(FailingWrapper.class.getName(), model, logger);
+
+    assertThat(failures).containsExactlyElementsOf(HandlerTraining.ACTIONS);
+    assertThat(logged).hasSize(HandlerTraining.ACTIONS.size())
+        .allSatisfy(message -> assertThat(message).startsWith("[WARN]").contains("boom"));
+  }
+
+  @Test
+  public void trainRejectsWrapperWithoutEntrypoint() {
+    assertThatThrownBy(() -> HandlerTraining.train(String.class.getName(), model, logger))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void stubResponseEchoesModelInServiceCase() {
+    var response = HandlerTraining.stubResponse(model);
+
+    assertThat(response.get("applicationId").asText()).isEqualTo("ApplicationId");
+    assertThat(response.get("displayName").asText()).isEqualTo("DisplayName");
+    assertThat(response.get("status").asText()).isEqualTo("ACTIVE");
+    assertThat(response.get("tags").isArray()).isTrue();
+    assertThat(response.has("ApplicationId")).isFalse();
+  }
+
+  @Test
+  public void stubResponseKeepsModelStatus() {
+    model.put("Status", "CREATING");
+
+    assertThat(HandlerTraining.stubResponse(model).get("status").asText()).isEqualTo("CREATING");
+  }
+
+  public static class RecordingWrapper {
+    public void testEntrypoint(InputStream input, OutputStream output, Context context) throws IOException {
+      assertThat(context.getRemainingTimeInMillis()).isPositive();
+      RECEIVED.add(MAPPER.readTree(input));
+      output.write("{}".getBytes());
+    }
+  }
+
+  public static class FailingWrapper {
+    public void testEntrypoint(InputStream input, OutputStream output, Context context) {
+      throw new IllegalStateException("boom");
+    }
+  }
+}
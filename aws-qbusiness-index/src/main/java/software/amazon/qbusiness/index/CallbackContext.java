@@ -1,10 +1,27 @@
 package software.amazon.qbusiness.index;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.StabilizationHandoff;
+import software.amazon.qbusiness.common.WrittenTags;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements StabilizationHandoff.State, CreateResumption.State, WrittenTags.State {
+  private Map<String, Integer> stabilizationAttempts = new HashMap<>();
+  private Set<String> stabilizedPhases = new HashSet<>();
+  private Long invocationStartedAt;
+  private String createdId;
+  private String createPhase;
+  private int createPollCount;
+  private Long createStartedAt;
+  private Map<String, String> writtenTags;
+  private Long tagsWrittenAt;
 }
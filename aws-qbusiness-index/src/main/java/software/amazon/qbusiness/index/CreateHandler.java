@@ -4,6 +4,7 @@ import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexResponse;
@@ -15,6 +16,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -31,15 +36,43 @@ public class CreateHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(15))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Create");
+  private static final ParentReadinessGate PARENT_READINESS = ParentReadinessGate.fromEnvironment();
+  private static final String CALL_GRAPH = "AWS-QBusiness-Index::Create";
+  private static final String PARENT_CALL_GRAPH = "AWS-QBusiness-Index::AwaitApplication";
+
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<Index> statusPoller;
+  private final StabilizationHandoff handoff;
+  private final ParentReadinessGate parentReadiness;
   private Logger logger;
 
   public CreateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF, PARENT_READINESS);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, CoalescedStatusPoller<Index> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, CoalescedStatusPoller<Index> statusPoller, StabilizationHandoff handoff) {
+    this(backOffStrategy, statusPoller, handoff, ParentReadinessGate.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<Index> statusPoller,
+      StabilizationHandoff handoff,
+      ParentReadinessGate parentReadiness
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
+    this.parentReadiness = parentReadiness;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -55,17 +88,38 @@ public class CreateHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), request.getAwsAccountId(), request.getDesiredResourceState().getApplicationId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentReadiness.awaitApplication(
+            proxyClient, progress, request, PARENT_CALL_GRAPH, ResourceModel::getApplicationId, logger
+        ))
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreateIndex(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
-                .handleError((createReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_INDEX
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((awsReq, response, clientProxyClient, model, context) ->
+                    handoff.isEnabled() || isCreateStabilized(request, clientProxyClient, model, context))
+                .handleError((createReq, error, client, model, context) -> parentReadiness.handleConflict(
+                    error, model, context, logger, () -> CreateResumption.handleCreateError(
+                        error, model, context, logger, () -> handleError(
+                            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_INDEX
+                        )
+                    )
                 ))
                 .progress()
         )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isCreateStabilized(request, proxyClient, model, context),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_INDEX
+            ),
+            logger
+        ))
         .then(progress -> {
           var documentAttributionConfig = request.getDesiredResourceState().getDocumentAttributeConfigurations();
           if (documentAttributionConfig == null || documentAttributionConfig.isEmpty()) {
@@ -77,11 +131,16 @@ public class CreateHandler extends BaseHandlerStd {
                       progress.getResourceModel().getIndexId())
           );
 
-          return proxy.initiate("AWS-QBusiness-Index::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+          return initiate(proxy, "AWS-QBusiness-Index::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
               .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
-              .makeServiceCall(this::callUpdateIndex)
+              .makeServiceCall((updateIndexRequest, clientProxyClient) -> {
+                var response = callUpdateIndex(updateIndexRequest, clientProxyClient);
+                statusPoller.mutated(CoalescedStatusPoller.parentKey(request, progress.getResourceModel().getApplicationId()),
+                    progress.getResourceModel().getIndexId());
+                return response;
+              })
               .stabilize((updateIndexRequest, updateIndexResponse, clientProxyClient, model, context) ->
-                  isStabilized(clientProxyClient, model, logger))
+                  isStabilized(request, clientProxyClient, model, logger))
               .handleError((updateIndexRequest, error, client, model, context) -> handleError(
                   model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_INDEX
               ))
@@ -93,16 +152,27 @@ public class CreateHandler extends BaseHandlerStd {
   }
 
   private boolean isStabilized(
+      final ResourceHandlerRequest<ResourceModel> request,
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model,
       final Logger logger) {
-    final GetIndexResponse getIndexResponse = getIndex(model, proxyClient, logger);
+    // A listed FAILED still goes through GetIndex below for the error message
+    final String parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    final IndexStatus listedStatus = listedStatus(parentKey, model, proxyClient, statusPoller, logger);
+    if (IndexStatus.CREATING.equals(listedStatus) || IndexStatus.UPDATING.equals(listedStatus)) {
+      logger.log("[INFO] %s with ApplicationId: %s and IndexId: %s is still stabilizing."
+          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getIndexId()));
+      return false;
+    }
 
-    final String status = getIndexResponse.statusAsString();
+    final GetIndexResponse getIndexResponse = IndexStatus.ACTIVE.equals(listedStatus) ? null : getIndex(model, proxyClient, logger);
+
+    final String status = getIndexResponse == null ? listedStatus.toString() : getIndexResponse.statusAsString();
 
     if (IndexStatus.ACTIVE.toString().equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and IndexId: %s has stabilized"
           .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getIndexId()));
+      statusPoller.complete(parentKey, model.getIndexId());
       return true;
     }
 
@@ -113,6 +183,7 @@ public class CreateHandler extends BaseHandlerStd {
     }
 
     // handle failed state
+    statusPoller.complete(parentKey, model.getIndexId());
 
     RuntimeException causeMessage = null;
     if (Objects.nonNull(getIndexResponse.error()) && StringUtils.isNotBlank(getIndexResponse.error().errorMessage())) {
@@ -122,6 +193,32 @@ public class CreateHandler extends BaseHandlerStd {
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString(), causeMessage);
   }
 
+  private boolean isCreateStabilized(
+      final ResourceHandlerRequest<ResourceModel> request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel model,
+      final CallbackContext context) {
+    CreateResumption.polled(context);
+    return isStabilized(request, proxyClient, model, logger);
+  }
+
+  private CreateIndexResponse createOrResume(
+      final CreateIndexRequest request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel model,
+      final CallbackContext context) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setIndexId(createdId);
+      return CreateIndexResponse.builder().indexId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateIndex(request, proxyClient, model);
+    CreateResumption.created(context, response.indexId());
+    return response;
+  }
+
   private CreateIndexResponse callCreateIndex(final CreateIndexRequest request,
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model) {
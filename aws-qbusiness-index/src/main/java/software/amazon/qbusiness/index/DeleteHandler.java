@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 import java.time.Duration;
 
@@ -24,15 +25,24 @@ public class DeleteHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(30))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete");
+  private static final String CALL_GRAPH = "AWS-QBusiness-Index::Delete";
+
   private final Constant backOffStrategy;
+  private final StabilizationHandoff handoff;
   private Logger logger;
 
   public DeleteHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, HANDOFF);
   }
 
   public DeleteHandler(Constant backOffStrategy) {
+    this(backOffStrategy, StabilizationHandoff.disabled());
+  }
+
+  public DeleteHandler(Constant backOffStrategy, StabilizationHandoff handoff) {
     this.backOffStrategy = backOffStrategy;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,18 +63,31 @@ public class DeleteHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callDeleteIndex)
-                .stabilize((awsRequest, deleteResponse, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((awsRequest, deleteResponse, clientProxyClient, model, context) ->
+                    handoff.isEnabled() || isStabilized(clientProxyClient, model))
                 // See contract tests: https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                 // If the resource did not exist before the delete call, a not found is expected.
                 .handleError((awsRequest, error, clientProxyClient, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_INDEX
                 ))
-                .done(deleteResponse -> ProgressEvent.defaultSuccessHandler(null))
-        );
+                .progress()
+        )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isStabilized(proxyClient, model),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_INDEX
+            ),
+            logger
+        ))
+        .then(progress -> ProgressEvent.defaultSuccessHandler(null));
   }
 
   private DeleteIndexResponse callDeleteIndex(DeleteIndexRequest request, ProxyClient<QBusinessClient> proxyClient) {
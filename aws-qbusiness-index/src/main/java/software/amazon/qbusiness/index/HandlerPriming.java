@@ -0,0 +1,96 @@
+package software.amazon.qbusiness.index;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+
+import software.amazon.awssdk.services.qbusiness.model.AttributeType;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.IndexType;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.Status;
+import software.amazon.awssdk.services.qbusiness.model.TextDocumentStatistics;
+import software.amazon.qbusiness.common.Priming;
+
+/**
+ * Canned create/read/update/list round trips through the Index translator, run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String INDEX_ID = "00000000-0000-0000-0000-000000000001";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .indexId(INDEX_ID)
+        .displayName("priming")
+        .description("priming")
+        .type(IndexType.ENTERPRISE.toString())
+        .capacityConfiguration(IndexCapacityConfiguration.builder().units(1.0).build())
+        .documentAttributeConfigurations(List.of(DocumentAttributeConfiguration.builder()
+            .name("priming")
+            .type(AttributeType.STRING.toString())
+            .search(Status.ENABLED.toString())
+            .build()))
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    Translator.translateToPostCreateUpdateRequest(model);
+    var updateRequest = Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(null, model);
+
+    var getResponse = GetIndexResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .indexId(INDEX_ID)
+        .indexArn(Utils.buildIndexArn(request, model))
+        .displayName(model.getDisplayName())
+        .type(IndexType.ENTERPRISE)
+        .status(IndexStatus.ACTIVE)
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .capacityConfiguration(updateRequest.capacityConfiguration())
+        .documentAttributeConfigurations(updateRequest.documentAttributeConfigurations())
+        .indexStatistics(software.amazon.awssdk.services.qbusiness.model.IndexStatistics.builder()
+            .textDocumentStatistics(TextDocumentStatistics.builder()
+                .indexedTextBytes(0L)
+                .indexedTextDocumentCount(0)
+                .build())
+            .build())
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(ListIndicesResponse.builder()
+        .indices(software.amazon.awssdk.services.qbusiness.model.Index.builder()
+            .indexId(INDEX_ID)
+            .status(IndexStatus.ACTIVE)
+            .createdAt(Instant.EPOCH)
+            .build())
+        .build(), APPLICATION_ID);
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -8,6 +8,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
@@ -31,7 +32,7 @@ public class ReadHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Index::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 // Create Get Index request from resource model
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 // Make call to the service
@@ -41,9 +42,15 @@ public class ReadHandler extends BaseHandlerStd {
                 ))
                 .done(serviceResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(serviceResponse), callbackContext))
         )
+        // An update that just wrote the tags already knows them
+        .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+            .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+            ))
+            .orElse(progress))
         // Now process listing tags for the resource
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::ListTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Index::ListTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToListTagsRequest(request, model))
                 .makeServiceCall(this::callListTags)
                 .handleError((listTagsRequest, error, client, model, context) -> handleError(
@@ -8,6 +8,7 @@ import java.time.Duration;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexResponse;
@@ -17,6 +18,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 import software.amazon.qbusiness.common.TagUtils;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -26,15 +29,30 @@ public class UpdateHandler extends BaseHandlerStd {
       .delay(Duration.ofMinutes(1))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update");
+  private static final String CALL_GRAPH = "AWS-QBusiness-Index::Update";
+
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<Index> statusPoller;
+  private final StabilizationHandoff handoff;
   private Logger logger;
 
   public UpdateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF);
   }
 
   public UpdateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public UpdateHandler(Constant backOffStrategy, CoalescedStatusPoller<Index> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
+
+  public UpdateHandler(Constant backOffStrategy, CoalescedStatusPoller<Index> statusPoller, StabilizationHandoff handoff) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,23 +71,41 @@ public class UpdateHandler extends BaseHandlerStd {
         request.getStackId()
     ));
 
-    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::updateIndex)
-                .stabilize((serviceRequest, updateIndexResponse, client, model, context) -> isStabilized(client, model))
-                .handleError((serviceRequest, error, client, model, context) -> handleError(
+    var tagUpdate = TagUtils.tagUpdate(ResourceModel.TYPE_NAME, request, proxyClient, logger);
+    return tagUpdate.applyAlongside(
+        () -> ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress ->
+                initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToUpdateRequest)
+                    .backoffDelay(backOffStrategy)
+                    .makeServiceCall((updateRequest, client) -> {
+                      var response = updateIndex(updateRequest, client);
+                      statusPoller.mutated(CoalescedStatusPoller.parentKey(request, progress.getResourceModel().getApplicationId()),
+                          progress.getResourceModel().getIndexId());
+                      // Tags don't depend on the update, so they are applied while it stabilizes
+                      tagUpdate.start(Utils.buildIndexArn(request, progress.getResourceModel()));
+                      return response;
+                    })
+                    // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                    .stabilize((serviceRequest, updateIndexResponse, client, model, context) ->
+                        handoff.isEnabled() || isStabilized(request, client, model))
+                    .handleError((serviceRequest, error, client, model, context) -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_INDEX
+                    ))
+                    .progress()
+            )
+            .then(progress -> handoff.await(
+                progress,
+                CALL_GRAPH,
+                backOffStrategy,
+                (model, context) -> isStabilized(request, proxyClient, model),
+                (error, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_INDEX
-                ))
-                .progress()
-        )
-        .then(progress -> {
-          var arn = Utils.buildIndexArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
-        .then(model -> readHandler(proxy, request, callbackContext, proxyClient));
+                ),
+                logger
+            )),
+        model -> Utils.buildIndexArn(request, model)
+    ).then(model -> readHandler(proxy, request, callbackContext, proxyClient));
   }
 
   private ProgressEvent<ResourceModel, CallbackContext> readHandler(
@@ -86,11 +122,19 @@ public class UpdateHandler extends BaseHandlerStd {
   }
 
   private boolean isStabilized(
+      final ResourceHandlerRequest<ResourceModel> request,
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model) {
-    GetIndexResponse getIndexResponse = getIndex(model, proxyClient, logger);
-    final IndexStatus status = getIndexResponse.status();
+    final String parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    IndexStatus status = listedStatus(parentKey, model, proxyClient, statusPoller, logger);
+    if (!IndexStatus.ACTIVE.equals(status) && !IndexStatus.UPDATING.equals(status)) {
+      GetIndexResponse getIndexResponse = getIndex(model, proxyClient, logger);
+      status = getIndexResponse.status();
+    }
     final boolean hasStabilized = IndexStatus.ACTIVE.equals(status);
+    if (hasStabilized) {
+      statusPoller.complete(parentKey, model.getIndexId());
+    }
     logger.log("[INFO] %s with ApplicationId: %s and IndexId: %s has stabilized."
         .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getIndexId()));
     return hasStabilized;
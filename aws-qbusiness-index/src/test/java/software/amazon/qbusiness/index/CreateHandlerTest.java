@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -14,6 +15,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -35,12 +37,15 @@ import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
+import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexType;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
@@ -58,6 +63,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends AbstractTestBase {
@@ -170,6 +176,35 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
+  @Test
+  public void handleRequest_ResumesRecordedCreateWithoutCreatingAgain() {
+    var context = new CallbackContext();
+    context.setCreateStartedAt(Instant.now().toEpochMilli());
+    context.setCreatedId(INDEX_ID);
+    when(QBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+    when(QBusinessClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(GetIndexResponse.builder()
+            .applicationId(APP_ID)
+            .indexId(INDEX_ID)
+            .status(IndexStatus.ACTIVE)
+            .displayName(createModel.getDisplayName())
+            .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, context, proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getResourceModel().getIndexId()).isEqualTo(INDEX_ID);
+    assertThat(context.getCreatePollCount()).isEqualTo(1);
+    verify(QBusinessClient, never()).createIndex(any(CreateIndexRequest.class));
+    verify(QBusinessClient, never()).listIndices(any(ListIndicesRequest.class));
+    verify(QBusinessClient, times(2)).getIndex(any(GetIndexRequest.class));
+    verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   @Test
   public void handleCreateRequestWithDocumentAttributeConfiguration() {
     // set up scenario
@@ -277,6 +312,53 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
+  @Test
+  public void handleRequestStabilizesFromCoalescedListingWhenSiblingsAreInFlight() {
+    // set up scenario
+    var statusPoller = CoalescedStatusPoller.<Index>fromEnvironment();
+    underTest = new CreateHandler(testBackOff, statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID), "sibling", Map::of, logger);
+
+    when(QBusinessClient.createIndex(any(CreateIndexRequest.class)))
+        .thenReturn(CreateIndexResponse.builder()
+            .indexId(INDEX_ID)
+            .build()
+        );
+    when(QBusinessClient.listIndices(any(ListIndicesRequest.class)))
+        .thenReturn(ListIndicesResponse.builder()
+            .indices(
+                Index.builder().indexId(INDEX_ID).status(IndexStatus.ACTIVE).build(),
+                Index.builder().indexId("sibling").status(IndexStatus.CREATING).build()
+            )
+            .build());
+    when(QBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+    when(QBusinessClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(GetIndexResponse.builder()
+            .applicationId(APP_ID)
+            .indexId(INDEX_ID)
+            .status(IndexStatus.ACTIVE)
+            .type(IndexType.ENTERPRISE)
+            .displayName(createModel.getDisplayName())
+            .build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(QBusinessClient).createIndex(any(CreateIndexRequest.class));
+    verify(QBusinessClient).listIndices(
+        argThat((ArgumentMatcher<ListIndicesRequest>) t -> t.applicationId().equals(APP_ID))
+    );
+    // only the read after stabilization
+    verify(QBusinessClient).getIndex(any(GetIndexRequest.class));
+    verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   @Test
   public void testItFailsWithErrorMessageWhenGetReturnsFailStatus() {
     // set up
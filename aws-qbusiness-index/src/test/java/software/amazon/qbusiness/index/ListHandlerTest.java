@@ -3,6 +3,7 @@ package software.amazon.qbusiness.index;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,14 +20,19 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListIndicesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandlerTest extends AbstractTestBase {
 
@@ -117,4 +123,50 @@ public class ListHandlerTest extends AbstractTestBase {
         argThat((ArgumentMatcher<ListIndicesRequest>) t -> t.nextToken().equals(TEST_NEXT_TOKEN))
     );
   }
+
+  @Test
+  public void handleRequest_WithDetails() {
+    underTest = new ListHandler(ListDetails.of(2, 1000));
+    List<String> ids = List.of("first", "second", "third");
+    when(sdkClient.listIndices(any(ListIndicesRequest.class)))
+        .thenReturn(ListIndicesResponse.builder()
+            .indices(ids.stream()
+                .map(id -> Index.builder()
+                    .indexId(id)
+                    .build()
+                )
+                .toList())
+            .build()
+        );
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenAnswer(invocation -> {
+          GetIndexRequest getRequest = invocation.getArgument(0);
+          return GetIndexResponse.builder()
+              .applicationId(APP_ID)
+              .indexId(getRequest.indexId())
+              .displayName("Index " + getRequest.indexId())
+              .build();
+        });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(tag -> tag.key("team").value("search"))
+            .build()
+        );
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // every summary is replaced by its Read model, in page order
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var models = resultProgress.getResourceModels();
+    assertThat(models).extracting(ResourceModel::getIndexId).containsExactlyElementsOf(ids);
+    assertThat(models).extracting(ResourceModel::getDisplayName)
+        .containsExactly("Index first", "Index second", "Index third");
+    assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+    verify(sdkClient).listIndices(any(ListIndicesRequest.class));
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -15,6 +16,9 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,7 +37,10 @@ import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AttributeType;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.Status;
@@ -44,10 +51,13 @@ import software.amazon.awssdk.services.qbusiness.model.UntagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class UpdateHandlerTest extends AbstractTestBase {
 
@@ -202,7 +212,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -226,6 +236,105 @@ public class UpdateHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void handleRequest_StabilizesFromCoalescedListingWhenSiblingsAreInFlight() {
+    var statusPoller = CoalescedStatusPoller.<Index>fromEnvironment();
+    underTest = new UpdateHandler(backOffStrategy, statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID), "sibling", Map::of, logger);
+    when(sdkClient.listIndices(any(ListIndicesRequest.class)))
+        .thenReturn(ListIndicesResponse.builder()
+            .indices(
+                Index.builder().indexId(INDEX_ID).status(IndexStatus.ACTIVE).build(),
+                Index.builder().indexId("sibling").status(IndexStatus.UPDATING).build()
+            )
+            .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateIndex(any(UpdateIndexRequest.class));
+    verify(sdkClient).listIndices(any(ListIndicesRequest.class));
+    // only the read after stabilization
+    verify(sdkClient).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_HandsOffLongWaitToCallback() {
+    underTest = new UpdateHandler(
+        UpdateHandler.DEFAULT_BACK_OFF_STRATEGY,
+        CoalescedStatusPoller.disabled(),
+        StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update")
+    );
+    var updating = GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .status(IndexStatus.UPDATING)
+        .build();
+    var active = updating.toBuilder()
+        .createdAt(Instant.ofEpochMilli(1697824935000L))
+        .updatedAt(Instant.ofEpochMilli(1697839335000L))
+        .status(IndexStatus.ACTIVE)
+        .build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenReturn(updating, active);
+
+    final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(60);
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, firstProgress.getCallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateIndex(any(UpdateIndexRequest.class));
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_TagsWhileUpdateStabilizes() {
+    var tagged = new CountDownLatch(1);
+    var taggedBeforeStabilized = new AtomicBoolean();
+    when(sdkClient.tagResource(any(TagResourceRequest.class))).thenAnswer(invocation -> {
+      tagged.countDown();
+      return TagResourceResponse.builder().build();
+    });
+    var active = GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .status(IndexStatus.ACTIVE)
+        .build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenAnswer(invocation -> {
+          // The stabilization check only reports ACTIVE once the tag call has been made
+          taggedBeforeStabilized.set(tagged.await(5, TimeUnit.SECONDS));
+          return active;
+        })
+        .thenReturn(active);
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(taggedBeforeStabilized).isTrue();
+    verify(sdkClient).updateIndex(any(UpdateIndexRequest.class));
+    verify(sdkClient, times(2)).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
   @Test
   public void testThatItDoesntTagAndUnTag() {
     // set up scenario
@@ -342,7 +451,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(sdkClient).tagResource(tagReqCaptor.capture());
@@ -386,7 +495,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(sdkClient).untagResource(untagReqCaptor.capture());
@@ -19,25 +19,44 @@ import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.HandlerProfiling;
+import software.amazon.qbusiness.common.RetryBudget;
+import software.amazon.qbusiness.common.SingleFlight;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    HandlerPriming.register();
+  }
+
+  // Shared by every handler in the container so that, with QBUSINESS_SINGLE_FLIGHT on, concurrent reads of one
+  // application's policy make a single GetPolicy call
+  static final SingleFlight SINGLE_FLIGHT = SingleFlight.fromEnvironment();
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    HandlerProfiling.startRecording(logger);
+    var retryUsage = RetryBudget.startInvocation();
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        callbackContext != null ? callbackContext : new CallbackContext(),
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      HandlerProfiling.dumpRecording(logger);
+      RetryBudget.emitInvocationMetrics(logger, ResourceModel.TYPE_NAME, retryUsage);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -47,6 +66,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<QBusinessClient> proxyClient,
     final Logger logger);
 
+  /**
+   * Starts a call chain like {@code proxy.initiate}, timed step by step when {@link HandlerProfiling} is enabled.
+   */
+  protected CallChain.RequestMaker<QBusinessClient, ResourceModel, CallbackContext> initiate(
+    final AmazonWebServicesClientProxy proxy,
+    final String callGraph,
+    final ProxyClient<QBusinessClient> proxyClient,
+    final ResourceModel model,
+    final CallbackContext callbackContext) {
+    return HandlerProfiling.profile(callGraph, proxy.initiate(callGraph, proxyClient, model, callbackContext));
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> handleError(
       QBusinessRequest qBusinessRequest,
       ResourceModel resourceModel,
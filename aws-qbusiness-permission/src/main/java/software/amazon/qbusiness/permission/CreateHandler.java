@@ -1,6 +1,7 @@
 package software.amazon.qbusiness.permission;
 
 import static software.amazon.qbusiness.permission.Constants.API_ASSOCIATE_PERMISSION;
+import static software.amazon.qbusiness.permission.Constants.API_GET_POLICY;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AssociatePermissionRequest;
@@ -29,7 +30,7 @@ public class CreateHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Permission::Create", proxyClient,
+            initiate(proxy, "AWS-QBusiness-Permission::Create", proxyClient,
                     progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToCreateRequest)
                 .makeServiceCall((awsRequest, client) -> callAssociatePermission(awsRequest, client,
@@ -39,6 +40,12 @@ public class CreateHandler extends BaseHandlerStd {
                         API_ASSOCIATE_PERMISSION))
                 .progress()
         )
+        .then(progress -> {
+          // Later reads must not be handed a policy fetched before this change
+          var getPolicyRequest = Translator.translateToReadRequest(progress.getResourceModel());
+          SINGLE_FLIGHT.invalidate(request, API_GET_POLICY, getPolicyRequest);
+          return progress;
+        })
         .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
   }
 
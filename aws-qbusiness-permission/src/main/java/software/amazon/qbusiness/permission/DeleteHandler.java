@@ -1,6 +1,7 @@
 package software.amazon.qbusiness.permission;
 
 import static software.amazon.qbusiness.permission.Constants.API_DISASSOCIATE_PERMISSION;
+import static software.amazon.qbusiness.permission.Constants.API_GET_POLICY;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DisassociatePermissionRequest;
@@ -28,7 +29,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Permission::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Permission::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                 .makeServiceCall(this::callDisAssociatePermission)
                 .handleError((awsRequest, error, clientProxyClient, model, context) -> handleError(
@@ -36,6 +37,12 @@ public class DeleteHandler extends BaseHandlerStd {
                 ))
                 .progress()
         )
+        .then(progress -> {
+          // Later reads must not be handed a policy fetched before this change
+          var getPolicyRequest = Translator.translateToReadRequest(progress.getResourceModel());
+          SINGLE_FLIGHT.invalidate(request, API_GET_POLICY, getPolicyRequest);
+          return progress;
+        })
         .then(progress -> ProgressEvent.defaultSuccessHandler(null));
   }
 
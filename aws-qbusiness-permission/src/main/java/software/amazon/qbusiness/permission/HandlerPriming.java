@@ -0,0 +1,58 @@
+package software.amazon.qbusiness.permission;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.util.List;
+
+import software.amazon.qbusiness.common.Priming;
+import software.amazon.qbusiness.permission.internal.PolicyParser;
+
+/**
+ * Canned create/read/list round trips through the Permission translator and policy parser, run before a SnapStart
+ * checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String STATEMENT_ID = "priming";
+  private static final String POLICY = """
+      {
+        "Version": "2012-10-17",
+        "Statement": [{
+          "Sid": "priming",
+          "Effect": "Allow",
+          "Principal": {"AWS": "arn:aws:iam::123456789012:role/priming"},
+          "Action": ["qbusiness:SearchRelevantContent", "qbusiness:GetRelevantContent"],
+          "Resource": "arn:aws:qbusiness:us-east-1:123456789012:application/00000000-0000-0000-0000-000000000000"
+        }]
+      }
+      """;
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .statementId(STATEMENT_ID)
+        .principal("arn:aws:iam::123456789012:role/priming")
+        .actions(List.of("qbusiness:SearchRelevantContent"))
+        .build();
+
+    Translator.translateToCreateRequest(model);
+    Translator.translateToReadRequest(model);
+    Translator.translateToDeleteRequest(model);
+
+    PolicyParser.getPermissionModelsFromPolicy(POLICY, APPLICATION_ID);
+    PolicyParser.getStatementFromPolicy(POLICY, STATEMENT_ID, APPLICATION_ID)
+        .ifPresent(readModel -> Priming.roundTrip(readModel, new TypeReference<>() {
+        }));
+  }
+}
@@ -32,10 +32,10 @@ public class ListHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress ->
-                proxy.initiate("AWS-QBusiness-Permission::List", proxyClient,
+                initiate(proxy, "AWS-QBusiness-Permission::List", proxyClient,
                         request.getDesiredResourceState(), callbackContext)
                     .translateToServiceRequest(Translator::translateToReadRequest)
-                    .makeServiceCall(this::callGetPolicy)
+                    .makeServiceCall((getPolicyRequest, client) -> callGetPolicy(request, getPolicyRequest, client))
                     .handleError((getApplicationRequest, error, client, model, context) ->
                         handleError(getApplicationRequest, model, error, context, logger,
                             API_GET_POLICY))
@@ -56,8 +56,11 @@ public class ListHandler extends BaseHandlerStd {
             );
     }
 
-    private GetPolicyResponse callGetPolicy(GetPolicyRequest request,
+    private GetPolicyResponse callGetPolicy(
+        ResourceHandlerRequest<ResourceModel> handlerRequest,
+        GetPolicyRequest request,
         ProxyClient<QBusinessClient> proxyClient) {
-        return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::getPolicy);
+        return SINGLE_FLIGHT.call(handlerRequest, API_GET_POLICY, request, proxyClient,
+            proxyClient.client()::getPolicy);
     }
 }
@@ -1,16 +1,53 @@
 package software.amazon.qbusiness.permission.internal;
 
-import com.amazonaws.auth.policy.Action;
-import com.amazonaws.auth.policy.Policy;
-import com.amazonaws.auth.policy.PolicyReaderOptions;
-import com.amazonaws.auth.policy.Statement;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import software.amazon.qbusiness.permission.ResourceModel;
 
+/**
+ * Reads the statements of a GetPolicy document with a single pass of Jackson's streaming parser, keeping only
+ * {@code Sid}, {@code Action} and {@code Principal}.
+ * <p>
+ * It reads documents the way the SDK v1 {@code Policy.fromJson} reader did, with principal id hyphens kept:
+ * <ul>
+ *   <li>{@code Statement} may be a single statement or an array of them.</li>
+ *   <li>{@code Action} may be a single action or an array of them.</li>
+ *   <li>Values are read as text. Numbers, booleans and {@code null} become their JSON text, and objects and arrays
+ *   become empty.</li>
+ *   <li>A repeated key keeps its last value.</li>
+ *   <li>Statements without a {@code Sid} are numbered "1", "2", ..., skipping numbers other statements use.</li>
+ *   <li>An {@code Effect} other than {@code Allow} or {@code Deny}, a principal type other than {@code AWS},
+ *   {@code Service} or {@code Federated}, or malformed JSON fails the whole document with an
+ *   {@link IllegalArgumentException}.</li>
+ * </ul>
+ */
 public class PolicyParser {
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .enable(JsonReadFeature.ALLOW_JAVA_COMMENTS)
+      .build();
+  private static final String STATEMENT = "Statement";
+  private static final String STATEMENT_ID = "Sid";
+  private static final String EFFECT = "Effect";
+  private static final String ACTION = "Action";
+  private static final String PRINCIPAL = "Principal";
+  private static final String ALL_PRINCIPALS = "*";
+  private static final Set<String> EFFECTS = Set.of("Allow", "Deny");
+  // Federated principals naming a web identity provider are read as the provider's canonical name
+  private static final List<String> WEB_IDENTITY_PROVIDERS =
+      List.of("graph.facebook.com", "accounts.google.com", "www.amazon.com", ALL_PRINCIPALS);
+
   /**
    * This method parses the output policy of GetPolicy into a list of permission ResourceModel
    * Example:
@@ -32,9 +69,7 @@ public class PolicyParser {
    * @return a list of ResourceModel for Qbusiness::Permission
    */
   public static List<ResourceModel> getPermissionModelsFromPolicy(final String policy, final String applicationId) {
-    final PolicyReaderOptions policyReaderOptions = new PolicyReaderOptions().withStripAwsPrincipalIdHyphensEnabled(false);
-    final Policy parsedPolicy = Policy.fromJson(policy, policyReaderOptions);
-    return parsedPolicy.getStatements()
+    return parseStatements(policy)
         .stream()
         .map(statement -> getPermissionModelFromStatement(statement, applicationId))
         .collect(Collectors.toList());
@@ -49,20 +84,206 @@ public class PolicyParser {
   }
 
   private static ResourceModel getPermissionModelFromStatement(final Statement statement, final String applicationId) {
-    final String id = statement.getId();
-    final List<String> actions = statement.getActions().stream().map(Action::getActionName).toList();
     // FE model accepts a single Principal per statement
-    if (statement.getPrincipals().size() != 1 ) {
-      throw new IllegalStateException(String.format("getPolicy returned statement with unexpected number of principals: %s, only %d allowed", statement.getPrincipals(), 1));
+    if (statement.principals().size() != 1 ) {
+      throw new IllegalStateException(String.format("getPolicy returned statement with unexpected number of principals: %s, only %d allowed", statement.principals(), 1));
     }
-    final String principal = statement.getPrincipals().get(0).getId();
 
     return ResourceModel.builder()
         .applicationId(applicationId)
-        .statementId(id)
-        .actions(actions)
-        .principal(principal)
+        .statementId(statement.id())
+        .actions(statement.actions())
+        .principal(statement.principals().get(0))
         .build();
   }
 
+  private static List<Statement> parseStatements(final String policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("JSON string cannot be null");
+    }
+
+    try (JsonParser parser = JSON_FACTORY.createParser(policy)) {
+      return resolve(statementsOfDocument(parser));
+    } catch (IOException | RuntimeException e) {
+      throw new IllegalArgumentException("Unable to generate policy object from JSON string " + e.getMessage(), e);
+    }
+  }
+
+  private static List<StatementNode> statementsOfDocument(final JsonParser parser) throws IOException {
+    final JsonToken root = parser.nextToken();
+    if (root == null) {
+      throw new IllegalArgumentException("No content to parse");
+    }
+    if (root != JsonToken.START_OBJECT) {
+      // Only an object has a Statement; anything else is still read in full so malformed JSON fails
+      text(parser);
+      return List.of();
+    }
+
+    List<StatementNode> statements = List.of();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      if (STATEMENT.equals(field)) {
+        statements = statementsOf(parser, value);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return statements;
+  }
+
+  private static List<StatementNode> statementsOf(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value == JsonToken.START_OBJECT) {
+      return List.of(statementOf(parser));
+    }
+    if (value != JsonToken.START_ARRAY) {
+      return List.of();
+    }
+
+    final List<StatementNode> statements = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() == JsonToken.START_OBJECT) {
+        statements.add(statementOf(parser));
+      } else {
+        // A statement that is not an object has none of the fields
+        parser.skipChildren();
+        statements.add(new StatementNode(null, null, List.of(), null));
+      }
+    }
+    return statements;
+  }
+
+  private static StatementNode statementOf(final JsonParser parser) throws IOException {
+    String effect = null;
+    String id = null;
+    List<String> actions = List.of();
+    PrincipalNode principal = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+      switch (field) {
+        case EFFECT -> effect = text(parser);
+        case STATEMENT_ID -> id = text(parser);
+        case ACTION -> actions = actionsOf(parser);
+        case PRINCIPAL -> principal = principalOf(parser);
+        default -> parser.skipChildren();
+      }
+    }
+    return new StatementNode(id, effect, actions, principal);
+  }
+
+  private static List<String> actionsOf(final JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      return List.of(text(parser));
+    }
+    final List<String> actions = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      actions.add(text(parser));
+    }
+    return List.copyOf(actions);
+  }
+
+  private static PrincipalNode principalOf(final JsonParser parser) throws IOException {
+    final Map<String, List<String>> idsByType = new LinkedHashMap<>();
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      return new PrincipalNode(ALL_PRINCIPALS.equals(text(parser)), idsByType);
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String type = parser.getCurrentName();
+      if (parser.nextToken() == JsonToken.START_ARRAY) {
+        final List<String> ids = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+          ids.add(text(parser));
+        }
+        idsByType.put(type, ids);
+      } else {
+        idsByType.put(type, List.of(text(parser)));
+      }
+    }
+    return new PrincipalNode(false, idsByType);
+  }
+
+  /**
+   * The current value as text, skipping past it when it is an object or an array.
+   */
+  private static String text(final JsonParser parser) throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NUMBER_INT -> parser.getNumberValue().toString();
+      case VALUE_NUMBER_FLOAT -> Double.toString(parser.getDoubleValue());
+      case VALUE_TRUE -> "true";
+      case VALUE_FALSE -> "false";
+      case VALUE_NULL -> "null";
+      default -> {
+        parser.skipChildren();
+        yield "";
+      }
+    };
+  }
+
+  /**
+   * Validates the statements that made it into the document and numbers those without an id.
+   */
+  private static List<Statement> resolve(final List<StatementNode> statements) {
+    final Set<String> usedIds = new HashSet<>();
+    statements.stream().map(StatementNode::id).filter(id -> id != null).forEach(usedIds::add);
+
+    int counter = 0;
+    final List<Statement> resolved = new ArrayList<>(statements.size());
+    for (StatementNode statement : statements) {
+      String id = statement.id();
+      if (id == null) {
+        do {
+          counter++;
+        } while (usedIds.contains(Integer.toString(counter)));
+        id = Integer.toString(counter);
+      }
+      resolved.add(statement.resolve(id));
+    }
+    return resolved;
+  }
+
+  private record Statement(String id, List<String> actions, List<String> principals) {
+  }
+
+  /**
+   * A statement as written. Values are only validated here, once it is known which of the repeated keys or
+   * {@code Statement}s made it into the document.
+   */
+  private record StatementNode(String id, String effect, List<String> actions, PrincipalNode principal) {
+    Statement resolve(final String resolvedId) {
+      if (effect != null && !EFFECTS.contains(effect)) {
+        throw new IllegalArgumentException("No statement effect " + effect);
+      }
+      return new Statement(resolvedId, actions, principal == null ? List.of() : principal.ids());
+    }
+  }
+
+  private record PrincipalNode(boolean all, Map<String, List<String>> idsByType) {
+    List<String> ids() {
+      if (all) {
+        return List.of(ALL_PRINCIPALS);
+      }
+      final List<String> ids = new ArrayList<>();
+      // The type is only checked against an id, so an unknown type with an empty array is accepted
+      idsByType.forEach((type, typeIds) -> typeIds.forEach(id -> ids.add(principalId(type, id))));
+      return ids;
+    }
+
+    private static String principalId(final String type, final String id) {
+      if (type.equalsIgnoreCase("AWS") || type.equalsIgnoreCase("Service")) {
+        return id;
+      }
+      if (type.equalsIgnoreCase("Federated")) {
+        return webIdentityProvider(id);
+      }
+      throw new IllegalArgumentException("Schema " + type + " is not a valid value for the principal.");
+    }
+
+    private static String webIdentityProvider(final String id) {
+      return WEB_IDENTITY_PROVIDERS.stream().filter(id::equalsIgnoreCase).findFirst().orElse(id);
+    }
+  }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -82,4 +83,31 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_ReadsThePolicyEveryTimeWhileSingleFlightIsOff() {
+        final ReadHandler handler = new ReadHandler();
+        final ResourceModel model = ResourceModel.builder()
+            .applicationId("ApplicationId")
+            .statementId(STATEMENT_ID)
+            .actions(ACTIONS)
+            .principal(PRINCIPAL)
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .awsAccountId("123456789012")
+            .region("us-east-1")
+            .desiredResourceState(model)
+            .build();
+        when(proxyClient.client().getPolicy(any(GetPolicyRequest.class)))
+            .thenReturn(GetPolicyResponse.builder()
+                .policy(MOCK_POLICY)
+                .build());
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(qBusinessClient, times(2)).getPolicy(any(GetPolicyRequest.class));
+    }
 }
@@ -0,0 +1,42 @@
+package software.amazon.qbusiness.permission.internal;
+
+import com.amazonaws.auth.policy.Action;
+import com.amazonaws.auth.policy.Policy;
+import com.amazonaws.auth.policy.PolicyReaderOptions;
+import com.amazonaws.auth.policy.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+/**
+ * The SDK v1 {@code Policy} based parser {@link PolicyParser} replaced, kept as the reference its output is compared
+ * against.
+ */
+class LegacyPolicyParser {
+  static List<ResourceModel> getPermissionModelsFromPolicy(final String policy, final String applicationId) {
+    final PolicyReaderOptions policyReaderOptions = new PolicyReaderOptions().withStripAwsPrincipalIdHyphensEnabled(false);
+    final Policy parsedPolicy = Policy.fromJson(policy, policyReaderOptions);
+    return parsedPolicy.getStatements()
+        .stream()
+        .map(statement -> getPermissionModelFromStatement(statement, applicationId))
+        .collect(Collectors.toList());
+  }
+
+  private static ResourceModel getPermissionModelFromStatement(final Statement statement, final String applicationId) {
+    final String id = statement.getId();
+    final List<String> actions = statement.getActions().stream().map(Action::getActionName).toList();
+    // FE model accepts a single Principal per statement
+    if (statement.getPrincipals().size() != 1 ) {
+      throw new IllegalStateException(String.format("getPolicy returned statement with unexpected number of principals: %s, only %d allowed", statement.getPrincipals(), 1));
+    }
+    final String principal = statement.getPrincipals().get(0).getId();
+
+    return ResourceModel.builder()
+        .applicationId(applicationId)
+        .statementId(id)
+        .actions(actions)
+        .principal(principal)
+        .build();
+  }
+
+}
@@ -9,6 +9,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.qbusiness.permission.ResourceModel;
@@ -19,6 +21,13 @@ class PolicyParserTest {
   private static final String PRINCIPAL_ARN = "arn:aws:iam::615299774811:role/test-role";
   private static final String ACTION = "qbusiness:GetRelevantContent";
   private static final String RESOURCE = "arn:aws:qbusiness:us-west-2:933142937839:application/test-app";
+  private static final String[] SCALARS = {
+      "\"qbusiness:GetRelevantContent\"", "\"arn:aws:iam::123-456:role/role-1\"", "\"*\"", "\"1\"", "\"\"",
+      "\"Allow\"", "\"Deny\"", "\"allow\"", "\"ACCOUNTS.GOOGLE.COM\"", "\"www.amazon.com\"", "\"caf\\u00e9\"",
+      "12", "-0", "1.50", "1e2", "12345678901234567890", "true", "false", "null", "{}", "[]", "[\"a\", [1]]", "{\"a\": 1}"
+  };
+  private static final String[] STATEMENT_FIELDS = {"Sid", "Effect", "Action", "Principal", "Resource", "Condition", "NotAction"};
+  private static final String[] PRINCIPAL_TYPES = {"AWS", "aws", "Service", "Federated", "CanonicalUser"};
 
   private String validPolicyJson;
 
@@ -137,4 +146,155 @@ class PolicyParserTest {
     List<ResourceModel> result = PolicyParser.getPermissionModelsFromPolicy(emptyPolicy, APPLICATION_ID);
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_PrincipalIdKeepsHyphens() {
+    String policy = """
+            {"Statement": {"Sid": "s", "Principal": {"AWS": "123-456-789"}, "Action": "qbusiness:GetRelevantContent"}}
+            """;
+
+    List<ResourceModel> result = PolicyParser.getPermissionModelsFromPolicy(policy, APPLICATION_ID);
+
+    assertEquals(1, result.size());
+    assertEquals("123-456-789", result.get(0).getPrincipal());
+  }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_StatementsWithoutSidAreNumbered() {
+    String policy = """
+            {"Statement": [
+                {"Principal": "*", "Action": "a"},
+                {"Sid": "1", "Principal": "*", "Action": "b"},
+                {"Principal": "*", "Action": "c"}
+            ]}
+            """;
+
+    List<ResourceModel> result = PolicyParser.getPermissionModelsFromPolicy(policy, APPLICATION_ID);
+
+    assertEquals(Arrays.asList("2", "1", "3"), result.stream().map(ResourceModel::getStatementId).toList());
+    assertEquals("*", result.get(0).getPrincipal());
+  }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_InvalidDocuments() {
+    assertThrows(IllegalArgumentException.class,
+        () -> PolicyParser.getPermissionModelsFromPolicy("{\"Statement\": [", APPLICATION_ID));
+    assertThrows(IllegalArgumentException.class,
+        () -> PolicyParser.getPermissionModelsFromPolicy("{\"Statement\": {\"Effect\": \"Maybe\"}}", APPLICATION_ID));
+    assertThrows(IllegalArgumentException.class,
+        () -> PolicyParser.getPermissionModelsFromPolicy("{\"Statement\": {\"Principal\": {\"User\": \"x\"}}}", APPLICATION_ID));
+  }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_MatchesLegacyParserOnOtherDocuments() {
+    for (String policy : List.of("", "  ", "null", "[]", "[1, {\"Statement\": {}}]", "\"policy\"", "\"a\nb\"", "12",
+        "{} trailing", "{\"Statement\": [{\"Principal\": \"*\"}]} // comment", "{\"Statement\": [}")) {
+      assertSameOutcome(policy);
+    }
+  }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_MatchesLegacyParserOnGeneratedPolicies() {
+    Random random = new Random(20241019L);
+    for (int i = 0; i < 5_000; i++) {
+      assertSameOutcome(policy(random));
+    }
+  }
+
+  @Test
+  void testGetPermissionModelsFromPolicy_MatchesLegacyParserOnMutatedPolicies() {
+    Random random = new Random(4711L);
+    String alphabet = "{}[]\":,* \n\\/-aS0";
+    for (int i = 0; i < 5_000; i++) {
+      StringBuilder policy = new StringBuilder(policy(random));
+      for (int edits = 1 + random.nextInt(3); edits > 0 && policy.length() > 0; edits--) {
+        int at = random.nextInt(policy.length());
+        switch (random.nextInt(3)) {
+          case 0 -> policy.deleteCharAt(at);
+          case 1 -> policy.insert(at, alphabet.charAt(random.nextInt(alphabet.length())));
+          default -> policy.setCharAt(at, alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+      }
+      assertSameOutcome(policy.toString());
+    }
+  }
+
+  private static void assertSameOutcome(String policy) {
+    Object expected = outcome(() -> LegacyPolicyParser.getPermissionModelsFromPolicy(policy, APPLICATION_ID));
+    Object actual = outcome(() -> PolicyParser.getPermissionModelsFromPolicy(policy, APPLICATION_ID));
+    assertEquals(expected, actual, policy);
+  }
+
+  private static Object outcome(Supplier<List<ResourceModel>> parse) {
+    try {
+      return parse.get();
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  private static String policy(Random random) {
+    StringBuilder policy = new StringBuilder("{");
+    if (random.nextInt(4) > 0) {
+      policy.append("\"Version\": \"2012-10-17\", ");
+    }
+    if (random.nextInt(8) == 0) {
+      policy.append("/* comment */ \"Statement\": ").append(scalar(random)).append(", ");
+    }
+    policy.append("\"Statement\": ");
+    switch (random.nextInt(6)) {
+      case 0 -> policy.append(statement(random));
+      case 1 -> policy.append(scalar(random));
+      default -> {
+        policy.append('[');
+        for (int i = random.nextInt(4); i >= 0; i--) {
+          policy.append(random.nextInt(10) == 0 ? scalar(random) : statement(random)).append(i > 0 ? ", " : "");
+        }
+        policy.append(']');
+      }
+    }
+    return policy.append('}').toString();
+  }
+
+  private static String statement(Random random) {
+    StringBuilder statement = new StringBuilder("{");
+    for (int i = random.nextInt(7); i >= 0; i--) {
+      String field = STATEMENT_FIELDS[random.nextInt(STATEMENT_FIELDS.length)];
+      String value = switch (field) {
+        case "Effect" -> random.nextInt(6) == 0 ? scalar(random) : random.nextBoolean() ? "\"Allow\"" : "\"Deny\"";
+        case "Action" -> random.nextBoolean() ? scalar(random) : list(random);
+        case "Principal" -> principal(random);
+        default -> random.nextBoolean() ? scalar(random) : list(random);
+      };
+      statement.append('"').append(field).append("\": ").append(value).append(i > 0 ? ", " : "");
+    }
+    return statement.append('}').toString();
+  }
+
+  private static String principal(Random random) {
+    if (random.nextInt(5) == 0) {
+      return scalar(random);
+    }
+    StringBuilder principal = new StringBuilder("{");
+    for (int i = random.nextInt(3); i >= 0; i--) {
+      String type = random.nextInt(8) == 0
+          ? PRINCIPAL_TYPES[random.nextInt(PRINCIPAL_TYPES.length)]
+          : PRINCIPAL_TYPES[random.nextInt(4)];
+      principal.append('"').append(type).append("\": ").append(random.nextBoolean() ? scalar(random) : list(random))
+          .append(i > 0 ? ", " : "");
+    }
+    return principal.append('}').toString();
+  }
+
+  private static String list(Random random) {
+    StringBuilder list = new StringBuilder("[");
+    for (int i = random.nextInt(3); i > 0; i--) {
+      list.append(scalar(random)).append(i > 1 ? ", " : "");
+    }
+    return list.append(']').toString();
+  }
+
+  private static String scalar(Random random) {
+    return SCALARS[random.nextInt(SCALARS.length)];
+  }
 }
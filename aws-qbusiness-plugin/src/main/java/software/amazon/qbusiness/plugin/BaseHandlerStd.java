@@ -1,30 +1,56 @@
 package software.amazon.qbusiness.plugin;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.Plugin;
+import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.HandlerProfiling;
+import software.amazon.qbusiness.common.RetryBudget;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    HandlerPriming.register();
+  }
+
+  // Shared by every handler in the container so plugins building under one application share ListPlugins calls
+  static final CoalescedStatusPoller<Plugin> STATUS_POLLER = CoalescedStatusPoller.fromEnvironment();
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    var context = callbackContext != null ? callbackContext : new CallbackContext();
+    StabilizationHandoff.startInvocation(context);
+    HandlerProfiling.startRecording(logger);
+    var retryUsage = RetryBudget.startInvocation();
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        context,
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      HandlerProfiling.dumpRecording(logger);
+      RetryBudget.emitInvocationMetrics(logger, ResourceModel.TYPE_NAME, retryUsage);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -34,6 +60,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<QBusinessClient> proxyClient,
     final Logger logger);
 
+  /**
+   * Starts a call chain like {@code proxy.initiate}, timed step by step when {@link HandlerProfiling} is enabled.
+   */
+  protected CallChain.RequestMaker<QBusinessClient, ResourceModel, CallbackContext> initiate(
+    final AmazonWebServicesClientProxy proxy,
+    final String callGraph,
+    final ProxyClient<QBusinessClient> proxyClient,
+    final ResourceModel model,
+    final CallbackContext callbackContext) {
+    return HandlerProfiling.profile(callGraph, proxy.initiate(callGraph, proxyClient, model, callbackContext));
+  }
+
   protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
     return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
   }
@@ -51,4 +89,33 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     return proxyClient.injectCredentialsAndInvokeV2(request, client::getPlugin);
   }
 
+  /**
+   * Build status of the plugin, from a listing shared with its in-flight siblings when there is one and from GetPlugin
+   * otherwise.
+   */
+  protected PluginBuildStatus getBuildStatus(
+      String parentKey,
+      ResourceModel model,
+      ProxyClient<QBusinessClient> proxyClient,
+      CoalescedStatusPoller<Plugin> statusPoller,
+      Logger logger
+  ) {
+    return statusPoller.poll(parentKey, model.getPluginId(), () -> listPluginSummaries(model, proxyClient), logger)
+        .map(Plugin::buildStatus)
+        .orElseGet(() -> getPlugin(model, proxyClient).buildStatus());
+  }
+
+  private Map<String, Plugin> listPluginSummaries(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
+    var summaries = new HashMap<String, Plugin>();
+    String nextToken = null;
+    do {
+      var response = proxyClient.injectCredentialsAndInvokeV2(
+          Translator.translateToListRequest(model.getApplicationId(), nextToken), proxyClient.client()::listPlugins
+      );
+      response.plugins().forEach(summary -> summaries.put(summary.pluginId(), summary));
+      nextToken = response.nextToken();
+    } while (nextToken != null);
+    return summaries;
+  }
+
 }
@@ -12,7 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginResponse;
-import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
+import software.amazon.awssdk.services.qbusiness.model.Plugin;
 import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.awssdk.services.qbusiness.model.UpdatePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdatePluginResponse;
@@ -23,6 +23,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class CreateHandler extends BaseHandlerStd {
   private Logger logger;
@@ -31,14 +35,45 @@ public class CreateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(5))
       .build();
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Create");
+  private static final ParentReadinessGate PARENT_READINESS = ParentReadinessGate.fromEnvironment();
+  private static final String CALL_GRAPH = "AWS-QBusiness-Plugin::Create";
+  private static final String PARENT_CALL_GRAPH = "AWS-QBusiness-Plugin::AwaitApplication";
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<Plugin> statusPoller;
+  private final ParentReadinessGate parentReadiness;
+  private final StabilizationHandoff handoff;
 
   public CreateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, PARENT_READINESS, HANDOFF);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, CoalescedStatusPoller<Plugin> statusPoller) {
+    this(backOffStrategy, statusPoller, ParentReadinessGate.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<Plugin> statusPoller,
+      ParentReadinessGate parentReadiness
+  ) {
+    this(backOffStrategy, statusPoller, parentReadiness, StabilizationHandoff.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<Plugin> statusPoller,
+      ParentReadinessGate parentReadiness,
+      StabilizationHandoff handoff
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.parentReadiness = parentReadiness;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -54,23 +89,45 @@ public class CreateHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getPluginId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentReadiness.awaitApplication(
+            proxyClient, progress, request, PARENT_CALL_GRAPH, ResourceModel::getApplicationId, logger
+        ))
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Plugin::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, request))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreatePlugin(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((createReq, createResponse, client, model, context) -> isStabilized(request, client, model, logger))
-                .handleError((createPluginRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_PLUGIN
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((createReq, createResponse, client, model, context) -> handoff.isEnabled() || isStabilized(
+                    request, client, model, logger
+                ))
+                .handleError((createPluginRequest, error, client, model, context) -> parentReadiness.handleConflict(
+                    error, model, context, logger, () -> CreateResumption.handleCreateError(
+                        error, model, context, logger, () -> handleError(
+                            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_PLUGIN
+                        )
+                    )
                 ))
                 .progress()
         )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isStabilized(request, proxyClient, model, logger),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_PLUGIN
+            ),
+            logger
+        ))
         .then(progress -> {
           if (StringUtils.isBlank(request.getDesiredResourceState().getState())) {
             return progress;
           }
 
-          return proxy.initiate("AWS-QBusiness-Plugin::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+          return initiate(proxy, "AWS-QBusiness-Plugin::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
               .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
               .makeServiceCall(this::callUpdatePlugin)
               .handleError((updatePluginRequest, error, client, model, context) -> handleError(
@@ -83,6 +140,23 @@ public class CreateHandler extends BaseHandlerStd {
         );
   }
 
+  private CreatePluginResponse createOrResume(
+      CreatePluginRequest request,
+      ProxyClient<QBusinessClient> client,
+      ResourceModel model,
+      CallbackContext context) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setPluginId(createdId);
+      return CreatePluginResponse.builder().pluginId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreatePlugin(request, client, model);
+    CreateResumption.created(context, response.pluginId());
+    return response;
+  }
+
   private CreatePluginResponse callCreatePlugin(
       CreatePluginRequest request,
       ProxyClient<QBusinessClient> client,
@@ -109,14 +183,15 @@ public class CreateHandler extends BaseHandlerStd {
             .formatted(request.getStackId(), model.getPluginId(), request.getAwsAccountId(), model.getApplicationId())
     );
 
-    GetPluginResponse getPluginRes = getPlugin(model, proxyClient);
-    var status = getPluginRes.buildStatus();
+    var parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    var status = getBuildStatus(parentKey, model, proxyClient, statusPoller, logger);
 
     if (PluginBuildStatus.READY.equals(status)) {
       logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has stabilized".formatted(
               ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
       ));
 
+      statusPoller.complete(parentKey, model.getPluginId());
       return true;
     }
 
@@ -131,6 +206,7 @@ public class CreateHandler extends BaseHandlerStd {
             ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
     ));
 
+    statusPoller.complete(parentKey, model.getPluginId());
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPluginId(), null);
   }
 }
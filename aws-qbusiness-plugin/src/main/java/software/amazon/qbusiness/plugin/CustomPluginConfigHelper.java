@@ -1,9 +1,24 @@
 package software.amazon.qbusiness.plugin;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 
 public class CustomPluginConfigHelper {
+    // A YAML document can start with something that reads as JSON, so the whole payload has to be one JSON value
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
 
     public static CustomPluginConfiguration convertFromServiceCustomPluginConfig(
             software.amazon.awssdk.services.qbusiness.model.CustomPluginConfiguration customPluginConfig
@@ -63,6 +78,7 @@ public class CustomPluginConfigHelper {
         }
 
         if (apiSchema.getPayload() != null) {
+            OpenApiSchemaValidator.validate(apiSchema.getPayload());
             return software.amazon.awssdk.services.qbusiness.model.APISchema.builder()
                     .payload(apiSchema.getPayload())
                     .build();
@@ -80,4 +96,80 @@ public class CustomPluginConfigHelper {
         throw new CfnGeneralServiceException("Unknown Api Schema");
     }
 
+    /**
+     * Whether {@code desired} would make UpdatePlugin rebuild the same plugin {@code previous} built: same schema type,
+     * same description and the same {@link #schemaFingerprint schema}.
+     */
+    public static boolean isUnchanged(
+            CustomPluginConfiguration previous,
+            CustomPluginConfiguration desired
+    ) {
+        if (previous == null || desired == null) {
+            return previous == desired;
+        }
+
+        if (!Objects.equals(previous.getApiSchemaType(), desired.getApiSchemaType())
+                || !Objects.equals(previous.getDescription(), desired.getDescription())) {
+            return false;
+        }
+
+        var previousFingerprint = schemaFingerprint(previous.getApiSchema());
+        return previousFingerprint != null && previousFingerprint.equals(schemaFingerprint(desired.getApiSchema()));
+    }
+
+    /**
+     * SHA-256 of the inline schema payload, or {@code null} when the schema can't be compared.
+     * <p>
+     * JSON payloads are hashed in a canonical form, with object keys sorted and whitespace dropped, so reformatting or
+     * reordering a document does not count as a change. Other payloads (YAML) are hashed as text with line endings and
+     * trailing whitespace normalized, since indentation is part of their meaning. S3 schemas have no fingerprint: the
+     * object behind a bucket and key can be replaced without the template changing, so they are always sent.
+     */
+    public static String schemaFingerprint(APISchema apiSchema) {
+        if (apiSchema == null || apiSchema.getPayload() == null) {
+            return null;
+        }
+
+        String canonical;
+        try {
+            canonical = "json:" + canonicalJson(MAPPER.readTree(apiSchema.getPayload()));
+        } catch (JsonProcessingException e) {
+            canonical = "text:" + apiSchema.getPayload().strip().lines()
+                    .map(String::stripTrailing)
+                    .collect(Collectors.joining("\n"));
+        }
+        return sha256(canonical);
+    }
+
+    private static String canonicalJson(JsonNode node) {
+        if (node == null) {
+            return "";
+        }
+
+        if (node.isObject()) {
+            var fields = new TreeMap<String, JsonNode>();
+            node.fields().forEachRemaining(field -> fields.put(field.getKey(), field.getValue()));
+            return fields.entrySet().stream()
+                    .map(field -> MAPPER.getNodeFactory().textNode(field.getKey()) + ":" + canonicalJson(field.getValue()))
+                    .collect(Collectors.joining(",", "{", "}"));
+        }
+
+        if (node.isArray()) {
+            return StreamSupport.stream(node.spliterator(), false)
+                    .map(CustomPluginConfigHelper::canonicalJson)
+                    .collect(Collectors.joining(",", "[", "]"));
+        }
+
+        return node.toString();
+    }
+
+    private static String sha256(String text) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
 }
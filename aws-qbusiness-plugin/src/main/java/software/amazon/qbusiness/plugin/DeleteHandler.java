@@ -4,6 +4,8 @@ import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.plugin.Constants.API_DELETE_PLUGIN;
 import static software.amazon.qbusiness.plugin.Utils.primaryIdentifier;
 
+import java.time.Duration;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeletePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeletePluginResponse;
@@ -16,10 +18,35 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class DeleteHandler extends BaseHandlerStd {
+    // The proxy's default backoff, spelled out so the handoff polls on the same schedule
+    private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
+        .timeout(Duration.ofMinutes(20))
+        .delay(Duration.ofSeconds(5))
+        .build();
+    private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete");
+    private static final String CALL_GRAPH = "AWS-QBusiness-Retriever::Delete";
+
+    private final Constant backOffStrategy;
+    private final StabilizationHandoff handoff;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(DEFAULT_BACK_OFF_STRATEGY, HANDOFF);
+    }
+
+    public DeleteHandler(Constant backOffStrategy) {
+        this(backOffStrategy, StabilizationHandoff.disabled());
+    }
+
+    public DeleteHandler(Constant backOffStrategy, StabilizationHandoff handoff) {
+        this.backOffStrategy = backOffStrategy;
+        this.handoff = handoff;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -34,15 +61,27 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Retriever::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
+                .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callDeleteRetriever)
-                .stabilize((deleteReq, deleteRes, client, model, context) -> isDoneDeleting(client, model))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((deleteReq, deleteRes, client, model, context) -> handoff.isEnabled() || isDoneDeleting(client, model))
                 .handleError((deleteRetrieverRequest, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_PLUGIN
                 ))
                 .progress()
         )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isDoneDeleting(proxyClient, model),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_DELETE_PLUGIN
+            ),
+            logger
+        ))
         .then(progress -> ProgressEvent.defaultSuccessHandler(null));
   }
 
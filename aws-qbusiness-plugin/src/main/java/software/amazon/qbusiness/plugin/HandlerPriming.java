@@ -0,0 +1,101 @@
+package software.amazon.qbusiness.plugin;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+
+import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListPluginsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
+import software.amazon.awssdk.services.qbusiness.model.PluginState;
+import software.amazon.awssdk.services.qbusiness.model.PluginType;
+import software.amazon.qbusiness.common.Priming;
+
+/**
+ * Canned create/read/update/list round trips through the Plugin translator and config helpers, run before a SnapStart
+ * checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String PLUGIN_ID = "00000000-0000-0000-0000-000000000001";
+  private static final String API_SCHEMA = """
+      {"openapi": "3.0.0", "info": {"title": "priming", "version": "1.0"}, "paths": {}}
+      """;
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .pluginId(PLUGIN_ID)
+        .pluginArn("arn:aws:qbusiness:us-east-1:123456789012:application/%s/plugin/%s".formatted(APPLICATION_ID, PLUGIN_ID))
+        .displayName("priming")
+        .type(PluginType.CUSTOM.toString())
+        .state(PluginState.ENABLED.toString())
+        .authConfiguration(PluginAuthConfiguration.builder()
+            .oAuth2ClientCredentialConfiguration(OAuth2ClientCredentialConfiguration.builder()
+                .secretArn("arn:aws:secretsmanager:us-east-1:123456789012:secret:priming")
+                .roleArn("arn:aws:iam::123456789012:role/priming")
+                .build())
+            .build())
+        .customPluginConfiguration(CustomPluginConfiguration.builder()
+            .description("priming")
+            .apiSchemaType("OPEN_API_V3")
+            .apiSchema(APISchema.builder().payload(API_SCHEMA).build())
+            .build())
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(model, request);
+    Translator.translateToPostCreateUpdateRequest(model);
+    var updateRequest = Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(APPLICATION_ID, null);
+
+    var getResponse = GetPluginResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .pluginId(PLUGIN_ID)
+        .pluginArn(model.getPluginArn())
+        .displayName(model.getDisplayName())
+        .type(PluginType.CUSTOM)
+        .state(PluginState.ENABLED)
+        .buildStatus(PluginBuildStatus.READY)
+        .authConfiguration(updateRequest.authConfiguration())
+        .customPluginConfiguration(updateRequest.customPluginConfiguration())
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(APPLICATION_ID, ListPluginsResponse.builder()
+        .plugins(software.amazon.awssdk.services.qbusiness.model.Plugin.builder()
+            .pluginId(PLUGIN_ID)
+            .type(PluginType.CUSTOM)
+            .state(PluginState.ENABLED)
+            .buildStatus(PluginBuildStatus.READY)
+            .createdAt(Instant.EPOCH)
+            .build())
+        .build());
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -0,0 +1,285 @@
+package software.amazon.qbusiness.plugin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * Checks an inline OpenAPI schema for the structural mistakes that would otherwise only show up as a failed plugin
+ * build, minutes after CreatePlugin or UpdatePlugin returned.
+ * <p>
+ * JSON payloads are read in one pass of Jackson's streaming parser and must be an OpenAPI 3 document: an object with
+ * an {@code openapi} version starting with {@code 3.}, an {@code info} object with a {@code title} and a
+ * {@code version}, and a {@code paths} object whose paths start with {@code /}, whose operations are objects and whose
+ * {@code operationId}s are unique. Everything else in the document is skipped without being built in memory.
+ * <p>
+ * YAML payloads can't be parsed here, so only their top-level keys are checked, and only when every top-level line is
+ * a plain {@code key: value}. Anything this validator does not understand is left for the service to judge.
+ */
+public final class OpenApiSchemaValidator {
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final String OPENAPI = "openapi";
+  private static final String INFO = "info";
+  private static final String PATHS = "paths";
+  private static final String OPENAPI_VERSION_PREFIX = "3.";
+  private static final Set<String> OPERATIONS = Set.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+  private static final String EXTENSION_PREFIX = "x-";
+
+  private OpenApiSchemaValidator() {
+  }
+
+  /**
+   * @throws CfnInvalidRequestException when {@code payload} is not a valid OpenAPI 3 document
+   */
+  public static void validate(final String payload) {
+    if (payload == null || payload.isBlank()) {
+      throw invalid("the payload is empty");
+    }
+
+    if (payload.strip().startsWith("{")) {
+      validateJson(payload);
+    } else {
+      validateYaml(payload);
+    }
+  }
+
+  private static void validateJson(final String payload) {
+    try (JsonParser parser = JSON_FACTORY.createParser(payload)) {
+      parser.nextToken();
+      validateDocument(parser);
+      if (parser.nextToken() != null) {
+        throw invalid("unexpected content after the document at line %d".formatted(parser.getCurrentLocation().getLineNr()));
+      }
+    } catch (JsonProcessingException e) {
+      throw invalid("malformed JSON at line %d, column %d: %s".formatted(
+          e.getLocation() == null ? 0 : e.getLocation().getLineNr(),
+          e.getLocation() == null ? 0 : e.getLocation().getColumnNr(),
+          e.getOriginalMessage()));
+    } catch (IOException e) {
+      throw invalid(e.getMessage());
+    }
+  }
+
+  private static void validateDocument(final JsonParser parser) throws IOException {
+    String version = null;
+    boolean hasInfo = false;
+    boolean hasPaths = false;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken value = parser.nextToken();
+      switch (field) {
+        case OPENAPI -> {
+          if (value != JsonToken.VALUE_STRING) {
+            throw invalid("openapi must be a version string");
+          }
+          version = parser.getText();
+        }
+        case INFO -> {
+          validateInfo(parser, value);
+          hasInfo = true;
+        }
+        case PATHS -> {
+          validatePaths(parser, value);
+          hasPaths = true;
+        }
+        default -> parser.skipChildren();
+      }
+    }
+
+    validateTopLevel(version != null, version, hasInfo, hasPaths);
+  }
+
+  private static void validateInfo(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value != JsonToken.START_OBJECT) {
+      throw invalid("info must be an object");
+    }
+
+    boolean hasTitle = false;
+    boolean hasVersion = false;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken fieldValue = parser.nextToken();
+      if ("title".equals(field) || "version".equals(field)) {
+        if (fieldValue != JsonToken.VALUE_STRING) {
+          throw invalid("info.%s must be a string".formatted(field));
+        }
+        hasTitle |= "title".equals(field);
+        hasVersion |= "version".equals(field);
+      } else {
+        parser.skipChildren();
+      }
+    }
+
+    if (!hasTitle || !hasVersion) {
+      throw invalid("info must have a title and a version");
+    }
+  }
+
+  private static void validatePaths(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value != JsonToken.START_OBJECT) {
+      throw invalid("paths must be an object");
+    }
+
+    final Set<String> operationIds = new HashSet<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String path = parser.getCurrentName();
+      final JsonToken pathItem = parser.nextToken();
+      if (path.startsWith(EXTENSION_PREFIX)) {
+        parser.skipChildren();
+        continue;
+      }
+      if (!path.startsWith("/")) {
+        throw invalid("path %s must start with /".formatted(path));
+      }
+      if (pathItem != JsonToken.START_OBJECT) {
+        throw invalid("path %s must be an object".formatted(path));
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String method = parser.getCurrentName();
+        final JsonToken operation = parser.nextToken();
+        if (OPERATIONS.contains(method)) {
+          validateOperation(parser, operation, "%s %s".formatted(method, path), operationIds);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private static void validateOperation(
+      final JsonParser parser,
+      final JsonToken value,
+      final String operation,
+      final Set<String> operationIds
+  ) throws IOException {
+    if (value != JsonToken.START_OBJECT) {
+      throw invalid("operation %s must be an object".formatted(operation));
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final String field = parser.getCurrentName();
+      final JsonToken fieldValue = parser.nextToken();
+      if (!"operationId".equals(field)) {
+        parser.skipChildren();
+        continue;
+      }
+      if (fieldValue != JsonToken.VALUE_STRING) {
+        throw invalid("operationId of %s must be a string".formatted(operation));
+      }
+      if (!operationIds.add(parser.getText())) {
+        throw invalid("operationId %s of %s is not unique".formatted(parser.getText(), operation));
+      }
+    }
+  }
+
+  private static void validateYaml(final String payload) {
+    boolean hasVersion = false;
+    String version = null;
+    boolean hasInfo = false;
+    boolean hasPaths = false;
+    boolean started = false;
+    for (String line : (Iterable<String>) payload.lines()::iterator) {
+      final String stripped = line.stripTrailing();
+      if (stripped.isEmpty() || stripped.startsWith("#") || stripped.startsWith("%")) {
+        continue;
+      }
+      if (stripped.equals("---") || stripped.equals("...")) {
+        if (started) {
+          // A second document; the first is the one that gets checked
+          break;
+        }
+        continue;
+      }
+      if (Character.isWhitespace(stripped.charAt(0))) {
+        continue;
+      }
+
+      final String key = yamlKey(stripped);
+      if (key == null) {
+        // Flow collections, anchors, merge keys and the like; leave those documents to the service
+        return;
+      }
+      started = true;
+      switch (key) {
+        case OPENAPI -> {
+          hasVersion = true;
+          version = yamlScalar(stripped.substring(stripped.indexOf(':', key.length()) + 1));
+        }
+        case INFO -> hasInfo = true;
+        case PATHS -> hasPaths = true;
+        default -> {
+        }
+      }
+    }
+
+    if (!started) {
+      throw invalid("the payload is not a JSON or YAML object");
+    }
+    validateTopLevel(hasVersion, version, hasInfo, hasPaths);
+  }
+
+  /**
+   * The key of a top-level {@code key: value} line, or {@code null} when the line is anything else.
+   */
+  private static String yamlKey(final String line) {
+    final char first = line.charAt(0);
+    if (first == '"' || first == '\'') {
+      final int end = line.indexOf(first, 1);
+      return end > 0 && line.startsWith(":", end + 1) ? line.substring(1, end) : null;
+    }
+    if ("{[-?&*!|><@`".indexOf(first) >= 0 || line.startsWith("<<")) {
+      return null;
+    }
+
+    final int colon = line.indexOf(':');
+    if (colon <= 0 || colon + 1 < line.length() && line.charAt(colon + 1) != ' ') {
+      return null;
+    }
+    return line.substring(0, colon).stripTrailing();
+  }
+
+  private static String yamlScalar(final String text) {
+    String value = text.strip();
+    final int comment = value.indexOf(" #");
+    if (comment >= 0) {
+      value = value.substring(0, comment).stripTrailing();
+    }
+    if (value.length() >= 2 && (value.startsWith("\"") && value.endsWith("\"") || value.startsWith("'") && value.endsWith("'"))) {
+      value = value.substring(1, value.length() - 1);
+    }
+    return value.isEmpty() ? null : value;
+  }
+
+  /**
+   * @param version the openapi version, or {@code null} when it is there but could not be read
+   */
+  private static void validateTopLevel(
+      final boolean hasVersion,
+      final String version,
+      final boolean hasInfo,
+      final boolean hasPaths
+  ) {
+    if (!hasVersion) {
+      throw invalid("openapi version is missing");
+    }
+    if (version != null && !version.startsWith(OPENAPI_VERSION_PREFIX)) {
+      throw invalid("openapi version must be 3.x, was %s".formatted(version));
+    }
+    if (!hasInfo) {
+      throw invalid("info is missing");
+    }
+    if (!hasPaths) {
+      throw invalid("paths is missing");
+    }
+  }
+
+  private static CfnInvalidRequestException invalid(final String reason) {
+    return new CfnInvalidRequestException("Invalid CustomPluginConfiguration.ApiSchema.Payload: %s".formatted(reason));
+  }
+}
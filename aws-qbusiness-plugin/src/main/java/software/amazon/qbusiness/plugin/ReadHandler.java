@@ -10,6 +10,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
@@ -27,7 +28,7 @@ public class ReadHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
           .then(progress ->
-              proxy.initiate("AWS-QBusiness-Plugin::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+              initiate(proxy, "AWS-QBusiness-Plugin::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                   .translateToServiceRequest(Translator::translateToReadRequest)
                   .makeServiceCall(this::callGetPlugin)
                   .handleError((getRetrieverRequest, error, client, model, context) -> handleError(
@@ -35,8 +36,14 @@ public class ReadHandler extends BaseHandlerStd {
                   ))
                   .done(serviceResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(serviceResponse), callbackContext))
           )
+          // An update that just wrote the tags already knows them
+          .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+              .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                  Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+              ))
+              .orElse(progress))
           .then(progress ->
-              proxy.initiate("AWS-QBusiness-Plugin::ListTags",
+              initiate(proxy, "AWS-QBusiness-Plugin::ListTags",
                       proxyClient, progress.getResourceModel(),
                       progress.getCallbackContext()
                   )
@@ -108,13 +108,26 @@ public class Translator {
    * @return awsRequest the aws service request to modify a resource
    */
   static UpdatePluginRequest translateToUpdateRequest(final ResourceModel model) {
+    return translateToUpdateRequest(model, true);
+  }
+
+  /**
+   * Request to update properties of a previously created resource, leaving the custom plugin configuration out when
+   * {@code withCustomPluginConfiguration} is false so the service does not rebuild an unchanged API schema.
+   *
+   * @param model resource model
+   * @param withCustomPluginConfiguration whether the custom plugin configuration is sent
+   * @return awsRequest the aws service request to modify a resource
+   */
+  static UpdatePluginRequest translateToUpdateRequest(final ResourceModel model, final boolean withCustomPluginConfiguration) {
+    var customPluginConfiguration = withCustomPluginConfiguration ? model.getCustomPluginConfiguration() : null;
     return UpdatePluginRequest.builder()
         .applicationId(model.getApplicationId())
         .pluginId(model.getPluginId())
         .displayName(model.getDisplayName())
         .serverUrl(model.getServerUrl())
         .authConfiguration(AuthConfigHelper.convertToServiceAuthConfig(model.getAuthConfiguration()))
-        .customPluginConfiguration(CustomPluginConfigHelper.convertToServiceCustomPluginConfig(model.getCustomPluginConfiguration()))
+        .customPluginConfiguration(CustomPluginConfigHelper.convertToServiceCustomPluginConfig(customPluginConfiguration))
         .state(model.getState())
         .build();
   }
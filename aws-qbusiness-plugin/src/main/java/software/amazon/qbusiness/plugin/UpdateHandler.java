@@ -5,9 +5,10 @@ import static software.amazon.qbusiness.plugin.Constants.API_UPDATE_PLUGIN;
 import static software.amazon.qbusiness.plugin.Utils.primaryIdentifier;
 
 import java.time.Duration;
+import java.util.Objects;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
-import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
+import software.amazon.awssdk.services.qbusiness.model.Plugin;
 import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.awssdk.services.qbusiness.model.UpdatePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdatePluginResponse;
@@ -18,6 +19,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 import software.amazon.qbusiness.common.TagUtils;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -27,15 +30,32 @@ public class UpdateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(10))
       .build();
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update");
+  private static final String CALL_GRAPH = "AWS-QBusiness-Plugin::Update";
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<Plugin> statusPoller;
+  private final StabilizationHandoff handoff;
 
   public UpdateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF);
   }
 
   public UpdateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public UpdateHandler(Constant backOffStrategy, CoalescedStatusPoller<Plugin> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
 
+  public UpdateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<Plugin> statusPoller,
+      StabilizationHandoff handoff
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -50,27 +70,71 @@ public class UpdateHandler extends BaseHandlerStd {
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, PluginId: %s] Entering Update Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getPluginId()));
 
-    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-Plugin::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::callUpdatePlugin)
-                .stabilize((updateReq, updateResponse, client, model, context) -> isStabilized(request, client, model, logger))
-                .handleError((describeApplicationRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_PLUGIN
-                ))
-                .progress())
-
-        .then(progress -> {
-          var arn = Utils.buildPluginArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
-        .then(progress ->
+    var previousModel = request.getPreviousResourceState();
+    var desiredModel = request.getDesiredResourceState();
+    // Sending an API schema makes the service rebuild the plugin, even when the schema is the one it already built
+    var schemaUnchanged = previousModel != null && CustomPluginConfigHelper.isUnchanged(
+        previousModel.getCustomPluginConfiguration(), desiredModel.getCustomPluginConfiguration()
+    );
+
+    var tagUpdate = TagUtils.tagUpdate(ResourceModel.TYPE_NAME, request, proxyClient, logger);
+    return tagUpdate.applyAlongside(
+        () -> ProgressEvent.progress(desiredModel, callbackContext)
+            .then(progress -> {
+              if (schemaUnchanged && isNoOpUpdate(previousModel, progress.getResourceModel())) {
+                logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has no plugin changes, skipping UpdatePlugin".formatted(
+                    ResourceModel.TYPE_NAME, desiredModel.getPluginId(), desiredModel.getApplicationId(), request.getStackId()
+                ));
+                return progress;
+              }
+
+              return initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                  .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, !schemaUnchanged))
+                  .backoffDelay(backOffStrategy)
+                  .makeServiceCall((updateRequest, client) -> {
+                    var response = callUpdatePlugin(updateRequest, client);
+                    statusPoller.mutated(CoalescedStatusPoller.parentKey(request, progress.getResourceModel().getApplicationId()),
+                        progress.getResourceModel().getPluginId());
+                    // Tags don't depend on the update, so they are applied while it stabilizes
+                    tagUpdate.start(Utils.buildPluginArn(request, progress.getResourceModel()));
+                    return response;
+                  })
+                  // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                  .stabilize((updateReq, updateResponse, client, model, context) -> handoff.isEnabled() || isStabilized(
+                      request, client, model, logger
+                  ))
+                  .handleError((describeApplicationRequest, error, client, model, context) -> handleError(
+                      model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_PLUGIN
+                  ))
+                  .progress()
+                  .then(updated -> handoff.await(
+                      updated,
+                      CALL_GRAPH,
+                      backOffStrategy,
+                      (model, context) -> isStabilized(request, proxyClient, model, logger),
+                      (error, model, context) -> handleError(
+                          model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_PLUGIN
+                      ),
+                      logger
+                  ));
+            }),
+        model -> Utils.buildPluginArn(request, model)
+    ).then(progress ->
             new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
         );
   }
 
+  /**
+   * Whether UpdatePlugin would leave the plugin as it is, with the custom plugin configuration already known to be
+   * unchanged. Tag changes don't count, they are applied on their own.
+   */
+  private static boolean isNoOpUpdate(final ResourceModel previousModel, final ResourceModel desiredModel) {
+    return Objects.equals(previousModel.getDisplayName(), desiredModel.getDisplayName())
+        && Objects.equals(previousModel.getServerUrl(), desiredModel.getServerUrl())
+        && Objects.equals(previousModel.getAuthConfiguration(), desiredModel.getAuthConfiguration())
+        && Objects.equals(previousModel.getState(), desiredModel.getState());
+  }
+
   private UpdatePluginResponse callUpdatePlugin(UpdatePluginRequest request,
       ProxyClient<QBusinessClient> client) {
     return client.injectCredentialsAndInvokeV2(request, client.client()::updatePlugin);
@@ -86,14 +150,15 @@ public class UpdateHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), model.getPluginId(), request.getAwsAccountId(), model.getApplicationId())
     );
 
-    GetPluginResponse getPluginRes = getPlugin(model, proxyClient);
-    var status = getPluginRes.buildStatus();
+    var parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    var status = getBuildStatus(parentKey, model, proxyClient, statusPoller, logger);
 
     if (PluginBuildStatus.READY.equals(status)) {
       logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has stabilized".formatted(
           ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
       ));
 
+      statusPoller.complete(parentKey, model.getPluginId());
       return true;
     }
 
@@ -108,6 +173,7 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
     ));
 
+    statusPoller.complete(parentKey, model.getPluginId());
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPluginId(), null);
   }
 
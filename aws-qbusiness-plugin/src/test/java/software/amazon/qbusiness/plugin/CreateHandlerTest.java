@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginResponse;
+import software.amazon.awssdk.services.qbusiness.model.Plugin;
 import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
@@ -38,6 +40,8 @@ import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListPluginsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListPluginsResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.ServiceQuotaExceededException;
@@ -52,6 +56,10 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class CreateHandlerTest extends AbstractTestBase {
 
@@ -89,7 +97,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         testMocks = MockitoAnnotations.openMocks(this);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, qBusinessClient);
-        this.underTest = new CreateHandler();
+        this.underTest = new CreateHandler(
+                Constant.of().timeout(Duration.ofHours(4)).delay(Duration.ofSeconds(5)).build(),
+                CreateHandler.STATUS_POLLER,
+                ParentReadinessGate.disabled()
+        );
 
         serviceAuthConfiguration = PluginAuthConfiguration.builder()
                 .basicAuthConfiguration(BasicAuthConfiguration.builder()
@@ -201,6 +213,101 @@ public class CreateHandlerTest extends AbstractTestBase {
       assertThat(resultModel.getUpdatedAt()).isEqualTo(Instant.ofEpochMilli(UPDATED_TIME).toString());
     }
 
+    @Test
+    public void handleRequest_StabilizesFromCoalescedListingWhenSiblingsAreBuilding() {
+      var statusPoller = CoalescedStatusPoller.<Plugin>fromEnvironment();
+      underTest = new CreateHandler(Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(45)).build(), statusPoller);
+      statusPoller.poll(CoalescedStatusPoller.parentKey(request, APPLICATION_ID), "sibling", Map::of, logger);
+
+      when(proxyClient.client().createPlugin(any(CreatePluginRequest.class)))
+          .thenReturn(CreatePluginResponse.builder()
+              .pluginId(PLUGIN_ID)
+              .build());
+      when(qBusinessClient.listPlugins(any(ListPluginsRequest.class)))
+          .thenReturn(ListPluginsResponse.builder()
+              .plugins(
+                  Plugin.builder().pluginId(PLUGIN_ID).buildStatus(PluginBuildStatus.READY).build(),
+                  Plugin.builder().pluginId("sibling").buildStatus(PluginBuildStatus.CREATE_IN_PROGRESS).build()
+              )
+              .build());
+      when(proxyClient.client().getPlugin(any(GetPluginRequest.class)))
+          .thenReturn(GetPluginResponse.builder()
+                .applicationId(APPLICATION_ID)
+                .pluginId(PLUGIN_ID)
+                .displayName(PLUGIN_NAME)
+                .type(PLUGIN_TYPE)
+                .state(PLUGIN_STATE)
+                .buildStatus(PluginBuildStatus.READY)
+                .serverUrl(SERVER_URL)
+                .authConfiguration(cfnAuthConfiguration)
+                .createdAt(Instant.ofEpochMilli(CREATED_TIME))
+                .updatedAt(Instant.ofEpochMilli(UPDATED_TIME))
+              .build());
+      when(qBusinessClient.updatePlugin(any(UpdatePluginRequest.class))).thenReturn(UpdatePluginResponse.builder().build());
+      when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder().tags(List.of()).build());
+
+      final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+      assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+      verify(qBusinessClient).createPlugin(any(CreatePluginRequest.class));
+      verify(qBusinessClient).listPlugins(
+          argThat((ArgumentMatcher<ListPluginsRequest>) t -> t.applicationId().equals(APPLICATION_ID))
+      );
+      verify(qBusinessClient).updatePlugin(any(UpdatePluginRequest.class));
+      // only the read after stabilization
+      verify(qBusinessClient).getPlugin(any(GetPluginRequest.class));
+      verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_HandsOffLongWaitToCallback() {
+      underTest = new CreateHandler(
+          Constant.of().timeout(Duration.ofHours(4)).delay(Duration.ofSeconds(30)).build(),
+          CoalescedStatusPoller.disabled(),
+          ParentReadinessGate.disabled(),
+          StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Create")
+      );
+      var building = GetPluginResponse.builder()
+          .applicationId(APPLICATION_ID)
+          .pluginId(PLUGIN_ID)
+          .displayName(PLUGIN_NAME)
+          .type(PLUGIN_TYPE)
+          .state(PLUGIN_STATE)
+          .buildStatus(PluginBuildStatus.CREATE_IN_PROGRESS)
+          .serverUrl(SERVER_URL)
+          .authConfiguration(cfnAuthConfiguration)
+          .createdAt(Instant.ofEpochMilli(CREATED_TIME))
+          .updatedAt(Instant.ofEpochMilli(UPDATED_TIME))
+          .build();
+      when(qBusinessClient.createPlugin(any(CreatePluginRequest.class)))
+          .thenReturn(CreatePluginResponse.builder().pluginId(PLUGIN_ID).build());
+      when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+          .thenReturn(building, building.toBuilder().buildStatus(PluginBuildStatus.READY).build());
+      when(qBusinessClient.updatePlugin(any(UpdatePluginRequest.class))).thenReturn(UpdatePluginResponse.builder().build());
+      when(qBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+          .thenReturn(ListTagsForResourceResponse.builder().tags(List.of()).build());
+
+      final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+          proxy, request, new CallbackContext(), proxyClient, logger
+      );
+
+      assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+      assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(30);
+      assertThat(firstProgress.getCallbackContext().getStabilizationAttempts()).containsEntry("AWS-QBusiness-Plugin::Create", 1);
+
+      // CloudFormation re-invokes with the returned context; the create call is not repeated
+      final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(
+          proxy, request, firstProgress.getCallbackContext(), proxyClient, logger
+      );
+
+      assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+      verify(qBusinessClient).createPlugin(any(CreatePluginRequest.class));
+      verify(qBusinessClient).updatePlugin(any(UpdatePluginRequest.class));
+      verify(qBusinessClient, times(3)).getPlugin(any(GetPluginRequest.class));
+      verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_StabilizeFromCreateInProgressToReady() {
 
@@ -0,0 +1,104 @@
+package software.amazon.qbusiness.plugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+public class CustomPluginConfigHelperTest {
+  private static final String JSON_SCHEMA = """
+      {"openapi": "3.0.0", "info": {"title": "Orders", "version": "1"}, "paths": {"/orders": {"get": {}}}}""";
+  private static final String YAML_SCHEMA = """
+      openapi: 3.0.0
+      info:
+        title: Orders
+        version: "1"
+      """;
+
+  @Test
+  public void jsonFingerprintIgnoresWhitespaceAndKeyOrder() {
+    var reformatted = """
+        {
+          "paths": { "/orders": { "get": {} } },
+          "info": { "version": "1", "title": "Orders" },
+          "openapi": "3.0.0"
+        }
+        """;
+
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload(reformatted)))
+        .isEqualTo(CustomPluginConfigHelper.schemaFingerprint(payload(JSON_SCHEMA)))
+        .hasSize(64);
+  }
+
+  @Test
+  public void jsonFingerprintSeesValueAndArrayOrderChanges() {
+    var fingerprint = CustomPluginConfigHelper.schemaFingerprint(payload("{\"tags\": [\"a\", \"b\"], \"n\": 1}"));
+
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload("{\"tags\": [\"b\", \"a\"], \"n\": 1}")))
+        .isNotEqualTo(fingerprint);
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload("{\"tags\": [\"a\", \"b\"], \"n\": \"1\"}")))
+        .isNotEqualTo(fingerprint);
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload("{\"tags\": [\"a\", \"b\"], \"n\": 1, \"m\": null}")))
+        .isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  public void yamlFingerprintIgnoresTrailingWhitespaceButNotIndentation() {
+    var fingerprint = CustomPluginConfigHelper.schemaFingerprint(payload(YAML_SCHEMA));
+
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload(YAML_SCHEMA.replace("\n", "  \r\n") + "\n\n")))
+        .isEqualTo(fingerprint);
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload(YAML_SCHEMA.replace("  title", "title"))))
+        .isNotEqualTo(fingerprint);
+    // Starts like a JSON value, but the document as a whole is YAML
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(payload("\"openapi\": 3.0.0\ninfo: {}")))
+        .isNotEqualTo(CustomPluginConfigHelper.schemaFingerprint(payload("\"openapi\": 3.0.0\ninfo: {x: 1}")));
+  }
+
+  @Test
+  public void isUnchangedComparesTypeDescriptionAndSchema() {
+    var previous = configuration("OPEN_API_V3", "Orders", payload(JSON_SCHEMA));
+
+    assertThat(CustomPluginConfigHelper.isUnchanged(previous, configuration("OPEN_API_V3", "Orders",
+        payload(JSON_SCHEMA.replace(", ", ",\n"))))).isTrue();
+    assertThat(CustomPluginConfigHelper.isUnchanged(previous, configuration("OPEN_API_V3", "Order lookups",
+        payload(JSON_SCHEMA)))).isFalse();
+    assertThat(CustomPluginConfigHelper.isUnchanged(previous, configuration("OPEN_API_V3", "Orders",
+        payload(JSON_SCHEMA.replace("Orders", "Invoices"))))).isFalse();
+    assertThat(CustomPluginConfigHelper.isUnchanged(previous, null)).isFalse();
+    assertThat(CustomPluginConfigHelper.isUnchanged(null, null)).isTrue();
+  }
+
+  @Test
+  public void s3SchemasAreNeverUnchanged() {
+    var s3Schema = APISchema.builder().s3(S3.builder().bucket("bucket").key("orders.json").build()).build();
+
+    assertThat(CustomPluginConfigHelper.schemaFingerprint(s3Schema)).isNull();
+    assertThat(CustomPluginConfigHelper.isUnchanged(
+        configuration("OPEN_API_V3", "Orders", s3Schema),
+        configuration("OPEN_API_V3", "Orders", s3Schema)
+    )).isFalse();
+  }
+
+  @Test
+  public void convertToServiceApiSchemaRejectsMalformedPayloads() {
+    assertThat(CustomPluginConfigHelper.convertToServiceApiSchema(payload(JSON_SCHEMA)).payload()).isEqualTo(JSON_SCHEMA);
+    assertThatThrownBy(() -> CustomPluginConfigHelper.convertToServiceApiSchema(payload(JSON_SCHEMA.replace("}}}}", "}}"))))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining("malformed JSON");
+  }
+
+  private static APISchema payload(String payload) {
+    return APISchema.builder().payload(payload).build();
+  }
+
+  private static CustomPluginConfiguration configuration(String type, String description, APISchema apiSchema) {
+    return CustomPluginConfiguration.builder()
+        .apiSchemaType(type)
+        .description(description)
+        .apiSchema(apiSchema)
+        .build();
+  }
+}
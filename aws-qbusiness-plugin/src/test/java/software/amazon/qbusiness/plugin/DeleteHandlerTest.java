@@ -44,6 +44,8 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public class DeleteHandlerTest extends AbstractTestBase {
 
@@ -72,7 +74,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         testMocks = MockitoAnnotations.openMocks(this);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, qBusinessClient);
-        this.underTest = new DeleteHandler();
+        this.underTest = new DeleteHandler(Constant.of().timeout(Duration.ofMinutes(20)).delay(Duration.ofSeconds(5)).build());
 
         resourceModel = ResourceModel.builder()
                     .applicationId(APPLICATION_ID)
@@ -142,6 +144,38 @@ public class DeleteHandlerTest extends AbstractTestBase {
         verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
     }
 
+    @Test
+    public void handleRequest_HandsOffLongWaitToCallback() {
+        underTest = new DeleteHandler(
+                Constant.of().timeout(Duration.ofHours(1)).delay(Duration.ofSeconds(30)).build(),
+                StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete")
+        );
+        when(qBusinessClient.deletePlugin(any(DeletePluginRequest.class))).thenReturn(DeletePluginResponse.builder().build());
+        when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+                .thenReturn(GetPluginResponse.builder()
+                        .applicationId(APPLICATION_ID)
+                        .pluginId(PLUGIN_ID)
+                        .buildStatus(PluginBuildStatus.DELETE_IN_PROGRESS)
+                        .build())
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        );
+
+        assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(30);
+
+        // CloudFormation re-invokes with the returned context; the delete call is not repeated
+        final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(
+                proxy, request, firstProgress.getCallbackContext(), proxyClient, logger
+        );
+
+        assertThat(response.isSuccess()).isTrue();
+        verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
+        verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+    }
+
     @Test
     public void handleRequest_ThrowsExpectedErrorWhenStabilizationFails() {
 
@@ -3,6 +3,7 @@ package software.amazon.qbusiness.plugin;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,13 +20,18 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListPluginsRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListPluginsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.Plugin;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandlerTest extends AbstractTestBase {
 
@@ -114,4 +120,58 @@ public class ListHandlerTest extends AbstractTestBase {
     assertThat(model.getUpdatedAt()).isEqualTo(Instant.ofEpochMilli(UPDATED_TIME).toString());
 
   }
+
+  @Test
+  public void handleRequest_WithDetails() {
+    underTest = new ListHandler(ListDetails.of(2, 1000));
+    request.setAwsPartition("aws");
+    request.setRegion("us-east-1");
+    request.setAwsAccountId("123456789012");
+    List<String> ids = List.of("first", "second", "third");
+    when(sdkClient.listPlugins(any(ListPluginsRequest.class)))
+        .thenReturn(ListPluginsResponse.builder()
+            .plugins(ids.stream()
+                .map(id -> Plugin.builder()
+                    .pluginId(id)
+                    .type(PLUGIN_TYPE)
+                    .build()
+                )
+                .toList())
+            .build()
+        );
+    when(sdkClient.getPlugin(any(GetPluginRequest.class)))
+        .thenAnswer(invocation -> {
+          GetPluginRequest getRequest = invocation.getArgument(0);
+          return GetPluginResponse.builder()
+              .applicationId(APPLICATION_ID)
+              .pluginId(getRequest.pluginId())
+              .type(PLUGIN_TYPE)
+              .authConfiguration(auth -> auth.basicAuthConfiguration(basic -> basic
+                  .roleArn("role-arn")
+                  .secretArn("secret-arn")))
+              .displayName("Plugin " + getRequest.pluginId())
+              .build();
+        });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(tag -> tag.key("team").value("search"))
+            .build()
+        );
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    // every summary is replaced by its Read model, in page order
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var models = resultProgress.getResourceModels();
+    assertThat(models).extracting(ResourceModel::getPluginId).containsExactlyElementsOf(ids);
+    assertThat(models).extracting(ResourceModel::getDisplayName)
+        .containsExactly("Plugin first", "Plugin second", "Plugin third");
+    assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+    verify(sdkClient).listPlugins(any(ListPluginsRequest.class));
+    verify(sdkClient, times(3)).getPlugin(any(GetPluginRequest.class));
+    verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
@@ -0,0 +1,97 @@
+package software.amazon.qbusiness.plugin;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+public class OpenApiSchemaValidatorTest {
+  private static final String JSON_SCHEMA = """
+      {
+        "openapi": "3.0.0",
+        "info": {"title": "Orders", "version": "1.0", "description": {"nested": ["ignored"]}},
+        "servers": [{"url": "https://orders.example.com"}],
+        "paths": {
+          "/orders": {
+            "parameters": [],
+            "get": {"operationId": "listOrders", "responses": {"200": {"description": "ok"}}},
+            "post": {"operationId": "createOrder", "responses": {}}
+          },
+          "/orders/{id}": {"get": {"operationId": "getOrder"}},
+          "x-internal": true
+        }
+      }
+      """;
+  private static final String YAML_SCHEMA = """
+      # Orders API
+      ---
+      openapi: "3.0.1" # pinned
+      info:
+        title: Orders
+        version: "1.0"
+      paths:
+        /orders:
+          get:
+            operationId: listOrders
+      """;
+
+  @Test
+  public void acceptsOpenApi3Documents() {
+    assertThatCode(() -> OpenApiSchemaValidator.validate(JSON_SCHEMA)).doesNotThrowAnyException();
+    assertThatCode(() -> OpenApiSchemaValidator.validate(YAML_SCHEMA)).doesNotThrowAnyException();
+    assertThatCode(() -> OpenApiSchemaValidator.validate(
+        "{\"openapi\": \"3.1.0\", \"info\": {\"title\": \"t\", \"version\": \"1\"}, \"paths\": {}}"
+    )).doesNotThrowAnyException();
+  }
+
+  @Test
+  public void leavesYamlItCannotReadToTheService() {
+    assertThatCode(() -> OpenApiSchemaValidator.validate("""
+        base: &base
+          title: Orders
+        <<: *base
+        """)).doesNotThrowAnyException();
+    assertThatCode(() -> OpenApiSchemaValidator.validate("""
+        openapi:
+          3.0.0
+        info: {title: Orders, version: "1"}
+        paths: {}
+        """)).doesNotThrowAnyException();
+  }
+
+  private static Stream<Arguments> invalidSchemas() {
+    return Stream.of(
+        Arguments.of("   ", "the payload is empty"),
+        Arguments.of("{\"openapi\": \"3.0.0\", \"info\": {", "malformed JSON at line 1"),
+        Arguments.of(JSON_SCHEMA + "{}", "unexpected content after the document"),
+        Arguments.of(JSON_SCHEMA.replace("\"3.0.0\"", "\"2.0\""), "openapi version must be 3.x, was 2.0"),
+        Arguments.of(JSON_SCHEMA.replace("\"3.0.0\"", "3.0"), "openapi must be a version string"),
+        Arguments.of(JSON_SCHEMA.replace("\"openapi\"", "\"swagger\""), "openapi version is missing"),
+        Arguments.of(JSON_SCHEMA.replace("\"title\"", "\"name\""), "info must have a title and a version"),
+        Arguments.of(JSON_SCHEMA.replace("\"paths\"", "\"routes\""), "paths is missing"),
+        Arguments.of(JSON_SCHEMA.replace("\"/orders\"", "\"orders\""), "path orders must start with /"),
+        Arguments.of(JSON_SCHEMA.replace("\"getOrder\"", "\"listOrders\""),
+            "operationId listOrders of get /orders/{id} is not unique"),
+        Arguments.of(JSON_SCHEMA.replace("{\"operationId\": \"getOrder\"}", "[]"),
+            "operation get /orders/{id} must be an object"),
+        Arguments.of(YAML_SCHEMA.replace("\"3.0.1\"", "2.0"), "openapi version must be 3.x, was 2.0"),
+        Arguments.of(YAML_SCHEMA.replace("paths:", "routes:"), "paths is missing"),
+        Arguments.of("# only a comment\n", "the payload is not a JSON or YAML object")
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidSchemas")
+  public void rejectsInvalidDocuments(String payload, String reason) {
+    assertThatThrownBy(() -> OpenApiSchemaValidator.validate(payload))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining(reason);
+  }
+}
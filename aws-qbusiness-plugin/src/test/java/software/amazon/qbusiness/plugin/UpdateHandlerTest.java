@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,8 +36,11 @@ import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListPluginsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListPluginsResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.Plugin;
 import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.ServiceQuotaExceededException;
@@ -55,6 +59,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
 
 public class UpdateHandlerTest extends AbstractTestBase {
 
@@ -246,7 +251,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
               t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
           )
       );
-      verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+      verify(qBusinessClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
       var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
       var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -323,7 +328,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
                 )
         );
-        verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(qBusinessClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
         var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -371,6 +376,32 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
                 )
         );
+        verify(qBusinessClient).tagResource(any(TagResourceRequest.class));
+        verify(qBusinessClient).untagResource(any(UntagResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FailsFromCoalescedListingWithoutGet() {
+        var statusPoller = CoalescedStatusPoller.<Plugin>fromEnvironment();
+        underTest = new UpdateHandler(Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(45)).build(), statusPoller);
+        statusPoller.poll(CoalescedStatusPoller.parentKey(request, APPLICATION_ID), "sibling", Map::of, logger);
+        when(qBusinessClient.listPlugins(any(ListPluginsRequest.class)))
+                .thenReturn(ListPluginsResponse.builder()
+                        .plugins(
+                                Plugin.builder().pluginId(PLUGIN_ID).buildStatus(PluginBuildStatus.UPDATE_FAILED).build(),
+                                Plugin.builder().pluginId("sibling").buildStatus(PluginBuildStatus.UPDATE_IN_PROGRESS).build()
+                        )
+                        .build());
+
+        assertThatThrownBy(() -> underTest.handleRequest(
+                proxy, request, new CallbackContext(), proxyClient, logger
+        )).isInstanceOf(CfnNotStabilizedException.class);
+
+        verify(qBusinessClient).updatePlugin(any(UpdatePluginRequest.class));
+        verify(qBusinessClient).listPlugins(any(ListPluginsRequest.class));
+        // Tags go out while the update stabilizes, so they were issued before it failed
+        verify(qBusinessClient).tagResource(any(TagResourceRequest.class));
+        verify(qBusinessClient).untagResource(any(UntagResourceRequest.class));
     }
 
     private static Stream<Arguments> serviceErrorAndHandlerCodes() {
@@ -426,7 +457,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
           t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
         )
     );
-    verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(qBusinessClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(qBusinessClient).tagResource(tagReqCaptor.capture());
@@ -484,7 +515,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
         )
     );
-    verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(qBusinessClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(qBusinessClient).untagResource(untagReqCaptor.capture());
@@ -495,6 +526,119 @@ public class UpdateHandlerTest extends AbstractTestBase {
     assertThat(untagReq.tagKeys()).isEqualTo(List.of("toBeRemove"));
   }
 
+  @Test
+  public void testThatItLeavesOutAnUnchangedApiSchema() {
+    when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+        .thenReturn(GetPluginResponse.builder()
+                  .applicationId(APPLICATION_ID)
+                  .pluginId(PLUGIN_ID)
+                  .displayName(UPDATED_PLUGIN_NAME)
+                  .type("CUSTOM")
+                  .state(UPDATED_PLUGIN_STATE)
+                  .buildStatus(PluginBuildStatus.READY)
+                  .serverUrl(UPDATED_SERVER_URL)
+                  .authConfiguration(updatedCfnAuthConfiguration)
+            .build());
+    when(qBusinessClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(TagResourceResponse.builder().build());
+    when(qBusinessClient.untagResource(any(UntagResourceRequest.class)))
+        .thenReturn(UntagResourceResponse.builder().build());
+    model.setCustomPluginConfiguration(customPluginConfiguration("{\"openapi\": \"3.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1\"}, \"paths\": {}}"));
+    updatedModel.setCustomPluginConfiguration(customPluginConfiguration("{\n  \"paths\": {},\n  \"info\": {\"version\": \"1\", \"title\": \"Orders\"},\n  \"openapi\": \"3.0.0\"\n}"));
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var updatePluginReqCaptor = ArgumentCaptor.forClass(UpdatePluginRequest.class);
+    verify(qBusinessClient).updatePlugin(updatePluginReqCaptor.capture());
+    assertThat(updatePluginReqCaptor.getValue().customPluginConfiguration()).isNull();
+    assertThat(updatePluginReqCaptor.getValue().displayName()).isEqualTo(UPDATED_PLUGIN_NAME);
+    verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+    verify(qBusinessClient).tagResource(any(TagResourceRequest.class));
+    verify(qBusinessClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void testThatItSendsAChangedApiSchema() {
+    when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+        .thenReturn(GetPluginResponse.builder()
+                  .applicationId(APPLICATION_ID)
+                  .pluginId(PLUGIN_ID)
+                  .displayName(UPDATED_PLUGIN_NAME)
+                  .type("CUSTOM")
+                  .state(UPDATED_PLUGIN_STATE)
+                  .buildStatus(PluginBuildStatus.READY)
+                  .serverUrl(UPDATED_SERVER_URL)
+                  .authConfiguration(updatedCfnAuthConfiguration)
+            .build());
+    when(qBusinessClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(TagResourceResponse.builder().build());
+    when(qBusinessClient.untagResource(any(UntagResourceRequest.class)))
+        .thenReturn(UntagResourceResponse.builder().build());
+    model.setCustomPluginConfiguration(customPluginConfiguration("{\"openapi\": \"3.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1\"}, \"paths\": {}}"));
+    updatedModel.setCustomPluginConfiguration(customPluginConfiguration("{\"openapi\": \"3.0.1\", \"info\": {\"title\": \"Orders\", \"version\": \"1\"}, \"paths\": {}}"));
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var updatePluginReqCaptor = ArgumentCaptor.forClass(UpdatePluginRequest.class);
+    verify(qBusinessClient).updatePlugin(updatePluginReqCaptor.capture());
+    assertThat(updatePluginReqCaptor.getValue().customPluginConfiguration().apiSchema().payload())
+        .isEqualTo(updatedModel.getCustomPluginConfiguration().getApiSchema().getPayload());
+    verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+    verify(qBusinessClient).tagResource(any(TagResourceRequest.class));
+    verify(qBusinessClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void testThatItSkipsUpdatePluginWhenOnlyTagsChange() {
+    when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+        .thenReturn(GetPluginResponse.builder()
+                  .applicationId(APPLICATION_ID)
+                  .pluginId(PLUGIN_ID)
+                  .displayName(PLUGIN_NAME)
+                  .type("CUSTOM")
+                  .state(PLUGIN_STATE)
+                  .buildStatus(PluginBuildStatus.READY)
+                  .serverUrl(SERVER_URL)
+                  .authConfiguration(cfnAuthConfiguration)
+            .build());
+    when(qBusinessClient.tagResource(any(TagResourceRequest.class)))
+        .thenReturn(TagResourceResponse.builder().build());
+    when(qBusinessClient.untagResource(any(UntagResourceRequest.class)))
+        .thenReturn(UntagResourceResponse.builder().build());
+    model.setCustomPluginConfiguration(customPluginConfiguration("{\"openapi\": \"3.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1\"}, \"paths\": {}}"));
+    updatedModel = model.toBuilder()
+        .customPluginConfiguration(customPluginConfiguration("{\"paths\": {}, \"info\": {\"version\": \"1\", \"title\": \"Orders\"}, \"openapi\": \"3.0.0\"}"))
+        .tags(List.of(Tag.builder().key("remain").value("thesame").build()))
+        .build();
+    request.setDesiredResourceState(updatedModel);
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getResourceModel().getDisplayName()).isEqualTo(PLUGIN_NAME);
+    verify(qBusinessClient, never()).updatePlugin(any(UpdatePluginRequest.class));
+    // Only the Read at the end of the update, no build to wait for
+    verify(qBusinessClient).getPlugin(any(GetPluginRequest.class));
+    verify(qBusinessClient).tagResource(any(TagResourceRequest.class));
+    verify(qBusinessClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  private static CustomPluginConfiguration customPluginConfiguration(String payload) {
+    return CustomPluginConfiguration.builder()
+        .apiSchemaType("OPEN_API_V3")
+        .description("Plugin description")
+        .apiSchema(APISchema.builder().payload(payload).build())
+        .build();
+  }
+
   private static Stream<Arguments> tagAndUntagArguments() {
     return Stream.of(
         Arguments.of(
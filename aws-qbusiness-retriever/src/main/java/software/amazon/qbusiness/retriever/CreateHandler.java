@@ -15,6 +15,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -22,15 +24,23 @@ public class CreateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(5))
       .build();
+  private static final ParentReadinessGate PARENT_READINESS = ParentReadinessGate.fromEnvironment();
+  private static final String PARENT_CALL_GRAPH = "AWS-QBusiness-Retriever::AwaitApplication";
   private final Constant backOffStrategy;
+  private final ParentReadinessGate parentReadiness;
   private Logger logger;
 
   public CreateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, PARENT_READINESS);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, ParentReadinessGate.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, ParentReadinessGate parentReadiness) {
     this.backOffStrategy = backOffStrategy;
+    this.parentReadiness = parentReadiness;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -45,13 +55,22 @@ public class CreateHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getRetrieverId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentReadiness.awaitApplication(
+            proxyClient, progress, request, PARENT_CALL_GRAPH, ResourceModel::getApplicationId, logger
+        ))
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-Retriever::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-Retriever::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreateRetriever(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .handleError((createRetrieverRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_RETRIEVER
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
+                .handleError((createRetrieverRequest, error, client, model, context) -> parentReadiness.handleConflict(
+                    error, model, context, logger, () -> CreateResumption.handleCreateError(
+                        error, model, context, logger, () -> handleError(
+                            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_RETRIEVER
+                        )
+                    )
                 ))
                 .progress()
         )
@@ -60,6 +79,22 @@ public class CreateHandler extends BaseHandlerStd {
         );
   }
 
+  private CreateRetrieverResponse createOrResume(CreateRetrieverRequest request,
+      ProxyClient<QBusinessClient> client,
+      ResourceModel model,
+      CallbackContext context) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setRetrieverId(createdId);
+      return CreateRetrieverResponse.builder().retrieverId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateRetriever(request, client, model);
+    CreateResumption.created(context, response.retrieverId());
+    return response;
+  }
+
   private CreateRetrieverResponse callCreateRetriever(CreateRetrieverRequest request,
       ProxyClient<QBusinessClient> client,
       ResourceModel model) {
@@ -0,0 +1,83 @@
+package software.amazon.qbusiness.retriever;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListRetrieversResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverStatus;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverType;
+import software.amazon.qbusiness.common.Priming;
+
+/**
+ * Canned create/read/update/list round trips through the Retriever translator, run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String RETRIEVER_ID = "00000000-0000-0000-0000-000000000001";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .retrieverId(RETRIEVER_ID)
+        .displayName("priming")
+        .type(RetrieverType.NATIVE_INDEX.toString())
+        .roleArn("arn:aws:iam::123456789012:role/priming")
+        .configuration(RetrieverConfiguration.builder()
+            .nativeIndexConfiguration(NativeIndexConfiguration.builder().indexId("priming").build())
+            .build())
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(model, null);
+
+    var getResponse = GetRetrieverResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .retrieverId(RETRIEVER_ID)
+        .retrieverArn(Utils.buildRetrieverArn(request, model))
+        .displayName(model.getDisplayName())
+        .type(RetrieverType.NATIVE_INDEX)
+        .status(RetrieverStatus.ACTIVE)
+        .roleArn(model.getRoleArn())
+        .configuration(Translator.toServiceRetrieverConfiguration(model.getConfiguration()))
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(ListRetrieversResponse.builder()
+        .retrievers(software.amazon.awssdk.services.qbusiness.model.Retriever.builder()
+            .applicationId(APPLICATION_ID)
+            .retrieverId(RETRIEVER_ID)
+            .status(RetrieverStatus.ACTIVE)
+            .build())
+        .build());
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
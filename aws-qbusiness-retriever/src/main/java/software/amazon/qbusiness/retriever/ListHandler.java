@@ -1,18 +1,35 @@
 package software.amazon.qbusiness.retriever;
 
+import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
+import static software.amazon.qbusiness.retriever.Constants.API_GET_RETRIEVER;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 import java.util.List;
 
 public class ListHandler extends BaseHandlerStd {
+
+    private final ListDetails listDetails;
+
+    public ListHandler() {
+        this(ListDetails.container());
+    }
+
+    public ListHandler(ListDetails listDetails) {
+        this.listDetails = listDetails;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -32,9 +49,25 @@ public class ListHandler extends BaseHandlerStd {
 
         List<ResourceModel> models = Translator.translateFromListResponse(listRetrieversResponse);
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
+            .resourceModels(listDetails.read(models, summary -> readDetails(proxy, request, proxyClient, summary), logger))
             .nextToken(nextToken)
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    /**
+     * The listed resource as Read returns it, with its configuration and tags.
+     */
+    private ResourceModel readDetails(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<QBusinessClient> proxyClient,
+        final ResourceModel summary) {
+        final GetRetrieverResponse getRetrieverResponse = listDetails.call(API_GET_RETRIEVER, () -> proxy.injectCredentialsAndInvokeV2(
+            Translator.translateToReadRequest(summary), proxyClient.client()::getRetriever));
+        final ResourceModel model = Translator.translateFromReadResponse(getRetrieverResponse);
+        final ListTagsForResourceResponse listTagsResponse = listDetails.call(API_LIST_TAGS, () -> proxy.injectCredentialsAndInvokeV2(
+            Translator.translateToListTagsRequest(request, model), proxyClient.client()::listTagsForResource));
+        return Translator.translateFromReadResponseWithTags(listTagsResponse, model);
+    }
 }
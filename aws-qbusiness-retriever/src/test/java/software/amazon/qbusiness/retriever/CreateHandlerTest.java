@@ -2,8 +2,10 @@ package software.amazon.qbusiness.retriever;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -20,14 +22,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
@@ -47,6 +54,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.ParentReadinessGate;
 
 public class CreateHandlerTest extends AbstractTestBase {
   private static final String APP_ID = "ApplicationId";
@@ -174,6 +182,87 @@ public class CreateHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void handleRequest_ReissuesCreateWithTheSameClientTokenWhenOutcomeIsUnknown() {
+    when(proxyClient.client().createRetriever(any(CreateRetrieverRequest.class)))
+        .thenThrow(SdkClientException.create("Read timed out"))
+        .thenReturn(CreateRetrieverResponse.builder()
+            .retrieverId(RETRIEVER_ID)
+            .build());
+    when(proxyClient.client().getRetriever(any(GetRetrieverRequest.class)))
+        .thenReturn(GetRetrieverResponse.builder()
+            .applicationId(APP_ID)
+            .retrieverId(RETRIEVER_ID)
+            .displayName(RETRIEVER_NAME)
+            .type(RETRIEVER_TYPE)
+            .status(RETRIEVER_STATUS)
+            .build());
+    when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder().build());
+    var context = new CallbackContext();
+
+    final ProgressEvent<ResourceModel, CallbackContext> first = underTest.handleRequest(proxy, request, context, proxyClient, logger);
+    final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, context, proxyClient, logger);
+
+    assertThat(first.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(first.getCallbackDelaySeconds()).isEqualTo(10);
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getRetrieverId()).isEqualTo(RETRIEVER_ID);
+    assertThat(context.getCreatedId()).isEqualTo(RETRIEVER_ID);
+    verify(sdkClient, times(2)).createRetriever(
+        argThat((ArgumentMatcher<CreateRetrieverRequest>) t -> CLIENT_TOKEN.equals(t.clientToken()))
+    );
+    verify(sdkClient).getRetriever(any(GetRetrieverRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_WaitsForUpdatingApplicationAndRetriesConflict() {
+    underTest = new CreateHandler(
+        Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(45)).build(),
+        ParentReadinessGate.of(
+            Constant.of().delay(Duration.ofSeconds(1)).timeout(Duration.ofSeconds(10)).build(),
+            Duration.ofSeconds(10),
+            Duration.ofMillis(10)
+        )
+    );
+    when(proxyClient.client().getApplication(any(GetApplicationRequest.class)))
+        .thenReturn(GetApplicationResponse.builder().applicationId(APP_ID).status(ApplicationStatus.UPDATING).build())
+        .thenReturn(GetApplicationResponse.builder().applicationId(APP_ID).status(ApplicationStatus.ACTIVE).build());
+    when(proxyClient.client().createRetriever(any(CreateRetrieverRequest.class)))
+        .thenThrow(ConflictException.builder().message("Application is updating").build())
+        .thenReturn(CreateRetrieverResponse.builder()
+            .retrieverId(RETRIEVER_ID)
+            .build());
+    when(proxyClient.client().getRetriever(any(GetRetrieverRequest.class)))
+        .thenReturn(GetRetrieverResponse.builder()
+            .applicationId(APP_ID)
+            .retrieverId(RETRIEVER_ID)
+            .displayName(RETRIEVER_NAME)
+            .type(RETRIEVER_TYPE)
+            .status(RETRIEVER_STATUS)
+            .configuration(retrieverConfiguration)
+            .roleArn(ROLE_ARN)
+            .build());
+    when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder().build());
+
+    var context = new CallbackContext();
+
+    final ProgressEvent<ResourceModel, CallbackContext> conflicted = underTest.handleRequest(proxy, request, context, proxyClient, logger);
+    final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, context, proxyClient, logger);
+
+    // The conflict is retried in the next invocation, which does not wait for the application again
+    assertThat(conflicted.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(conflicted.getCallbackDelaySeconds()).isEqualTo(1);
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getRetrieverId()).isEqualTo(RETRIEVER_ID);
+    verify(sdkClient, times(2)).getApplication(any(GetApplicationRequest.class));
+    verify(sdkClient, times(2)).createRetriever(any(CreateRetrieverRequest.class));
+    verify(sdkClient).getRetriever(any(GetRetrieverRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   private static Stream<Arguments> serviceErrorAndExpectedCfnCode() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
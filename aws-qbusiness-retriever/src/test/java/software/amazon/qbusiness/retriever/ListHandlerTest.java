@@ -3,6 +3,7 @@ package software.amazon.qbusiness.retriever;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,13 +22,18 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.Retriever;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 public class ListHandlerTest {
     private static final String APP_ID = "ApplicationId";
@@ -108,4 +114,53 @@ public class ListHandlerTest {
                 t.applicationId().equals(APP_ID))
         );
     }
+
+    @Test
+    public void handleRequest_WithDetails() {
+        underTest = new ListHandler(ListDetails.of(2, 1000));
+        testRequest.setAwsPartition("aws");
+        testRequest.setRegion("us-east-1");
+        testRequest.setAwsAccountId("123456789012");
+        List<String> ids = List.of("first", "second", "third");
+        when(sdkClient.listRetrievers(any(ListRetrieversRequest.class)))
+            .thenReturn(ListRetrieversResponse.builder()
+                .retrievers(ids.stream()
+                    .map(id -> Retriever.builder()
+                        .retrieverId(id)
+                        .build()
+                    )
+                    .toList())
+                .build()
+            );
+        when(sdkClient.getRetriever(any(GetRetrieverRequest.class)))
+            .thenAnswer(invocation -> {
+                GetRetrieverRequest getRequest = invocation.getArgument(0);
+                return GetRetrieverResponse.builder()
+                    .applicationId(APP_ID)
+                    .retrieverId(getRequest.retrieverId())
+                    .displayName("Retriever " + getRequest.retrieverId())
+                    .build();
+            });
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder()
+                .tags(tag -> tag.key("team").value("search"))
+                .build()
+            );
+
+        final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+            proxy, testRequest, new CallbackContext(), proxyClient, logger
+        );
+
+        // every summary is replaced by its Read model, in page order
+        assertThat(resultProgress.isSuccess()).isTrue();
+        var models = resultProgress.getResourceModels();
+        assertThat(models).extracting(ResourceModel::getRetrieverId).containsExactlyElementsOf(ids);
+        assertThat(models).extracting(ResourceModel::getDisplayName)
+            .containsExactly("Retriever first", "Retriever second", "Retriever third");
+        assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+        verify(sdkClient).listRetrievers(any(ListRetrieversRequest.class));
+        verify(sdkClient, times(3)).getRetriever(any(GetRetrieverRequest.class));
+        verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
 }
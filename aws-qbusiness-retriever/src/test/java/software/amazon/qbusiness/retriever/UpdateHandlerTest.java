@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -193,7 +194,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             t.applicationId().equals(APP_ID) && t.retrieverId().equals(RETRIEVER_ID)
         )
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -247,7 +248,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
           t.applicationId().equals(APP_ID) && t.retrieverId().equals(RETRIEVER_ID)
         )
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(sdkClient).tagResource(tagReqCaptor.capture());
@@ -294,7 +295,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             t.applicationId().equals(APP_ID) && t.retrieverId().equals(RETRIEVER_ID)
         )
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(sdkClient).untagResource(untagReqCaptor.capture());
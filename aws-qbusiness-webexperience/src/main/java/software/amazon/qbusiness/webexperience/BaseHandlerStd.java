@@ -1,18 +1,36 @@
 package software.amazon.qbusiness.webexperience;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperience;
+import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.HandlerProfiling;
+import software.amazon.qbusiness.common.RetryBudget;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  static {
+    HandlerPriming.register();
+  }
+
+  // Shared by every handler in the container so web experiences stabilizing under one application share
+  // ListWebExperiences calls
+  static final CoalescedStatusPoller<WebExperience> STATUS_POLLER = CoalescedStatusPoller.fromEnvironment();
+
 
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -20,13 +38,22 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ResourceHandlerRequest<ResourceModel> request,
     final CallbackContext callbackContext,
     final Logger logger) {
-    return handleRequest(
-      proxy,
-      request,
-      callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
-      logger
-    );
+    var context = callbackContext != null ? callbackContext : new CallbackContext();
+    StabilizationHandoff.startInvocation(context);
+    HandlerProfiling.startRecording(logger);
+    var retryUsage = RetryBudget.startInvocation();
+    try {
+      return handleRequest(
+        proxy,
+        request,
+        context,
+        proxy.newProxy(ClientBuilder::getClient),
+        logger
+      );
+    } finally {
+      HandlerProfiling.dumpRecording(logger);
+      RetryBudget.emitInvocationMetrics(logger, ResourceModel.TYPE_NAME, retryUsage);
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -36,6 +63,18 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<QBusinessClient> proxyClient,
     final Logger logger);
 
+  /**
+   * Starts a call chain like {@code proxy.initiate}, timed step by step when {@link HandlerProfiling} is enabled.
+   */
+  protected CallChain.RequestMaker<QBusinessClient, ResourceModel, CallbackContext> initiate(
+    final AmazonWebServicesClientProxy proxy,
+    final String callGraph,
+    final ProxyClient<QBusinessClient> proxyClient,
+    final ResourceModel model,
+    final CallbackContext callbackContext) {
+    return HandlerProfiling.profile(callGraph, proxy.initiate(callGraph, proxyClient, model, callbackContext));
+  }
+
   protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
     return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
   }
@@ -50,4 +89,32 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     GetWebExperienceRequest getWebExperienceRequest = Translator.translateToReadRequest(model);
     return proxyClient.injectCredentialsAndInvokeV2(getWebExperienceRequest, proxyClient.client()::getWebExperience);
   }
+
+  /**
+   * Status of the web experience from a listing shared with its in-flight siblings, or null when the caller should call
+   * GetWebExperience.
+   */
+  protected WebExperienceStatus listedStatus(
+      final String parentKey,
+      final ResourceModel model,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final CoalescedStatusPoller<WebExperience> statusPoller,
+      final Logger logger) {
+    return statusPoller.poll(parentKey, model.getWebExperienceId(), () -> listWebExperienceSummaries(model, proxyClient), logger)
+        .map(WebExperience::status)
+        .orElse(null);
+  }
+
+  private Map<String, WebExperience> listWebExperienceSummaries(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
+    var summaries = new HashMap<String, WebExperience>();
+    String nextToken = null;
+    do {
+      var response = proxyClient.injectCredentialsAndInvokeV2(
+          Translator.translateToListRequest(nextToken, model), proxyClient.client()::listWebExperiences
+      );
+      response.webExperiences().forEach(summary -> summaries.put(summary.webExperienceId(), summary));
+      nextToken = response.nextToken();
+    } while (nextToken != null);
+    return summaries;
+  }
 }
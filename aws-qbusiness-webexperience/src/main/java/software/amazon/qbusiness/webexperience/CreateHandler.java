@@ -5,6 +5,7 @@ import software.amazon.awssdk.services.qbusiness.model.CreateWebExperienceReques
 import software.amazon.awssdk.services.qbusiness.model.CreateWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperience;
 import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -14,6 +15,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.CreateResumption;
+import software.amazon.qbusiness.common.ParentReadinessGate;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -28,16 +33,47 @@ public class CreateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(5))
       .build();
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Create");
+  private static final ParentReadinessGate PARENT_READINESS = ParentReadinessGate.fromEnvironment();
+  private static final String CALL_GRAPH = "AWS-QBusiness-WebExperience::Create";
+  private static final String PARENT_CALL_GRAPH = "AWS-QBusiness-WebExperience::AwaitApplication";
 
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<WebExperience> statusPoller;
+  private final ParentReadinessGate parentReadiness;
+  private final StabilizationHandoff handoff;
   private Logger logger;
 
   public CreateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, PARENT_READINESS, HANDOFF);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public CreateHandler(Constant backOffStrategy, CoalescedStatusPoller<WebExperience> statusPoller) {
+    this(backOffStrategy, statusPoller, ParentReadinessGate.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<WebExperience> statusPoller,
+      ParentReadinessGate parentReadiness
+  ) {
+    this(backOffStrategy, statusPoller, parentReadiness, StabilizationHandoff.disabled());
+  }
+
+  public CreateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<WebExperience> statusPoller,
+      ParentReadinessGate parentReadiness,
+      StabilizationHandoff handoff
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.parentReadiness = parentReadiness;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,18 +89,39 @@ public class CreateHandler extends BaseHandlerStd {
         .formatted(request.getStackId(), request.getAwsAccountId(), request.getDesiredResourceState().getApplicationId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentReadiness.awaitApplication(
+            proxyClient, progress, request, PARENT_CALL_GRAPH, ResourceModel::getApplicationId, logger
+        ))
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-WebExperience::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
                 .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) ->
-                    callCreateWebExperience(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
-                .handleError((createReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_WEB_EXPERIENCE
+                .makeServiceCall((awsRequest, clientProxyClient) -> createOrResume(
+                    awsRequest, clientProxyClient, progress.getResourceModel(), progress.getCallbackContext()
+                ))
+                // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                .stabilize((awsReq, response, clientProxyClient, model, context) -> handoff.isEnabled() || isStabilized(
+                    request, clientProxyClient, model, logger
+                ))
+                .handleError((createReq, error, client, model, context) -> parentReadiness.handleConflict(
+                    error, model, context, logger, () -> CreateResumption.handleCreateError(
+                        error, model, context, logger, () -> handleError(
+                            model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_WEB_EXPERIENCE
+                        )
+                    )
                 ))
                 .progress()
         )
+        .then(progress -> handoff.await(
+            progress,
+            CALL_GRAPH,
+            backOffStrategy,
+            (model, context) -> isStabilized(request, proxyClient, model, logger),
+            (error, model, context) -> handleError(
+                model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_WEB_EXPERIENCE
+            ),
+            logger
+        ))
         .then(progress -> readHandler(proxy, request, callbackContext, proxyClient));
   }
 
@@ -77,9 +134,25 @@ public class CreateHandler extends BaseHandlerStd {
   }
 
   private boolean isStabilized(
+      final ResourceHandlerRequest<ResourceModel> request,
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model,
       final Logger logger) {
+    // Summaries carry neither the role nor error details, so only ACTIVE and CREATING are taken from the listing
+    final String parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    final WebExperienceStatus listedStatus = listedStatus(parentKey, model, proxyClient, statusPoller, logger);
+    if (WebExperienceStatus.ACTIVE.equals(listedStatus)) {
+      logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized for create operation."
+          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
+      return true;
+    }
+    if (WebExperienceStatus.CREATING.equals(listedStatus)) {
+      logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s is still stabilizing for create operation."
+          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      return false;
+    }
+
     final GetWebExperienceResponse getWebExperienceResponse = getWebExperience(model, proxyClient, logger);
 
     final String status = getWebExperienceResponse.statusAsString();
@@ -88,6 +161,7 @@ public class CreateHandler extends BaseHandlerStd {
     if (WebExperienceStatus.ACTIVE.toString().equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized for create operation"
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
       return true;
     }
 
@@ -96,6 +170,7 @@ public class CreateHandler extends BaseHandlerStd {
     if (roleArn == null && WebExperienceStatus.PENDING_AUTH_CONFIG.toString().equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized for create operation"
           .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
       return true;
     }
 
@@ -113,9 +188,27 @@ public class CreateHandler extends BaseHandlerStd {
       causeMessage = new RuntimeException(error.errorMessage());
     }
 
+    statusPoller.complete(parentKey, model.getWebExperienceId());
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString(), causeMessage);
   }
 
+  private CreateWebExperienceResponse createOrResume(
+      final CreateWebExperienceRequest request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel model,
+      final CallbackContext context) {
+    var createdId = CreateResumption.createdId(context, logger);
+    if (createdId != null) {
+      model.setWebExperienceId(createdId);
+      return CreateWebExperienceResponse.builder().webExperienceId(createdId).build();
+    }
+
+    CreateResumption.createStarted(context);
+    var response = callCreateWebExperience(request, proxyClient, model);
+    CreateResumption.created(context, response.webExperienceId());
+    return response;
+  }
+
   private CreateWebExperienceResponse callCreateWebExperience(
       final CreateWebExperienceRequest request,
       final ProxyClient<QBusinessClient> proxyClient,
@@ -0,0 +1,93 @@
+package software.amazon.qbusiness.webexperience;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
+import software.amazon.qbusiness.common.Priming;
+
+/**
+ * Canned create/read/update/list round trips through the WebExperience translator, run before a SnapStart checkpoint.
+ */
+public final class HandlerPriming {
+  private static final String APPLICATION_ID = "00000000-0000-0000-0000-000000000000";
+  private static final String WEB_EXPERIENCE_ID = "00000000-0000-0000-0000-000000000001";
+
+  private HandlerPriming() {
+  }
+
+  /**
+   * Called from the module's BaseHandlerStd and from the aggregate dispatcher, which loads no handler before the first
+   * request.
+   */
+  public static void register() {
+    Priming.register(ResourceModel.TYPE_NAME, HandlerPriming::prime);
+  }
+
+  static void prime() {
+    var model = ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .webExperienceId(WEB_EXPERIENCE_ID)
+        .title("priming")
+        .subtitle("priming")
+        .welcomeMessage("priming")
+        .roleArn("arn:aws:iam::123456789012:role/priming")
+        .origins(List.of("https://priming.example.com"))
+        .identityProviderConfiguration(IdentityProviderConfiguration.builder()
+            .samlConfiguration(SamlProviderConfiguration.builder().authenticationUrl("https://priming.example.com").build())
+            .build())
+        .customizationConfiguration(CustomizationConfiguration.builder()
+            .logoUrl("https://priming.example.com/logo.png")
+            .build())
+        .browserExtensionConfiguration(BrowserExtensionConfiguration.builder()
+            .enabledBrowserExtensions(Set.of("CHROME"))
+            .build())
+        .tags(List.of(Tag.builder().key("priming").value("priming").build()))
+        .build();
+    var request = Priming.request(model);
+
+    Translator.translateToCreateRequest(request, model);
+    var updateRequest = Translator.translateToUpdateRequest(model);
+    Translator.translateToDeleteRequest(model);
+    Translator.translateToListTagsRequest(request, model);
+    Translator.translateToListRequest(null, model);
+
+    var getResponse = GetWebExperienceResponse.builder()
+        .applicationId(APPLICATION_ID)
+        .webExperienceId(WEB_EXPERIENCE_ID)
+        .webExperienceArn(Utils.buildWebExperienceArn(request, model))
+        .status(WebExperienceStatus.ACTIVE)
+        .title(model.getTitle())
+        .roleArn(model.getRoleArn())
+        .origins(model.getOrigins())
+        .identityProviderConfiguration(updateRequest.identityProviderConfiguration())
+        .customizationConfiguration(updateRequest.customizationConfiguration())
+        .browserExtensionConfiguration(updateRequest.browserExtensionConfiguration())
+        .createdAt(Instant.EPOCH)
+        .updatedAt(Instant.EPOCH)
+        .build();
+    var readModel = Translator.translateFromReadResponseWithTags(
+        ListTagsForResourceResponse.builder()
+            .tags(software.amazon.awssdk.services.qbusiness.model.Tag.builder().key("priming").value("priming").build())
+            .build(),
+        Translator.translateFromReadResponse(getResponse)
+    );
+    Translator.translateToReadRequest(readModel);
+    Translator.translateFromListResponse(ListWebExperiencesResponse.builder()
+        .webExperiences(software.amazon.awssdk.services.qbusiness.model.WebExperience.builder()
+            .webExperienceId(WEB_EXPERIENCE_ID)
+            .status(WebExperienceStatus.ACTIVE)
+            .createdAt(Instant.EPOCH)
+            .build())
+        .build(), APPLICATION_ID);
+
+    Priming.roundTrip(readModel, new TypeReference<>() {
+    });
+  }
+}
@@ -1,21 +1,36 @@
 package software.amazon.qbusiness.webexperience;
 
+import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
+import static software.amazon.qbusiness.webexperience.Constants.API_GET_WEB_EXPERIENCE;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 import java.util.List;
 
 public class ListHandler extends BaseHandlerStd {
 
+  private final ListDetails listDetails;
   private Logger logger;
 
+  public ListHandler() {
+    this(ListDetails.container());
+  }
+
+  public ListHandler(ListDetails listDetails) {
+    this.listDetails = listDetails;
+  }
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
@@ -40,9 +55,25 @@ public class ListHandler extends BaseHandlerStd {
         listWebExperienceResponse, request.getDesiredResourceState().getApplicationId());
 
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
-        .resourceModels(models)
+        .resourceModels(listDetails.read(models, summary -> readDetails(proxy, request, proxyClient, summary), logger))
         .nextToken(nextToken)
         .status(OperationStatus.SUCCESS)
         .build();
   }
+
+  /**
+   * The listed resource as Read returns it, with its configuration and tags.
+   */
+  private ResourceModel readDetails(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ResourceModel> request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final ResourceModel summary) {
+    final GetWebExperienceResponse getWebExperienceResponse = listDetails.call(API_GET_WEB_EXPERIENCE, () -> proxy.injectCredentialsAndInvokeV2(
+        Translator.translateToReadRequest(summary), proxyClient.client()::getWebExperience));
+    final ResourceModel model = Translator.translateFromReadResponse(getWebExperienceResponse);
+    final ListTagsForResourceResponse listTagsResponse = listDetails.call(API_LIST_TAGS, () -> proxy.injectCredentialsAndInvokeV2(
+        Translator.translateToListTagsRequest(request, model), proxyClient.client()::listTagsForResource));
+    return Translator.translateFromReadResponseWithTags(listTagsResponse, model);
+  }
 }
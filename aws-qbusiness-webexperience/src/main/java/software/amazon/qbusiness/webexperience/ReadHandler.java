@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.WrittenTags;
 
 public class ReadHandler extends BaseHandlerStd {
   private Logger logger;
@@ -32,7 +33,7 @@ public class ReadHandler extends BaseHandlerStd {
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-WebExperience::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-WebExperience::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 // Create Get WebExperience request from resource model
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 // Make call to the service
@@ -42,9 +43,15 @@ public class ReadHandler extends BaseHandlerStd {
                 ))
                 .done(serviceResponse -> ProgressEvent.progress(Translator.translateFromReadResponse(serviceResponse), callbackContext))
         )
+        // An update that just wrote the tags already knows them
+        .then(progress -> WrittenTags.listTagsResponse(progress.getCallbackContext())
+            .map(listTagsResponse -> ProgressEvent.<ResourceModel, CallbackContext>defaultSuccessHandler(
+                Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
+            ))
+            .orElse(progress))
         // Now process listing tags for the resource
         .then(progress ->
-            proxy.initiate("AWS-QBusiness-WebExperience::ListTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            initiate(proxy, "AWS-QBusiness-WebExperience::ListTags", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToListTagsRequest(request, model))
                 .makeServiceCall(this::callListTags)
                 .handleError((listTagsRequest, error, client, model, context) -> handleError(
@@ -12,6 +12,7 @@ import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperience;
 import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -21,6 +22,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 import software.amazon.qbusiness.common.TagUtils;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -30,15 +33,34 @@ public class UpdateHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(5))
       .build();
 
+  private static final StabilizationHandoff HANDOFF = StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update");
+  private static final String CALL_GRAPH = "AWS-QBusiness-WebExperience::Update";
+
   private final Constant backOffStrategy;
+  private final CoalescedStatusPoller<WebExperience> statusPoller;
+  private final StabilizationHandoff handoff;
   private Logger logger;
 
   public UpdateHandler() {
-    this(DEFAULT_BACK_OFF_STRATEGY);
+    this(DEFAULT_BACK_OFF_STRATEGY, STATUS_POLLER, HANDOFF);
   }
 
   public UpdateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, CoalescedStatusPoller.disabled());
+  }
+
+  public UpdateHandler(Constant backOffStrategy, CoalescedStatusPoller<WebExperience> statusPoller) {
+    this(backOffStrategy, statusPoller, StabilizationHandoff.disabled());
+  }
+
+  public UpdateHandler(
+      Constant backOffStrategy,
+      CoalescedStatusPoller<WebExperience> statusPoller,
+      StabilizationHandoff handoff
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.statusPoller = statusPoller;
+    this.handoff = handoff;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -57,23 +79,42 @@ public class UpdateHandler extends BaseHandlerStd {
         request.getStackId()
     ));
 
-    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-WebExperience::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::updateWebExperience)
-                .stabilize((serviceRequest, updateWebExperienceResponse, client, model, context) -> isStabilized(client, model))
-                .handleError((serviceRequest, error, client, model, context) -> handleError(
+    var tagUpdate = TagUtils.tagUpdate(ResourceModel.TYPE_NAME, request, proxyClient, logger);
+    return tagUpdate.applyAlongside(
+        () -> ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress ->
+                initiate(proxy, CALL_GRAPH, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(Translator::translateToUpdateRequest)
+                    .backoffDelay(backOffStrategy)
+                    .makeServiceCall((updateRequest, client) -> {
+                      var response = updateWebExperience(updateRequest, client);
+                      statusPoller.mutated(CoalescedStatusPoller.parentKey(request, progress.getResourceModel().getApplicationId()),
+                          progress.getResourceModel().getWebExperienceId());
+                      // Tags don't depend on the update, so they are applied while it stabilizes
+                      tagUpdate.start(Utils.buildWebExperienceArn(request, progress.getResourceModel()));
+                      return response;
+                    })
+                    // With handoff on, the wait happens in the await step below instead of sleeping in the proxy
+                    .stabilize((serviceRequest, updateWebExperienceResponse, client, model, context) -> handoff.isEnabled() || isStabilized(
+                        request, client, model
+                    ))
+                    .handleError((serviceRequest, error, client, model, context) -> handleError(
+                        model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_WEB_EXPERIENCE
+                    ))
+                    .progress()
+            )
+            .then(progress -> handoff.await(
+                progress,
+                CALL_GRAPH,
+                backOffStrategy,
+                (model, context) -> isStabilized(request, proxyClient, model),
+                (error, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_WEB_EXPERIENCE
-                ))
-                .progress()
-        )
-        .then(progress -> {
-          var arn = Utils.buildWebExperienceArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
-        .then(model -> readHandler(proxy, request, callbackContext, proxyClient));
+                ),
+                logger
+            )),
+        model -> Utils.buildWebExperienceArn(request, model)
+    ).then(model -> readHandler(proxy, request, callbackContext, proxyClient));
   }
 
   private ProgressEvent<ResourceModel, CallbackContext> readHandler(
@@ -92,8 +133,24 @@ public class UpdateHandler extends BaseHandlerStd {
   }
 
   private boolean isStabilized(
+      final ResourceHandlerRequest<ResourceModel> request,
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model) {
+    // Summaries carry neither the role nor error details, so only ACTIVE and CREATING are taken from the listing
+    final String parentKey = CoalescedStatusPoller.parentKey(request, model.getApplicationId());
+    final WebExperienceStatus listedStatus = listedStatus(parentKey, model, proxyClient, statusPoller, logger);
+    if (WebExperienceStatus.ACTIVE.equals(listedStatus)) {
+      logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized."
+          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
+      return true;
+    }
+    if (WebExperienceStatus.CREATING.equals(listedStatus)) {
+      logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s is still stabilizing."
+          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      return false;
+    }
+
     final GetWebExperienceResponse getWebExperienceResponse = getWebExperience(model, proxyClient, logger);
     final WebExperienceStatus status = getWebExperienceResponse.status();
     final String roleArn = getWebExperienceResponse.roleArn();
@@ -101,12 +158,14 @@ public class UpdateHandler extends BaseHandlerStd {
     if (WebExperienceStatus.ACTIVE.equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized."
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
       return true;
     }
 
     if (roleArn == null && WebExperienceStatus.PENDING_AUTH_CONFIG.equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized."
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      statusPoller.complete(parentKey, model.getWebExperienceId());
       return true;
     }
 
@@ -123,6 +182,7 @@ public class UpdateHandler extends BaseHandlerStd {
       causeMessage = new RuntimeException(error.errorMessage());
     }
 
+    statusPoller.complete(parentKey, model.getWebExperienceId());
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString(), causeMessage);
   }
 }
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -38,10 +39,13 @@ import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
 import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.awssdk.services.qbusiness.model.WebExperience;
 import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -51,6 +55,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
 
 public class CreateHandlerTest extends AbstractTestBase {
 
@@ -203,6 +208,50 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
+  @Test
+  public void handleRequest_ChecksRoleWithGetWhenListingShowsPendingAuthConfig() {
+    // set up scenario
+    var statusPoller = CoalescedStatusPoller.<WebExperience>fromEnvironment();
+    underTest = new CreateHandler(testBackOff, statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID), "sibling", Map::of, logger);
+
+    when(qBusinessClient.createWebExperience(any(CreateWebExperienceRequest.class)))
+        .thenReturn(CreateWebExperienceResponse.builder()
+            .webExperienceId(WEB_EXPERIENCE_ID)
+            .build()
+        );
+    when(qBusinessClient.listWebExperiences(any(ListWebExperiencesRequest.class)))
+        .thenReturn(ListWebExperiencesResponse.builder()
+            .webExperiences(
+                WebExperience.builder().webExperienceId(WEB_EXPERIENCE_ID).status(WebExperienceStatus.PENDING_AUTH_CONFIG).build(),
+                WebExperience.builder().webExperienceId("sibling").status(WebExperienceStatus.CREATING).build()
+            )
+            .build());
+    when(qBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+    when(qBusinessClient.getWebExperience(any(GetWebExperienceRequest.class)))
+        .thenReturn(GetWebExperienceResponse.builder()
+            .applicationId(APP_ID)
+            .webExperienceId(WEB_EXPERIENCE_ID)
+            .status(WebExperienceStatus.PENDING_AUTH_CONFIG)
+            .build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(qBusinessClient).createWebExperience(any(CreateWebExperienceRequest.class));
+    verify(qBusinessClient).listWebExperiences(
+        argThat((ArgumentMatcher<ListWebExperiencesRequest>) t -> t.applicationId().equals(APP_ID))
+    );
+    verify(qBusinessClient, times(2)).getWebExperience(any(GetWebExperienceRequest.class));
+    verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   @Test
   public void handleRequest_WithoutRoleArn() {
     // set up
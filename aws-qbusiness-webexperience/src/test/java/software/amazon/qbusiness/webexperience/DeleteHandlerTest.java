@@ -28,6 +28,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 import java.time.Duration;
 import java.util.stream.Stream;
@@ -166,6 +167,41 @@ public class DeleteHandlerTest extends AbstractTestBase {
     );
   }
 
+  @Test
+  public void handleRequest_HandsOffLongWaitToCallback() {
+    underTest = new DeleteHandler(
+        Constant.of().timeout(Duration.ofHours(4)).delay(Duration.ofSeconds(30)).build(),
+        StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Delete")
+    );
+    when(sdkClient.deleteWebExperience(any(DeleteWebExperienceRequest.class))).thenReturn(DeleteWebExperienceResponse.builder().build());
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class)))
+        .thenReturn(
+            GetWebExperienceResponse.builder()
+                .applicationId(APP_ID)
+                .webExperienceId(WEB_EXPERIENCE_ID)
+                .status(WebExperienceStatus.DELETING)
+                .build()
+        )
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(30);
+    assertThat(firstProgress.getCallbackContext().getStabilizationAttempts()).containsEntry("AWS-QBusiness-WebExperience::Delete", 1);
+
+    // CloudFormation re-invokes with the returned context; the delete call is not repeated
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, firstProgress.getCallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteWebExperience(any(DeleteWebExperienceRequest.class));
+    verify(sdkClient, times(2)).getWebExperience(any(GetWebExperienceRequest.class));
+  }
+
   private static Stream<Arguments> serviceErrorAndHandlerCodes() {
     return Stream.of(
         Arguments.of(ConflictException.builder().build(), HandlerErrorCode.ResourceConflict),
@@ -7,6 +7,10 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesResponse;
 import software.amazon.awssdk.services.qbusiness.model.WebExperience;
@@ -15,6 +19,7 @@ import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ListDetails;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -23,6 +28,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -116,4 +122,50 @@ public class ListHandlerTest extends AbstractTestBase {
         argThat((ArgumentMatcher<ListWebExperiencesRequest>) t -> t.nextToken().equals(TEST_NEXT_TOKEN))
     );
   }
+
+  @Test
+  public void handleRequest_WithDetails() {
+    underTest = new ListHandler(ListDetails.of(2, 1000));
+    List<String> ids = List.of("first", "second", "third");
+    when(sdkClient.listWebExperiences(any(ListWebExperiencesRequest.class)))
+        .thenReturn(ListWebExperiencesResponse.builder()
+            .webExperiences(ids.stream()
+                .map(id -> WebExperience.builder()
+                    .webExperienceId(id)
+                    .build()
+                )
+                .toList())
+            .build()
+        );
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class)))
+        .thenAnswer(invocation -> {
+          GetWebExperienceRequest getRequest = invocation.getArgument(0);
+          return GetWebExperienceResponse.builder()
+              .applicationId(APP_ID)
+              .webExperienceId(getRequest.webExperienceId())
+              .title("Web experience " + getRequest.webExperienceId())
+              .build();
+        });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(tag -> tag.key("team").value("search"))
+            .build()
+        );
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // every summary is replaced by its Read model, in page order
+    assertThat(resultProgress.isSuccess()).isTrue();
+    var models = resultProgress.getResourceModels();
+    assertThat(models).extracting(ResourceModel::getWebExperienceId).containsExactlyElementsOf(ids);
+    assertThat(models).extracting(ResourceModel::getTitle)
+        .containsExactly("Web experience first", "Web experience second", "Web experience third");
+    assertThat(models).allSatisfy(resourceModel -> assertThat(resourceModel.getTags()).hasSize(1));
+
+    verify(sdkClient).listWebExperiences(any(ListWebExperiencesRequest.class));
+    verify(sdkClient, times(3)).getWebExperience(any(GetWebExperienceRequest.class));
+    verify(sdkClient, times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
@@ -15,18 +15,24 @@ import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListWebExperiencesResponse;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.UntagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperience;
 import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.CoalescedStatusPoller;
+import software.amazon.qbusiness.common.StabilizationHandoff;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -40,6 +46,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -212,7 +219,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -236,6 +243,73 @@ public class UpdateHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void handleRequest_HandsOffLongWaitToCallback() {
+    underTest = new UpdateHandler(
+        Constant.of().timeout(Duration.ofHours(2)).delay(Duration.ofSeconds(30)).build(),
+        CoalescedStatusPoller.disabled(),
+        StabilizationHandoff.fromEnvironment(ResourceModel.TYPE_NAME, "Update")
+    );
+    var pending = GetWebExperienceResponse.builder()
+        .applicationId(APP_ID)
+        .webExperienceId(WEB_EXPERIENCE_ID)
+        .roleArn("RoleArn")
+        .status(WebExperienceStatus.PENDING_AUTH_CONFIG)
+        .build();
+    var active = pending.toBuilder()
+        .createdAt(Instant.ofEpochMilli(1697824935000L))
+        .updatedAt(Instant.ofEpochMilli(1697839335000L))
+        .status(WebExperienceStatus.ACTIVE)
+        .build();
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class))).thenReturn(pending, active);
+
+    final ProgressEvent<ResourceModel, CallbackContext> firstProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(firstProgress.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(firstProgress.getCallbackDelaySeconds()).isEqualTo(30);
+
+    // CloudFormation re-invokes with the returned context; neither the update nor the tag calls are repeated
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, firstProgress.getCallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateWebExperience(any(UpdateWebExperienceRequest.class));
+    verify(sdkClient, times(3)).getWebExperience(any(GetWebExperienceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
+  @Test
+  public void handleRequest_StabilizesFromCoalescedListingWhenSiblingsAreInFlight() {
+    var statusPoller = CoalescedStatusPoller.<WebExperience>fromEnvironment();
+    underTest = new UpdateHandler(backOffStrategy, statusPoller);
+    statusPoller.poll(CoalescedStatusPoller.parentKey(testRequest, APP_ID), "sibling", Map::of, logger);
+    when(sdkClient.listWebExperiences(any(ListWebExperiencesRequest.class)))
+        .thenReturn(ListWebExperiencesResponse.builder()
+            .webExperiences(
+                WebExperience.builder().webExperienceId(WEB_EXPERIENCE_ID).status(WebExperienceStatus.ACTIVE).build(),
+                WebExperience.builder().webExperienceId("sibling").status(WebExperienceStatus.CREATING).build()
+            )
+            .build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateWebExperience(any(UpdateWebExperienceRequest.class));
+    verify(sdkClient).listWebExperiences(any(ListWebExperiencesRequest.class));
+    // only the read after stabilization
+    verify(sdkClient).getWebExperience(any(GetWebExperienceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
   @Test
   public void handleRequest_WithoutRoleArnSuccess() {
     // call method under test
@@ -310,7 +384,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getWebExperience(
             argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
@@ -450,7 +524,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var tagReqCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
     verify(sdkClient).tagResource(tagReqCaptor.capture());
@@ -494,7 +568,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(2)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
-    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
 
     var untagReqCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
     verify(sdkClient).untagResource(untagReqCaptor.capture());